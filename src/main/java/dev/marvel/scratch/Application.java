@@ -1,54 +1,145 @@
 package dev.marvel.scratch;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.marvel.scratch.configuration.CompiledConfiguration;
 import dev.marvel.scratch.configuration.ConfigParser;
 import dev.marvel.scratch.configuration.Configuration;
 import dev.marvel.scratch.configuration.DimensionsParser;
 import dev.marvel.scratch.configuration.Parser;
+import dev.marvel.scratch.configuration.ScaledWeightsWriter;
+import dev.marvel.scratch.configuration.catalog.GameCatalog;
+import dev.marvel.scratch.configuration.reload.ConfigurationReloader;
+import dev.marvel.scratch.configuration.snapshot.ConfigurationSnapshotLoader;
+import dev.marvel.scratch.configuration.snapshot.ConfigurationSnapshotWriter;
+import dev.marvel.scratch.domain.cascade.CascadePlayer;
+import dev.marvel.scratch.domain.cascade.parsers.CascadeParser;
+import dev.marvel.scratch.domain.core.BoardPool;
 import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.core.PlayableConfiguration;
+import dev.marvel.scratch.domain.freespins.FreeSpinsPlayer;
 import dev.marvel.scratch.domain.probability.parsers.BonusProbabilitiesParser;
 import dev.marvel.scratch.domain.probability.parsers.ProbabilitiesParserDelegate;
 import dev.marvel.scratch.domain.probability.parsers.StandardProbabilitiesParser;
+import dev.marvel.scratch.domain.probability.random.PhiloxRandomSource;
+import dev.marvel.scratch.domain.probability.random.RandomSource;
+import dev.marvel.scratch.domain.probability.random.Sampling;
+import dev.marvel.scratch.domain.probability.random.SecureRandomSource;
+import dev.marvel.scratch.domain.reel.parsers.ReelsParser;
+import dev.marvel.scratch.domain.rtp.ImportanceSampler;
+import dev.marvel.scratch.domain.rtp.Paytable;
+import dev.marvel.scratch.domain.rtp.PaytableComparator;
+import dev.marvel.scratch.domain.rtp.ProbabilitySolver;
+import dev.marvel.scratch.domain.rtp.RtpCalculator;
+import dev.marvel.scratch.domain.rtp.SensitivityAnalyzer;
+import dev.marvel.scratch.domain.rtp.SolverTarget;
+import dev.marvel.scratch.domain.scorer.FixedPointScorer;
 import dev.marvel.scratch.domain.scorer.Scorer;
 import dev.marvel.scratch.domain.symbol.parsers.SymbolParser;
-import dev.marvel.scratch.domain.wincombination.WinCombinationMatcher;
 import dev.marvel.scratch.domain.wincombination.parsers.WinCombinationsParser;
+import dev.marvel.scratch.infra.Command;
 import dev.marvel.scratch.infra.GameArgumentParser;
+import dev.marvel.scratch.infra.GameArguments;
 import dev.marvel.scratch.out.FileResultPrinter;
+import dev.marvel.scratch.out.ledger.LedgerEntry;
+import dev.marvel.scratch.out.ledger.WriteAheadLedger;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 
 /**
  * Main application class for the scratch game, orchestrating the initialization, configuration parsing, game execution, and result output.
  */
 public class Application {
 
+  /**
+   * The largest number of served rounds whose ledger acknowledgements may be outstanding at once.
+   */
+  static final int MAX_ROUNDS_IN_FLIGHT = 256;
+
+  private final Command command;
+  private final Path configPath;
+  private final Path snapshotPath;
+  private final ObjectMapper objectMapper;
   private final Configuration configuration;
+  private final CompiledConfiguration compiledConfiguration;
+  private final GameCatalog catalog;
   private final int bet;
-  private final WinCombinationMatcher winCombinationMatcher;
+  private final Long seed;
+  private final Long round;
+  private final RandomSource random;
   private final Scorer scorer;
+  private final boolean fixedPoint;
+  private final PlayableConfiguration playable;
   private final FileResultPrinter resultPrinter;
+  private final WriteAheadLedger ledger;
+  private final Integer spinAhead;
+  private final List<String> variantFilenames;
+  private final Long rounds;
+  private final Double tilt;
+  private final Sampling sampling;
+  private final SolverTarget target;
+  private final Path outputPath;
 
   /**
    * Initializes the application with the necessary components, including the game configuration, betting amount, win combination
-   * matcher, scorer, and result printer.
+   * matcher, scorer, result printer and, if requested, the write-ahead ledger.
+   *
+   * <p>
+   * If a compiled snapshot is given, the configuration is loaded from it instead of being parsed from JSON (except for the
+   * {@code compile-config} command, which writes the snapshot). If a catalog directory is given, every configuration in it is loaded
+   * into a {@link GameCatalog} instead.
    *
    * @param args Command-line arguments specifying the configuration file and betting amount.
    * @see ConfigParser
+   * @see ConfigurationSnapshotLoader
    */
   public Application(String[] args) {
     var gameArgumentParser = new GameArgumentParser();
     var arguments = gameArgumentParser.parse(args);
+    this.command = arguments.command();
+    this.configPath = arguments.configFilename() == null ? null : Path.of(arguments.configFilename());
+    this.snapshotPath = arguments.snapshotFilename() == null ? null : Path.of(arguments.snapshotFilename());
     this.bet = arguments.bet();
+    this.seed = arguments.seed();
+    this.round = arguments.round();
+    this.random = configureRandomSource(arguments);
 
-    var objectMapper = new ObjectMapper();
-    var configParser = configureConfigParser(objectMapper);
-    this.configuration = configParser.parse(arguments.configFilename());
-
-    this.winCombinationMatcher = new WinCombinationMatcher(configuration);
+    this.objectMapper = new ObjectMapper();
     this.scorer = new Scorer();
+    this.fixedPoint = arguments.fixedPoint();
+    if (arguments.catalogDirectory() != null) {
+      var configParser = configureConfigParser(objectMapper);
+      this.catalog = GameCatalog.load(Path.of(arguments.catalogDirectory()), file -> configParser.parse(file.toString()));
+      this.configuration = null;
+      this.compiledConfiguration = null;
+      this.playable = null;
+    } else {
+      this.catalog = null;
+      this.configuration = loadConfiguration();
+      this.compiledConfiguration = configuration.freeze();
+      this.playable = playable(compiledConfiguration);
+    }
     this.resultPrinter = new FileResultPrinter(objectMapper);
+    this.ledger = arguments.ledgerFilename() == null ? null : WriteAheadLedger.open(Path.of(arguments.ledgerFilename()), objectMapper);
+    this.spinAhead = arguments.spinAhead();
+    this.variantFilenames = arguments.variantFilenames();
+    this.rounds = arguments.rounds();
+    this.tilt = arguments.tilt();
+    this.sampling = arguments.sampling() == null ? Sampling.PSEUDO_RANDOM : arguments.sampling();
+    this.target = arguments.target();
+    this.outputPath = arguments.outputFilename() == null ? null : Path.of(arguments.outputFilename());
   }
 
   public static void main(String[] args) {
@@ -56,23 +147,354 @@ public class Application {
     application.run();
   }
 
+  private static RandomSource configureRandomSource(GameArguments arguments) {
+    if (arguments.seed() == null) {
+      return new SecureRandomSource();
+    }
+    return new PhiloxRandomSource(arguments.seed(), arguments.round());
+  }
+
+  private Configuration loadConfiguration() {
+    if (snapshotPath != null && command != Command.COMPILE_CONFIG) {
+      return new ConfigurationSnapshotLoader().load(snapshotPath, configPath);
+    }
+    return configureConfigParser(objectMapper).parse(configPath.toString());
+  }
+
   private static ConfigParser configureConfigParser(ObjectMapper objectMapper) {
     var parsers = new LinkedHashSet<Parser>();
     parsers.add(new DimensionsParser());
     parsers.add(new SymbolParser(objectMapper));
-    parsers.add(new ProbabilitiesParserDelegate(Set.of(new StandardProbabilitiesParser(), new BonusProbabilitiesParser())));
+    parsers.add(new ReelsParser());
+    parsers.add(new CascadeParser());
+    var probabilitiesParsers = new LinkedHashSet<Parser>();
+    probabilitiesParsers.add(new StandardProbabilitiesParser());
+    probabilitiesParsers.add(new BonusProbabilitiesParser());
+    parsers.add(new ProbabilitiesParserDelegate(probabilitiesParsers));
     parsers.add(new WinCombinationsParser(objectMapper));
     return new ConfigParser(parsers);
   }
 
   /**
    * Executes the game logic. This includes creating a new {@link Game} instance, matching win combinations, scoring the game based on
-   * those combinations, and printing the results to a file.
+   * those combinations, and printing the results to a file. If a ledger is kept, the round is printed only after it has been durably
+   * recorded.
+   * <p>
+   * When a seed and round are given, the board is spun from the counter-based {@link PhiloxRandomSource}, so the same seed, round and
+   * configuration always rebuild the same board and result. This is how the {@code replay} command reproduces historical rounds.
+   * <p>
+   * A configuration with a {@code cascade} attribute plays its rounds with a {@link CascadePlayer}, which keeps removing winning cells
+   * and refilling them from the same random source until a board does not win; the ledger records the spun board and the reward of
+   * the whole round.
+   * <p>
+   * A configuration with {@code free_spins} symbols plays the free spins awarded by the spun board with a {@link FreeSpinsPlayer}, from
+   * the same random source; the ledger records the spun board and the reward of the paid board and its free spins together.
+   * <p>
+   * With {@code --scoring fixed-point}, rewards are computed in fixed-point micro-units by a {@link FixedPointScorer}.
+   * <p>
+   * The {@code compile-config} command plays no round; it writes the parsed configuration as a binary snapshot instead. The
+   * {@code rtp} command plays no round either; it prints the exact return to player of the configuration, see {@link RtpCalculator}. The
+   * {@code compare} command prints the simulated return to player of the configuration and its variant paytables, see
+   * {@link #printComparison()}, and the {@code contributions} command its estimated return to player per win combination, see
+   * {@link ImportanceSampler}. The {@code solve} command tunes the weights of the configuration, see {@link #solve()}, and the
+   * {@code sensitivity} command prints the derivatives of its return to player, see {@link #printSensitivity()}. The {@code serve}
+   * command keeps playing rounds, see {@link #serve()}.
    */
   public void run() {
-    var game = new Game(configuration, bet);
-    var matchedWinCombinations = winCombinationMatcher.match(game);
-    var score = scorer.score(bet, matchedWinCombinations);
+    if (command == Command.COMPILE_CONFIG) {
+      new ConfigurationSnapshotWriter().write(configuration, configPath, snapshotPath);
+      return;
+    }
+    if (command == Command.SERVE) {
+      serve();
+      return;
+    }
+    if (command == Command.RTP) {
+      printRtp();
+      return;
+    }
+    if (command == Command.COMPARE) {
+      printComparison();
+      return;
+    }
+    if (command == Command.CONTRIBUTIONS) {
+      printContributions();
+      return;
+    }
+    if (command == Command.SOLVE) {
+      solve();
+      return;
+    }
+    if (command == Command.SENSITIVITY) {
+      printSensitivity();
+      return;
+    }
+    var game = new Game(compiledConfiguration, bet, random);
+    if (compiledConfiguration.isCascading()) {
+      var outcome = playable.cascadePlayer().play(game, random);
+      recordRound(game, outcome.reward());
+      resultPrinter.print(outcome);
+      return;
+    }
+    var matchedWinCombinations = playable.matcher().match(game);
+    var score = playable.scorer().score(bet, matchedWinCombinations);
+    if (compiledConfiguration.hasFreeSpins()) {
+      var freeSpins = playable.freeSpinsPlayer().play(game, random);
+      recordRound(game, score + freeSpins.reward());
+      resultPrinter.print(game, matchedWinCombinations, score, freeSpins);
+      return;
+    }
+    recordRound(game, score);
     resultPrinter.print(game, matchedWinCombinations, score);
   }
-}
\ No newline at end of file
+
+  private void recordRound(Game game, double score) {
+    if (ledger != null) {
+      try (ledger) {
+        ledger.append(new LedgerEntry(System.currentTimeMillis(), bet, score, game.asMatrix(), seed, round)).join();
+      }
+    }
+  }
+
+  /**
+   * Plays a round for every betting amount read from the standard input, one per line, and writes each result as a single line of JSON
+   * to the standard output. With a seed, the n-th round is spun from round index {@code round + n}. When serving a catalog, each line
+   * holds the id of the game to play followed by the betting amount.
+   * <p>
+   * The configuration (and the snapshot, if one is used) is watched for changes, and a {@code reload} line triggers a reload explicitly.
+   * The new version is compiled in the background and swapped in atomically by a {@link ConfigurationReloader}, together with the
+   * matcher, scorer and players of its rounds (see {@link PlayableConfiguration}): every round plays against the version current when
+   * it started, and rounds keep being served while a reload is in progress. A failed reload is reported on the standard error and the
+   * previous version stays in use. A catalog is loaded once and not reloaded. Serving stops at the end of the input.
+   * <p>
+   * With {@code --spin-ahead}, the boards of upcoming rounds are spun on background threads by a {@link BoardPool}, which keeps round
+   * {@code n} spun from the same random source as it would be on the request path and re-spins boards left over from a replaced
+   * configuration.
+   * <p>
+   * With a ledger, a round is not held up by the acknowledgement of the previous one: up to {@link #MAX_ROUNDS_IN_FLIGHT} rounds are
+   * played ahead of their acknowledgements, so that the ledger can commit them together, and each result is printed once its round has
+   * been durably recorded, in the order the rounds were played. A round the ledger failed to record is reported on the standard error
+   * instead, and every outstanding round is settled before serving stops.
+   */
+  private void serve() {
+    var reloader = catalog == null ? startReloader() : null;
+    var games = catalog == null ? Map.<String, PlayableConfiguration>of() : playableGames();
+    var boardPool = spinAhead == null ? null : new BoardPool(() -> reloader.current().configuration(), this::randomForRound, spinAhead,
+        Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    var inFlight = new Semaphore(MAX_ROUNDS_IN_FLIGHT);
+    CompletableFuture<Void> printed = CompletableFuture.completedFuture(null);
+    try (reloader; boardPool; ledger) {
+      var input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+      var played = 0L;
+      String line;
+      while ((line = input.readLine()) != null) {
+        line = line.strip();
+        if (line.isEmpty()) continue;
+        if (line.equals("reload")) {
+          if (reloader == null) {
+            System.err.println("A game catalog is not reloaded; restart to pick up configuration changes.");
+          } else {
+            reloader.reload();
+          }
+          continue;
+        }
+        var request = line.split("\\s+");
+        if (request.length != (catalog == null ? 1 : 2)) {
+          System.err.println(catalog == null
+              ? "Please specify a valid integer betting amount or 'reload', got: " + line
+              : "Please specify '<game-id> <betting-amount>', got: " + line);
+          continue;
+        }
+        var current = catalog == null ? reloader.current() : games.get(request[0]);
+        if (current == null) {
+          System.err.println("Unknown game: " + request[0]);
+          continue;
+        }
+        int roundBet;
+        try {
+          roundBet = Integer.parseInt(request[request.length - 1]);
+        } catch (NumberFormatException e) {
+          System.err.println("Please specify a valid integer betting amount, got: " + line);
+          continue;
+        }
+        var game = boardPool == null
+            ? new Game(current.configuration(), roundBet, randomForRound(played))
+            : boardPool.take(current.configuration(), roundBet);
+        inFlight.acquireUninterruptibly();
+        var result = playRound(current, game, roundBet, played++);
+        printed = printed.thenCompose(previous -> result.handle((text, failure) -> {
+          if (failure == null) {
+            System.out.println(text);
+          } else {
+            System.err.println("The round could not be recorded in the ledger: " + failure.getMessage());
+          }
+          inFlight.release();
+          return null;
+        }));
+      }
+      printed.join();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void printRtp() {
+    var report = new RtpCalculator(compiledConfiguration, playable.matcher(), playable.scorer()).calculate(bet);
+    try {
+      System.out.println(objectMapper.writeValueAsString(report));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Simulates rounds of the configuration and of every variant paytable on the same boards with a {@link PaytableComparator}, and
+   * prints the return to player of each and its difference from that of the configuration. The boards are spun from the given seed,
+   * starting at the given round, or from a master seed drawn from a secure random source, starting at round {@code 0}, and spread
+   * with the requested {@link Sampling} scheme. Every paytable is named after its file and scored as the configuration is.
+   */
+  private void printComparison() {
+    var paytables = new ArrayList<Paytable>();
+    paytables.add(new Paytable(configPath.getFileName().toString(), compiledConfiguration, playable.scorer()));
+    for (var variantFilename : variantFilenames) {
+      var variant = configureConfigParser(objectMapper).parse(variantFilename).freeze();
+      paytables.add(new Paytable(Path.of(variantFilename).getFileName().toString(), variant, scorerFor(variant)));
+    }
+    var comparison = new PaytableComparator(paytables).compare(bet, simulationSeed(), round == null ? 0 : round, rounds,
+        sampling);
+    try {
+      System.out.println(objectMapper.writeValueAsString(comparison));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Estimates the return to player of the configuration and the contribution of each of its win combinations with an
+   * {@link ImportanceSampler}, and prints them. The boards are spun as for {@link #printComparison()}.
+   */
+  private void printContributions() {
+    var sampler = new ImportanceSampler(compiledConfiguration, playable.matcher(), playable.scorer(),
+        tilt == null ? ImportanceSampler.DEFAULT_TILT : tilt);
+    var report = sampler.estimate(bet, simulationSeed(), round == null ? 0 : round, rounds, sampling);
+    try {
+      System.out.println(objectMapper.writeValueAsString(report));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Tunes the weights of the standard symbols of the configuration towards the target with a {@link ProbabilitySolver}, writes the
+   * configuration file with the tuned weights to the output file and prints the tuned figures. Without a number of rounds, the weights
+   * are tuned on every board the configuration can produce; with one, on boards simulated as for {@link #printComparison()}.
+   */
+  private void solve() {
+    var solver = new ProbabilitySolver(compiledConfiguration, playable.matcher(), playable.scorer());
+    var report = rounds == null
+        ? solver.solve(bet, target)
+        : solver.solve(bet, target, simulationSeed(), round == null ? 0 : round, rounds);
+    new ScaledWeightsWriter(objectMapper).write(configPath, outputPath, report.weights());
+    try {
+      System.out.println(objectMapper.writeValueAsString(report));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Computes the return to player of the configuration, the part of it every symbol and win combination pays and its derivatives with a
+   * {@link SensitivityAnalyzer}, and prints them. Without a number of rounds, they are computed exactly over every board the
+   * configuration can produce; with one, they are estimated from boards simulated as for {@link #printComparison()}.
+   */
+  private void printSensitivity() {
+    var analyzer = new SensitivityAnalyzer(compiledConfiguration, playable.matcher(), playable.scorer());
+    var report = rounds == null
+        ? analyzer.analyze(bet)
+        : analyzer.analyze(bet, simulationSeed(), round == null ? 0 : round, rounds);
+    try {
+      System.out.println(objectMapper.writeValueAsString(report));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private long simulationSeed() {
+    return seed == null ? new SecureRandom().nextLong() : seed;
+  }
+
+  private ConfigurationReloader<PlayableConfiguration> startReloader() {
+    var reloader = new ConfigurationReloader<>(playable, () -> {
+      try {
+        return playable(loadConfiguration().freeze());
+      } catch (RuntimeException e) {
+        System.err.println("Configuration reload failed: " + e.getMessage());
+        throw e;
+      }
+    });
+    if (snapshotPath == null) {
+      reloader.watch(configPath);
+    } else {
+      reloader.watch(configPath, snapshotPath);
+    }
+    return reloader;
+  }
+
+  /**
+   * Returns the scorer of the rounds of a configuration: a new {@link FixedPointScorer} bound to the configuration if fixed-point
+   * scoring was requested, and the shared floating-point {@link Scorer} otherwise.
+   */
+  private Scorer scorerFor(CompiledConfiguration configuration) {
+    return fixedPoint ? new FixedPointScorer(configuration) : scorer;
+  }
+
+  /**
+   * Builds the matcher, the scorer and the players of the rounds of a configuration. They reuse their state from round to round, so they
+   * are built once per configuration and kept with it: the reloader publishes them together with every reloaded configuration, and a
+   * replaced configuration is released together with them.
+   */
+  private PlayableConfiguration playable(CompiledConfiguration configuration) {
+    return PlayableConfiguration.of(configuration, scorerFor(configuration));
+  }
+
+  /**
+   * Builds the matcher, the scorer and the players of every game of the catalog, by game id.
+   */
+  private Map<String, PlayableConfiguration> playableGames() {
+    var games = new HashMap<String, PlayableConfiguration>();
+    catalog.getGameIds().forEach(gameId -> games.put(gameId, playable(catalog.find(gameId).orElseThrow())));
+    return games;
+  }
+
+  private RandomSource randomForRound(long played) {
+    return seed == null ? random : new PhiloxRandomSource(seed, round + played);
+  }
+
+  /**
+   * Plays a round and renders its result, which completes once the round has been durably recorded if a ledger is kept.
+   */
+  private CompletableFuture<String> playRound(PlayableConfiguration current, Game game, int roundBet, long played) throws IOException {
+    var roundIndex = seed == null ? null : round + played;
+    if (current.cascadePlayer() != null) {
+      var outcome = current.cascadePlayer().play(game, randomForRound(played));
+      return recorded(game, roundBet, outcome.reward(), roundIndex, objectMapper.writeValueAsString(resultPrinter.render(outcome)));
+    }
+    var matchedWinCombinations = current.matcher().match(game);
+    var score = current.scorer().score(roundBet, matchedWinCombinations);
+    if (current.freeSpinsPlayer() != null) {
+      var freeSpins = current.freeSpinsPlayer().play(game, randomForRound(played));
+      return recorded(game, roundBet, score + freeSpins.reward(), roundIndex,
+          objectMapper.writeValueAsString(resultPrinter.render(game, matchedWinCombinations, score, freeSpins)));
+    }
+    return recorded(game, roundBet, score, roundIndex,
+        objectMapper.writeValueAsString(resultPrinter.render(game, matchedWinCombinations, score)));
+  }
+
+  private CompletableFuture<String> recorded(Game game, int roundBet, double reward, Long roundIndex, String result) {
+    if (ledger == null) {
+      return CompletableFuture.completedFuture(result);
+    }
+    return ledger.append(new LedgerEntry(System.currentTimeMillis(), roundBet, reward, game.asMatrix(), seed, roundIndex))
+        .thenApply(acknowledged -> result);
+  }
+}
@@ -0,0 +1,391 @@
+package dev.marvel.scratch.configuration;
+
+import dev.marvel.scratch.domain.cascade.model.CascadeSettings;
+import dev.marvel.scratch.domain.core.Occupancy;
+import dev.marvel.scratch.domain.probability.model.CellProbability;
+import dev.marvel.scratch.domain.probability.model.SymbolSampler;
+import dev.marvel.scratch.domain.scorer.FixedPoint;
+import dev.marvel.scratch.domain.symbol.model.AbstractSymbol;
+import dev.marvel.scratch.domain.symbol.model.BonusSymbol;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.EvaluationOrder;
+import dev.marvel.scratch.domain.wincombination.LinearAreaIndex;
+import dev.marvel.scratch.domain.wincombination.QuickReject;
+import dev.marvel.scratch.domain.wincombination.model.Group;
+import dev.marvel.scratch.domain.wincombination.model.LinearWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.WinCombination;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable, indexed form of a parsed {@link Configuration}, produced by {@link Configuration#freeze()}. Where the parsed configuration
+ * is a mutable bean of hash sets that every consumer has to search or regroup, the compiled form resolves everything once:
+ * <ul>
+ *   <li>symbols are ordered by name and given dense ordinals, and can be looked up by name in constant time; the symbol a win made of
+ *   wilds alone pays as is resolved once (see {@link Occupancy#wildPaysAs(java.util.Collection)});</li>
+ *   <li>the sampling table of every cell is stored in a row-major array addressed by {@code row * columns + column}, and cells with
+ *   identical distributions share a single table (see {@link ConfigurationInterner}); a game spun from reels holds one array of symbols
+ *   per reel strip instead;</li>
+ *   <li>win combinations are ordered by name, given dense ids, and grouped by their {@link Group} in selection order (see
+ *   {@link EvaluationOrder#SELECTION_ORDER}), and the covered areas of linear combinations are expanded into row-major cell indices for
+ *   the dimensions of the board; a cascading game, or one awarding free spins, also indexes every covered area by the cells it contains
+ *   (see {@link LinearAreaIndex}), which is what lets its boards be re-matched incrementally; the test rejecting boards that no win
+ *   combination can match is derived once as well (see {@link QuickReject}).</li>
+ *   <li>the values of symbols and the reward multipliers of win combinations are also scaled to {@code long} micro-units for
+ *   fixed-point scoring (see {@link FixedPoint}).</li>
+ * </ul>
+ * All state is held in final fields and is either an array that never leaves this class or an unmodifiable collection, so an instance
+ * can be shared by any number of threads without locking or defensive copies. The symbols and win combinations it references are never
+ * modified after compilation.
+ *
+ * @see Configuration for the parsed configuration this is compiled from.
+ */
+public final class CompiledConfiguration {
+
+  @Getter
+  private final int rows;
+  @Getter
+  private final int columns;
+  private final Symbol[] symbols;
+  private final Map<String, Integer> symbolOrdinals;
+  private final SymbolSampler[] samplers;
+  private final Symbol[][] reels;
+  private final WinCombination[] winCombinations;
+  private final Map<String, Integer> winCombinationIds;
+  private final long[] symbolMicros;
+  private final long[] winCombinationMicros;
+  @Getter
+  private final List<Symbol> symbolList;
+  @Getter
+  private final Symbol wildPaysAs;
+  @Getter
+  private final List<BonusSymbol> freeSpinsSymbols;
+  @Getter
+  private final Map<Group, Set<WinCombination>> winCombinationsByGroup;
+  @Getter
+  private final QuickReject quickReject;
+  @Getter
+  private final CascadeSettings cascade;
+  @Getter
+  private final LinearAreaIndex linearAreaIndex;
+
+  private CompiledConfiguration(Configuration configuration, ConfigurationInterner interner) {
+    this.rows = configuration.getRows();
+    this.columns = configuration.getColumns();
+    this.symbols = configuration.getSymbols().stream()
+        .sorted(Comparator.comparing(Symbol::getName))
+        .map(interner::intern)
+        .toArray(Symbol[]::new);
+    this.symbolOrdinals = indexByName(symbols, Symbol::getName);
+    this.symbolList = List.of(symbols);
+    this.wildPaysAs = Occupancy.wildPaysAs(symbolList);
+    this.freeSpinsSymbols = symbolList.stream()
+        .filter(symbol -> symbol instanceof BonusSymbol bonusSymbol && bonusSymbol.isFreeSpins())
+        .map(symbol -> (BonusSymbol) symbol)
+        .toList();
+    if (configuration.getReelStrips() == null) {
+      this.samplers = compileSamplers(configuration, interner);
+      this.reels = null;
+    } else {
+      this.samplers = new SymbolSampler[0];
+      this.reels = compileReels(configuration, interner);
+    }
+    this.winCombinations = configuration.getWinCombinations().stream()
+        .sorted(Comparator.comparing(WinCombination::getName))
+        .toArray(WinCombination[]::new);
+    this.winCombinationIds = indexByName(winCombinations, WinCombination::getName);
+    this.symbolMicros = compileMicros(symbols, symbol -> ((AbstractSymbol) symbol).getValue(), Symbol::getName);
+    this.winCombinationMicros = compileMicros(winCombinations, WinCombination::getRewardMultiplier, WinCombination::getName);
+    compileCoveredAreas(winCombinations, rows, columns);
+    this.winCombinationsByGroup = groupWinCombinations(winCombinations);
+    this.quickReject = QuickReject.of(List.of(winCombinations));
+    this.cascade = configuration.getCascade();
+    if (cascade != null && !freeSpinsSymbols.isEmpty()) {
+      throw new ConfigurationParseException("'free_spins' symbols cannot be combined with the 'cascade' game mode.");
+    }
+    if (cascade != null) {
+      this.linearAreaIndex = compileCascade(cascade, winCombinations, rows, columns);
+    } else if (!freeSpinsSymbols.isEmpty()) {
+      this.linearAreaIndex = compileFreeSpins(freeSpinsSymbols, winCombinations, rows, columns);
+    } else {
+      this.linearAreaIndex = null;
+    }
+  }
+
+  /**
+   * Compiles the given parsed configuration. The parsed configuration is only read, and later changes to it are not reflected in the
+   * compiled form.
+   *
+   * @param configuration A fully parsed configuration.
+   * @return The compiled configuration.
+   * @throws ConfigurationParseException if a cell of the game matrix has no probabilities, two cells share a position, both cell
+   * probabilities and reel strips are defined, the covered areas of a linear win combination do not fit the game matrix, a covered area
+   * rule expands into too many areas, the cascades or free spins of a round cannot be addressed by the random source, free spins are
+   * combined with cascades, or a value cannot be held in micro-units.
+   */
+  public static CompiledConfiguration of(Configuration configuration) {
+    return of(configuration, new ConfigurationInterner());
+  }
+
+  /**
+   * Compiles the given parsed configuration, sharing identical symbol definitions and symbol distributions with every other
+   * configuration compiled with the same interner.
+   *
+   * @param configuration A fully parsed configuration.
+   * @param interner      The interner shared by the configurations.
+   * @return The compiled configuration.
+   * @throws ConfigurationParseException if a cell of the game matrix has no probabilities, two cells share a position, both cell
+   * probabilities and reel strips are defined, the covered areas of a linear win combination do not fit the game matrix, a covered area
+   * rule expands into too many areas, the cascades or free spins of a round cannot be addressed by the random source, free spins are
+   * combined with cascades, or a value cannot be held in micro-units.
+   */
+  public static CompiledConfiguration of(Configuration configuration, ConfigurationInterner interner) {
+    return new CompiledConfiguration(configuration, interner);
+  }
+
+  public int getCellCount() {
+    return rows * columns;
+  }
+
+  public int getSymbolCount() {
+    return symbols.length;
+  }
+
+  public int getWinCombinationCount() {
+    return winCombinations.length;
+  }
+
+  /**
+   * Looks up a symbol by name.
+   *
+   * @param name The symbol name.
+   * @return The symbol, or an empty {@link Optional} if no symbol has this name.
+   */
+  public Optional<Symbol> findSymbol(String name) {
+    var ordinal = symbolOrdinals.get(name);
+    return ordinal == null ? Optional.empty() : Optional.of(symbols[ordinal]);
+  }
+
+  /**
+   * Returns the dense ordinal of a symbol, which is its position in the name order of all symbols.
+   *
+   * @param symbol A symbol of this configuration.
+   * @return The ordinal in {@code [0, symbolCount)}.
+   * @throws IllegalArgumentException if the symbol is not part of this configuration.
+   */
+  public int ordinalOf(Symbol symbol) {
+    var ordinal = symbolOrdinals.get(symbol.getName());
+    if (ordinal == null) {
+      throw new IllegalArgumentException("Symbol " + symbol.getName() + " is not defined in the configuration.");
+    }
+    return ordinal;
+  }
+
+  public Symbol symbolAt(int ordinal) {
+    return symbols[ordinal];
+  }
+
+  /**
+   * Tells whether the game is spun from one reel strip per column rather than from an independent distribution per cell.
+   *
+   * @return {@code true} if the game is spun from reel strips, in which case {@link #reelLength(int)} and
+   * {@link #reelSymbolAt(int, int)} describe the strips and there are no cell samplers.
+   */
+  public boolean isReelMode() {
+    return reels != null;
+  }
+
+  public int reelLength(int column) {
+    return reels[column].length;
+  }
+
+  /**
+   * Returns a symbol of the reel strip of a column.
+   *
+   * @param column   The column of the game matrix.
+   * @param position The position on the strip, in {@code [0, reelLength(column))}.
+   * @return The symbol at the position.
+   */
+  public Symbol reelSymbolAt(int column, int position) {
+    return reels[column][position];
+  }
+
+  /**
+   * Tells whether the game is played in the cascade game mode.
+   *
+   * @return {@code true} if the cells of winning combinations are removed and refilled until a board does not win, in which case
+   * {@link #getCascade()} holds the settings of the mode and {@link #getLinearAreaIndex()} the index of the linear covered areas.
+   */
+  public boolean isCascading() {
+    return cascade != null;
+  }
+
+  /**
+   * Tells whether bonus symbols of the configuration award free spins.
+   *
+   * @return {@code true} if {@link #getFreeSpinsSymbols()} is not empty, in which case {@link #getLinearAreaIndex()} is available.
+   */
+  public boolean hasFreeSpins() {
+    return !freeSpinsSymbols.isEmpty();
+  }
+
+  /**
+   * Returns the sampling table of a cell. Only available if the game is not spun from reel strips.
+   *
+   * @param cell The row-major index of the cell, {@code row * columns + column}.
+   * @return The sampler of the cell's symbol distribution.
+   */
+  public SymbolSampler samplerAt(int cell) {
+    return samplers[cell];
+  }
+
+  /**
+   * Returns the dense id of a win combination, which is its position in the name order of all win combinations.
+   *
+   * @param name The win combination name.
+   * @return The id in {@code [0, winCombinationCount)}, or an empty {@link Optional} if no win combination has this name.
+   */
+  public Optional<Integer> findWinCombinationId(String name) {
+    return Optional.ofNullable(winCombinationIds.get(name));
+  }
+
+  public WinCombination winCombinationAt(int id) {
+    return winCombinations[id];
+  }
+
+  /**
+   * Returns the value of a symbol in micro-units: the reward multiplier of a standard symbol, the multiplier or extra amount of a bonus
+   * symbol, and {@code 0} for a symbol without a value.
+   *
+   * @param ordinal The ordinal of the symbol.
+   * @return The value in micro-units.
+   */
+  public long symbolMicrosAt(int ordinal) {
+    return symbolMicros[ordinal];
+  }
+
+  /**
+   * Returns the reward multiplier of a win combination in micro-units.
+   *
+   * @param id The id of the win combination.
+   * @return The reward multiplier in micro-units.
+   */
+  public long winCombinationMicrosAt(int id) {
+    return winCombinationMicros[id];
+  }
+
+  private SymbolSampler[] compileSamplers(Configuration configuration, ConfigurationInterner interner) {
+    var compiled = new SymbolSampler[rows * columns];
+    // cells declared with a shared default distribution share their probability map, so its sampler is only built once
+    var samplersByDistribution = new IdentityHashMap<Map<Symbol, Integer>, SymbolSampler>();
+    for (var cellProbability : configuration.getCellProbabilities()) {
+      var row = cellProbability.getRow();
+      var column = cellProbability.getColumn();
+      if (row < 0 || row >= rows || column < 0 || column >= columns || compiled[row * columns + column] != null) {
+        throw new ConfigurationParseException("Cell " + row + ":" + column + " is defined twice or lies outside the " + rows + "x" +
+            columns + " matrix.");
+      }
+      compiled[row * columns + column] = samplersByDistribution.computeIfAbsent(cellProbability.getProbabilities(),
+          distribution -> interner.intern(sampler(cellProbability)));
+    }
+    for (int cell = 0; cell < compiled.length; cell++) {
+      if (compiled[cell] == null) {
+        throw new ConfigurationParseException("Cell " + cell / columns + ":" + cell % columns + " has no probabilities defined.");
+      }
+    }
+    return compiled;
+  }
+
+  private Symbol[][] compileReels(Configuration configuration, ConfigurationInterner interner) {
+    if (configuration.getCellProbabilities() != null && !configuration.getCellProbabilities().isEmpty()) {
+      throw new ConfigurationParseException("A configuration should define either 'probabilities' or 'reels', not both.");
+    }
+    var compiled = new Symbol[columns][];
+    for (var reelStrip : configuration.getReelStrips()) {
+      compiled[reelStrip.column()] = reelStrip.symbols().stream()
+          .map(interner::intern)
+          .toArray(Symbol[]::new);
+    }
+    return compiled;
+  }
+
+  private static SymbolSampler sampler(CellProbability cellProbability) {
+    try {
+      return cellProbability.getSampler();
+    } catch (IllegalStateException e) {
+      throw new ConfigurationParseException(e.getMessage(), e);
+    }
+  }
+
+  private static void compileCoveredAreas(WinCombination[] winCombinations, int rows, int columns) {
+    for (var winCombination : winCombinations) {
+      if (winCombination instanceof LinearWinCombination linearWinCombination) {
+        linearWinCombination.coveredAreaIndices(rows, columns);
+      }
+    }
+  }
+
+  private static LinearAreaIndex compileCascade(CascadeSettings cascade, WinCombination[] winCombinations, int rows, int columns) {
+    // the refills of cascade k draw from addresses k * cellCount + cell, which must remain valid int addresses
+    if ((long) (cascade.maxCascades() + 1) * rows * columns > Integer.MAX_VALUE) {
+      throw new ConfigurationParseException("'max_cascades' of " + cascade.maxCascades() + " is too large for a " + rows + "x" + columns +
+          " matrix.");
+    }
+    return LinearAreaIndex.of(List.of(winCombinations), rows, columns);
+  }
+
+  private static LinearAreaIndex compileFreeSpins(List<BonusSymbol> freeSpinsSymbols, WinCombination[] winCombinations, int rows,
+                                                  int columns) {
+    // the free spins of a round draw from addresses k * cellCount + cell, which must remain valid int addresses
+    var maxSpins = freeSpinsSymbols.stream().mapToLong(BonusSymbol::getSpins).sum();
+    if ((maxSpins + 1) * rows * columns > Integer.MAX_VALUE) {
+      throw new ConfigurationParseException("The free spins of up to " + maxSpins + " rounds are too many for a " + rows + "x" + columns +
+          " matrix.");
+    }
+    return LinearAreaIndex.of(List.of(winCombinations), rows, columns);
+  }
+
+  private static <T> long[] compileMicros(T[] elements, Function<T, Double> value, Function<T, String> name) {
+    var micros = new long[elements.length];
+    for (int i = 0; i < elements.length; i++) {
+      var amount = value.apply(elements[i]);
+      try {
+        micros[i] = amount == null ? 0L : FixedPoint.toMicros(amount);
+      } catch (ArithmeticException e) {
+        throw new ConfigurationParseException("The value " + amount + " of " + name.apply(elements[i]) + " cannot be held in micro-units.",
+            e);
+      }
+    }
+    return micros;
+  }
+
+  private static <T> Map<String, Integer> indexByName(T[] elements, Function<T, String> name) {
+    return IntStream.range(0, elements.length)
+        .boxed()
+        .collect(Collectors.toUnmodifiableMap(i -> name.apply(elements[i]), Function.identity()));
+  }
+
+  private static Map<Group, Set<WinCombination>> groupWinCombinations(WinCombination[] winCombinations) {
+    var grouped = new EnumMap<Group, Set<WinCombination>>(Group.class);
+    var selectionOrder = Stream.of(winCombinations).sorted(EvaluationOrder.SELECTION_ORDER).toList();
+    for (var winCombination : selectionOrder) {
+      grouped.computeIfAbsent(winCombination.getGroup(), group -> new LinkedHashSet<>()).add(winCombination);
+    }
+    grouped.replaceAll((group, members) -> Collections.unmodifiableSet(members));
+    return Collections.unmodifiableMap(grouped);
+  }
+}
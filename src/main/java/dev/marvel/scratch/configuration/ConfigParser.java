@@ -1,18 +1,26 @@
 package dev.marvel.scratch.configuration;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import dev.marvel.scratch.exceptions.ConfigurationParseException;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * This class is responsible for reading the game configuration file, parsing its contents into a {@link Configuration} object, and
  * delegating specific sections of the configuration to specialized parsers. Each parser is responsible for a different aspect of the
  * game configuration, such as symbols, cell probabilities, or winning combinations.
+ * <p>
+ * Sections consumed by a {@link StreamingParser} are never materialized as a tree: the first pass over the file skips them while
+ * reading all other top-level attributes, and each streaming parser later gets its own pass positioned at its section's value. Parsers
+ * still run in their registration order, so a streaming parser sees everything parsed before it.
  *
  * @see Parser for the interface implemented by parsers for specific configuration sections.
  * @see Configuration for the structure that holds the parsed configuration data.
@@ -37,14 +45,63 @@ public class ConfigParser {
    */
   public Configuration parse(String configFileName) {
     var configuration = new Configuration();
-    var configRoot = readConfigurationFile(configFileName);
+    var streamedAttributes = parsers.stream()
+        .filter(StreamingParser.class::isInstance)
+        .map(parser -> ((StreamingParser) parser).getAttribute())
+        .collect(Collectors.toSet());
+    var presentStreamedAttributes = new HashSet<String>();
+    var configRoot = readConfigurationFile(configFileName, streamedAttributes, presentStreamedAttributes);
     for (var parser : parsers) {
-      parser.parse(configRoot, configuration);
+      if (parser instanceof StreamingParser streamingParser && presentStreamedAttributes.contains(streamingParser.getAttribute())) {
+        streamAttribute(configFileName, streamingParser, configuration);
+        streamingParser.complete(configRoot, configuration);
+      } else {
+        parser.parse(configRoot, configuration);
+      }
     }
     return configuration;
   }
 
-  private JsonNode readConfigurationFile(String configFileName) {
+  private ObjectNode readConfigurationFile(String configFileName, Set<String> streamedAttributes, Set<String> presentStreamedAttributes) {
+    var configRoot = mapper.createObjectNode();
+    try (var jsonParser = openConfigurationFile(configFileName)) {
+      if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+        throw new ConfigurationParseException("The supplied configuration file should contain a JSON object.");
+      }
+      while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+        var attribute = jsonParser.currentName();
+        jsonParser.nextToken();
+        if (streamedAttributes.contains(attribute)) {
+          jsonParser.skipChildren();
+          presentStreamedAttributes.add(attribute);
+        } else {
+          configRoot.set(attribute, jsonParser.readValueAsTree());
+        }
+      }
+      return configRoot;
+    } catch (IOException e) {
+      throw new ConfigurationParseException("The supplied configuration file is not a valid JSON.");
+    }
+  }
+
+  private void streamAttribute(String configFileName, StreamingParser streamingParser, Configuration configuration) {
+    try (var jsonParser = openConfigurationFile(configFileName)) {
+      jsonParser.nextToken();
+      while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+        var attribute = jsonParser.currentName();
+        jsonParser.nextToken();
+        if (attribute.equals(streamingParser.getAttribute())) {
+          streamingParser.parse(jsonParser, configuration);
+          return;
+        }
+        jsonParser.skipChildren();
+      }
+    } catch (IOException e) {
+      throw new ConfigurationParseException("The supplied configuration file is not a valid JSON.");
+    }
+  }
+
+  private JsonParser openConfigurationFile(String configFileName) throws IOException {
     if (configFileName.isBlank()) {
       throw new ConfigurationParseException("The config filename cannot be null, empty or blank.");
     }
@@ -54,10 +111,6 @@ public class ConfigParser {
     } catch (IOException e) {
       throw new ConfigurationParseException(configFileName + " not found. Provide a path relative to the current working directory.");
     }
-    try {
-      return mapper.readTree(configInputStream);
-    } catch (IOException e) {
-      throw new ConfigurationParseException("The supplied configuration file is not a valid JSON.");
-    }
+    return mapper.createParser(configInputStream);
   }
 }
@@ -1,6 +1,8 @@
 package dev.marvel.scratch.configuration;
 
+import dev.marvel.scratch.domain.cascade.model.CascadeSettings;
 import dev.marvel.scratch.domain.probability.model.CellProbability;
+import dev.marvel.scratch.domain.reel.model.ReelStrip;
 import dev.marvel.scratch.domain.symbol.model.Symbol;
 import dev.marvel.scratch.domain.wincombination.model.WinCombination;
 import lombok.AllArgsConstructor;
@@ -9,17 +11,21 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
  * This class serves as a central repository for all configuration data required to initialize and run a game. It includes the setup for
- * the game board (rows and columns), the symbols used within the game, the probabilities for symbols to appear in each cell, and the
- * criteria for winning combinations.
+ * the game board (rows and columns), the symbols used within the game, the probabilities for symbols to appear in each cell (or, for a
+ * game spun from reels, the reel strip of each column), the criteria for winning combinations and, for the cascade game mode, its
+ * settings.
  *
  * @see Symbol for the symbols used in the game.
  * @see CellProbability for the probabilities of symbols appearing in each cell.
+ * @see ReelStrip for the reel strips of a game spun from reels.
  * @see WinCombination for the criteria that define winning combinations.
+ * @see CascadeSettings for the cascade game mode.
  */
 @Getter
 @Setter
@@ -31,10 +37,23 @@ public class Configuration {
   private int rows;
   private int columns;
   private Set<Symbol> symbols;
-  private Set<CellProbability> cellProbabilities = new HashSet<>();
+  private Set<CellProbability> cellProbabilities = new LinkedHashSet<>();
   private Set<WinCombination> winCombinations;
+  private List<ReelStrip> reelStrips;
+  private CascadeSettings cascade;
 
   public void addProbability(CellProbability probability) {
     cellProbabilities.add(probability);
   }
+
+  /**
+   * Compiles this configuration into its immutable, indexed form, which is what games are played against.
+   *
+   * @return The compiled configuration.
+   * @throws dev.marvel.scratch.exceptions.ConfigurationParseException if the cell probabilities do not cover the game matrix exactly once.
+   * @see CompiledConfiguration
+   */
+  public CompiledConfiguration freeze() {
+    return CompiledConfiguration.of(this);
+  }
 }
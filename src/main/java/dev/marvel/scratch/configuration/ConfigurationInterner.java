@@ -0,0 +1,81 @@
+package dev.marvel.scratch.configuration;
+
+import dev.marvel.scratch.domain.probability.model.SymbolSampler;
+import dev.marvel.scratch.domain.symbol.model.AbstractSymbol;
+import dev.marvel.scratch.domain.symbol.model.BonusSymbol;
+import dev.marvel.scratch.domain.symbol.model.Impact;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.symbol.model.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonicalizes the parts of compiled configurations that are commonly identical across games, so that any number of configurations
+ * compiled with the same interner share a single instance of each distinct symbol definition and each distinct symbol distribution.
+ * <p>
+ * Symbols compare equal by name only, so interning uses the full definition instead: two symbols are interned to the same instance when
+ * they have the same name, type, value and (for bonus symbols) impact and number of free spins. Samplers are interned when they assign
+ * the same weights to the same symbol definitions. The interner is safe to use from many threads compiling configurations in parallel.
+ * Interned symbols are shared between configurations and must not be modified.
+ *
+ * @see CompiledConfiguration#of(Configuration, ConfigurationInterner)
+ */
+public final class ConfigurationInterner {
+
+  private final Map<SymbolDefinition, Symbol> symbols = new ConcurrentHashMap<>();
+  private final Map<SamplerDefinition, SymbolSampler> samplers = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the canonical instance of a symbol definition.
+   *
+   * @param symbol A symbol.
+   * @return The first interned symbol with the same definition, or the given symbol if there is none yet.
+   */
+  public Symbol intern(Symbol symbol) {
+    return symbols.computeIfAbsent(SymbolDefinition.of(symbol), definition -> symbol);
+  }
+
+  /**
+   * Returns the canonical instance of a symbol distribution. The returned sampler references interned symbols only.
+   *
+   * @param sampler A sampler.
+   * @return The first interned sampler with the same definition, or an equivalent sampler over interned symbols if there is none yet.
+   */
+  public SymbolSampler intern(SymbolSampler sampler) {
+    return samplers.computeIfAbsent(SamplerDefinition.of(sampler), definition -> sampler.withSymbols(this::intern));
+  }
+
+  public int getSymbolCount() {
+    return symbols.size();
+  }
+
+  public int getSamplerCount() {
+    return samplers.size();
+  }
+
+  private record SymbolDefinition(String name, Type type, Double value, Impact impact, int spins) {
+
+    static SymbolDefinition of(Symbol symbol) {
+      var value = symbol instanceof AbstractSymbol abstractSymbol ? abstractSymbol.getValue() : null;
+      var impact = symbol instanceof BonusSymbol bonusSymbol ? bonusSymbol.getImpact() : null;
+      var spins = symbol instanceof BonusSymbol bonusSymbol ? bonusSymbol.getSpins() : 0;
+      return new SymbolDefinition(symbol.getName(), symbol.getType(), value, impact, spins);
+    }
+  }
+
+  private record SamplerDefinition(List<SymbolDefinition> symbols, List<Integer> weights) {
+
+    static SamplerDefinition of(SymbolSampler sampler) {
+      var symbols = new ArrayList<SymbolDefinition>(sampler.size());
+      var weights = new ArrayList<Integer>(sampler.size());
+      for (int i = 0; i < sampler.size(); i++) {
+        symbols.add(SymbolDefinition.of(sampler.symbolAt(i)));
+        weights.add(sampler.weightAt(i));
+      }
+      return new SamplerDefinition(symbols, weights);
+    }
+  }
+}
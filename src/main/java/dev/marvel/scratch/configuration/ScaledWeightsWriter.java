@@ -0,0 +1,72 @@
+package dev.marvel.scratch.configuration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.marvel.scratch.domain.probability.model.WeightScaling;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Writes a copy of a JSON configuration file in which every symbol weight of the 'probabilities' node, in 'standard_symbols',
+ * 'default_standard_symbols' and 'bonus_symbols' alike, is rescaled by a {@link WeightScaling}. The rest of the file is copied as it
+ * is, so the copy differs from the source in its weights alone.
+ */
+@RequiredArgsConstructor
+public class ScaledWeightsWriter {
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Writes the rescaled copy of a configuration. The copy is first written to a temporary file and then atomically moved into place,
+   * so a process watching the target never reads a partially written configuration.
+   *
+   * @param sourcePath The JSON configuration file to copy.
+   * @param targetPath The file to write the copy to.
+   * @param scaling    The rescaling of the weights.
+   * @throws ConfigurationParseException if the source cannot be read, has no 'probabilities' object, or the copy cannot be written.
+   */
+  public void write(Path sourcePath, Path targetPath, WeightScaling scaling) {
+    try {
+      var root = objectMapper.readTree(sourcePath.toFile());
+      var probabilities = root.get("probabilities");
+      if (probabilities == null || !probabilities.isObject()) {
+        throw new ConfigurationParseException("Config file should have an object 'probabilities' attribute.");
+      }
+      var standardSymbols = probabilities.get("standard_symbols");
+      if (standardSymbols != null) {
+        standardSymbols.forEach(cell -> scale(cell.get("symbols"), scaling));
+      }
+      for (var attribute : new String[]{"default_standard_symbols", "bonus_symbols"}) {
+        var node = probabilities.get(attribute);
+        if (node != null) {
+          scale(node.get("symbols"), scaling);
+        }
+      }
+      var absoluteTargetPath = targetPath.toAbsolutePath();
+      var temporaryPath = absoluteTargetPath.resolveSibling(absoluteTargetPath.getFileName() + ".tmp");
+      objectMapper.writerWithDefaultPrettyPrinter().writeValue(temporaryPath.toFile(), root);
+      Files.move(temporaryPath, absoluteTargetPath, REPLACE_EXISTING, ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new ConfigurationParseException("Could not write the configuration " + targetPath + " with rescaled weights.", e);
+    }
+  }
+
+  private static void scale(JsonNode symbols, WeightScaling scaling) {
+    if (symbols instanceof ObjectNode weights) {
+      weights.fields().forEachRemaining(weight -> {
+        if (weight.getValue().isInt()) {
+          weight.setValue(IntNode.valueOf(scaling.scale(weight.getKey(), weight.getValue().asInt())));
+        }
+      });
+    }
+  }
+}
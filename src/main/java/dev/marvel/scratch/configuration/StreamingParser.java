@@ -0,0 +1,47 @@
+package dev.marvel.scratch.configuration;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+
+/**
+ * A {@link Parser} that can also consume its section of the configuration directly from a Jackson token stream, so that potentially
+ * huge sections (such as per-cell probabilities of large boards) are turned into model objects as they are read instead of first being
+ * materialized as a {@link com.fasterxml.jackson.databind.JsonNode} tree. Peak memory while loading then stays proportional to the
+ * parsed model rather than to the size of the document.
+ *
+ * @see ConfigParser for how streamed sections are located in the configuration file.
+ */
+public interface StreamingParser extends Parser {
+
+  /**
+   * Returns the name of the attribute, within the enclosing JSON object, whose value this parser consumes.
+   *
+   * @return The attribute name.
+   */
+  String getAttribute();
+
+  /**
+   * Parses the attribute's value from a token stream.
+   *
+   * @param parser        The token stream, positioned at the first token of the attribute's value. When this method returns, the stream
+   *                      must be positioned at the last token of the value.
+   * @param configuration The {@link Configuration} instance to be updated with the parsed values.
+   * @throws IOException if the token stream cannot be read.
+   * @throws dev.marvel.scratch.exceptions.ConfigurationParseException if the value is missing, malformed or invalid.
+   */
+  void parse(JsonParser parser, Configuration configuration) throws IOException;
+
+  /**
+   * Completes a streamed parse once the enclosing JSON object has been read, for work that depends on sibling attributes which may
+   * follow the streamed attribute in the document. It is called after {@link #parse(JsonParser, Configuration)}, in the parser's
+   * registration order relative to its siblings' parsers. Does nothing by default.
+   *
+   * @param siblings      The attributes of the enclosing object that were not streamed.
+   * @param configuration The {@link Configuration} instance to be updated.
+   * @throws dev.marvel.scratch.exceptions.ConfigurationParseException if the sibling attributes are malformed or invalid.
+   */
+  default void complete(JsonNode siblings, Configuration configuration) {
+  }
+}
@@ -0,0 +1,97 @@
+package dev.marvel.scratch.configuration.catalog;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.configuration.ConfigurationInterner;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A catalog of games, each compiled from its own configuration file, that can be served by game id.
+ * <p>
+ * All configurations in a directory are parsed and compiled in parallel, so loading many paytables takes about as long as loading the
+ * largest of them when enough cores are available. They are compiled with a single {@link ConfigurationInterner}, so symbol definitions
+ * and per-cell symbol distributions that are identical across games are held in memory once, and near-duplicate paytables only add
+ * what actually differs between them.
+ *
+ * @see CompiledConfiguration for the compiled form each game is served from.
+ */
+public class GameCatalog {
+
+  private static final String CONFIGURATION_EXTENSION = ".json";
+
+  private final Map<String, CompiledConfiguration> games;
+  @Getter
+  private final ConfigurationInterner interner;
+
+  private GameCatalog(Map<String, CompiledConfiguration> games, ConfigurationInterner interner) {
+    this.games = games;
+    this.interner = interner;
+  }
+
+  /**
+   * Loads every {@code .json} configuration file in a directory. The id of each game is its file name without the extension.
+   *
+   * @param directory The directory holding the configuration files.
+   * @param parser    Parses a configuration file. It is called concurrently for different files.
+   * @return The catalog of all games in the directory.
+   * @throws ConfigurationParseException if the directory cannot be read, holds no configuration, or any of its configurations is invalid.
+   */
+  public static GameCatalog load(Path directory, Function<Path, Configuration> parser) {
+    Set<Path> files;
+    try (var listing = Files.list(directory)) {
+      files = listing
+          .filter(Files::isRegularFile)
+          .filter(file -> file.getFileName().toString().endsWith(CONFIGURATION_EXTENSION))
+          .collect(Collectors.toSet());
+    } catch (IOException e) {
+      throw new ConfigurationParseException("Could not list the game catalog directory " + directory + ".", e);
+    }
+    if (files.isEmpty()) {
+      throw new ConfigurationParseException("The game catalog directory " + directory + " holds no '" + CONFIGURATION_EXTENSION +
+          "' configuration files.");
+    }
+    var interner = new ConfigurationInterner();
+    var games = files.parallelStream()
+        .collect(Collectors.toConcurrentMap(GameCatalog::gameId, file -> compile(file, parser, interner)));
+    return new GameCatalog(Collections.unmodifiableMap(new TreeMap<>(games)), interner);
+  }
+
+  /**
+   * Looks up a game.
+   *
+   * @param gameId The id of the game.
+   * @return The compiled configuration of the game, or an empty {@link Optional} if the catalog holds no such game.
+   */
+  public Optional<CompiledConfiguration> find(String gameId) {
+    return Optional.ofNullable(games.get(gameId));
+  }
+
+  public Set<String> getGameIds() {
+    return games.keySet();
+  }
+
+  private static String gameId(Path file) {
+    var fileName = file.getFileName().toString();
+    return fileName.substring(0, fileName.length() - CONFIGURATION_EXTENSION.length());
+  }
+
+  private static CompiledConfiguration compile(Path file, Function<Path, Configuration> parser, ConfigurationInterner interner) {
+    try {
+      return CompiledConfiguration.of(parser.apply(file), interner);
+    } catch (ConfigurationParseException e) {
+      throw new ConfigurationParseException("Game " + gameId(file) + ": " + e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package dev.marvel.scratch.configuration.reload;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * Holds the {@link CompiledConfiguration} of a long-running process and replaces it when the configuration changes on disk, without
+ * pausing the rounds being played. A version may carry state built from its configuration (such as the players of its rounds) along
+ * with it, so that the state is swapped, and released, together with the configuration it belongs to.
+ * <p>
+ * A reload, requested either explicitly through {@link #reload()} (the admin trigger) or by the file watcher started with
+ * {@link #watch(Path...)}, parses and compiles the new version on a background thread. The new version is then published with a single
+ * atomic reference swap. A round should read {@link #current()} once and play entirely against that version: rounds in flight finish on
+ * the version they started with, while rounds started after the swap pick up the new one. Since a compiled configuration is immutable,
+ * no locking is needed on either side. A reload that fails (for example because the file is invalid or was caught half-written) leaves
+ * the current version in place.
+ * <p>
+ * Reload requests are coalesced: while a reload is queued but not yet started, further requests share it, so a burst of file system
+ * events results in a single compilation of the latest file contents.
+ *
+ * @param <T> The type of a published version: a compiled configuration, or the configuration together with state built from it.
+ */
+public class ConfigurationReloader<T> implements AutoCloseable {
+
+  private final Supplier<T> loader;
+  private final AtomicReference<T> current;
+  private final AtomicReference<CompletableFuture<T>> queued = new AtomicReference<>();
+  private final ExecutorService compiler;
+  private volatile WatchService watchService;
+  private volatile boolean closed;
+
+  /**
+   * Creates a reloader serving the given initial version.
+   *
+   * @param initial The version served until the first successful reload.
+   * @param loader  Parses and compiles the configuration from disk into a new version. It is only ever called on the background
+   *                compilation thread.
+   */
+  public ConfigurationReloader(T initial, Supplier<T> loader) {
+    this.loader = loader;
+    this.current = new AtomicReference<>(initial);
+    this.compiler = Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "config-reloader"));
+  }
+
+  /**
+   * Returns the version new rounds should be played against.
+   *
+   * @return The most recently published version.
+   */
+  public T current() {
+    return current.get();
+  }
+
+  /**
+   * Requests a reload on the background compilation thread.
+   *
+   * @return A future completed with the newly published version, or completed exceptionally if loading failed, in which case the
+   * previous version stays current.
+   * @throws IllegalStateException if the reloader is closed.
+   */
+  public CompletableFuture<T> reload() {
+    if (closed) {
+      throw new IllegalStateException("The configuration reloader is closed.");
+    }
+    var reload = new CompletableFuture<T>();
+    var alreadyQueued = queued.compareAndExchange(null, reload);
+    if (alreadyQueued != null) {
+      return alreadyQueued;
+    }
+    compiler.execute(() -> {
+      // requests arriving from now on may see newer file contents than this load, so they must get a reload of their own
+      queued.compareAndSet(reload, null);
+      try {
+        var compiled = loader.get();
+        current.set(compiled);
+        reload.complete(compiled);
+      } catch (RuntimeException e) {
+        reload.completeExceptionally(e);
+      }
+    });
+    return reload;
+  }
+
+  /**
+   * Starts a background thread that requests a reload whenever one of the given files is created or modified.
+   *
+   * @param files The files the configuration is loaded from.
+   * @throws UncheckedIOException if the files' directories cannot be watched.
+   */
+  public void watch(Path... files) {
+    try {
+      var service = FileSystems.getDefault().newWatchService();
+      var watched = new HashSet<Path>();
+      for (var file : files) {
+        var absolute = file.toAbsolutePath().normalize();
+        watched.add(absolute);
+        absolute.getParent().register(service, ENTRY_CREATE, ENTRY_MODIFY);
+      }
+      this.watchService = service;
+      daemon(() -> watchLoop(service, watched), "config-watcher").start();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not watch the configuration files.", e);
+    }
+  }
+
+  /**
+   * Stops the file watcher and the background compilation thread. The current version stays available.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    compiler.shutdown();
+    var service = watchService;
+    if (service != null) {
+      try {
+        service.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not stop watching the configuration files.", e);
+      }
+    }
+  }
+
+  private void watchLoop(WatchService service, Set<Path> watched) {
+    while (true) {
+      try {
+        var key = service.take();
+        var directory = (Path) key.watchable();
+        var changed = key.pollEvents().stream()
+            .map(WatchEvent::context)
+            .filter(Path.class::isInstance)
+            .map(context -> directory.resolve((Path) context))
+            .anyMatch(watched::contains);
+        key.reset();
+        if (changed && !closed) {
+          reload();
+        }
+      } catch (InterruptedException | IllegalStateException e) {
+        // a closed reloader throws ClosedWatchServiceException from take() or IllegalStateException from reload()
+        return;
+      }
+    }
+  }
+
+  private static Thread daemon(Runnable runnable, String name) {
+    var thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    return thread;
+  }
+}
@@ -0,0 +1,200 @@
+package dev.marvel.scratch.configuration.snapshot;
+
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.domain.cascade.model.CascadeSettings;
+import dev.marvel.scratch.domain.core.Cell;
+import dev.marvel.scratch.domain.probability.model.CellProbability;
+import dev.marvel.scratch.domain.reel.model.ReelStrip;
+import dev.marvel.scratch.domain.symbol.model.BonusSymbol;
+import dev.marvel.scratch.domain.symbol.model.Impact;
+import dev.marvel.scratch.domain.symbol.model.StandardSymbol;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.symbol.model.Type;
+import dev.marvel.scratch.domain.wincombination.model.Group;
+import dev.marvel.scratch.domain.wincombination.model.ClusterWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.LinearWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.SameSymbolWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.WinCombination;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static dev.marvel.scratch.configuration.snapshot.SnapshotFormat.CLUSTER;
+import static dev.marvel.scratch.configuration.snapshot.SnapshotFormat.HASH_BYTES;
+import static dev.marvel.scratch.configuration.snapshot.SnapshotFormat.LINEAR_SYMBOLS;
+import static dev.marvel.scratch.configuration.snapshot.SnapshotFormat.MAGIC;
+import static dev.marvel.scratch.configuration.snapshot.SnapshotFormat.SAME_SYMBOLS;
+import static dev.marvel.scratch.configuration.snapshot.SnapshotFormat.VERSION;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Loads a {@link Configuration} from a binary snapshot written by {@link ConfigurationSnapshotWriter}. The snapshot is memory-mapped and
+ * decoded directly into the configuration model, bypassing Jackson and the JSON {@link dev.marvel.scratch.configuration.Parser}s: the
+ * snapshot was validated when it was compiled.
+ * <p>
+ * A snapshot is bound to the exact content of the JSON it was compiled from. If the JSON has changed since, the snapshot is rejected as
+ * stale rather than silently serving an outdated paytable.
+ */
+public class ConfigurationSnapshotLoader {
+
+  /**
+   * Loads the configuration stored in the given snapshot.
+   *
+   * @param snapshotPath The snapshot file to load.
+   * @param sourcePath   The JSON configuration file the snapshot is expected to have been compiled from.
+   * @return The configuration stored in the snapshot.
+   * @throws ConfigurationParseException if the snapshot cannot be read, is corrupt, or is stale with respect to {@code sourcePath}.
+   */
+  public Configuration load(Path snapshotPath, Path sourcePath) {
+    ByteBuffer buffer;
+    try (var channel = FileChannel.open(snapshotPath, READ)) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } catch (IOException e) {
+      throw new ConfigurationParseException(snapshotPath + " not found. Provide a path relative to the current working directory.", e);
+    }
+    try {
+      readHeader(buffer, snapshotPath, sourcePath);
+      return readConfiguration(buffer);
+    } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+      throw new ConfigurationParseException("Configuration snapshot " + snapshotPath + " is corrupt.", e);
+    }
+  }
+
+  private void readHeader(ByteBuffer buffer, Path snapshotPath, Path sourcePath) {
+    if (buffer.getInt() != MAGIC) {
+      throw new ConfigurationParseException(snapshotPath + " is not a configuration snapshot.");
+    }
+    var version = buffer.getInt();
+    if (version != VERSION) {
+      throw new ConfigurationParseException("Configuration snapshot " + snapshotPath + " has format version " + version + ", expected " +
+          VERSION + ". Re-run 'compile-config'.");
+    }
+    var compiledHash = new byte[HASH_BYTES];
+    buffer.get(compiledHash);
+    if (!Arrays.equals(compiledHash, SnapshotFormat.hash(sourcePath))) {
+      throw new ConfigurationParseException("Configuration snapshot " + snapshotPath + " is stale: " + sourcePath + " has changed since " +
+          "it was compiled. Re-run 'compile-config'.");
+    }
+  }
+
+  private Configuration readConfiguration(ByteBuffer buffer) {
+    var configuration = new Configuration();
+    configuration.setRows(buffer.getInt());
+    configuration.setColumns(buffer.getInt());
+    var symbols = readSymbols(buffer);
+    configuration.setSymbols(new HashSet<>(Arrays.asList(symbols)));
+    configuration.setCellProbabilities(readCells(buffer, symbols));
+    configuration.setWinCombinations(readWinCombinations(buffer, configuration.getColumns()));
+    configuration.setReelStrips(readReelStrips(buffer, symbols));
+    var maxCascades = buffer.getInt();
+    configuration.setCascade(maxCascades == 0 ? null : new CascadeSettings(maxCascades));
+    return configuration;
+  }
+
+  private List<ReelStrip> readReelStrips(ByteBuffer buffer, Symbol[] symbols) {
+    var stripCount = buffer.getInt();
+    if (stripCount == 0) {
+      return null;
+    }
+    var reelStrips = new ArrayList<ReelStrip>(stripCount);
+    for (int column = 0; column < stripCount; column++) {
+      var strip = new Symbol[buffer.getInt()];
+      for (int i = 0; i < strip.length; i++) {
+        strip[i] = symbols[buffer.getInt()];
+      }
+      reelStrips.add(new ReelStrip(column, Arrays.asList(strip)));
+    }
+    return reelStrips;
+  }
+
+  private Symbol[] readSymbols(ByteBuffer buffer) {
+    var symbols = new Symbol[buffer.getInt()];
+    for (int i = 0; i < symbols.length; i++) {
+      var name = readString(buffer);
+      var type = Type.values()[buffer.get()];
+      var impactOrdinal = buffer.get();
+      var value = buffer.getDouble();
+      var spins = buffer.getInt();
+      Symbol symbol;
+      if (type == Type.STANDARD) {
+        symbol = new StandardSymbol(value);
+      } else {
+        var impact = Impact.values()[impactOrdinal];
+        symbol = new BonusSymbol(impact == Impact.MULTIPLY_REWARD || impact == Impact.FREE_SPINS ? value : null,
+            impact == Impact.EXTRA_BONUS ? value : null, impact == Impact.FREE_SPINS ? spins : null, impact.getValue());
+      }
+      symbol.setName(name);
+      symbols[i] = symbol;
+    }
+    return symbols;
+  }
+
+  private Set<CellProbability> readCells(ByteBuffer buffer, Symbol[] symbols) {
+    var cellCount = buffer.getInt();
+    var cellProbabilities = new LinkedHashSet<CellProbability>();
+    for (int i = 0; i < cellCount; i++) {
+      var row = buffer.getInt();
+      var column = buffer.getInt();
+      var entryCount = buffer.getInt();
+      var probabilities = new LinkedHashMap<Symbol, Integer>();
+      for (int j = 0; j < entryCount; j++) {
+        probabilities.put(symbols[buffer.getInt()], buffer.getInt());
+      }
+      cellProbabilities.add(new CellProbability(row, column, probabilities));
+    }
+    return cellProbabilities;
+  }
+
+  private Set<WinCombination> readWinCombinations(ByteBuffer buffer, int columns) {
+    var winCombinationCount = buffer.getInt();
+    var winCombinations = new HashSet<WinCombination>();
+    for (int i = 0; i < winCombinationCount; i++) {
+      var name = readString(buffer);
+      var kind = buffer.get();
+      var group = Group.values()[buffer.get()];
+      var rewardMultiplier = buffer.getDouble();
+      var winCombination = switch (kind) {
+        case SAME_SYMBOLS -> new SameSymbolWinCombination(buffer.getInt(), rewardMultiplier);
+        case CLUSTER -> new ClusterWinCombination(buffer.getInt(), rewardMultiplier);
+        case LINEAR_SYMBOLS -> new LinearWinCombination(rewardMultiplier, group.getValue(), readCoveredAreas(buffer, columns));
+        default -> throw new ConfigurationParseException("Unknown win combination kind " + kind + " in configuration snapshot.");
+      };
+      winCombination.setName(name);
+      winCombinations.add(winCombination);
+    }
+    return winCombinations;
+  }
+
+  private Set<Set<Cell>> readCoveredAreas(ByteBuffer buffer, int columns) {
+    var areaCount = buffer.getInt();
+    var coveredAreas = new HashSet<Set<Cell>>();
+    for (int i = 0; i < areaCount; i++) {
+      var cellCount = buffer.getInt();
+      var coveredArea = new HashSet<Cell>();
+      for (int j = 0; j < cellCount; j++) {
+        var index = buffer.getInt();
+        coveredArea.add(new Cell(index / columns, index % columns));
+      }
+      coveredAreas.add(coveredArea);
+    }
+    return coveredAreas;
+  }
+
+  private String readString(ByteBuffer buffer) {
+    var bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
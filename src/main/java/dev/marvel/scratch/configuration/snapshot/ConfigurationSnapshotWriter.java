@@ -0,0 +1,168 @@
+package dev.marvel.scratch.configuration.snapshot;
+
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.domain.probability.model.CellProbability;
+import dev.marvel.scratch.domain.reel.model.ReelStrip;
+import dev.marvel.scratch.domain.symbol.model.AbstractSymbol;
+import dev.marvel.scratch.domain.symbol.model.BonusSymbol;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.model.ClusterWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.LinearWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.SameSymbolWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.WinCombination;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static dev.marvel.scratch.configuration.snapshot.SnapshotFormat.CLUSTER;
+import static dev.marvel.scratch.configuration.snapshot.SnapshotFormat.LINEAR_SYMBOLS;
+import static dev.marvel.scratch.configuration.snapshot.SnapshotFormat.MAGIC;
+import static dev.marvel.scratch.configuration.snapshot.SnapshotFormat.NO_IMPACT;
+import static dev.marvel.scratch.configuration.snapshot.SnapshotFormat.SAME_SYMBOLS;
+import static dev.marvel.scratch.configuration.snapshot.SnapshotFormat.VERSION;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Writes a parsed and validated {@link Configuration} as a canonical binary snapshot (see {@link SnapshotFormat} for the layout) that
+ * {@link ConfigurationSnapshotLoader} can memory-map without parsing JSON. Symbols and win combinations are written ordered by name and
+ * cells in row-major order, so the same configuration always yields the same bytes.
+ */
+public class ConfigurationSnapshotWriter {
+
+  /**
+   * Writes the snapshot of the given configuration. The snapshot is first written to a temporary file and then atomically moved into
+   * place, so a concurrently starting process never maps a partially written snapshot.
+   *
+   * @param configuration The configuration parsed from {@code sourcePath}.
+   * @param sourcePath    The JSON configuration file the snapshot is compiled from; its content hash is embedded in the snapshot.
+   * @param snapshotPath  The snapshot file to write.
+   * @throws ConfigurationParseException if the snapshot cannot be written.
+   */
+  public void write(Configuration configuration, Path sourcePath, Path snapshotPath) {
+    var sourceHash = SnapshotFormat.hash(sourcePath);
+    var absoluteSnapshotPath = snapshotPath.toAbsolutePath();
+    try {
+      var temporaryPath = absoluteSnapshotPath.resolveSibling(absoluteSnapshotPath.getFileName() + ".tmp");
+      try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.write(sourceHash);
+        out.writeInt(configuration.getRows());
+        out.writeInt(configuration.getColumns());
+        var ordinals = writeSymbols(out, configuration);
+        writeCells(out, configuration, ordinals);
+        writeWinCombinations(out, configuration);
+        writeReelStrips(out, configuration, ordinals);
+        out.writeInt(configuration.getCascade() == null ? 0 : configuration.getCascade().maxCascades());
+      }
+      Files.move(temporaryPath, absoluteSnapshotPath, REPLACE_EXISTING, ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new ConfigurationParseException("Could not write configuration snapshot " + snapshotPath + ".", e);
+    }
+  }
+
+  private Map<Symbol, Integer> writeSymbols(DataOutputStream out, Configuration configuration) throws IOException {
+    var symbols = configuration.getSymbols().stream()
+        .sorted(Comparator.comparing(Symbol::getName))
+        .toList();
+    var ordinals = new HashMap<Symbol, Integer>();
+    out.writeInt(symbols.size());
+    for (var symbol : symbols) {
+      ordinals.put(symbol, ordinals.size());
+      writeString(out, symbol.getName());
+      out.writeByte(symbol.getType().ordinal());
+      out.writeByte(symbol.isBonus() ? ((BonusSymbol) symbol).getImpact().ordinal() : NO_IMPACT);
+      var value = ((AbstractSymbol) symbol).getValue();
+      out.writeDouble(value == null ? Double.NaN : value);
+      out.writeInt(symbol.isBonus() ? ((BonusSymbol) symbol).getSpins() : 0);
+    }
+    return ordinals;
+  }
+
+  private void writeCells(DataOutputStream out, Configuration configuration, Map<Symbol, Integer> ordinals) throws IOException {
+    var cellProbabilities = configuration.getCellProbabilities().stream()
+        .sorted(Comparator.comparing(CellProbability::getRow).thenComparing(CellProbability::getColumn))
+        .toList();
+    out.writeInt(cellProbabilities.size());
+    for (var cellProbability : cellProbabilities) {
+      out.writeInt(cellProbability.getRow());
+      out.writeInt(cellProbability.getColumn());
+      var sampler = cellProbability.getSampler();
+      out.writeInt(sampler.size());
+      for (int i = 0; i < sampler.size(); i++) {
+        out.writeInt(ordinals.get(sampler.symbolAt(i)));
+        out.writeInt(sampler.weightAt(i));
+      }
+    }
+  }
+
+  private void writeWinCombinations(DataOutputStream out, Configuration configuration) throws IOException {
+    var rows = configuration.getRows();
+    var columns = configuration.getColumns();
+    List<WinCombination> winCombinations = configuration.getWinCombinations().stream()
+        .sorted(Comparator.comparing(WinCombination::getName))
+        .toList();
+    out.writeInt(winCombinations.size());
+    for (var winCombination : winCombinations) {
+      writeString(out, winCombination.getName());
+      if (winCombination instanceof SameSymbolWinCombination sameSymbolWinCombination) {
+        writeWinCombinationHeader(out, SAME_SYMBOLS, winCombination);
+        out.writeInt(sameSymbolWinCombination.getCount());
+      } else if (winCombination instanceof ClusterWinCombination clusterWinCombination) {
+        writeWinCombinationHeader(out, CLUSTER, winCombination);
+        out.writeInt(clusterWinCombination.getCount());
+      } else if (winCombination instanceof LinearWinCombination linearWinCombination) {
+        writeWinCombinationHeader(out, LINEAR_SYMBOLS, winCombination);
+        var coveredAreas = linearWinCombination.coveredAreaIndices(rows, columns);
+        out.writeInt(coveredAreas.length);
+        for (var indices : coveredAreas) {
+          out.writeInt(indices.length);
+          for (var index : indices) {
+            out.writeInt(index);
+          }
+        }
+      } else {
+        throw new ConfigurationParseException("Win combination " + winCombination.getName() + " cannot be compiled into a snapshot.");
+      }
+    }
+  }
+
+  private void writeReelStrips(DataOutputStream out, Configuration configuration, Map<Symbol, Integer> ordinals) throws IOException {
+    if (configuration.getReelStrips() == null) {
+      out.writeInt(0);
+      return;
+    }
+    var reelStrips = configuration.getReelStrips().stream()
+        .sorted(Comparator.comparing(ReelStrip::column))
+        .toList();
+    out.writeInt(reelStrips.size());
+    for (var reelStrip : reelStrips) {
+      out.writeInt(reelStrip.length());
+      for (var symbol : reelStrip.symbols()) {
+        out.writeInt(ordinals.get(symbol));
+      }
+    }
+  }
+
+  private void writeWinCombinationHeader(DataOutputStream out, byte kind, WinCombination winCombination) throws IOException {
+    out.writeByte(kind);
+    out.writeByte(winCombination.getGroup().ordinal());
+    out.writeDouble(winCombination.getRewardMultiplier());
+  }
+
+  private void writeString(DataOutputStream out, String value) throws IOException {
+    var bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+}
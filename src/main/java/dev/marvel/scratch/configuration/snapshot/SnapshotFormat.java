@@ -0,0 +1,59 @@
+package dev.marvel.scratch.configuration.snapshot;
+
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Constants and helpers shared by the writer and the loader of compiled configuration snapshots. All numbers are stored big-endian and
+ * all strings as an int byte length followed by their UTF-8 bytes. A snapshot is laid out as follows:
+ * <ol>
+ *   <li>header: magic number, format version and the SHA-256 hash of the source JSON;</li>
+ *   <li>dimensions: rows and columns;</li>
+ *   <li>symbol table: for each symbol (ordered by name) its name, type, impact, value and number of free spins ({@code 0} unless it
+ *   awards free spins);</li>
+ *   <li>cell sampler tables: for each cell (row-major) its row, column and canonical {@code (symbol ordinal, weight)} pairs;</li>
+ *   <li>win combinations: for each combination (ordered by name) its name, kind, group and reward multiplier followed by its count (same
+ *   symbols and cluster combinations) or by its covered areas as arrays of row-major cell indices;</li>
+ *   <li>reel strips: their count ({@code 0} for a game spun from cell probabilities) followed, for each column, by the symbol ordinals
+ *   of its strip;</li>
+ *   <li>cascade: the maximum number of cascades of a round ({@code 0} for a game without cascades).</li>
+ * </ol>
+ */
+final class SnapshotFormat {
+
+  static final int MAGIC = 0x53434647;
+  static final int VERSION = 4;
+  static final int HASH_BYTES = 32;
+  static final byte NO_IMPACT = -1;
+  static final byte SAME_SYMBOLS = 0;
+  static final byte LINEAR_SYMBOLS = 1;
+  static final byte CLUSTER = 2;
+
+  private SnapshotFormat() {
+  }
+
+  /**
+   * Computes the content hash a snapshot is bound to.
+   *
+   * @param source The source JSON configuration file.
+   * @return The SHA-256 hash of the file's content.
+   * @throws ConfigurationParseException if the file cannot be read.
+   */
+  static byte[] hash(Path source) {
+    try (var in = new DigestInputStream(Files.newInputStream(source), MessageDigest.getInstance("SHA-256"))) {
+      in.transferTo(OutputStream.nullOutputStream());
+      return in.getMessageDigest().digest();
+    } catch (IOException e) {
+      throw new ConfigurationParseException(source + " not found. Provide a path relative to the current working directory.", e);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported by this JVM.", e);
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package dev.marvel.scratch.domain.cascade;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.domain.cascade.model.CascadeOutcome;
+import dev.marvel.scratch.domain.cascade.model.CascadeStep;
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.probability.random.RandomSource;
+import dev.marvel.scratch.domain.scorer.Scorer;
+import dev.marvel.scratch.domain.wincombination.IncrementalWinCombinationMatcher;
+
+import java.util.ArrayList;
+
+/**
+ * Plays a round of the cascade game mode (see {@link dev.marvel.scratch.domain.cascade.model.CascadeSettings}). After every winning
+ * board, the cells of its wins are removed, the remaining symbols of each column fall down to the bottom, and the emptied cells at the
+ * top of the column are spun again. Each board is scored on its own and the reward of the round is the sum of the scores.
+ * <p>
+ * Boards are matched with an {@link IncrementalWinCombinationMatcher}, so a cascade only re-checks the covered areas and symbol counts
+ * touched by the cells it changed. A game spun from cell probabilities refills a cell from that cell's distribution; a game spun from reel
+ * strips draws a new stop for each column with emptied cells and reads the refilled rows off its strip from that stop on. The draws of
+ * cascade {@code k} are addressed from {@code k * cellCount} on (by cell, or by column for reel strips), so they never coincide with the
+ * draws of the spin or of another cascade, and a round spun from a counter-based random source is replayed cascade for cascade.
+ * <p>
+ * An instance reuses its buffers from round to round and must not be shared between threads.
+ */
+public class CascadePlayer {
+
+  private final CompiledConfiguration configuration;
+  private final IncrementalWinCombinationMatcher matcher;
+  private final Scorer scorer;
+  private final boolean[] removed;
+
+  /**
+   * Constructs a player for a cascading configuration.
+   *
+   * @param configuration The compiled game configuration.
+   * @param scorer        The scorer of every board.
+   * @throws IllegalArgumentException if the configuration is not played in the cascade game mode.
+   */
+  public CascadePlayer(CompiledConfiguration configuration, Scorer scorer) {
+    if (!configuration.isCascading()) {
+      throw new IllegalArgumentException("The configuration does not define a 'cascade' game mode.");
+    }
+    this.configuration = configuration;
+    this.matcher = new IncrementalWinCombinationMatcher(configuration);
+    this.scorer = scorer;
+    this.removed = new boolean[configuration.getCellCount()];
+  }
+
+  /**
+   * Plays the cascades of a spun board until a board does not win or the maximum number of cascades is reached.
+   *
+   * @param game   The spun board, which is not modified.
+   * @param random The random source the board was spun from, which the emptied cells are refilled from.
+   * @return Every board of the round and the reward of the round.
+   */
+  public CascadeOutcome play(Game game, RandomSource random) {
+    var bet = game.getBet();
+    var matchResult = matcher.reset(game);
+    var score = scorer.score(bet, matchResult);
+    var steps = new ArrayList<CascadeStep>();
+    steps.add(new CascadeStep(game, matchResult, score));
+    var reward = score;
+    var maxCascades = configuration.getCascade().maxCascades();
+    for (int cascade = 1; cascade <= maxCascades && !matchResult.matchedWinCombinations().isEmpty(); cascade++) {
+      if (matcher.markWinningCells(matchResult, removed) == 0) {
+        break;
+      }
+      tumble(cascade, random);
+      matchResult = matcher.rematch();
+      score = scorer.score(bet, matchResult);
+      reward += score;
+      steps.add(new CascadeStep(matcher.toGame(bet), matchResult, score));
+    }
+    return new CascadeOutcome(steps, reward);
+  }
+
+  private void tumble(int cascade, RandomSource random) {
+    var rows = configuration.getRows();
+    var columns = configuration.getColumns();
+    var firstAddress = cascade * configuration.getCellCount();
+    for (int column = 0; column < columns; column++) {
+      // compact the surviving symbols of the column towards the bottom row
+      var target = rows - 1;
+      for (int row = rows - 1; row >= 0; row--) {
+        var cell = row * columns + column;
+        if (removed[cell]) {
+          removed[cell] = false;
+          continue;
+        }
+        if (target != row) {
+          matcher.set(target * columns + column, matcher.symbolAt(cell));
+        }
+        target--;
+      }
+      if (target < 0) {
+        continue;
+      }
+      // rows 0..target are now empty
+      if (configuration.isReelMode()) {
+        var length = configuration.reelLength(column);
+        var stop = random.nextInt(firstAddress + column, length);
+        for (int row = 0; row <= target; row++) {
+          matcher.set(row * columns + column, configuration.reelSymbolAt(column, (stop + row) % length));
+        }
+      } else {
+        for (int row = 0; row <= target; row++) {
+          var cell = row * columns + column;
+          var sampler = configuration.samplerAt(cell);
+          matcher.set(cell, sampler.sample(random.nextInt(firstAddress + cell, sampler.getTotalWeight())));
+        }
+      }
+    }
+  }
+}
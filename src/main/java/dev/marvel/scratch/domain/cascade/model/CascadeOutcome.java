@@ -0,0 +1,17 @@
+package dev.marvel.scratch.domain.cascade.model;
+
+import java.util.List;
+
+/**
+ * The outcome of a cascading round.
+ *
+ * @param steps  Every board of the round in order, starting with the spun board and ending with the first board that does not win (or
+ *               the board left after the last allowed cascade).
+ * @param reward The reward of the round, which is the sum of the scores of all its boards.
+ */
+public record CascadeOutcome(List<CascadeStep> steps, double reward) {
+
+  public CascadeStep initial() {
+    return steps.get(0);
+  }
+}
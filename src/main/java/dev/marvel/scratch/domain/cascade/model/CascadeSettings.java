@@ -0,0 +1,17 @@
+package dev.marvel.scratch.domain.cascade.model;
+
+/**
+ * The settings of the cascade (tumbling reels) game mode. In this mode, the cells of the winning combinations of a board are removed
+ * after the win, the symbols above them fall down, new symbols are spun into the emptied cells at the top, and the board is evaluated
+ * again, until a board without a win is reached.
+ *
+ * @param maxCascades The maximum number of cascades a single round may chain; the round ends after that many cascades even if the last
+ *                    board still wins. It bounds the cost of a round on boards that keep refilling into wins.
+ */
+public record CascadeSettings(int maxCascades) {
+
+  /**
+   * The number of cascades a round may chain if the configuration does not specify it.
+   */
+  public static final int DEFAULT_MAX_CASCADES = 50;
+}
@@ -0,0 +1,15 @@
+package dev.marvel.scratch.domain.cascade.model;
+
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.wincombination.MatchResult;
+
+/**
+ * One board of a cascading round: the board spun at the start of the round, or the board left after a cascade.
+ *
+ * @param game        The board.
+ * @param matchResult The win combinations and bonus symbols matched on the board.
+ * @param score       The reward of the board alone.
+ */
+public record CascadeStep(Game game, MatchResult matchResult, double score) {
+
+}
@@ -0,0 +1,49 @@
+package dev.marvel.scratch.domain.cascade.parsers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.configuration.Parser;
+import dev.marvel.scratch.domain.cascade.model.CascadeSettings;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+
+/**
+ * Parses the cascade settings ('cascade') of the game configuration JSON, which switch the game to the cascade game mode (see
+ * {@link CascadeSettings}). The attribute is optional; without it every round is evaluated on a single board.
+ * <p>
+ * Example of a 'cascade' attribute:
+ * <pre>
+ * "cascade": {"max_cascades": 20}
+ * </pre>
+ * An empty object enables cascades with {@link CascadeSettings#DEFAULT_MAX_CASCADES}.
+ */
+public class CascadeParser implements Parser {
+
+  /**
+   * Parses the 'cascade' attribute from the provided game configuration JSON node and sets the cascade settings of the
+   * {@link Configuration}. Does nothing if the attribute is absent.
+   *
+   * @param configRoot    The root node of the game configuration JSON.
+   * @param configuration The {@link Configuration} instance to be updated with the parsed cascade settings.
+   * @throws ConfigurationParseException if the 'cascade' attribute is not an object or its 'max_cascades' attribute is not a positive
+   * integer.
+   */
+  @Override
+  public void parse(JsonNode configRoot, Configuration configuration) {
+    var cascadeNode = configRoot.get("cascade");
+    if (cascadeNode == null) {
+      return;
+    }
+    if (!cascadeNode.isObject()) {
+      throw new ConfigurationParseException("'cascade' should be an object, optionally with a 'max_cascades' attribute.");
+    }
+    var maxCascadesNode = cascadeNode.get("max_cascades");
+    if (maxCascadesNode == null) {
+      configuration.setCascade(new CascadeSettings(CascadeSettings.DEFAULT_MAX_CASCADES));
+      return;
+    }
+    if (!maxCascadesNode.isInt() || maxCascadesNode.asInt() <= 0) {
+      throw new ConfigurationParseException("The 'max_cascades' attribute of 'cascade' should be a positive integer.");
+    }
+    configuration.setCascade(new CascadeSettings(maxCascadesNode.asInt()));
+  }
+}
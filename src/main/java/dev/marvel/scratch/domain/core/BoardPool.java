@@ -0,0 +1,156 @@
+package dev.marvel.scratch.domain.core;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.domain.probability.random.RandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Spins boards ahead of time on background producer threads, so that serving a round only takes a ready board, matches and scores it.
+ * <p>
+ * Boards are addressed by their position in the sequence of rounds served, starting at {@code 0}. Producers claim positions in order
+ * from a bounded, lock-free ring buffer (the array-based queue of D. Vyukov), spin the board of the claimed position from the random
+ * source of that position, and publish it into the position's slot. {@link #take(CompiledConfiguration, int)} consumes the positions in
+ * order, so the n-th board taken is always the board of round {@code n}, no matter which producer spun it or how the producers
+ * interleave. With a counter-based random source every board is therefore identical to the one
+ * {@link Game#Game(CompiledConfiguration, int, RandomSource)} would spin on the request path, and the draw of every cell is addressed
+ * exactly as it would be without the pool.
+ * <p>
+ * Every board is spun from the configuration current when its position is claimed. A board spun from another configuration than the one
+ * its round is played against, for instance because a reload completed in the meantime, is discarded and its round is spun again on the
+ * request path. A reload therefore invalidates at most {@code capacity} boards, and a round is never played on a board of a replaced
+ * configuration.
+ * <p>
+ * {@link #take(CompiledConfiguration, int)} must only be called from a single thread.
+ */
+public class BoardPool implements AutoCloseable {
+
+  private static final long IDLE_PARK_NANOS = 50_000;
+
+  private final Supplier<CompiledConfiguration> configuration;
+  private final LongFunction<RandomSource> randomForRound;
+  private final AtomicReferenceArray<SpunBoard> slots;
+  private final AtomicLongArray sequences;
+  private final int mask;
+  private final AtomicLong producerPosition = new AtomicLong();
+  private final List<Thread> producers = new ArrayList<>();
+  private long consumerPosition;
+  private volatile boolean closed;
+
+  /**
+   * Creates a pool and starts its producers.
+   *
+   * @param configuration  The supplier of the current configuration, such as {@code ConfigurationReloader::current}.
+   * @param randomForRound The random source of the round at a position. It is called from the producer threads and must be safe to call
+   *                       concurrently.
+   * @param capacity       The number of boards spun ahead; rounded up to a power of two.
+   * @param producerCount  The number of producer threads.
+   * @throws IllegalArgumentException if the capacity or the number of producers is not positive.
+   */
+  public BoardPool(Supplier<CompiledConfiguration> configuration, LongFunction<RandomSource> randomForRound, int capacity,
+                   int producerCount) {
+    if (capacity <= 0 || producerCount <= 0) {
+      throw new IllegalArgumentException("The capacity and the number of producers of a board pool should be positive.");
+    }
+    this.configuration = configuration;
+    this.randomForRound = randomForRound;
+    var size = Integer.bitCount(capacity) == 1 ? capacity : Integer.highestOneBit(capacity) << 1;
+    this.slots = new AtomicReferenceArray<>(size);
+    this.sequences = new AtomicLongArray(size);
+    this.mask = size - 1;
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+    for (int i = 0; i < producerCount; i++) {
+      var producer = new Thread(this::produce, "board-producer-" + i);
+      producer.setDaemon(true);
+      producers.add(producer);
+      producer.start();
+    }
+  }
+
+  /**
+   * Takes the board of the next round, waiting for it to be spun if the producers are behind.
+   *
+   * @param current The configuration the round is played against, normally the one current when the round is served.
+   * @param bet     The betting amount of the round.
+   * @return The game of the next round, spun from the given configuration.
+   * @throws IllegalStateException if the pool is closed.
+   */
+  public Game take(CompiledConfiguration current, int bet) {
+    var position = consumerPosition;
+    var index = (int) position & mask;
+    var idle = 0;
+    while (sequences.get(index) != position + 1) {
+      if (closed) {
+        throw new IllegalStateException("The board pool is closed.");
+      }
+      idle = backOff(idle);
+    }
+    var spun = slots.get(index);
+    slots.set(index, null);
+    sequences.set(index, position + mask + 1);
+    consumerPosition = position + 1;
+
+    if (spun.game() == null || spun.configuration() != current) {
+      return new Game(current, bet, randomForRound.apply(position));
+    }
+    return spun.game().withBet(bet);
+  }
+
+  /**
+   * Stops the producers. Boards spun but not taken are discarded.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    producers.forEach(LockSupport::unpark);
+  }
+
+  private void produce() {
+    var idle = 0;
+    while (!closed) {
+      var position = producerPosition.get();
+      var index = (int) position & mask;
+      var difference = sequences.get(index) - position;
+      if (difference == 0 && producerPosition.compareAndSet(position, position + 1)) {
+        slots.set(index, spin(position));
+        sequences.set(index, position + 1);
+        idle = 0;
+      } else if (difference < 0) {
+        // the ring is full: the consumer has not yet taken the board spun a whole ring ago
+        idle = backOff(idle);
+      }
+    }
+  }
+
+  private SpunBoard spin(long position) {
+    var current = configuration.get();
+    try {
+      return new SpunBoard(current, new Game(current, 0, randomForRound.apply(position)));
+    } catch (RuntimeException e) {
+      // the position must still be published so the consumer does not wait for it; the round is spun again on the request path
+      return new SpunBoard(current, null);
+    }
+  }
+
+  private static int backOff(int idle) {
+    if (idle < 100) {
+      Thread.onSpinWait();
+    } else {
+      LockSupport.parkNanos(IDLE_PARK_NANOS);
+    }
+    return idle + 1;
+  }
+
+  private record SpunBoard(CompiledConfiguration configuration, Game game) {
+
+  }
+}
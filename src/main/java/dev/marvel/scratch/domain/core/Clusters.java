@@ -0,0 +1,107 @@
+package dev.marvel.scratch.domain.core;
+
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The clusters of a board: its maximal groups of orthogonally connected cells holding the same symbol.
+ * <p>
+ * The clusters are found in a single pass over the flat, row-major board with a union-find structure held in two int arrays: every cell
+ * is united with its left and its upper neighbour if they hold the same symbol, with union by size and path halving. Neither recursion
+ * nor an object per cell is needed, so the cost is linear in the number of cells and independent of the shape of the clusters. A second
+ * pass resolves the root of every cell, after which the size of a cell's cluster is a constant-time lookup.
+ *
+ * @see dev.marvel.scratch.domain.wincombination.model.ClusterWinCombination for the win combination paying for clusters.
+ */
+public final class Clusters {
+
+  private final int[] roots;
+  private final int[] sizes;
+  private final Map<Symbol, Integer> largestSizes;
+
+  private Clusters(int[] roots, int[] sizes, Map<Symbol, Integer> largestSizes) {
+    this.roots = roots;
+    this.sizes = sizes;
+    this.largestSizes = largestSizes;
+  }
+
+  /**
+   * Finds the clusters of a board.
+   *
+   * @param board   The symbol of every cell, addressed by {@code row * columns + column}; empty cells are {@code null} and belong to no
+   *                cluster.
+   * @param columns The number of columns of the board.
+   * @return The clusters of the board.
+   */
+  public static Clusters of(Symbol[] board, int columns) {
+    var parents = new int[board.length];
+    var sizes = new int[board.length];
+    for (int cell = 0; cell < board.length; cell++) {
+      parents[cell] = cell;
+      sizes[cell] = 1;
+      var symbol = board[cell];
+      if (symbol == null) {
+        continue;
+      }
+      if (cell % columns > 0 && symbol.equals(board[cell - 1])) {
+        union(parents, sizes, cell, cell - 1);
+      }
+      if (cell >= columns && symbol.equals(board[cell - columns])) {
+        union(parents, sizes, cell, cell - columns);
+      }
+    }
+    var largestSizes = new HashMap<Symbol, Integer>();
+    for (int cell = 0; cell < board.length; cell++) {
+      parents[cell] = find(parents, cell);
+      if (parents[cell] == cell && board[cell] != null) {
+        largestSizes.merge(board[cell], sizes[cell], Math::max);
+      }
+    }
+    return new Clusters(parents, sizes, largestSizes);
+  }
+
+  /**
+   * Returns the size of the largest cluster of a symbol.
+   *
+   * @param symbol The symbol.
+   * @return The number of cells of the symbol's largest cluster, or {@code 0} if the symbol is not on the board.
+   */
+  public int largestClusterOf(Symbol symbol) {
+    return largestSizes.getOrDefault(symbol, 0);
+  }
+
+  /**
+   * Returns the size of the cluster a cell belongs to.
+   *
+   * @param cell The row-major index of the cell.
+   * @return The number of cells of the cell's cluster.
+   */
+  public int clusterSizeAt(int cell) {
+    return sizes[roots[cell]];
+  }
+
+  private static void union(int[] parents, int[] sizes, int first, int second) {
+    var firstRoot = find(parents, first);
+    var secondRoot = find(parents, second);
+    if (firstRoot == secondRoot) {
+      return;
+    }
+    if (sizes[firstRoot] < sizes[secondRoot]) {
+      var swap = firstRoot;
+      firstRoot = secondRoot;
+      secondRoot = swap;
+    }
+    parents[secondRoot] = firstRoot;
+    sizes[firstRoot] += sizes[secondRoot];
+  }
+
+  private static int find(int[] parents, int cell) {
+    while (parents[cell] != cell) {
+      parents[cell] = parents[parents[cell]];
+      cell = parents[cell];
+    }
+    return cell;
+  }
+}
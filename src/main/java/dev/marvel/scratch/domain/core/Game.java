@@ -1,7 +1,11 @@
 package dev.marvel.scratch.domain.core;
 
+import dev.marvel.scratch.configuration.CompiledConfiguration;
 import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.domain.probability.random.RandomSource;
+import dev.marvel.scratch.domain.probability.random.SecureRandomSource;
 import dev.marvel.scratch.domain.symbol.model.Symbol;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.HashMap;
@@ -27,6 +31,16 @@ public class Game {
 
   private final Map<Cell, Symbol> cells;
   private final int bet;
+  private final int rows;
+  private final int columns;
+  @Getter(AccessLevel.NONE)
+  private final Symbol[] board;
+  @Getter(AccessLevel.NONE)
+  private final Symbol wildPaysAs;
+  @Getter(AccessLevel.NONE)
+  private Clusters clusters;
+  @Getter(AccessLevel.NONE)
+  private Occupancy occupancy;
 
   /**
    * Constructs a new game instance using the specified configuration and betting amount.
@@ -41,19 +55,183 @@ public class Game {
    * @param bet           The betting amount placed by the user for this game instance.
    */
   public Game(Configuration configuration, int bet) {
+    this(configuration, bet, new SecureRandomSource());
+  }
+
+  /**
+   * Constructs a new game instance whose cells are spun from the given random source. With a counter-based source such as
+   * {@link dev.marvel.scratch.domain.probability.random.PhiloxRandomSource} the resulting board is a pure function of the source's seed
+   * and round, which makes the game reproducible. A game spun from reel strips draws one stop offset per column instead of one symbol
+   * per cell.
+   *
+   * @param configuration The game configuration specifying cell probabilities, symbols, and winning combinations.
+   * @param bet           The betting amount placed by the user for this game instance.
+   * @param random        The random source the cells are spun from.
+   */
+  public Game(Configuration configuration, int bet, RandomSource random) {
     this.bet = bet;
+    this.rows = configuration.getRows();
+    this.columns = configuration.getColumns();
+    this.board = new Symbol[rows * columns];
+    this.wildPaysAs = Occupancy.wildPaysAs(configuration.getSymbols());
     cells = new HashMap<>();
+    if (configuration.getReelStrips() != null) {
+      for (var reelStrip : configuration.getReelStrips()) {
+        var stop = random.nextInt(reelStrip.column(), reelStrip.length());
+        for (int row = 0; row < rows; row++) {
+          board[row * columns + reelStrip.column()] = reelStrip.symbolAt(stop, row);
+        }
+      }
+      indexCells();
+      return;
+    }
     var cellProbabilities = configuration.getCellProbabilities();
     cellProbabilities.forEach(cp -> {
       var cell = new Cell(cp.getRow(), cp.getColumn());
-      var symbol = cp.spin();
+      var symbol = cp.spin(random, cp.getRow() * columns + cp.getColumn());
       cells.put(cell, symbol);
+      board[cp.getRow() * columns + cp.getColumn()] = symbol;
     });
   }
 
+  /**
+   * Constructs a new game instance whose cells are spun from the given random source using the row-major sampling tables of a compiled
+   * configuration. For the same random source the board is identical to the one built from the parsed configuration.
+   * <p>
+   * If the game is spun from reel strips, a single stop offset is drawn per column, addressed by the column index, and the rows of the
+   * column are read off its strip from that offset on.
+   *
+   * @param configuration The compiled game configuration.
+   * @param bet           The betting amount placed by the user for this game instance.
+   * @param random        The random source the cells are spun from.
+   */
+  public Game(CompiledConfiguration configuration, int bet, RandomSource random) {
+    this.bet = bet;
+    this.rows = configuration.getRows();
+    this.columns = configuration.getColumns();
+    this.board = new Symbol[configuration.getCellCount()];
+    this.wildPaysAs = configuration.getWildPaysAs();
+    cells = new HashMap<>();
+    if (configuration.isReelMode()) {
+      for (int column = 0; column < columns; column++) {
+        var length = configuration.reelLength(column);
+        var stop = random.nextInt(column, length);
+        for (int row = 0; row < rows; row++) {
+          board[row * columns + column] = configuration.reelSymbolAt(column, (stop + row) % length);
+        }
+      }
+    } else {
+      for (int cell = 0; cell < board.length; cell++) {
+        var sampler = configuration.samplerAt(cell);
+        board[cell] = sampler.sample(random.nextInt(cell, sampler.getTotalWeight()));
+      }
+    }
+    indexCells();
+  }
+
+  /**
+   * Constructs a game instance from a row-major board of symbols, such as one of the boards enumerated by an exact RTP calculation.
+   *
+   * @param configuration The compiled game configuration the board belongs to.
+   * @param board         The symbol of every cell, addressed by {@code row * columns + column}. The array is copied.
+   * @param bet           The betting amount placed by the user for this game instance.
+   */
+  public Game(CompiledConfiguration configuration, Symbol[] board, int bet) {
+    this.bet = bet;
+    this.rows = configuration.getRows();
+    this.columns = configuration.getColumns();
+    this.board = board.clone();
+    this.wildPaysAs = configuration.getWildPaysAs();
+    this.cells = new HashMap<>();
+    indexCells();
+  }
+
+  /**
+   * Constructs a game instance from an already filled board. The dimensions of the board are those of the smallest matrix containing
+   * all given cells. A win made of wilds alone does not pay on such a board, since it knows no configuration to resolve the symbol the
+   * wilds pay as.
+   *
+   * @param cells The symbol of every cell.
+   * @param bet   The betting amount placed by the user for this game instance.
+   */
   public Game(Map<Cell, Symbol> cells, int bet) {
     this.cells = cells;
     this.bet = bet;
+    this.rows = cells.keySet().stream().mapToInt(Cell::row).max().orElse(-1) + 1;
+    this.columns = cells.keySet().stream().mapToInt(Cell::column).max().orElse(-1) + 1;
+    this.board = new Symbol[rows * columns];
+    this.wildPaysAs = null;
+    cells.forEach((cell, symbol) -> board[cell.row() * columns + cell.column()] = symbol);
+  }
+
+  private Game(Game spun, int bet) {
+    this.cells = spun.cells;
+    this.bet = bet;
+    this.rows = spun.rows;
+    this.columns = spun.columns;
+    this.board = spun.board;
+    this.wildPaysAs = spun.wildPaysAs;
+    this.clusters = spun.clusters;
+    this.occupancy = spun.occupancy;
+  }
+
+  /**
+   * Returns a game with the same board and the given betting amount. The board is shared, not copied, which lets a board be spun before
+   * the bet of its round is known.
+   *
+   * @param bet The betting amount placed by the user for the game.
+   * @return The game with the given betting amount.
+   */
+  public Game withBet(int bet) {
+    return new Game(this, bet);
+  }
+
+  private void indexCells() {
+    for (int cell = 0; cell < board.length; cell++) {
+      cells.put(new Cell(cell / columns, cell % columns), board[cell]);
+    }
+  }
+
+  /**
+   * Returns the symbol of a cell by its row-major index.
+   *
+   * @param cell The row-major index of the cell, {@code row * columns + column}.
+   * @return The symbol of the cell.
+   */
+  public Symbol symbolAt(int cell) {
+    return board[cell];
+  }
+
+  /**
+   * Returns the clusters of orthogonally connected, identical symbols of the board. They are found on the first call and reused by every
+   * later one, so all cluster win combinations evaluated on this game share a single pass over the board.
+   *
+   * @return The clusters of the board.
+   */
+  public Clusters clusters() {
+    // a race only computes the same immutable result twice
+    var current = clusters;
+    if (current == null) {
+      current = Clusters.of(board, columns);
+      clusters = current;
+    }
+    return current;
+  }
+
+  /**
+   * Returns the occupancy masks of the board, which let win combinations match a symbol with wilds substituting for it. They are built on
+   * the first call and reused by every later one.
+   *
+   * @return The occupancy masks of the board.
+   */
+  public Occupancy occupancy() {
+    // a race only computes the same immutable result twice
+    var current = occupancy;
+    if (current == null) {
+      current = Occupancy.of(board, wildPaysAs);
+      occupancy = current;
+    }
+    return current;
   }
 
   /**
@@ -0,0 +1,164 @@
+package dev.marvel.scratch.domain.core;
+
+import dev.marvel.scratch.domain.symbol.model.BonusSymbol;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The occupancy masks of a board: for every symbol on the board, a bitset of the row-major indices of the cells it occupies, and one
+ * bitset of the cells occupied by wild symbols (bonus symbols with the {@code wild} impact).
+ * <p>
+ * A wild substitutes for any standard symbol. Matching a symbol therefore ORs its occupancy with the wild occupancy, one word of 64 cells
+ * at a time, instead of expanding every wild into every candidate symbol. Which symbol a win containing wilds pays as is resolved
+ * deterministically:
+ * <ul>
+ *   <li>a win pays as a symbol only if at least one of its cells holds that symbol itself, so a line of wilds and {@code A} cells pays
+ *   as {@code A} only, and a line mixing two standard symbols pays as neither;</li>
+ *   <li>a win made of wilds alone pays as the {@linkplain #wildPaysAs(Collection) wild pays-as symbol} of the configuration only: the
+ *   standard symbol with the highest reward multiplier, the first by name among equals.</li>
+ * </ul>
+ * For win combinations counting symbols anywhere on the board, every wild counts towards every symbol on the board.
+ */
+public final class Occupancy {
+
+  private final Map<Symbol, long[]> masks;
+  private final Map<Symbol, Integer> counts;
+  private final long[] wilds;
+  private final int wildCount;
+  private final Symbol wildPaysAs;
+
+  private Occupancy(Map<Symbol, long[]> masks, Map<Symbol, Integer> counts, long[] wilds, int wildCount, Symbol wildPaysAs) {
+    this.masks = masks;
+    this.counts = counts;
+    this.wilds = wilds;
+    this.wildCount = wildCount;
+    this.wildPaysAs = wildPaysAs;
+  }
+
+  /**
+   * Builds the occupancy masks of a board in a single pass.
+   *
+   * @param board      The symbol of every cell, addressed by {@code row * columns + column}; empty cells are {@code null}.
+   * @param wildPaysAs The symbol a win made of wilds alone pays as, or {@code null} if such a win does not pay.
+   * @return The occupancy masks.
+   */
+  public static Occupancy of(Symbol[] board, Symbol wildPaysAs) {
+    var words = (board.length + 63) >>> 6;
+    var masks = new HashMap<Symbol, long[]>();
+    var counts = new HashMap<Symbol, Integer>();
+    var wilds = new long[words];
+    var wildCount = 0;
+    for (int cell = 0; cell < board.length; cell++) {
+      var symbol = board[cell];
+      if (symbol == null) {
+        continue;
+      }
+      if (isWild(symbol)) {
+        wilds[cell >>> 6] |= 1L << cell;
+        wildCount++;
+      } else {
+        masks.computeIfAbsent(symbol, key -> new long[words])[cell >>> 6] |= 1L << cell;
+        counts.merge(symbol, 1, Integer::sum);
+      }
+    }
+    return new Occupancy(masks, counts, wilds, wildCount, wildPaysAs);
+  }
+
+  /**
+   * Determines the symbol a win made of wilds alone pays as: the standard symbol with the highest reward multiplier, the first by name
+   * among equals.
+   *
+   * @param symbols The symbols of the configuration.
+   * @return The pays-as symbol, or {@code null} if the configuration has no wild or no standard symbol.
+   */
+  public static Symbol wildPaysAs(Collection<Symbol> symbols) {
+    if (symbols.stream().noneMatch(Occupancy::isWild)) {
+      return null;
+    }
+    return symbols.stream()
+        .filter(Symbol::isStandard)
+        .min(Comparator.<Symbol>comparingDouble(symbol -> -symbol.apply(1d)).thenComparing(Symbol::getName))
+        .orElse(null);
+  }
+
+  /**
+   * Tells whether a symbol is a wild.
+   *
+   * @param symbol The symbol.
+   * @return {@code true} if the symbol is a bonus symbol with the {@code wild} impact.
+   */
+  public static boolean isWild(Symbol symbol) {
+    return symbol instanceof BonusSymbol bonusSymbol && bonusSymbol.isWild();
+  }
+
+  public boolean hasWilds() {
+    return wildCount > 0;
+  }
+
+  /**
+   * Tells whether a symbol, with wilds substituting for it, covers every cell of an area. The area is given as the non-zero 64-cell
+   * words of its bitset.
+   *
+   * @param symbol The standard symbol.
+   * @param words  The indices of the words the area's cells fall into.
+   * @param bits   The bits of the area's cells in each of those words.
+   * @return {@code true} if every cell of the area holds the symbol or a wild and the area pays as the symbol.
+   */
+  public boolean covers(Symbol symbol, int[] words, long[] bits) {
+    var own = masks.get(symbol);
+    if (own == null && (wildCount == 0 || !symbol.equals(wildPaysAs))) {
+      return false;
+    }
+    return covers(symbol, own, words, bits);
+  }
+
+  /**
+   * Tells whether a symbol, with wilds substituting for it, covers every cell of at least one of several areas. The symbol's mask is
+   * looked up once for all of them.
+   *
+   * @param symbol The standard symbol.
+   * @param words  The indices of the words the cells of every area fall into.
+   * @param bits   The bits of the cells of every area in each of those words.
+   * @return {@code true} if {@link #covers(Symbol, int[], long[])} holds for any of the areas.
+   */
+  public boolean coversAny(Symbol symbol, int[][] words, long[][] bits) {
+    var own = masks.get(symbol);
+    if (own == null && (wildCount == 0 || !symbol.equals(wildPaysAs))) {
+      return false;
+    }
+    for (int area = 0; area < words.length; area++) {
+      if (covers(symbol, own, words[area], bits[area])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean covers(Symbol symbol, long[] own, int[] words, long[] bits) {
+    var holdsOwn = false;
+    for (int i = 0; i < words.length; i++) {
+      var ownWord = own == null ? 0L : own[words[i]];
+      if (((ownWord | wilds[words[i]]) & bits[i]) != bits[i]) {
+        return false;
+      }
+      holdsOwn |= (ownWord & bits[i]) != 0;
+    }
+    return holdsOwn || symbol.equals(wildPaysAs);
+  }
+
+  /**
+   * Counts the cells of a symbol with wilds substituting for it.
+   *
+   * @param symbol The standard symbol.
+   * @return The number of cells holding the symbol plus the number of wilds, if the symbol is on the board or wilds alone pay as it;
+   * otherwise {@code 0}.
+   */
+  public int countWithWilds(Symbol symbol) {
+    var own = counts.getOrDefault(symbol, 0);
+    return own > 0 || symbol.equals(wildPaysAs) ? own + wildCount : 0;
+  }
+}
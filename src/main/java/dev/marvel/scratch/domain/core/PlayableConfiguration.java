@@ -0,0 +1,38 @@
+package dev.marvel.scratch.domain.core;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.domain.cascade.CascadePlayer;
+import dev.marvel.scratch.domain.freespins.FreeSpinsPlayer;
+import dev.marvel.scratch.domain.scorer.Scorer;
+import dev.marvel.scratch.domain.wincombination.WinCombinationMatcher;
+
+/**
+ * A compiled configuration together with the matcher, the scorer and the players its rounds are played with. The matcher adapts its
+ * evaluation order to the boards it matches and the players reuse their buffers from round to round, so they are built once per
+ * configuration and handed around with it: whoever replaces the configuration replaces its matcher and players along with it, and
+ * nothing else keeps them alive once the last round played against the configuration is done.
+ * <p>
+ * The matcher and the players are not thread-safe, so an instance must not be shared between threads playing rounds.
+ *
+ * @param configuration   The compiled game configuration.
+ * @param matcher         The matcher of the paid boards.
+ * @param scorer          The scorer of every board of the configuration.
+ * @param cascadePlayer   The player of the cascades, or {@code null} if the configuration is not played in the cascade game mode.
+ * @param freeSpinsPlayer The player of the free spins, or {@code null} if the configuration awards none.
+ */
+public record PlayableConfiguration(CompiledConfiguration configuration, WinCombinationMatcher matcher, Scorer scorer,
+                                    CascadePlayer cascadePlayer, FreeSpinsPlayer freeSpinsPlayer) {
+
+  /**
+   * Builds the matcher of a configuration and the players its game mode needs.
+   *
+   * @param configuration The compiled game configuration.
+   * @param scorer        The scorer of every board of the configuration.
+   * @return The configuration ready to be played.
+   */
+  public static PlayableConfiguration of(CompiledConfiguration configuration, Scorer scorer) {
+    return new PlayableConfiguration(configuration, new WinCombinationMatcher(configuration), scorer,
+        configuration.isCascading() ? new CascadePlayer(configuration, scorer) : null,
+        configuration.hasFreeSpins() ? new FreeSpinsPlayer(configuration, scorer) : null);
+  }
+}
@@ -0,0 +1,108 @@
+package dev.marvel.scratch.domain.freespins;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.freespins.model.FreeSpinsOutcome;
+import dev.marvel.scratch.domain.probability.random.RandomSource;
+import dev.marvel.scratch.domain.scorer.Scorer;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.IncrementalWinCombinationMatcher;
+
+import java.util.ArrayList;
+
+/**
+ * Plays the free spins awarded by a round. Every bonus symbol with the {@code free_spins} impact on the paid board awards its number of
+ * spins at the bet of the round; the spins of all such symbols are played one after another, and the reward of each spin is multiplied
+ * by every one of them through {@link Scorer#scoreFreeSpin}, so a fixed-point scorer multiplies it in micro-units as well. Free spins do
+ * not award further free spins.
+ * <p>
+ * The spins of a round are executed as one batch: all their boards are first spun into a flat buffer of symbols, and then matched one
+ * after another by a single {@link IncrementalWinCombinationMatcher}, which only re-checks the cells that differ from the previous board.
+ * No {@link Game} is built for a free spin, and the buffer and the matcher are reused from round to round. The draws of free spin
+ * {@code k} (counting from {@code 1}) are addressed from {@code k * cellCount} on (by cell, or by column for reel strips), so they never
+ * coincide with the draws of the paid spin or of another free spin, and a round spun from a counter-based random source is replayed spin
+ * for spin.
+ * <p>
+ * An instance must not be shared between threads.
+ */
+public class FreeSpinsPlayer {
+
+  private final CompiledConfiguration configuration;
+  private final IncrementalWinCombinationMatcher matcher;
+  private final Scorer scorer;
+  private Symbol[] boards = new Symbol[0];
+
+  /**
+   * Constructs a player for a configuration awarding free spins.
+   *
+   * @param configuration The compiled game configuration.
+   * @param scorer        The scorer of every free spin.
+   * @throws IllegalArgumentException if no symbol of the configuration awards free spins.
+   */
+  public FreeSpinsPlayer(CompiledConfiguration configuration, Scorer scorer) {
+    if (!configuration.hasFreeSpins()) {
+      throw new IllegalArgumentException("The configuration does not define 'free_spins' symbols.");
+    }
+    this.configuration = configuration;
+    this.matcher = new IncrementalWinCombinationMatcher(configuration);
+    this.scorer = scorer;
+  }
+
+  /**
+   * Plays the free spins awarded by a paid board.
+   *
+   * @param game   The paid board, which is not modified.
+   * @param random The random source the paid board was spun from, which the free spins are spun from as well.
+   * @return The free spins played and their reward, or {@link FreeSpinsOutcome#none()} if the board awards none.
+   */
+  public FreeSpinsOutcome play(Game game, RandomSource random) {
+    var triggers = new ArrayList<Symbol>();
+    var spins = 0;
+    for (var symbol : configuration.getFreeSpinsSymbols()) {
+      if (game.getCells().containsValue(symbol)) {
+        triggers.add(symbol);
+        spins += symbol.getSpins();
+      }
+    }
+    if (spins == 0) {
+      return FreeSpinsOutcome.none();
+    }
+    var cellCount = configuration.getCellCount();
+    if (boards.length < spins * cellCount) {
+      boards = new Symbol[spins * cellCount];
+    }
+    for (int spin = 0; spin < spins; spin++) {
+      spin(spin * cellCount, (spin + 1) * cellCount, random);
+    }
+    matcher.reset(game);
+    var reward = 0d;
+    var winningSpins = 0;
+    for (int spin = 0; spin < spins; spin++) {
+      var score = scorer.scoreFreeSpin(game.getBet(), matcher.load(boards, spin * cellCount), triggers);
+      if (score > 0) {
+        winningSpins++;
+      }
+      reward += score;
+    }
+    return new FreeSpinsOutcome(triggers, spins, winningSpins, reward);
+  }
+
+  private void spin(int offset, int firstAddress, RandomSource random) {
+    var rows = configuration.getRows();
+    var columns = configuration.getColumns();
+    if (configuration.isReelMode()) {
+      for (int column = 0; column < columns; column++) {
+        var length = configuration.reelLength(column);
+        var stop = random.nextInt(firstAddress + column, length);
+        for (int row = 0; row < rows; row++) {
+          boards[offset + row * columns + column] = configuration.reelSymbolAt(column, (stop + row) % length);
+        }
+      }
+    } else {
+      for (int cell = 0; cell < configuration.getCellCount(); cell++) {
+        var sampler = configuration.samplerAt(cell);
+        boards[offset + cell] = sampler.sample(random.nextInt(firstAddress + cell, sampler.getTotalWeight()));
+      }
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package dev.marvel.scratch.domain.freespins.model;
+
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+
+import java.util.List;
+
+/**
+ * The outcome of the free spins awarded by a round.
+ *
+ * @param triggers     The free spins symbols on the paid board, ordered by name.
+ * @param spins        The number of free spins played, which is the sum of the spins awarded by the triggers.
+ * @param winningSpins The number of free spins with a positive reward.
+ * @param reward       The reward of all free spins together, each multiplied by every trigger.
+ */
+public record FreeSpinsOutcome(List<Symbol> triggers, int spins, int winningSpins, double reward) {
+
+  private static final FreeSpinsOutcome NONE = new FreeSpinsOutcome(List.of(), 0, 0, 0d);
+
+  public static FreeSpinsOutcome none() {
+    return NONE;
+  }
+
+  public boolean isTriggered() {
+    return spins > 0;
+  }
+}
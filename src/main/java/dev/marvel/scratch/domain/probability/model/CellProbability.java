@@ -1,12 +1,14 @@
 package dev.marvel.scratch.domain.probability.model;
 
+import dev.marvel.scratch.domain.probability.random.RandomSource;
+import dev.marvel.scratch.domain.probability.random.SecureRandomSource;
 import dev.marvel.scratch.domain.symbol.model.Symbol;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
-import java.security.SecureRandom;
 import java.util.Map;
 
 /**
@@ -23,7 +25,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class CellProbability {
 
-  private static final SecureRandom RANDOM = new SecureRandom();
+  private static final RandomSource RANDOM = new SecureRandomSource();
 
   private final Integer row;
   private final Integer column;
@@ -31,6 +33,11 @@ public class CellProbability {
   @EqualsAndHashCode.Exclude
   private final Map<Symbol, Integer> probabilities;
 
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  private volatile SymbolSampler sampler;
+
   /**
    * Determines and returns a symbol for the cell based on the defined probabilities. This method simulates a "spin" by randomly
    * selecting a symbol according to the probability distribution specified for the cell.
@@ -40,19 +47,44 @@ public class CellProbability {
    *                               distribution.
    */
   public Symbol spin() {
-    int totalProbability = probabilities.values().stream()
-        .reduce(0, Integer::sum);
-    var random = RANDOM.nextInt(totalProbability);
-    for (var probability : probabilities.entrySet()) {
-      totalProbability = totalProbability - probability.getValue();
-      if (totalProbability <= random) {
-        return probability.getKey();
+    return spin(RANDOM, 0);
+  }
+
+  /**
+   * Spins the cell using the given random source. The draw is addressed by the cell's row-major index, so that a counter-based source
+   * yields the same symbol for the same cell of the same round regardless of the order in which cells are spun.
+   *
+   * @param random The random source to draw from.
+   * @param cell   The row-major index of this cell on the game board.
+   * @return The symbol selected based on the cell's probability distribution.
+   * @throws IllegalStateException if the probability distribution of the cell is inconsistent.
+   */
+  public Symbol spin(RandomSource random, int cell) {
+    var currentSampler = getSampler();
+    return currentSampler.sample(random.nextInt(cell, currentSampler.getTotalWeight()));
+  }
+
+  /**
+   * Returns the canonical sampling table of this cell's distribution, building it on first use.
+   *
+   * @return The sampler of this cell.
+   * @throws IllegalStateException if the probability distribution of the cell is inconsistent.
+   */
+  public SymbolSampler getSampler() {
+    var currentSampler = sampler;
+    if (currentSampler == null) {
+      try {
+        currentSampler = SymbolSampler.of(probabilities);
+      } catch (IllegalStateException e) {
+        throw new IllegalStateException(String.format("Internal error when spinning symbol for cell %s:%s", row, column), e);
       }
+      sampler = currentSampler;
     }
-    throw new IllegalStateException(String.format("Internal error when spinning symbol for cell %s:%s", row, column));
+    return currentSampler;
   }
 
   public void addProbability(Symbol symbol, Integer value) {
     probabilities.put(symbol, value);
+    sampler = null;
   }
 }
@@ -0,0 +1,113 @@
+package dev.marvel.scratch.domain.probability.model;
+
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * An immutable, canonical sampling table for a symbol probability distribution. Symbols are ordered by name and paired with their
+ * cumulative integer weights, so that a uniformly distributed draw in {@code [0, totalWeight)} maps to the same symbol regardless of the
+ * iteration order of the map the distribution was declared in. This canonical order is what makes counter-based draws replayable.
+ *
+ * @see CellProbability for the cell-level distribution a sampler is built from.
+ */
+public class SymbolSampler {
+
+  private final Symbol[] symbols;
+  private final int[] cumulativeWeights;
+
+  private SymbolSampler(Symbol[] symbols, int[] cumulativeWeights) {
+    this.symbols = symbols;
+    this.cumulativeWeights = cumulativeWeights;
+  }
+
+  /**
+   * Builds the sampling table of the given distribution.
+   *
+   * @param probabilities The integer weight of each symbol.
+   * @return The canonical sampler of the distribution.
+   * @throws IllegalStateException if a weight is negative or the weights do not add up to a positive integer.
+   */
+  public static SymbolSampler of(Map<Symbol, Integer> probabilities) {
+    var symbols = probabilities.keySet().stream()
+        .sorted(Comparator.comparing(Symbol::getName))
+        .toArray(Symbol[]::new);
+    var cumulativeWeights = new int[symbols.length];
+    var total = 0;
+    for (int i = 0; i < symbols.length; i++) {
+      var weight = probabilities.get(symbols[i]);
+      if (weight < 0) {
+        throw new IllegalStateException("Probability of symbol " + symbols[i].getName() + " should not be negative.");
+      }
+      total = Math.addExact(total, weight);
+      cumulativeWeights[i] = total;
+    }
+    if (total <= 0) {
+      throw new IllegalStateException("Symbol probabilities should add up to a positive integer.");
+    }
+    return new SymbolSampler(symbols, cumulativeWeights);
+  }
+
+  /**
+   * Maps a draw to a symbol.
+   *
+   * @param draw A draw in {@code [0, totalWeight)}.
+   * @return The symbol whose cumulative weight interval contains the draw.
+   */
+  public Symbol sample(int draw) {
+    return symbols[sampleIndex(draw)];
+  }
+
+  /**
+   * Maps a draw to the index of a symbol in the canonical order.
+   *
+   * @param draw A draw in {@code [0, totalWeight)}.
+   * @return The index of the symbol whose cumulative weight interval contains the draw.
+   */
+  public int sampleIndex(int draw) {
+    var low = 0;
+    var high = cumulativeWeights.length - 1;
+    while (low < high) {
+      var middle = (low + high) >>> 1;
+      if (cumulativeWeights[middle] > draw) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Returns a sampler with the same weights in which every symbol is replaced by the given mapping. The mapping must preserve symbol
+   * names, so that the canonical order is unchanged.
+   *
+   * @param mapping The symbol replacement, such as interning.
+   * @return The sampler over the replaced symbols.
+   */
+  public SymbolSampler withSymbols(UnaryOperator<Symbol> mapping) {
+    var mapped = new Symbol[symbols.length];
+    for (int i = 0; i < symbols.length; i++) {
+      mapped[i] = mapping.apply(symbols[i]);
+    }
+    return new SymbolSampler(mapped, cumulativeWeights);
+  }
+
+  public int getTotalWeight() {
+    return cumulativeWeights[cumulativeWeights.length - 1];
+  }
+
+  public int size() {
+    return symbols.length;
+  }
+
+  public Symbol symbolAt(int index) {
+    return symbols[index];
+  }
+
+  public int weightAt(int index) {
+    return index == 0 ? cumulativeWeights[0] : cumulativeWeights[index] - cumulativeWeights[index - 1];
+  }
+}
@@ -0,0 +1,45 @@
+package dev.marvel.scratch.domain.probability.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+
+/**
+ * Rescales the integer symbol weights of a configuration's cell probabilities: every weight is multiplied by a common resolution, so
+ * that fine ratios survive the rounding to integers, and the weights of the scaled symbols are further multiplied by their scale and
+ * rounded. A positive weight never rounds to zero, so a symbol stays possible in every cell it could appear in, and a zero weight stays
+ * zero. Symbols without a scale, such as bonus symbols, keep their probability relative to each other.
+ *
+ * @param resolution The factor every weight is multiplied by; must be positive.
+ * @param scales     The scale of every scaled symbol, by name.
+ */
+public record WeightScaling(@JsonProperty("resolution") int resolution,
+                            @JsonProperty("scales") Map<String, Double> scales) {
+
+  /**
+   * Rescales the weight of a symbol.
+   *
+   * @param symbolName The name of the symbol.
+   * @param weight     The configured weight of the symbol in a cell.
+   * @return The rescaled weight.
+   * @throws ArithmeticException if the rescaled weight does not fit in an {@code int}.
+   */
+  public int scale(String symbolName, int weight) {
+    return Math.toIntExact(scale(weight, resolution, scales.getOrDefault(symbolName, 1d)));
+  }
+
+  /**
+   * Rescales a weight, as {@link #scale(String, int)} does for a symbol of the given scale.
+   *
+   * @param weight     The configured weight.
+   * @param resolution The factor every weight is multiplied by.
+   * @param scale      The scale of the symbol.
+   * @return The rescaled weight.
+   */
+  public static long scale(int weight, int resolution, double scale) {
+    if (weight == 0) {
+      return 0;
+    }
+    return Math.max(1, Math.round((double) weight * resolution * scale));
+  }
+}
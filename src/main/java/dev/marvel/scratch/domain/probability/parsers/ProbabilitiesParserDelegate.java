@@ -1,23 +1,32 @@
 package dev.marvel.scratch.domain.probability.parsers;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import dev.marvel.scratch.configuration.Configuration;
 import dev.marvel.scratch.configuration.Parser;
+import dev.marvel.scratch.configuration.StreamingParser;
 import dev.marvel.scratch.exceptions.ConfigurationParseException;
 import lombok.RequiredArgsConstructor;
 
+import java.io.IOException;
+import java.util.HashSet;
 import java.util.Set;
 
 /**
  * This class acts as an orchestrator for the parsing process, ensuring that each section of the 'probabilities' node in the game
  * configuration is processed by an appropriate {@link Parser} implementations. It aggregates the parsing logic for different types of
  * probabilities into a single entry point, simplifying the overall parsing structure.
+ * <p>
+ * When the 'probabilities' node is streamed, sections claimed by a {@link StreamingParser} are consumed straight from the token stream
+ * as they are encountered, while all other sections are collected into a small tree and parsed once the node has been read.
  *
  * @see Parser for the general interface that each probabilities parser implements.
  * @see Configuration for how parsed probabilities are integrated into the game configuration.
  */
 @RequiredArgsConstructor
-public class ProbabilitiesParserDelegate implements Parser {
+public class ProbabilitiesParserDelegate implements StreamingParser {
 
   public final Set<Parser> probabilitiesParsers;
 
@@ -31,11 +40,16 @@ public class ProbabilitiesParserDelegate implements Parser {
    *
    * @param configRoot    The root node of the game configuration JSON.
    * @param configuration The {@link Configuration} instance to be updated with the parsed probabilities.
-   * @throws ConfigurationParseException if the 'probabilities' node is missing or not structured as expected.
+   * @throws ConfigurationParseException if the 'probabilities' node is missing (and the game is not spun from reel strips) or not
+   * structured as expected.
    */
   @Override
   public void parse(JsonNode configRoot, Configuration configuration) {
     var probabilitiesRoot = configRoot.get("probabilities");
+    if (probabilitiesRoot == null && configuration.getReelStrips() != null) {
+      // a game spun from reel strips needs no cell probabilities
+      return;
+    }
     if (probabilitiesRoot == null || !probabilitiesRoot.isObject()) {
       throw new ConfigurationParseException("Config file should have an object 'probabilities' attribute.");
     }
@@ -45,4 +59,57 @@ public class ProbabilitiesParserDelegate implements Parser {
     }
   }
 
+  @Override
+  public String getAttribute() {
+    return "probabilities";
+  }
+
+  /**
+   * Parses the 'probabilities' node from a token stream. Sections claimed by a registered {@link StreamingParser} are parsed as soon as
+   * they are encountered. Once the node has been read, the parsers run in their registration order over the collected non-streamed
+   * sections: streamed parsers {@linkplain StreamingParser#complete complete} their parse, and the remaining parsers parse normally.
+   * Streamed parsers whose section is absent are given the collected sections as well, so that they report the missing section exactly
+   * as in tree parsing.
+   *
+   * @param parser        The token stream, positioned at the start of the 'probabilities' value.
+   * @param configuration The {@link Configuration} instance to be updated with the parsed probabilities.
+   * @throws IOException                 if the token stream cannot be read.
+   * @throws ConfigurationParseException if the 'probabilities' node is missing or not structured as expected.
+   */
+  @Override
+  public void parse(JsonParser parser, Configuration configuration) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      throw new ConfigurationParseException("Config file should have an object 'probabilities' attribute.");
+    }
+    var probabilitiesRoot = JsonNodeFactory.instance.objectNode();
+    var streamed = new HashSet<Parser>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      var attribute = parser.currentName();
+      parser.nextToken();
+      var streamingParser = findStreamingParser(attribute);
+      if (streamingParser == null) {
+        probabilitiesRoot.set(attribute, parser.readValueAsTree());
+      } else {
+        streamingParser.parse(parser, configuration);
+        streamed.add(streamingParser);
+      }
+    }
+    for (var probabilitiesParser : probabilitiesParsers) {
+      if (streamed.contains(probabilitiesParser)) {
+        ((StreamingParser) probabilitiesParser).complete(probabilitiesRoot, configuration);
+      } else {
+        probabilitiesParser.parse(probabilitiesRoot, configuration);
+      }
+    }
+  }
+
+  private StreamingParser findStreamingParser(String attribute) {
+    return probabilitiesParsers.stream()
+        .filter(StreamingParser.class::isInstance)
+        .map(StreamingParser.class::cast)
+        .filter(streamingParser -> streamingParser.getAttribute().equals(attribute))
+        .findFirst()
+        .orElse(null);
+  }
+
 }
@@ -1,19 +1,29 @@
 package dev.marvel.scratch.domain.probability.parsers;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import dev.marvel.scratch.configuration.Configuration;
 import dev.marvel.scratch.configuration.Parser;
+import dev.marvel.scratch.configuration.StreamingParser;
 import dev.marvel.scratch.domain.probability.model.CellProbability;
 import dev.marvel.scratch.domain.symbol.model.Symbol;
 import dev.marvel.scratch.exceptions.ConfigurationParseException;
 
+import java.io.IOException;
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -23,12 +33,25 @@ import java.util.stream.StreamSupport;
  * <p>
  * It validates the structure and completeness of the standard symbols' probabilities data, ensuring that each cell defined in the game
  * matrix has an associated probability distribution for the standard symbols.
+ * <p>
+ * Instead of listing every cell, a configuration may declare board-wide 'default_standard_symbols' (an object with a 'symbols'
+ * attribute, like 'bonus_symbols') and list only the cells that differ in 'standard_symbols'. An entry then overrides the default
+ * weights of the symbols it declares, and cells without an entry share the default distribution.
+ * <p>
+ * Entries are mapped to {@link CellProbability} instances in parallel. Every worker only builds its own share of the result, and the
+ * results are merged in encounter order into an array indexed by the row-major position of each cell, so the resulting configuration
+ * lists cells in row-major order regardless of the number of workers or the order of the entries in the file. When streamed, the
+ * 'standard_symbols' array is read in chunks of {@value #STREAMING_CHUNK_SIZE} entries, so only a single chunk is held as trees at any
+ * moment regardless of the size of the game matrix.
  *
  * @see Configuration for how parsed probabilities are integrated into the game configuration.
  * @see CellProbability for details on managing probabilities at the cell level.
  * @see Symbol for understanding the symbol model.
  */
-public class StandardProbabilitiesParser implements Parser {
+public class StandardProbabilitiesParser implements StreamingParser {
+
+  private static final int STREAMING_CHUNK_SIZE = 1024;
+  private static final String DEFAULT_ATTRIBUTE = "default_standard_symbols";
 
   /**
    * Parses the 'standard_symbols' node from the 'probabilities' configuration section, creating and assigning {@link CellProbability}
@@ -39,7 +62,9 @@ public class StandardProbabilitiesParser implements Parser {
    *   <li>Each 'standard_symbols' entry has an integer 'row' and 'column' attribute.</li>
    *   <li>Each 'standard_symbols' entry contains an 'symbols' object with integer probabilities.</li>
    *   <li>Every symbol referenced within 'standard_symbols' is defined within the global 'symbols' configuration.</li>
-   *   <li>The total number of 'standard_symbols' entries matches the expected count based on the game's dimensions.</li>
+   *   <li>The total number of 'standard_symbols' entries matches the expected count based on the game's dimensions, unless
+   *   'default_standard_symbols' are declared.</li>
+   *   <li>Every cell of the game matrix is covered by at most one 'standard_symbols' entry.</li>
    *   <li>Each cell in the game configuration has probabilities defined for all standard symbols.</li>
    * </ul>
    *
@@ -50,15 +75,138 @@ public class StandardProbabilitiesParser implements Parser {
   @Override
   public void parse(JsonNode probabilitiesRoot, Configuration configuration) {
     var standardSymbols = probabilitiesRoot.get("standard_symbols");
+    if (standardSymbols == null && probabilitiesRoot.has(DEFAULT_ATTRIBUTE)) {
+      setProbabilities(List.of(), configuration);
+      complete(probabilitiesRoot, configuration);
+      return;
+    }
     if (standardSymbols == null || !standardSymbols.isArray()) {
       throw new ConfigurationParseException("'probabilities' should have an array 'standard_symbols' attribute.");
     }
-    StreamSupport.stream(standardSymbols.spliterator(), true)
-        .map(standardSymbolNode -> mapProbability(standardSymbolNode, configuration.getSymbols()))
-        .forEach(configuration::addProbability);
+    var standardSymbolNodes = IntStream.range(0, standardSymbols.size())
+        .mapToObj(standardSymbols::get)
+        .toList();
+    setProbabilities(mapProbabilities(standardSymbolNodes, configuration.getSymbols()), configuration);
+    complete(probabilitiesRoot, configuration);
+  }
+
+  @Override
+  public String getAttribute() {
+    return "standard_symbols";
+  }
+
+  /**
+   * Parses the 'standard_symbols' array from a token stream, validating each entry as described in {@link #parse(JsonNode, Configuration)}.
+   * Board-wide defaults and the checks that every cell is fully defined are applied by {@link #complete(JsonNode, Configuration)}, once
+   * the rest of the 'probabilities' node has been read.
+   *
+   * @param parser        The token stream, positioned at the start of the 'standard_symbols' value.
+   * @param configuration The {@link Configuration} instance to be updated with parsed probabilities.
+   * @throws IOException                 if the token stream cannot be read.
+   * @throws ConfigurationParseException if 'standard_symbols' is malformed or contains undefined symbols.
+   */
+  @Override
+  public void parse(JsonParser parser, Configuration configuration) throws IOException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      throw new ConfigurationParseException("'probabilities' should have an array 'standard_symbols' attribute.");
+    }
+    var cellProbabilities = new ArrayList<CellProbability>();
+    var chunk = new ArrayList<JsonNode>(STREAMING_CHUNK_SIZE);
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      chunk.add(parser.readValueAsTree());
+      if (chunk.size() == STREAMING_CHUNK_SIZE) {
+        cellProbabilities.addAll(mapProbabilities(chunk, configuration.getSymbols()));
+        chunk.clear();
+      }
+    }
+    cellProbabilities.addAll(mapProbabilities(chunk, configuration.getSymbols()));
+    setProbabilities(cellProbabilities, configuration);
+  }
+
+  /**
+   * Applies the optional 'default_standard_symbols' of the 'probabilities' node and validates the resulting cell probabilities. Every
+   * cell without a 'standard_symbols' entry gets the default distribution, and every cell with one gets the default distribution
+   * overridden by the weights the entry declares. All cells using the unmodified default share a single probability map.
+   *
+   * @param probabilitiesRoot The 'probabilities' node, or the part of it that was not streamed.
+   * @param configuration     The {@link Configuration} instance holding the parsed 'standard_symbols' entries.
+   * @throws ConfigurationParseException if the defaults are malformed, or if any cell is missing or lacks a standard symbol.
+   */
+  @Override
+  public void complete(JsonNode probabilitiesRoot, Configuration configuration) {
+    var defaultNode = probabilitiesRoot.get(DEFAULT_ATTRIBUTE);
+    if (defaultNode != null) {
+      applyDefaultProbabilities(parseDefaultProbabilities(defaultNode, configuration.getSymbols()), configuration);
+    }
     validateProbabilities(configuration);
   }
 
+  private List<CellProbability> mapProbabilities(List<JsonNode> standardSymbolNodes, Set<Symbol> symbols) {
+    return standardSymbolNodes.parallelStream()
+        .map(standardSymbolNode -> mapProbability(standardSymbolNode, symbols))
+        .toList();
+  }
+
+  private void setProbabilities(List<CellProbability> cellProbabilities, Configuration configuration) {
+    var rows = configuration.getRows();
+    var columns = configuration.getColumns();
+    var expectedProbabilities = rows * columns;
+    if (cellProbabilities.size() > expectedProbabilities) {
+      throw new ConfigurationParseException("'probabilities.standard_symbols' should contain " + expectedProbabilities + " nodes.");
+    }
+    var cells = new CellProbability[expectedProbabilities];
+    for (var cellProbability : cellProbabilities) {
+      var row = cellProbability.getRow();
+      var column = cellProbability.getColumn();
+      if (row < 0 || row >= rows || column < 0 || column >= columns) {
+        throw new ConfigurationParseException(
+            "Cell " + row + ":" + column + " in 'probabilities.standard_symbols' is outside the " + rows + "x" + columns + " matrix.");
+      }
+      var index = row * columns + column;
+      if (cells[index] != null) {
+        throw new ConfigurationParseException("'probabilities.standard_symbols' should contain a single node for cell " + row + ":" +
+            column + ".");
+      }
+      cells[index] = cellProbability;
+    }
+    configuration.setCellProbabilities(Arrays.stream(cells)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toCollection(LinkedHashSet::new)));
+  }
+
+  private Map<Symbol, Integer> parseDefaultProbabilities(JsonNode defaultNode, Set<Symbol> symbols) {
+    var symbolsNode = defaultNode.get("symbols");
+    if (!defaultNode.isObject() || symbolsNode == null || !symbolsNode.isObject()) {
+      throw new ConfigurationParseException("'probabilities." + DEFAULT_ATTRIBUTE + "' should have an object 'symbols' attribute.");
+    }
+    var defaultProbabilities = new HashMap<Symbol, Integer>();
+    symbolsNode.fields().forEachRemaining(symbolNode -> {
+      var entry = parseSymbolNode(symbolNode, symbols, DEFAULT_ATTRIBUTE + ".symbols");
+      defaultProbabilities.put(entry.getKey(), entry.getValue());
+    });
+    return defaultProbabilities;
+  }
+
+  private void applyDefaultProbabilities(Map<Symbol, Integer> defaultProbabilities, Configuration configuration) {
+    var rows = configuration.getRows();
+    var columns = configuration.getColumns();
+    var cells = new CellProbability[rows * columns];
+    configuration.getCellProbabilities()
+        .forEach(cellProbability -> cells[cellProbability.getRow() * columns + cellProbability.getColumn()] = cellProbability);
+    for (int cell = 0; cell < cells.length; cell++) {
+      var row = cell / columns;
+      var column = cell % columns;
+      if (cells[cell] == null) {
+        cells[cell] = new CellProbability(row, column, defaultProbabilities);
+      } else {
+        var overridden = new HashMap<>(defaultProbabilities);
+        overridden.putAll(cells[cell].getProbabilities());
+        cells[cell] = new CellProbability(row, column, overridden);
+      }
+    }
+    configuration.setCellProbabilities(new LinkedHashSet<>(Arrays.asList(cells)));
+  }
+
   private CellProbability mapProbability(JsonNode standardSymbolsNode, Set<Symbol> symbols) {
     var row = parseRowAttribute(standardSymbolsNode);
     var column = parseColumnAttribute(standardSymbolsNode);
@@ -89,15 +237,15 @@ public class StandardProbabilitiesParser implements Parser {
     }
     var symbolProbabilities = new HashMap<Symbol, Integer>();
     StreamSupport.stream(Spliterators.spliteratorUnknownSize(symbolsNode.fields(), Spliterator.ORDERED), false)
-        .map(symbolNode -> parseSymbolNode(symbolNode, symbols))
+        .map(symbolNode -> parseSymbolNode(symbolNode, symbols, "standard_symbols.[].symbols"))
         .forEach(entry -> symbolProbabilities.put(entry.getKey(), entry.getValue()));
     return symbolProbabilities;
   }
 
-  private Map.Entry<Symbol, Integer> parseSymbolNode(Map.Entry<String, JsonNode> symbolNode, Set<Symbol> symbols) {
+  private Map.Entry<Symbol, Integer> parseSymbolNode(Map.Entry<String, JsonNode> symbolNode, Set<Symbol> symbols, String path) {
     var symbolName = symbolNode.getKey();
     var symbol = Symbol.findInCollection(symbols, symbolName).orElseThrow(() -> new ConfigurationParseException(
-        "Symbol " + symbolName + " in 'probabilities.standard_symbols.[].symbols' should be defined in 'symbols'."
+        "Symbol " + symbolName + " in 'probabilities." + path + "' should be defined in 'symbols'."
     ));
     var probability = symbolNode.getValue();
     if (!probability.isInt()) {
@@ -0,0 +1,57 @@
+package dev.marvel.scratch.domain.probability.random;
+
+/**
+ * The {@link Sampling#STRATIFIED} sources of a block of rounds. The permutation pairing the strata of every address with the rounds of
+ * the block is drawn once, when the block is laid out, and the point within a stratum is drawn by the {@link PhiloxRandomSource} of the
+ * round.
+ */
+final class LatinHypercube implements RoundSources {
+
+  private static final long STRATA_SALT = 0x5851F42D4C957F2DL;
+  private static final int JITTER_BITS = 24;
+
+  private final long seed;
+  private final long firstRound;
+  private final int[][] strata;
+
+  LatinHypercube(long seed, long firstRound, int rounds, int dimensions) {
+    this.seed = seed;
+    this.firstRound = firstRound;
+    this.strata = new int[dimensions][];
+    for (int dimension = 0; dimension < dimensions; dimension++) {
+      var shuffle = new PhiloxRandomSource(seed ^ STRATA_SALT * (dimension + 1), firstRound);
+      var permutation = new int[rounds];
+      for (int index = 0; index < rounds; index++) {
+        permutation[index] = index;
+      }
+      for (int index = rounds - 1; index > 0; index--) {
+        var other = shuffle.nextInt(index, index + 1);
+        var stratum = permutation[index];
+        permutation[index] = permutation[other];
+        permutation[other] = stratum;
+      }
+      strata[dimension] = permutation;
+    }
+  }
+
+  @Override
+  public RandomSource forRound(long round) {
+    var index = round - firstRound;
+    if (strata.length > 0 && (index < 0 || index >= strata[0].length)) {
+      throw new IllegalArgumentException("Round " + round + " is not part of the block.");
+    }
+    var random = new PhiloxRandomSource(seed, round);
+    return (cell, bound) -> {
+      if (cell >= strata.length) {
+        return random.nextInt(cell, bound);
+      }
+      if (bound <= 0) {
+        throw new IllegalArgumentException("The bound of a random draw should be positive.");
+      }
+      var rounds = strata[cell].length;
+      var jitter = random.nextInt(cell, 1 << JITTER_BITS) / (double) (1 << JITTER_BITS);
+      var point = (strata[cell][(int) index] + jitter) / rounds;
+      return Math.min(bound - 1, (int) (point * bound));
+    };
+  }
+}
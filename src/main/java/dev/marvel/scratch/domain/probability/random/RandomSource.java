@@ -0,0 +1,20 @@
+package dev.marvel.scratch.domain.probability.random;
+
+/**
+ * The seam through which cell spins obtain their random numbers. Every draw is addressed by the row-major index of the cell it is made
+ * for, which lets counter-based implementations compute the draw for a cell independently of the order in which cells are spun.
+ *
+ * @see SecureRandomSource for the default, non-reproducible source used in live play.
+ * @see PhiloxRandomSource for the reproducible, counter-based source used for deterministic replay.
+ */
+public interface RandomSource {
+
+  /**
+   * Draws a uniformly distributed integer for the given cell.
+   *
+   * @param cell  The row-major index of the cell the draw is made for.
+   * @param bound The exclusive upper bound of the draw; must be positive.
+   * @return An integer in {@code [0, bound)}.
+   */
+  int nextInt(int cell, int bound);
+}
@@ -0,0 +1,16 @@
+package dev.marvel.scratch.domain.probability.random;
+
+/**
+ * The random sources of a block of consecutive simulated rounds, as laid out by a {@link Sampling}.
+ */
+@FunctionalInterface
+public interface RoundSources {
+
+  /**
+   * Returns the random source of a round of the block.
+   *
+   * @param round The round index, within the block.
+   * @return The random source the round's board and any further draws are spun from.
+   */
+  RandomSource forRound(long round);
+}
@@ -0,0 +1,85 @@
+package dev.marvel.scratch.domain.probability.random;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Enumerates the ways the boards of a simulation can be spread over the space of possible draws. Every scheme draws each round's cells
+ * from the same distributions, so every estimate stays unbiased; the stratified and quasi-random schemes spread the boards of a block
+ * more evenly than independent draws, so estimates of the return to player converge faster.
+ * <p>
+ * The schemes other than {@link #PSEUDO_RANDOM} are for validating the math of a game only. The boards of their rounds are not
+ * independent of each other, and a live game must never be spun from them.
+ * <p>
+ * A simulation splits its rounds into blocks of consecutive round indices, one per task of its parallel runner, and obtains the
+ * sources of every block with {@link #block(long, long, int, int)}. The sources of a block only depend on the seed and the block, so
+ * the result of a simulation does not depend on the number of threads.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Sampling {
+
+  /**
+   * Draws every round independently from the counter-based {@link PhiloxRandomSource} of the round.
+   */
+  PSEUDO_RANDOM("pseudo-random"),
+
+  /**
+   * Stratifies the draws of every cell within a block (Latin hypercube sampling): over the {@code n} rounds of a block, the draws of a
+   * cell fall into each of the {@code n} equal strata of {@code [0, 1)} exactly once, at a uniformly random point of the stratum, and
+   * the strata of different cells are paired by independent random permutations. Every symbol of a cell is therefore drawn in its exact
+   * proportion, up to one round, in every block.
+   */
+  STRATIFIED("stratified"),
+
+  /**
+   * Draws the cells of round {@code n} from point {@code n} of a randomly scrambled Halton sequence, a low-discrepancy sequence whose
+   * first points fill the space of draws far more evenly than independent ones. The coordinate of a cell is the radical inverse of
+   * {@code n} in the cell's own prime base with every digit randomly permuted, which removes the correlations between the high bases of
+   * the plain sequence. The blocks of a simulation take consecutive segments of the one sequence.
+   */
+  HALTON("halton");
+
+  @JsonValue
+  private final String value;
+
+  /**
+   * Converts a command-line value to its corresponding {@code Sampling}.
+   *
+   * @param value The sampling name as given on the command line.
+   * @return The matching sampling.
+   * @throws IllegalArgumentException if the value does not match any known sampling.
+   */
+  public static Sampling of(String value) {
+    for (var element : Sampling.values()) {
+      if (value.equals(element.value)) {
+        return element;
+      }
+    }
+    throw new IllegalArgumentException("Unknown sampling: " + value);
+  }
+
+  /**
+   * Lays out the random sources of a block of consecutive rounds.
+   * <p>
+   * The first {@code dimensions} addresses of a round, typically those of the cells of its board, are drawn according to the scheme.
+   * Any draw past them, such as those of cascades or free spins, is made by the {@link PhiloxRandomSource} of the round, as is every draw
+   * of {@link #PSEUDO_RANDOM}. The stratified and quasi-random draws map a point {@code u} of {@code [0, 1)} to {@code floor(u * bound)},
+   * with a resolution of at least {@code 2^-24}; for the integer weight totals of cell probabilities, the resulting bias is
+   * negligible.
+   *
+   * @param seed       The master seed.
+   * @param firstRound The round index of the first round of the block.
+   * @param rounds     The number of rounds of the block.
+   * @param dimensions The number of addresses of a round drawn according to the scheme.
+   * @return The sources of the rounds of the block.
+   */
+  public RoundSources block(long seed, long firstRound, int rounds, int dimensions) {
+    return switch (this) {
+      case PSEUDO_RANDOM -> round -> new PhiloxRandomSource(seed, round);
+      case STRATIFIED -> new LatinHypercube(seed, firstRound, rounds, dimensions);
+      case HALTON -> new ScrambledHalton(seed, dimensions);
+    };
+  }
+}
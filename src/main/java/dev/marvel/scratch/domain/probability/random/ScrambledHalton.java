@@ -0,0 +1,93 @@
+package dev.marvel.scratch.domain.probability.random;
+
+/**
+ * The {@link Sampling#HALTON} sources of a simulation. Address {@code d} of round {@code n} is drawn from coordinate {@code d} of point
+ * {@code n} of the Halton sequence, the radical inverse of {@code n} in the {@code d}-th prime base, in which every digit position of
+ * every base has its own random permutation of the digits (a random digit scrambling). Digits are taken up to a resolution of
+ * {@code 2^-53}, so the points of any round index are distinct.
+ */
+final class ScrambledHalton implements RoundSources {
+
+  private static final long SCRAMBLE_SALT = 0x2545F4914F6CDD1DL;
+  private static final int RESOLUTION_BITS = 53;
+
+  private final long seed;
+  private final int[] bases;
+  private final int[][][] permutations;
+
+  ScrambledHalton(long seed, int dimensions) {
+    this.seed = seed;
+    this.bases = primes(dimensions);
+    this.permutations = new int[dimensions][][];
+    for (int dimension = 0; dimension < dimensions; dimension++) {
+      var base = bases[dimension];
+      var shuffle = new PhiloxRandomSource(seed ^ SCRAMBLE_SALT, dimension);
+      var levels = (int) Math.ceil(RESOLUTION_BITS * Math.log(2) / Math.log(base));
+      permutations[dimension] = new int[levels][];
+      for (int level = 0; level < levels; level++) {
+        var permutation = new int[base];
+        for (int digit = 0; digit < base; digit++) {
+          permutation[digit] = digit;
+        }
+        for (int digit = base - 1; digit > 0; digit--) {
+          var other = shuffle.nextInt(level * base + digit, digit + 1);
+          var swapped = permutation[digit];
+          permutation[digit] = permutation[other];
+          permutation[other] = swapped;
+        }
+        permutations[dimension][level] = permutation;
+      }
+    }
+  }
+
+  @Override
+  public RandomSource forRound(long round) {
+    var random = new PhiloxRandomSource(seed, round);
+    return (cell, bound) -> {
+      if (cell >= bases.length) {
+        return random.nextInt(cell, bound);
+      }
+      if (bound <= 0) {
+        throw new IllegalArgumentException("The bound of a random draw should be positive.");
+      }
+      return Math.min(bound - 1, (int) (coordinate(round, cell) * bound));
+    };
+  }
+
+  /**
+   * Computes a coordinate of a point of the scrambled sequence.
+   *
+   * @param index     The index of the point, read as an unsigned number.
+   * @param dimension The coordinate.
+   * @return The coordinate, in {@code [0, 1)}.
+   */
+  double coordinate(long index, int dimension) {
+    var base = bases[dimension];
+    var factor = 1d / base;
+    var point = 0d;
+    for (var permutation : permutations[dimension]) {
+      point += permutation[(int) Long.remainderUnsigned(index, base)] * factor;
+      index = Long.divideUnsigned(index, base);
+      factor /= base;
+    }
+    return point;
+  }
+
+  private static int[] primes(int count) {
+    var primes = new int[count];
+    var found = 0;
+    for (int candidate = 2; found < count; candidate++) {
+      var prime = true;
+      for (int index = 0; index < found && primes[index] * primes[index] <= candidate; index++) {
+        if (candidate % primes[index] == 0) {
+          prime = false;
+          break;
+        }
+      }
+      if (prime) {
+        primes[found++] = candidate;
+      }
+    }
+    return primes;
+  }
+}
@@ -0,0 +1,17 @@
+package dev.marvel.scratch.domain.probability.random;
+
+import java.security.SecureRandom;
+
+/**
+ * A {@link RandomSource} backed by a shared {@link SecureRandom}. Draws are not reproducible and do not depend on the cell index, which
+ * makes this the source for live play when no replay seed is requested.
+ */
+public class SecureRandomSource implements RandomSource {
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  @Override
+  public int nextInt(int cell, int bound) {
+    return RANDOM.nextInt(bound);
+  }
+}
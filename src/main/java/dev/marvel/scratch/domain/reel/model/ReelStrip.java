@@ -0,0 +1,38 @@
+package dev.marvel.scratch.domain.reel.model;
+
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+
+import java.util.List;
+
+/**
+ * The reel strip of a single column of the game matrix: a cyclic sequence of symbols from which a reel spin reads the visible rows. A spin
+ * draws one stop offset uniformly from {@code [0, length)}, and row {@code r} of the column shows the symbol at {@code stop + r}, wrapping
+ * around the end of the strip.
+ * <p>
+ * The probability of a symbol in a cell is therefore given by how often, and next to which other symbols, it occurs on the strip,
+ * which is how reel-based games are designed.
+ *
+ * @param column  The column of the game matrix the strip belongs to.
+ * @param symbols The symbol sequence of the strip.
+ */
+public record ReelStrip(int column, List<Symbol> symbols) {
+
+  public ReelStrip {
+    symbols = List.copyOf(symbols);
+  }
+
+  public int length() {
+    return symbols.size();
+  }
+
+  /**
+   * Returns the symbol shown in a row of the column when the reel stops at the given offset.
+   *
+   * @param stop The stop offset in {@code [0, length)}.
+   * @param row  The row of the game matrix.
+   * @return The symbol at {@code stop + row}, wrapping around the end of the strip.
+   */
+  public Symbol symbolAt(int stop, int row) {
+    return symbols.get((stop + row) % symbols.size());
+  }
+}
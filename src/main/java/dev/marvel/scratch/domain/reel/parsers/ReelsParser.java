@@ -0,0 +1,77 @@
+package dev.marvel.scratch.domain.reel.parsers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.configuration.Parser;
+import dev.marvel.scratch.domain.reel.model.ReelStrip;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Parses the reel strips ('reels') of the game configuration JSON, which switch the game from spinning every cell independently to
+ * spinning one reel per column (see {@link ReelStrip}). The attribute is optional; without it the game is spun from the cell
+ * probabilities in the 'probabilities' attribute.
+ * <p>
+ * Example of a 'reels' attribute of a game with three columns:
+ * <pre>
+ * "reels": [
+ *   ["A", "B", "C", "MISS", "D"],
+ *   ["B", "A", "E", "F", "10x", "C"],
+ *   ["C", "D", "A", "+500", "B"]
+ * ]
+ * </pre>
+ *
+ * @see ReelStrip for how a reel spin reads the visible rows off a strip.
+ */
+public class ReelsParser implements Parser {
+
+  /**
+   * Parses the 'reels' attribute from the provided game configuration JSON node and sets the reel strips of the {@link Configuration},
+   * one per column. Does nothing if the attribute is absent.
+   *
+   * @param configRoot    The root node of the game configuration JSON.
+   * @param configuration The {@link Configuration} instance to be updated with the parsed reel strips.
+   * @throws ConfigurationParseException if the 'reels' attribute does not hold one non-empty strip per column, or a strip holds a symbol
+   * not defined in 'symbols'.
+   */
+  @Override
+  public void parse(JsonNode configRoot, Configuration configuration) {
+    var reelsNode = configRoot.get("reels");
+    if (reelsNode == null) {
+      return;
+    }
+    var columns = configuration.getColumns();
+    if (!reelsNode.isArray() || reelsNode.size() != columns) {
+      throw new ConfigurationParseException("'reels' should be an array of " + columns + " reel strips, one per column.");
+    }
+    Map<String, Symbol> symbolsByName = configuration.getSymbols().stream()
+        .collect(Collectors.toMap(Symbol::getName, Function.identity()));
+    var reelStrips = new ArrayList<ReelStrip>(columns);
+    for (int column = 0; column < columns; column++) {
+      reelStrips.add(parseReelStrip(reelsNode.get(column), column, symbolsByName));
+    }
+    configuration.setReelStrips(reelStrips);
+  }
+
+  private ReelStrip parseReelStrip(JsonNode stripNode, int column, Map<String, Symbol> symbolsByName) {
+    if (!stripNode.isArray() || stripNode.isEmpty()) {
+      throw new ConfigurationParseException("The reel strip of column " + column + " should be a non-empty array of symbol names.");
+    }
+    var symbols = new ArrayList<Symbol>(stripNode.size());
+    for (var symbolNode : stripNode) {
+      var name = symbolNode.isTextual() ? symbolNode.asText() : symbolNode.toString();
+      var symbol = symbolsByName.get(name);
+      if (symbol == null) {
+        throw new ConfigurationParseException("Symbol " + name + " on the reel strip of column " + column + " should be defined " +
+            "in 'symbols'.");
+      }
+      symbols.add(symbol);
+    }
+    return new ReelStrip(column, symbols);
+  }
+}
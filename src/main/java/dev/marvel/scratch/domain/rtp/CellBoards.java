@@ -0,0 +1,151 @@
+package dev.marvel.scratch.domain.rtp;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.domain.probability.random.PhiloxRandomSource;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Walks the boards of a configuration spun from cell probabilities: either every board the cell probabilities can produce, with its
+ * probability, or the boards of a number of simulated rounds, round {@code n} spun from the {@link PhiloxRandomSource} of the seed and
+ * {@code n} exactly as a played round is. Every board is handed to a {@link Visitor} together with the index of the symbol every cell
+ * holds in the cell's sampler.
+ * <p>
+ * The boards are walked in parallel, split by the symbol of the first cell or in chunks of consecutive rounds, each part by a visitor of
+ * its own. The visitors are returned in the order of their parts, so results combined in that order do not depend on the number of
+ * threads.
+ */
+final class CellBoards {
+
+  private static final int ROUNDS_PER_CHUNK = 1 << 14;
+
+  private CellBoards() {}
+
+  /**
+   * Receives the boards of a part of the walk.
+   */
+  interface Visitor {
+
+    /**
+     * Visits a board. The arrays are reused for the next board.
+     *
+     * @param board       The symbol of every cell.
+     * @param indices     The index of the symbol of every cell in the cell's sampler.
+     * @param probability The probability of an enumerated board, or {@code 1 / rounds} for a simulated one.
+     */
+    void visit(Symbol[] board, short[] indices, double probability);
+  }
+
+  /**
+   * Enumerates every board the cell probabilities of a configuration can produce. Symbols of zero weight are left out.
+   *
+   * @param configuration The configuration.
+   * @param visitors      The supplier of the visitor of every part.
+   * @return The visitors, in the order of their parts.
+   * @throws IllegalStateException if the configuration produces more than {@link RtpCalculator#MAX_OUTCOMES} boards.
+   */
+  static <V extends Visitor> List<V> enumerate(CompiledConfiguration configuration, Supplier<V> visitors) {
+    var cellCount = configuration.getCellCount();
+    var choices = new int[cellCount][];
+    var outcomes = 1L;
+    for (int cell = 0; cell < cellCount; cell++) {
+      var sampler = configuration.samplerAt(cell);
+      choices[cell] = IntStream.range(0, sampler.size())
+          .filter(index -> sampler.weightAt(index) > 0)
+          .toArray();
+      outcomes *= choices[cell].length;
+      if (outcomes > RtpCalculator.MAX_OUTCOMES) {
+        throw new IllegalStateException("The configuration produces more than " + RtpCalculator.MAX_OUTCOMES + " distinct boards, " +
+            "which is too many to enumerate exactly; simulate a number of rounds instead.");
+      }
+    }
+    return IntStream.range(0, choices[0].length)
+        .parallel()
+        .mapToObj(first -> {
+          var visitor = visitors.get();
+          enumerate(configuration, choices, first, visitor);
+          return visitor;
+        })
+        .toList();
+  }
+
+  /**
+   * Simulates a number of rounds of a configuration.
+   *
+   * @param configuration The configuration.
+   * @param seed          The master seed the boards are spun from.
+   * @param firstRound    The round index of the first board.
+   * @param rounds        The number of rounds.
+   * @param visitors      The supplier of the visitor of every part.
+   * @return The visitors, in the order of their parts.
+   */
+  static <V extends Visitor> List<V> simulate(CompiledConfiguration configuration, long seed, long firstRound, long rounds,
+                                              Supplier<V> visitors) {
+    var chunks = (rounds + ROUNDS_PER_CHUNK - 1) / ROUNDS_PER_CHUNK;
+    return LongStream.range(0, chunks)
+        .parallel()
+        .mapToObj(chunk -> {
+          var visitor = visitors.get();
+          var chunkStart = firstRound + chunk * ROUNDS_PER_CHUNK;
+          var chunkRounds = Math.min(ROUNDS_PER_CHUNK, rounds - chunk * ROUNDS_PER_CHUNK);
+          simulate(configuration, seed, chunkStart, chunkRounds, 1d / rounds, visitor);
+          return visitor;
+        })
+        .toList();
+  }
+
+  private static void enumerate(CompiledConfiguration configuration, int[][] choices, int first, Visitor visitor) {
+    var cellCount = choices.length;
+    var board = new Symbol[cellCount];
+    var indices = new short[cellCount];
+    // positions[c] is the position of the symbol of cell c among the choices of the cell
+    var positions = new int[cellCount];
+    positions[0] = first;
+    for (int cell = 0; cell < cellCount; cell++) {
+      fill(configuration, board, indices, cell, choices[cell][positions[cell]]);
+    }
+    while (true) {
+      var probability = 1d;
+      for (int cell = 0; cell < cellCount; cell++) {
+        var sampler = configuration.samplerAt(cell);
+        probability *= (double) sampler.weightAt(indices[cell]) / sampler.getTotalWeight();
+      }
+      visitor.visit(board, indices, probability);
+      var cell = cellCount - 1;
+      while (cell > 0 && positions[cell] == choices[cell].length - 1) {
+        positions[cell] = 0;
+        fill(configuration, board, indices, cell, choices[cell][0]);
+        cell--;
+      }
+      if (cell == 0) {
+        return;
+      }
+      positions[cell]++;
+      fill(configuration, board, indices, cell, choices[cell][positions[cell]]);
+    }
+  }
+
+  private static void simulate(CompiledConfiguration configuration, long seed, long firstRound, long rounds, double probability,
+                               Visitor visitor) {
+    var cellCount = configuration.getCellCount();
+    var board = new Symbol[cellCount];
+    var indices = new short[cellCount];
+    for (long round = firstRound; round < firstRound + rounds; round++) {
+      var random = new PhiloxRandomSource(seed, round);
+      for (int cell = 0; cell < cellCount; cell++) {
+        var sampler = configuration.samplerAt(cell);
+        fill(configuration, board, indices, cell, sampler.sampleIndex(random.nextInt(cell, sampler.getTotalWeight())));
+      }
+      visitor.visit(board, indices, probability);
+    }
+  }
+
+  private static void fill(CompiledConfiguration configuration, Symbol[] board, short[] indices, int cell, int index) {
+    indices[cell] = (short) index;
+    board[cell] = configuration.samplerAt(cell).symbolAt(index);
+  }
+}
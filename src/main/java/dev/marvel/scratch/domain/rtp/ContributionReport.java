@@ -0,0 +1,37 @@
+package dev.marvel.scratch.domain.rtp;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.marvel.scratch.domain.probability.random.Sampling;
+
+import java.util.List;
+
+/**
+ * The return to player of a configuration and the contribution of each of its win combinations, estimated by an
+ * {@link ImportanceSampler}.
+ *
+ * @param bet             The betting amount the rounds are played with.
+ * @param seed            The master seed the boards are spun from.
+ * @param firstRound      The round index of the first board.
+ * @param rounds          The number of boards played.
+ * @param sampling        The sampling scheme the boards are spread with.
+ * @param tilt            The probability every tilted symbol is given in the cells of its tilted distribution.
+ * @param effectiveRounds The number of plain Monte Carlo rounds the weighted rounds are worth for estimating the probability of a board,
+ *                        {@code (sum of weights)^2 / sum of squared weights}; far below {@code rounds} if the tilt is too strong.
+ * @param returnToPlayer  The estimated expected reward divided by the bet.
+ * @param standardError   The standard error of the return to player.
+ * @param confidenceLow   The lower bound of the 95% confidence interval of the return to player.
+ * @param confidenceHigh  The upper bound of the 95% confidence interval of the return to player.
+ * @param winCombinations The contribution of every win combination, in name order.
+ */
+public record ContributionReport(@JsonProperty("bet") int bet,
+                                 @JsonProperty("seed") long seed,
+                                 @JsonProperty("first_round") long firstRound,
+                                 @JsonProperty("rounds") long rounds,
+                                 @JsonProperty("sampling") Sampling sampling,
+                                 @JsonProperty("tilt") double tilt,
+                                 @JsonProperty("effective_rounds") double effectiveRounds,
+                                 @JsonProperty("rtp") double returnToPlayer,
+                                 @JsonProperty("standard_error") double standardError,
+                                 @JsonProperty("confidence_low") double confidenceLow,
+                                 @JsonProperty("confidence_high") double confidenceHigh,
+                                 @JsonProperty("win_combinations") List<WinCombinationContribution> winCombinations) {}
@@ -0,0 +1,310 @@
+package dev.marvel.scratch.domain.rtp;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.core.Occupancy;
+import dev.marvel.scratch.domain.probability.model.SymbolSampler;
+import dev.marvel.scratch.domain.probability.random.PhiloxRandomSource;
+import dev.marvel.scratch.domain.probability.random.Sampling;
+import dev.marvel.scratch.domain.scorer.Scorer;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.WinCombinationMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Estimates the return to player of a configuration and the contribution of each of its win combinations by importance sampling, so
+ * that combinations far too rare for plain Monte Carlo, such as a board full of the same symbol, are estimated from a manageable
+ * number of rounds.
+ * <p>
+ * Boards are not spun from the configured cell probabilities but from a mixture of distributions: the configured one and, for every
+ * standard and wild symbol, a tilted one in which that symbol is drawn with the tilt probability in every cell it can appear in (unless
+ * it is already more likely there), all other symbols keeping their relative weights. Every distribution of the mixture is equally
+ * likely. A board drawn from a tilted distribution is full of its symbol far more often than under the configured probabilities, which
+ * makes the high same symbols, line and cluster combinations of that symbol common. Each board is weighted by its likelihood ratio, its
+ * probability under the configured distribution divided by its probability under the mixture, which keeps every estimate unbiased.
+ * Because the configured distribution is part of the mixture, no weight exceeds the number of distributions, and the common,
+ * low-paying boards are still sampled with a fair share of the rounds.
+ * <p>
+ * The tilted distributions only change the weights of the cell probabilities, so the likelihood ratio of a board is a product over its
+ * cells. They are built with integer weights, like the configured ones, and the ratios are computed from the actual integer weights,
+ * so the rounding of a tilt never biases an estimate. The mixture component and the cells of round {@code n} are drawn from the
+ * random source of the round, by default the counter-based {@link PhiloxRandomSource} (see {@link Sampling}), the component at the
+ * first address past the board.
+ * <p>
+ * Rounds are simulated in parallel in chunks of consecutive round indices, and the partial sums are combined in chunk order, so the
+ * estimates do not depend on the number of threads. The configuration must spin its boards from cell probabilities and play neither
+ * cascades nor free spins, whose further boards the likelihood ratio would have to cover too.
+ */
+public class ImportanceSampler {
+
+  /**
+   * The default probability of a tilted symbol in the cells of its tilted distribution.
+   */
+  public static final double DEFAULT_TILT = 0.5;
+
+  static final int ROUNDS_PER_CHUNK = 1 << 14;
+  private static final double CONFIDENCE_Z = 1.959963984540054;
+  // the weights of the other symbols are scaled to about this total, so that the tilted weight can be rounded finely
+  private static final int TILT_RESOLUTION = 1 << 20;
+
+  private final CompiledConfiguration configuration;
+  private final WinCombinationMatcher winCombinationMatcher;
+  private final Scorer scorer;
+  private final double tilt;
+  private final Symbol[] tiltedSymbols;
+  private final SymbolSampler[][] tiltedSamplers;
+  private final double[][] ratiosOfSymbol;
+  private final double[][] ratiosOfOthers;
+
+  /**
+   * Constructs an importance sampler.
+   *
+   * @param configuration         The compiled configuration of the game.
+   * @param winCombinationMatcher The matcher of the configuration's boards.
+   * @param scorer                The scorer of the configuration's rounds.
+   * @param tilt                  The probability of a tilted symbol in the cells of its tilted distribution, between {@code 0.01} and
+   *                              {@code 0.99}.
+   * @throws IllegalArgumentException if the tilt is out of range, or the configuration spins reel strips or plays cascades or free
+   *                                  spins.
+   */
+  public ImportanceSampler(CompiledConfiguration configuration, WinCombinationMatcher winCombinationMatcher, Scorer scorer, double tilt) {
+    if (!(tilt >= 0.01 && tilt <= 0.99)) {
+      throw new IllegalArgumentException("The tilt should be a probability between 0.01 and 0.99.");
+    }
+    if (configuration.isReelMode() || configuration.isCascading() || configuration.hasFreeSpins()) {
+      throw new IllegalArgumentException("Importance sampling tilts the cell probabilities of a single board, so it does not support " +
+          "reel strips, cascades or free spins.");
+    }
+    this.configuration = configuration;
+    this.winCombinationMatcher = winCombinationMatcher;
+    this.scorer = scorer;
+    this.tilt = tilt;
+    this.tiltedSymbols = configuration.getSymbolList().stream()
+        .filter(symbol -> symbol.isStandard() || Occupancy.isWild(symbol))
+        .toArray(Symbol[]::new);
+    var cellCount = configuration.getCellCount();
+    this.tiltedSamplers = new SymbolSampler[tiltedSymbols.length][cellCount];
+    this.ratiosOfSymbol = new double[tiltedSymbols.length][cellCount];
+    this.ratiosOfOthers = new double[tiltedSymbols.length][cellCount];
+    for (int component = 0; component < tiltedSymbols.length; component++) {
+      for (int cell = 0; cell < cellCount; cell++) {
+        tiltCell(component, cell);
+      }
+    }
+  }
+
+  /**
+   * Plays a number of simulated rounds, each drawn independently from its {@link PhiloxRandomSource}, and estimates the return to player
+   * and the contribution of every win combination.
+   *
+   * @param bet        The betting amount; must be positive.
+   * @param seed       The master seed the boards are spun from.
+   * @param firstRound The round index of the first board.
+   * @param rounds     The number of rounds; must be positive.
+   * @return The estimates.
+   * @throws IllegalArgumentException if the bet or the number of rounds is not positive.
+   */
+  public ContributionReport estimate(int bet, long seed, long firstRound, long rounds) {
+    return estimate(bet, seed, firstRound, rounds, Sampling.PSEUDO_RANDOM);
+  }
+
+  /**
+   * Plays a number of simulated rounds, the mixture component and the cells of the boards spread according to a sampling scheme, and
+   * estimates the return to player and the contribution of every win combination. Every chunk of rounds is a block of the scheme. The
+   * standard errors are computed as if the rounds were independent, which overstates the error of stratified and quasi-random rounds.
+   *
+   * @param bet        The betting amount; must be positive.
+   * @param seed       The master seed the boards are spun from.
+   * @param firstRound The round index of the first board.
+   * @param rounds     The number of rounds; must be positive.
+   * @param sampling   The sampling scheme of the boards.
+   * @return The estimates.
+   * @throws IllegalArgumentException if the bet or the number of rounds is not positive.
+   */
+  public ContributionReport estimate(int bet, long seed, long firstRound, long rounds, Sampling sampling) {
+    if (bet <= 0) {
+      throw new IllegalArgumentException("Contributions are estimated for a positive betting amount.");
+    }
+    if (rounds <= 0) {
+      throw new IllegalArgumentException("Contributions are estimated over a positive number of rounds.");
+    }
+    var chunks = (rounds + ROUNDS_PER_CHUNK - 1) / ROUNDS_PER_CHUNK;
+    var total = LongStream.range(0, chunks)
+        .parallel()
+        .mapToObj(chunk -> simulate(bet, seed, firstRound + chunk * ROUNDS_PER_CHUNK,
+            (int) Math.min(ROUNDS_PER_CHUNK, rounds - chunk * ROUNDS_PER_CHUNK), sampling))
+        .toList()
+        .stream()
+        .reduce(Sums::add)
+        .orElseThrow();
+    var winCombinations = new ArrayList<WinCombinationContribution>();
+    for (int id = 0; id < configuration.getWinCombinationCount(); id++) {
+      var contribution = total.combinationRewards[id] / rounds / bet;
+      var standardError = standardError(total.combinationRewards[id], total.squaredCombinationRewards[id], rounds) / bet;
+      winCombinations.add(new WinCombinationContribution(configuration.winCombinationAt(id).getName(), contribution, standardError,
+          contribution - CONFIDENCE_Z * standardError, contribution + CONFIDENCE_Z * standardError, total.combinationHits[id] / rounds,
+          total.sampledHits[id]));
+    }
+    var returnToPlayer = total.rewards / rounds / bet;
+    var standardError = standardError(total.rewards, total.squaredRewards, rounds) / bet;
+    return new ContributionReport(bet, seed, firstRound, rounds, sampling, tilt, total.weights * total.weights / total.squaredWeights,
+        returnToPlayer, standardError, returnToPlayer - CONFIDENCE_Z * standardError, returnToPlayer + CONFIDENCE_Z * standardError,
+        List.copyOf(winCombinations));
+  }
+
+  private Sums simulate(int bet, long seed, long firstRound, int rounds, Sampling sampling) {
+    var cellCount = configuration.getCellCount();
+    var components = tiltedSymbols.length + 1;
+    // the mixture component is drawn at the first address past the board, so it is spread along with the cells
+    var sources = sampling.block(seed, firstRound, rounds, cellCount + 1);
+    var sums = new Sums(configuration.getWinCombinationCount());
+    var board = new Symbol[cellCount];
+    var combinationRewards = new double[configuration.getWinCombinationCount()];
+    var applied = new boolean[configuration.getWinCombinationCount()];
+    for (long round = firstRound; round < firstRound + rounds; round++) {
+      var random = sources.forRound(round);
+      var component = random.nextInt(cellCount, components);
+      for (int cell = 0; cell < cellCount; cell++) {
+        var sampler = component == 0 ? configuration.samplerAt(cell) : tiltedSamplers[component - 1][cell];
+        board[cell] = sampler.sample(random.nextInt(cell, sampler.getTotalWeight()));
+      }
+      var weight = components / mixtureRatio(board);
+      var matchResult = winCombinationMatcher.match(new Game(configuration, board, bet));
+      var reward = scorer.score(bet, matchResult);
+      var shares = scorer.rewardShares(matchResult);
+      for (var entry : matchResult.matchedWinCombinations().entrySet()) {
+        if (!entry.getKey().isStandard()) continue;
+        var symbolReward = reward * shares.getOrDefault(entry.getKey(), 0d);
+        for (var winCombination : entry.getValue()) {
+          var id = configuration.findWinCombinationId(winCombination.getName()).orElseThrow();
+          combinationRewards[id] += symbolReward;
+          applied[id] = true;
+        }
+      }
+      sums.add(weight, reward, combinationRewards, applied);
+      Arrays.fill(combinationRewards, 0d);
+      Arrays.fill(applied, false);
+    }
+    return sums;
+  }
+
+  /**
+   * Computes the probability of a board under the mixture divided by its probability under the configured distribution, times the
+   * number of distributions: the configured distribution contributes {@code 1}, and every tilted one the product of the ratios of its
+   * cells.
+   */
+  private double mixtureRatio(Symbol[] board) {
+    var ratio = 1d;
+    for (int component = 0; component < tiltedSymbols.length; component++) {
+      var symbol = tiltedSymbols[component];
+      var componentRatio = 1d;
+      for (int cell = 0; cell < board.length; cell++) {
+        componentRatio *= symbol.equals(board[cell]) ? ratiosOfSymbol[component][cell] : ratiosOfOthers[component][cell];
+      }
+      ratio += componentRatio;
+    }
+    return ratio;
+  }
+
+  /**
+   * Builds the tilted distribution of a symbol in a cell. A cell the symbol cannot appear in, or appears in with at least the tilt
+   * probability already, keeps the configured distribution.
+   * <p>
+   * The other weights are only ever scaled up by an integer factor, so that all of them keep their ratio to the configured weights. When
+   * they are too large to leave room for the tilted weight within an {@code int} total, the tilted weight is limited to that room
+   * instead: the cell is tilted less, which costs some variance but never biases an estimate.
+   */
+  private void tiltCell(int component, int cell) {
+    var sampler = configuration.samplerAt(cell);
+    var symbol = tiltedSymbols[component];
+    long symbolWeight = 0;
+    for (int index = 0; index < sampler.size(); index++) {
+      if (symbol.equals(sampler.symbolAt(index))) {
+        symbolWeight = sampler.weightAt(index);
+      }
+    }
+    long totalWeight = sampler.getTotalWeight();
+    long otherWeight = totalWeight - symbolWeight;
+    if (symbolWeight == 0 || otherWeight == 0 || (double) symbolWeight / totalWeight >= tilt) {
+      tiltedSamplers[component][cell] = sampler;
+      ratiosOfSymbol[component][cell] = 1d;
+      ratiosOfOthers[component][cell] = 1d;
+      return;
+    }
+    var scale = Math.max(1, TILT_RESOLUTION / otherWeight);
+    var tiltedWeight = Math.min(Integer.MAX_VALUE - otherWeight * scale,
+        Math.max(symbolWeight * scale, Math.round(tilt / (1 - tilt) * otherWeight * scale)));
+    var tiltedTotal = otherWeight * scale + tiltedWeight;
+    var weights = new LinkedHashMap<Symbol, Integer>();
+    for (int index = 0; index < sampler.size(); index++) {
+      var weight = symbol.equals(sampler.symbolAt(index)) ? tiltedWeight : sampler.weightAt(index) * scale;
+      weights.put(sampler.symbolAt(index), Math.toIntExact(weight));
+    }
+    tiltedSamplers[component][cell] = SymbolSampler.of(weights);
+    ratiosOfSymbol[component][cell] = ((double) tiltedWeight / tiltedTotal) / ((double) symbolWeight / totalWeight);
+    ratiosOfOthers[component][cell] = (double) (scale * totalWeight) / tiltedTotal;
+  }
+
+  private static double standardError(double sum, double squaredSum, long count) {
+    if (count < 2) {
+      return 0d;
+    }
+    var mean = sum / count;
+    return Math.sqrt(Math.max(0d, (squaredSum - mean * sum) / (count - 1)) / count);
+  }
+
+  private static final class Sums {
+
+    private double weights;
+    private double squaredWeights;
+    private double rewards;
+    private double squaredRewards;
+    private final double[] combinationRewards;
+    private final double[] squaredCombinationRewards;
+    private final double[] combinationHits;
+    private final long[] sampledHits;
+
+    private Sums(int winCombinations) {
+      this.combinationRewards = new double[winCombinations];
+      this.squaredCombinationRewards = new double[winCombinations];
+      this.combinationHits = new double[winCombinations];
+      this.sampledHits = new long[winCombinations];
+    }
+
+    private void add(double weight, double reward, double[] roundCombinationRewards, boolean[] applied) {
+      weights += weight;
+      squaredWeights += weight * weight;
+      rewards += weight * reward;
+      squaredRewards += weight * reward * weight * reward;
+      for (int id = 0; id < roundCombinationRewards.length; id++) {
+        var weighted = weight * roundCombinationRewards[id];
+        combinationRewards[id] += weighted;
+        squaredCombinationRewards[id] += weighted * weighted;
+        if (applied[id]) {
+          combinationHits[id] += weight;
+          sampledHits[id]++;
+        }
+      }
+    }
+
+    private Sums add(Sums other) {
+      var sum = new Sums(combinationRewards.length);
+      sum.weights = weights + other.weights;
+      sum.squaredWeights = squaredWeights + other.squaredWeights;
+      sum.rewards = rewards + other.rewards;
+      sum.squaredRewards = squaredRewards + other.squaredRewards;
+      for (int id = 0; id < combinationRewards.length; id++) {
+        sum.combinationRewards[id] = combinationRewards[id] + other.combinationRewards[id];
+        sum.squaredCombinationRewards[id] = squaredCombinationRewards[id] + other.squaredCombinationRewards[id];
+        sum.combinationHits[id] = combinationHits[id] + other.combinationHits[id];
+        sum.sampledHits[id] = sampledHits[id] + other.sampledHits[id];
+      }
+      return sum;
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package dev.marvel.scratch.domain.rtp;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.domain.scorer.Scorer;
+
+/**
+ * A paytable taking part in a comparison by a {@link PaytableComparator}.
+ *
+ * @param name          The name the paytable is reported under, such as the name of its configuration file.
+ * @param configuration The compiled configuration of the paytable.
+ * @param scorer        The scorer of the paytable's rounds.
+ */
+public record Paytable(String name, CompiledConfiguration configuration, Scorer scorer) {}
@@ -0,0 +1,269 @@
+package dev.marvel.scratch.domain.rtp;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.domain.cascade.CascadePlayer;
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.freespins.FreeSpinsPlayer;
+import dev.marvel.scratch.domain.probability.random.PhiloxRandomSource;
+import dev.marvel.scratch.domain.probability.random.Sampling;
+import dev.marvel.scratch.domain.probability.random.RandomSource;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.WinCombinationMatcher;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.LongStream;
+
+/**
+ * Compares the return to player of several paytables that share their symbols and probabilities but differ in their win combinations
+ * or symbol multipliers, by playing all of them on the same simulated boards.
+ * <p>
+ * Every board is spun once, from the baseline paytable and the random source of its round (see {@link Sampling}), and then played
+ * by every paytable: its symbols are mapped to the paytable's symbols of the same name, and the board is matched and scored with the
+ * paytable's own win combinations, multipliers and game mode. Cascades and free spins continue from the same random source, which
+ * addresses every draw by the round and the cell, so they draw the same numbers in every paytable too. Spinning a board costs the same
+ * whatever the number of paytables, and, since the paytables see identical boards (common random numbers), the noise of the boards
+ * largely cancels out of the difference between two paytables: its standard error is estimated from the difference of the rewards of
+ * every round and is typically far smaller than that of either figure.
+ * <p>
+ * Rounds are simulated in parallel in chunks of consecutive round indices, and the partial sums are combined in chunk order, so the
+ * comparison does not depend on the number of threads.
+ */
+public class PaytableComparator {
+
+  static final int ROUNDS_PER_CHUNK = 1 << 14;
+
+  private final List<Paytable> paytables;
+  private final CompiledConfiguration baseline;
+  private final WinCombinationMatcher[] matchers;
+  private final Symbol[][] translations;
+
+  /**
+   * Constructs a comparator of paytables.
+   *
+   * @param paytables The paytables to compare, the baseline the boards are spun from first.
+   * @throws IllegalArgumentException    if fewer than two paytables are given.
+   * @throws ConfigurationParseException if a paytable does not share the dimensions, the symbol names and the probabilities or reel
+   *                                     strips of the baseline.
+   */
+  public PaytableComparator(List<Paytable> paytables) {
+    if (paytables.size() < 2) {
+      throw new IllegalArgumentException("A comparison requires at least two paytables.");
+    }
+    this.paytables = List.copyOf(paytables);
+    this.baseline = paytables.get(0).configuration();
+    this.matchers = new WinCombinationMatcher[paytables.size()];
+    this.translations = new Symbol[paytables.size()][];
+    for (int index = 0; index < paytables.size(); index++) {
+      var configuration = paytables.get(index).configuration();
+      if (!sharesBoards(baseline, configuration)) {
+        throw new ConfigurationParseException("The paytable '" + paytables.get(index).name() + "' does not share the dimensions, " +
+            "symbols and probabilities of '" + paytables.get(0).name() + "'.");
+      }
+      matchers[index] = new WinCombinationMatcher(configuration);
+      translations[index] = configuration.getSymbolList().toArray(Symbol[]::new);
+    }
+  }
+
+  /**
+   * Plays a number of simulated rounds on every paytable, each drawn independently from its {@link PhiloxRandomSource}.
+   *
+   * @param bet        The betting amount; must be positive.
+   * @param seed       The master seed the boards are spun from.
+   * @param firstRound The round index of the first board.
+   * @param rounds     The number of rounds; must be positive.
+   * @return The figures of every paytable, the baseline first.
+   * @throws IllegalArgumentException if the bet or the number of rounds is not positive.
+   */
+  public PaytableComparison compare(int bet, long seed, long firstRound, long rounds) {
+    return compare(bet, seed, firstRound, rounds, Sampling.PSEUDO_RANDOM);
+  }
+
+  /**
+   * Plays a number of simulated rounds on every paytable, the cells of the boards spread according to a sampling scheme; every chunk of
+   * rounds is a block of the scheme. The standard errors are computed as if the rounds were independent, which overstates the error of
+   * stratified and quasi-random rounds.
+   *
+   * @param bet        The betting amount; must be positive.
+   * @param seed       The master seed the boards are spun from.
+   * @param firstRound The round index of the first board.
+   * @param rounds     The number of rounds; must be positive.
+   * @param sampling   The sampling scheme of the boards.
+   * @return The figures of every paytable, the baseline first.
+   * @throws IllegalArgumentException if the bet or the number of rounds is not positive.
+   */
+  public PaytableComparison compare(int bet, long seed, long firstRound, long rounds, Sampling sampling) {
+    if (bet <= 0) {
+      throw new IllegalArgumentException("Paytables are compared for a positive betting amount.");
+    }
+    if (rounds <= 0) {
+      throw new IllegalArgumentException("Paytables are compared over a positive number of rounds.");
+    }
+    var chunks = (rounds + ROUNDS_PER_CHUNK - 1) / ROUNDS_PER_CHUNK;
+    var total = LongStream.range(0, chunks)
+        .parallel()
+        .mapToObj(chunk -> simulate(bet, seed, firstRound + chunk * ROUNDS_PER_CHUNK,
+            (int) Math.min(ROUNDS_PER_CHUNK, rounds - chunk * ROUNDS_PER_CHUNK), sampling))
+        .toList()
+        .stream()
+        .reduce(Sums::add)
+        .orElseThrow();
+    var reports = new ArrayList<PaytableReport>();
+    for (int index = 0; index < paytables.size(); index++) {
+      var rewardDeviation = standardDeviation(total.rewards[index], total.squaredRewards[index], rounds) / bet;
+      Double difference = null;
+      Double differenceStandardError = null;
+      if (index > 0) {
+        difference = total.differences[index] / rounds / bet;
+        differenceStandardError =
+            standardDeviation(total.differences[index], total.squaredDifferences[index], rounds) / bet / Math.sqrt(rounds);
+      }
+      reports.add(new PaytableReport(paytables.get(index).name(), total.rewards[index] / rounds / bet, (double) total.hits[index] / rounds,
+          rewardDeviation, rewardDeviation / Math.sqrt(rounds), difference, differenceStandardError));
+    }
+    return new PaytableComparison(bet, seed, firstRound, rounds, sampling, List.copyOf(reports));
+  }
+
+  private Sums simulate(int bet, long seed, long firstRound, int rounds, Sampling sampling) {
+    // the players keep the state of one board, so every chunk has its own
+    var cascadePlayers = new CascadePlayer[paytables.size()];
+    var freeSpinsPlayers = new FreeSpinsPlayer[paytables.size()];
+    for (int index = 0; index < paytables.size(); index++) {
+      var paytable = paytables.get(index);
+      if (paytable.configuration().isCascading()) {
+        cascadePlayers[index] = new CascadePlayer(paytable.configuration(), paytable.scorer());
+      } else if (paytable.configuration().hasFreeSpins()) {
+        freeSpinsPlayers[index] = new FreeSpinsPlayer(paytable.configuration(), paytable.scorer());
+      }
+    }
+    var sources = sampling.block(seed, firstRound, rounds, baseline.isReelMode() ? baseline.getColumns() : baseline.getCellCount());
+    var sums = new Sums(paytables.size());
+    var ordinals = new int[baseline.getCellCount()];
+    var board = new Symbol[baseline.getCellCount()];
+    var rewards = new double[paytables.size()];
+    for (long round = firstRound; round < firstRound + rounds; round++) {
+      var random = sources.forRound(round);
+      var spun = new Game(baseline, bet, random);
+      for (int cell = 0; cell < ordinals.length; cell++) {
+        ordinals[cell] = baseline.ordinalOf(spun.symbolAt(cell));
+      }
+      for (int index = 0; index < paytables.size(); index++) {
+        var game = spun;
+        if (index > 0) {
+          for (int cell = 0; cell < ordinals.length; cell++) {
+            board[cell] = translations[index][ordinals[cell]];
+          }
+          game = new Game(paytables.get(index).configuration(), board, bet);
+        }
+        rewards[index] = play(index, game, random, cascadePlayers[index], freeSpinsPlayers[index]);
+      }
+      sums.add(rewards);
+    }
+    return sums;
+  }
+
+  private double play(int index, Game game, RandomSource random, CascadePlayer cascadePlayer, FreeSpinsPlayer freeSpinsPlayer) {
+    if (cascadePlayer != null) {
+      return cascadePlayer.play(game, random).reward();
+    }
+    var reward = paytables.get(index).scorer().score(game.getBet(), matchers[index].match(game));
+    if (freeSpinsPlayer != null) {
+      reward += freeSpinsPlayer.play(game, random).reward();
+    }
+    return reward;
+  }
+
+  private static double standardDeviation(double sum, double squaredSum, long count) {
+    if (count < 2) {
+      return 0d;
+    }
+    var mean = sum / count;
+    return Math.sqrt(Math.max(0d, (squaredSum - mean * sum) / (count - 1)));
+  }
+
+  /**
+   * Tells whether a paytable spins the same boards as the baseline: the same dimensions and symbol names, and the same symbol names and
+   * weights in every cell distribution or at every position of every reel strip.
+   */
+  private static boolean sharesBoards(CompiledConfiguration baseline, CompiledConfiguration paytable) {
+    if (baseline.getRows() != paytable.getRows() || baseline.getColumns() != paytable.getColumns()
+        || baseline.isReelMode() != paytable.isReelMode()
+        || !names(baseline.getSymbolList()).equals(names(paytable.getSymbolList()))) {
+      return false;
+    }
+    if (baseline.isReelMode()) {
+      for (int column = 0; column < baseline.getColumns(); column++) {
+        if (baseline.reelLength(column) != paytable.reelLength(column)) {
+          return false;
+        }
+        for (int position = 0; position < baseline.reelLength(column); position++) {
+          if (!baseline.reelSymbolAt(column, position).getName().equals(paytable.reelSymbolAt(column, position).getName())) {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+    for (int cell = 0; cell < baseline.getCellCount(); cell++) {
+      var expected = baseline.samplerAt(cell);
+      var actual = paytable.samplerAt(cell);
+      if (expected.size() != actual.size()) {
+        return false;
+      }
+      for (int index = 0; index < expected.size(); index++) {
+        if (expected.weightAt(index) != actual.weightAt(index)
+            || !Objects.equals(expected.symbolAt(index).getName(), actual.symbolAt(index).getName())) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private static List<String> names(List<Symbol> symbols) {
+    return symbols.stream().map(Symbol::getName).toList();
+  }
+
+  private static final class Sums {
+
+    private final double[] rewards;
+    private final double[] squaredRewards;
+    private final long[] hits;
+    private final double[] differences;
+    private final double[] squaredDifferences;
+
+    private Sums(int paytables) {
+      this.rewards = new double[paytables];
+      this.squaredRewards = new double[paytables];
+      this.hits = new long[paytables];
+      this.differences = new double[paytables];
+      this.squaredDifferences = new double[paytables];
+    }
+
+    private void add(double[] roundRewards) {
+      for (int index = 0; index < roundRewards.length; index++) {
+        var reward = roundRewards[index];
+        var difference = reward - roundRewards[0];
+        rewards[index] += reward;
+        squaredRewards[index] += reward * reward;
+        hits[index] += reward > 0 ? 1 : 0;
+        differences[index] += difference;
+        squaredDifferences[index] += difference * difference;
+      }
+    }
+
+    private Sums add(Sums other) {
+      var sum = new Sums(rewards.length);
+      for (int index = 0; index < rewards.length; index++) {
+        sum.rewards[index] = rewards[index] + other.rewards[index];
+        sum.squaredRewards[index] = squaredRewards[index] + other.squaredRewards[index];
+        sum.hits[index] = hits[index] + other.hits[index];
+        sum.differences[index] = differences[index] + other.differences[index];
+        sum.squaredDifferences[index] = squaredDifferences[index] + other.squaredDifferences[index];
+      }
+      return sum;
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package dev.marvel.scratch.domain.rtp;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.marvel.scratch.domain.probability.random.Sampling;
+
+import java.util.List;
+
+/**
+ * The side-by-side return-to-player figures of several paytables played on the same simulated boards, as produced by
+ * {@link PaytableComparator}.
+ *
+ * @param bet        The betting amount the rounds are played with.
+ * @param seed       The master seed the boards are spun from.
+ * @param firstRound The round index of the first board.
+ * @param rounds     The number of boards played.
+ * @param sampling   The sampling scheme the boards are spread with.
+ * @param paytables  The figures of every paytable, the baseline first.
+ */
+public record PaytableComparison(@JsonProperty("bet") int bet,
+                                 @JsonProperty("seed") long seed,
+                                 @JsonProperty("first_round") long firstRound,
+                                 @JsonProperty("rounds") long rounds,
+                                 @JsonProperty("sampling") Sampling sampling,
+                                 @JsonProperty("paytables") List<PaytableReport> paytables) {}
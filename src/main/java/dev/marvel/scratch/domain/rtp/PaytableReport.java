@@ -0,0 +1,26 @@
+package dev.marvel.scratch.domain.rtp;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The simulated return-to-player figures of one paytable of a {@link PaytableComparison}.
+ *
+ * @param name                    The name of the paytable.
+ * @param returnToPlayer          The mean reward divided by the bet.
+ * @param hitFrequency            The fraction of rounds paying a positive reward.
+ * @param standardDeviation       The standard deviation of the reward divided by the bet, a measure of the volatility of the game.
+ * @param standardError           The standard error of the return to player.
+ * @param difference              The return to player minus that of the baseline paytable, or {@code null} for the baseline itself.
+ * @param differenceStandardError The standard error of the difference, estimated from the differences of the rewards of every round.
+ *                                Since both paytables are played on the same boards, it is typically far smaller than the standard
+ *                                errors of the two figures combined. {@code null} for the baseline itself.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PaytableReport(@JsonProperty("name") String name,
+                             @JsonProperty("rtp") double returnToPlayer,
+                             @JsonProperty("hit_frequency") double hitFrequency,
+                             @JsonProperty("standard_deviation") double standardDeviation,
+                             @JsonProperty("standard_error") double standardError,
+                             @JsonProperty("rtp_difference") Double difference,
+                             @JsonProperty("difference_standard_error") Double differenceStandardError) {}
@@ -0,0 +1,275 @@
+package dev.marvel.scratch.domain.rtp;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.domain.probability.model.WeightScaling;
+import dev.marvel.scratch.domain.scorer.Scorer;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.WinCombinationMatcher;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Tunes the weights of the standard symbols in the cell probabilities of a configuration until its return to player reaches a target,
+ * keeping its hit frequency and volatility within optional bands.
+ * <p>
+ * Every standard symbol gets a scale its weight in every cell is multiplied by, so the shape of each symbol's distribution across the
+ * board is kept, and the weights of bonus symbols stay as configured. The winning boards are matched and scored once, into a table of
+ * {@link WinningBoards}; every candidate scaling is evaluated from that table alone, so thousands of candidates cost far less than a
+ * single simulation. The table holds every board if the board space is small enough to enumerate, making the tuned figures exact, and
+ * otherwise the winning boards among a number of simulated rounds, reweighted to the candidate weights by their likelihood ratio.
+ * <p>
+ * The scales are searched by a compass search on their logarithms: every iteration evaluates, in parallel, the scaling of every symbol
+ * stepped up and down, moves to the best candidate if it improves on the current scaling and halves the step otherwise. The search
+ * minimizes the squared relative distances of the return to player from its target and of the hit frequency and volatility from their
+ * bands, and stops once the target is met, the step is negligible or {@link #MAX_ITERATIONS} is reached. The candidate weights are
+ * rounded to integers exactly as they are written back, at a resolution fine enough for the scales to take effect, so the tuned
+ * figures are those of the written configuration. Candidates are evaluated in a fixed order and ties go to the first, so the result
+ * does not depend on the number of threads.
+ */
+public class ProbabilitySolver {
+
+  /**
+   * The largest difference between the tuned and the target return to player at which the search stops.
+   */
+  public static final double RTP_TOLERANCE = 1e-4;
+
+  /**
+   * The largest number of search iterations.
+   */
+  public static final int MAX_ITERATIONS = 10_000;
+
+  private static final double INITIAL_STEP = Math.log(2);
+  private static final double MIN_STEP = 1e-7;
+  // no symbol is scaled beyond this factor either way, nor up so far that the total weight of a cell no longer fits in an int
+  private static final double MAX_LOG_SCALE = Math.log(100);
+  // the configured weights are multiplied by a power of ten until the smallest one is at least this large, if the totals allow
+  private static final int MIN_SCALED_WEIGHT = 10_000;
+
+  private final CompiledConfiguration configuration;
+  private final WinCombinationMatcher winCombinationMatcher;
+  private final Scorer scorer;
+  private final Symbol[] symbols;
+  // scaledSymbols[cell][index] is the position in symbols of the symbol at the index of the cell's sampler, or -1 if it is not scaled
+  private final int[][] scaledSymbols;
+  private final int resolution;
+  private final double maxLogScale;
+
+  /**
+   * Constructs a probability solver.
+   *
+   * @param configuration         The compiled configuration of the game.
+   * @param winCombinationMatcher The matcher of the configuration's boards.
+   * @param scorer                The scorer of the configuration's rounds.
+   * @throws IllegalArgumentException if the configuration spins reel strips, plays cascades or free spins, or has no standard symbol.
+   */
+  public ProbabilitySolver(CompiledConfiguration configuration, WinCombinationMatcher winCombinationMatcher, Scorer scorer) {
+    if (configuration.isReelMode() || configuration.isCascading() || configuration.hasFreeSpins()) {
+      throw new IllegalArgumentException("The solver tunes the cell probabilities of a single board, so it does not support reel " +
+          "strips, cascades or free spins.");
+    }
+    this.configuration = configuration;
+    this.winCombinationMatcher = winCombinationMatcher;
+    this.scorer = scorer;
+    this.symbols = configuration.getSymbolList().stream()
+        .filter(Symbol::isStandard)
+        .sorted(Comparator.comparing(Symbol::getName))
+        .toArray(Symbol[]::new);
+    if (symbols.length == 0) {
+      throw new IllegalArgumentException("The configuration has no standard symbol whose weights could be tuned.");
+    }
+    var cellCount = configuration.getCellCount();
+    this.scaledSymbols = new int[cellCount][];
+    var smallestWeight = Integer.MAX_VALUE;
+    var largestTotal = 0;
+    for (int cell = 0; cell < cellCount; cell++) {
+      var sampler = configuration.samplerAt(cell);
+      scaledSymbols[cell] = new int[sampler.size()];
+      for (int index = 0; index < sampler.size(); index++) {
+        scaledSymbols[cell][index] = indexOf(sampler.symbolAt(index));
+        if (scaledSymbols[cell][index] >= 0 && sampler.weightAt(index) > 0) {
+          smallestWeight = Math.min(smallestWeight, sampler.weightAt(index));
+        }
+      }
+      largestTotal = Math.max(largestTotal, sampler.getTotalWeight());
+    }
+    var resolution = 1;
+    while ((long) smallestWeight * resolution < MIN_SCALED_WEIGHT
+        && (long) largestTotal * resolution * 10 * Math.exp(MAX_LOG_SCALE) <= Integer.MAX_VALUE) {
+      resolution *= 10;
+    }
+    this.resolution = resolution;
+    this.maxLogScale = maxLogScale();
+  }
+
+  /**
+   * Tunes the weights on every board the configuration can produce, so that the tuned figures are exact.
+   *
+   * @param bet    The betting amount; must be positive.
+   * @param target The figures to tune towards.
+   * @return The tuned weights and figures.
+   * @throws IllegalArgumentException if the bet is not positive.
+   * @throws IllegalStateException    if the configuration produces more than {@link RtpCalculator#MAX_OUTCOMES} boards, or more than
+   *                                  {@link WinningBoards#MAX_BOARDS} of them win.
+   */
+  public SolverReport solve(int bet, SolverTarget target) {
+    validateBet(bet);
+    var boards = WinningBoards.enumerate(configuration, winCombinationMatcher, scorer, bet);
+    return solve(bet, target, boards, null, null, null);
+  }
+
+  /**
+   * Tunes the weights on the winning boards among a number of simulated rounds, round {@code n} spun as a played round with the seed
+   * and round index {@code n} is, so that the tuned figures are estimates.
+   *
+   * @param bet        The betting amount; must be positive.
+   * @param target     The figures to tune towards.
+   * @param seed       The master seed the boards are spun from.
+   * @param firstRound The round index of the first board.
+   * @param rounds     The number of rounds; must be positive.
+   * @return The tuned weights and figures.
+   * @throws IllegalArgumentException if the bet or the number of rounds is not positive.
+   * @throws IllegalStateException    if more than {@link WinningBoards#MAX_BOARDS} of the boards win.
+   */
+  public SolverReport solve(int bet, SolverTarget target, long seed, long firstRound, long rounds) {
+    validateBet(bet);
+    if (rounds <= 0) {
+      throw new IllegalArgumentException("Weights are tuned over a positive number of rounds.");
+    }
+    var boards = WinningBoards.simulate(configuration, winCombinationMatcher, scorer, bet, seed, firstRound, rounds);
+    return solve(bet, target, boards, seed, firstRound, rounds);
+  }
+
+  private SolverReport solve(int bet, SolverTarget target, WinningBoards boards, Long seed, Long firstRound, Long rounds) {
+    var initial = evaluate(boards, target, new double[symbols.length]);
+    var current = initial;
+    var step = INITIAL_STEP;
+    var iterations = 0;
+    var evaluations = 1L;
+    while (iterations < MAX_ITERATIONS && step >= MIN_STEP && !meets(current.figures, target)) {
+      var from = current;
+      var stepSize = step;
+      var best = IntStream.range(0, 2 * symbols.length)
+          .parallel()
+          .mapToObj(direction -> evaluate(boards, target, move(from.logScales, direction, stepSize, maxLogScale)))
+          .toList()
+          .stream()
+          .min(Comparator.comparingDouble(Candidate::loss))
+          .orElseThrow();
+      evaluations += 2L * symbols.length;
+      iterations++;
+      if (best.loss < current.loss) {
+        current = best;
+      } else {
+        step /= 2;
+      }
+    }
+    return new SolverReport(bet, seed, firstRound, rounds, boards.size(), target, initial.figures, current.figures,
+        meets(current.figures, target), iterations, evaluations, scaling(current.logScales));
+  }
+
+  private Candidate evaluate(WinningBoards boards, SolverTarget target, double[] logScales) {
+    var weights = new long[scaledSymbols.length][];
+    for (int cell = 0; cell < scaledSymbols.length; cell++) {
+      var sampler = configuration.samplerAt(cell);
+      weights[cell] = new long[sampler.size()];
+      for (int index = 0; index < sampler.size(); index++) {
+        var symbol = scaledSymbols[cell][index];
+        weights[cell][index] = WeightScaling.scale(sampler.weightAt(index), resolution, symbol < 0 ? 1d : Math.exp(logScales[symbol]));
+      }
+    }
+    var figures = boards.evaluate(weights);
+    return new Candidate(logScales, figures, loss(figures, target));
+  }
+
+  /**
+   * Returns the scales stepped along a direction: direction {@code 2s} steps up the scale of symbol {@code s}, direction {@code 2s + 1}
+   * steps it down.
+   */
+  private static double[] move(double[] logScales, int direction, double step, double maxLogScale) {
+    var moved = logScales.clone();
+    var symbol = direction / 2;
+    var logScale = moved[symbol] + (direction % 2 == 0 ? step : -step);
+    moved[symbol] = Math.max(-MAX_LOG_SCALE, Math.min(maxLogScale, logScale));
+    return moved;
+  }
+
+  /**
+   * Returns the logarithm of the largest scale the standard symbols may be scaled up by: {@link #MAX_LOG_SCALE}, unless the weights of
+   * some cell, scaled up by it all at once and rounded up, would no longer fit an {@code int} total at the resolution. Scaling down
+   * never overflows, and a scale of one leaves weights that fit as configured.
+   */
+  private double maxLogScale() {
+    var largestScale = Math.exp(MAX_LOG_SCALE);
+    for (int cell = 0; cell < scaledSymbols.length; cell++) {
+      var sampler = configuration.samplerAt(cell);
+      long scaledWeight = 0;
+      long unscaledWeight = 0;
+      for (int index = 0; index < sampler.size(); index++) {
+        if (scaledSymbols[cell][index] >= 0) {
+          scaledWeight += sampler.weightAt(index);
+        } else {
+          unscaledWeight += sampler.weightAt(index);
+        }
+      }
+      if (scaledWeight > 0) {
+        // every rounded weight exceeds its exact value by less than one
+        var room = (double) Integer.MAX_VALUE - (double) unscaledWeight * resolution - sampler.size();
+        largestScale = Math.min(largestScale, room / ((double) scaledWeight * resolution));
+      }
+    }
+    return largestScale <= 1 ? 0d : Math.log(largestScale);
+  }
+
+  private WeightScaling scaling(double[] logScales) {
+    var scales = new LinkedHashMap<String, Double>();
+    for (int symbol = 0; symbol < symbols.length; symbol++) {
+      scales.put(symbols[symbol].getName(), Math.exp(logScales[symbol]));
+    }
+    return new WeightScaling(resolution, scales);
+  }
+
+  private static double loss(SolverReport.Figures figures, SolverTarget target) {
+    var rtpDistance = (figures.returnToPlayer() - target.returnToPlayer()) / target.returnToPlayer();
+    var hitDistance = bandDistance(figures.hitFrequency(), target.minHitFrequency(), target.maxHitFrequency());
+    var volatilityDistance = bandDistance(figures.standardDeviation(), target.minStandardDeviation(), target.maxStandardDeviation());
+    return rtpDistance * rtpDistance + hitDistance * hitDistance + volatilityDistance * volatilityDistance;
+  }
+
+  /**
+   * Returns the relative distance of a figure from a band, {@code 0} within it.
+   */
+  private static double bandDistance(double value, Double min, Double max) {
+    if (min != null && value < min) {
+      return (min - value) / min;
+    }
+    if (max != null && value > max) {
+      return max == 0 ? value : (value - max) / max;
+    }
+    return 0d;
+  }
+
+  private static boolean meets(SolverReport.Figures figures, SolverTarget target) {
+    return Math.abs(figures.returnToPlayer() - target.returnToPlayer()) <= RTP_TOLERANCE
+        && bandDistance(figures.hitFrequency(), target.minHitFrequency(), target.maxHitFrequency()) == 0
+        && bandDistance(figures.standardDeviation(), target.minStandardDeviation(), target.maxStandardDeviation()) == 0;
+  }
+
+  private int indexOf(Symbol symbol) {
+    for (int position = 0; position < symbols.length; position++) {
+      if (symbols[position].equals(symbol)) {
+        return position;
+      }
+    }
+    return -1;
+  }
+
+  private static void validateBet(int bet) {
+    if (bet <= 0) {
+      throw new IllegalArgumentException("Weights are tuned for a positive betting amount.");
+    }
+  }
+
+  private record Candidate(double[] logScales, SolverReport.Figures figures, double loss) {}
+}
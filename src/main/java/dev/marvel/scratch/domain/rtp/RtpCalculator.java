@@ -0,0 +1,212 @@
+package dev.marvel.scratch.domain.rtp;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.scorer.Scorer;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.WinCombinationMatcher;
+
+import java.util.stream.IntStream;
+
+/**
+ * Calculates the exact return to player (RTP) of a configuration by enumerating every board it can produce together with its
+ * probability, matching and scoring each one.
+ * <p>
+ * For a game spun from reel strips the boards are the combinations of one stop offset per column, each equally likely, so the outcome
+ * space is the product of the strip lengths. For a game spun from cell probabilities they are the combinations of one symbol per cell,
+ * weighted by the cell distributions; this space grows exponentially with the number of cells and is only enumerable for small boards.
+ * Either way, the calculation is refused if it would enumerate more than {@link #MAX_OUTCOMES} boards. The rounds of the cascade game
+ * mode and rounds awarding free spins continue past the spun board with further random draws, so they cannot be enumerated this way.
+ * <p>
+ * The boards are enumerated in parallel, split by the choice made for the first column (or cell), and the partial sums are combined in
+ * that order, so the result does not depend on the number of threads.
+ */
+public class RtpCalculator {
+
+  /**
+   * The largest number of boards a calculation enumerates.
+   */
+  public static final long MAX_OUTCOMES = 1L << 26;
+
+  private final CompiledConfiguration configuration;
+  private final WinCombinationMatcher matcher;
+  private final Scorer scorer;
+
+  public RtpCalculator(CompiledConfiguration configuration) {
+    this(configuration, new WinCombinationMatcher(configuration), new Scorer());
+  }
+
+  public RtpCalculator(CompiledConfiguration configuration, WinCombinationMatcher matcher, Scorer scorer) {
+    this.configuration = configuration;
+    this.matcher = matcher;
+    this.scorer = scorer;
+  }
+
+  /**
+   * Calculates the RTP figures of the configuration for a betting amount.
+   *
+   * @param bet The betting amount; must be positive.
+   * @return The RTP figures.
+   * @throws IllegalArgumentException if the bet is not positive.
+   * @throws IllegalStateException    if the configuration produces more than {@link #MAX_OUTCOMES} distinct boards, or is played in the
+   *                                  cascade game mode or awards free spins.
+   */
+  public RtpReport calculate(int bet) {
+    if (bet <= 0) {
+      throw new IllegalArgumentException("The RTP is calculated for a positive betting amount.");
+    }
+    if (configuration.isCascading()) {
+      throw new IllegalStateException("The RTP of a cascading game cannot be calculated exactly, since its rounds are not a function of " +
+          "the spun board alone.");
+    }
+    if (configuration.hasFreeSpins()) {
+      throw new IllegalStateException("The RTP of a game awarding free spins cannot be calculated exactly, since its rounds are not a " +
+          "function of the spun board alone.");
+    }
+    var space = configuration.isReelMode() ? new ReelOutcomeSpace(configuration) : new CellOutcomeSpace(configuration);
+    var outcomes = countOutcomes(space);
+    var total = IntStream.range(0, space.choices(0))
+        .parallel()
+        .mapToObj(first -> enumerate(space, first, bet))
+        .toList()
+        .stream()
+        .reduce(new Moments(), Moments::add);
+    var mean = total.reward;
+    var variance = Math.max(0d, total.squaredReward - mean * mean);
+    return new RtpReport(bet, outcomes, mean / bet, total.hitProbability, Math.sqrt(variance) / bet);
+  }
+
+  private static long countOutcomes(OutcomeSpace space) {
+    var outcomes = 1L;
+    for (int position = 0; position < space.positions(); position++) {
+      outcomes *= space.choices(position);
+      if (outcomes > MAX_OUTCOMES) {
+        throw new IllegalStateException("The configuration produces more than " + MAX_OUTCOMES + " distinct boards, which is too many " +
+            "to enumerate exactly.");
+      }
+    }
+    return outcomes;
+  }
+
+  private Moments enumerate(OutcomeSpace space, int firstChoice, int bet) {
+    var positions = space.positions();
+    var board = new Symbol[configuration.getCellCount()];
+    var choices = new int[positions];
+    // probabilities[p] is the probability of the choices made for positions 0..p
+    var probabilities = new double[positions];
+    choices[0] = firstChoice;
+    space.fill(board, 0, firstChoice);
+    probabilities[0] = space.probability(0, firstChoice);
+    for (int position = 1; position < positions; position++) {
+      space.fill(board, position, 0);
+      probabilities[position] = probabilities[position - 1] * space.probability(position, 0);
+    }
+    var moments = new Moments();
+    while (true) {
+      var probability = probabilities[positions - 1];
+      if (probability > 0) {
+        var reward = scorer.score(bet, matcher.match(new Game(configuration, board, bet)));
+        moments.reward += probability * reward;
+        moments.squaredReward += probability * reward * reward;
+        if (reward > 0) {
+          moments.hitProbability += probability;
+        }
+      }
+      var position = positions - 1;
+      while (position > 0 && choices[position] == space.choices(position) - 1) {
+        position--;
+      }
+      if (position == 0) {
+        return moments;
+      }
+      choices[position]++;
+      for (int next = position; next < positions; next++) {
+        if (next > position) {
+          choices[next] = 0;
+        }
+        space.fill(board, next, choices[next]);
+        probabilities[next] = probabilities[next - 1] * space.probability(next, choices[next]);
+      }
+    }
+  }
+
+  private static final class Moments {
+
+    private double reward;
+    private double squaredReward;
+    private double hitProbability;
+
+    private Moments add(Moments other) {
+      var sum = new Moments();
+      sum.reward = reward + other.reward;
+      sum.squaredReward = squaredReward + other.squaredReward;
+      sum.hitProbability = hitProbability + other.hitProbability;
+      return sum;
+    }
+  }
+
+  /**
+   * The independent random choices a board is made of, such as the stop of every reel or the symbol of every cell.
+   */
+  private interface OutcomeSpace {
+
+    int positions();
+
+    int choices(int position);
+
+    double probability(int position, int choice);
+
+    void fill(Symbol[] board, int position, int choice);
+  }
+
+  private record ReelOutcomeSpace(CompiledConfiguration configuration) implements OutcomeSpace {
+
+    @Override
+    public int positions() {
+      return configuration.getColumns();
+    }
+
+    @Override
+    public int choices(int column) {
+      return configuration.reelLength(column);
+    }
+
+    @Override
+    public double probability(int column, int stop) {
+      return 1d / configuration.reelLength(column);
+    }
+
+    @Override
+    public void fill(Symbol[] board, int column, int stop) {
+      var columns = configuration.getColumns();
+      var length = configuration.reelLength(column);
+      for (int row = 0; row < configuration.getRows(); row++) {
+        board[row * columns + column] = configuration.reelSymbolAt(column, (stop + row) % length);
+      }
+    }
+  }
+
+  private record CellOutcomeSpace(CompiledConfiguration configuration) implements OutcomeSpace {
+
+    @Override
+    public int positions() {
+      return configuration.getCellCount();
+    }
+
+    @Override
+    public int choices(int cell) {
+      return configuration.samplerAt(cell).size();
+    }
+
+    @Override
+    public double probability(int cell, int index) {
+      var sampler = configuration.samplerAt(cell);
+      return (double) sampler.weightAt(index) / sampler.getTotalWeight();
+    }
+
+    @Override
+    public void fill(Symbol[] board, int cell, int index) {
+      board[cell] = configuration.samplerAt(cell).symbolAt(index);
+    }
+  }
+}
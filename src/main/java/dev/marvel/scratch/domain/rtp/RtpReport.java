@@ -0,0 +1,19 @@
+package dev.marvel.scratch.domain.rtp;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The exact return-to-player figures of a configuration for a betting amount, as calculated by {@link RtpCalculator}.
+ *
+ * @param bet               The betting amount the figures are calculated for. Extra-bonus symbols add a fixed amount to a winning reward,
+ *                          so the figures depend on it.
+ * @param outcomes          The number of distinct boards enumerated.
+ * @param returnToPlayer    The expected reward divided by the bet.
+ * @param hitFrequency      The probability that a board pays a positive reward.
+ * @param standardDeviation The standard deviation of the reward divided by the bet, a measure of the volatility of the game.
+ */
+public record RtpReport(@JsonProperty("bet") int bet,
+                        @JsonProperty("outcomes") long outcomes,
+                        @JsonProperty("rtp") double returnToPlayer,
+                        @JsonProperty("hit_frequency") double hitFrequency,
+                        @JsonProperty("standard_deviation") double standardDeviation) {}
@@ -0,0 +1,233 @@
+package dev.marvel.scratch.domain.rtp;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.scorer.Scorer;
+import dev.marvel.scratch.domain.symbol.model.BonusSymbol;
+import dev.marvel.scratch.domain.symbol.model.Impact;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.WinCombinationMatcher;
+import dev.marvel.scratch.domain.wincombination.model.WinCombination;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes, in a single pass over the boards of a configuration, its return to player, the part of it every symbol and win combination
+ * pays, and the derivative of the return to player with respect to every symbol value, win combination multiplier and cell weight, so
+ * that the parameter worth tuning is found without calculating or simulating the configuration once per parameter.
+ * <p>
+ * The reward of a board is {@code (bet * S + E) * M}, where {@code S} sums over the winning standard symbols the value of each times the
+ * multipliers of its win combinations, {@code E} sums the extras of the extra bonuses and {@code M} multiplies the values of the reward
+ * multipliers. The derivatives with respect to the values and multipliers are those of this expression on every board, weighted by the
+ * probability of the board; they hold the matched win combinations fixed, so they do not see a wild changing the symbol it pays as. The
+ * derivative with respect to the weight {@code w} of a symbol in a cell of total weight {@code T} is the expected reward times
+ * {@code 1 / w} if the cell holds the symbol, minus {@code 1 / T}: the derivative of the logarithm of the probability of the board.
+ * <p>
+ * The boards are every board the cell probabilities can produce, which makes every figure exact, or a number of simulated rounds, which
+ * makes them estimates. Either way they are walked by {@link CellBoards} in parallel and the partial sums are combined in order, so the
+ * figures do not depend on the number of threads. The configuration must spin its boards from cell probabilities and play neither
+ * cascades nor free spins.
+ */
+public class SensitivityAnalyzer {
+
+  private final CompiledConfiguration configuration;
+  private final WinCombinationMatcher winCombinationMatcher;
+  private final Scorer scorer;
+
+  /**
+   * Constructs a sensitivity analyzer.
+   *
+   * @param configuration         The compiled configuration of the game.
+   * @param winCombinationMatcher The matcher of the configuration's boards.
+   * @param scorer                The scorer of the configuration's rounds.
+   * @throws IllegalArgumentException if the configuration spins reel strips or plays cascades or free spins.
+   */
+  public SensitivityAnalyzer(CompiledConfiguration configuration, WinCombinationMatcher winCombinationMatcher, Scorer scorer) {
+    if (configuration.isReelMode() || configuration.isCascading() || configuration.hasFreeSpins()) {
+      throw new IllegalArgumentException("Sensitivities are computed over the cell probabilities of a single board, so they do not " +
+          "support reel strips, cascades or free spins.");
+    }
+    this.configuration = configuration;
+    this.winCombinationMatcher = winCombinationMatcher;
+    this.scorer = scorer;
+  }
+
+  /**
+   * Computes the exact figures over every board the configuration can produce.
+   *
+   * @param bet The betting amount; must be positive.
+   * @return The figures.
+   * @throws IllegalArgumentException if the bet is not positive.
+   * @throws IllegalStateException    if the configuration produces more than {@link RtpCalculator#MAX_OUTCOMES} boards.
+   */
+  public SensitivityReport analyze(int bet) {
+    validateBet(bet);
+    var sums = CellBoards.enumerate(configuration, () -> new Sums(bet));
+    return report(bet, null, null, null, sums);
+  }
+
+  /**
+   * Estimates the figures from a number of simulated rounds, round {@code n} spun as a played round with the seed and round index
+   * {@code n} is.
+   *
+   * @param bet        The betting amount; must be positive.
+   * @param seed       The master seed the boards are spun from.
+   * @param firstRound The round index of the first board.
+   * @param rounds     The number of rounds; must be positive.
+   * @return The estimates.
+   * @throws IllegalArgumentException if the bet or the number of rounds is not positive.
+   */
+  public SensitivityReport analyze(int bet, long seed, long firstRound, long rounds) {
+    validateBet(bet);
+    if (rounds <= 0) {
+      throw new IllegalArgumentException("Sensitivities are estimated over a positive number of rounds.");
+    }
+    var sums = CellBoards.simulate(configuration, seed, firstRound, rounds, () -> new Sums(bet));
+    return report(bet, seed, firstRound, rounds, sums);
+  }
+
+  private SensitivityReport report(int bet, Long seed, Long firstRound, Long rounds, List<Sums> parts) {
+    var total = new Sums(bet);
+    parts.forEach(total::add);
+    var weightElasticities = new double[configuration.getSymbolCount()];
+    var weights = new ArrayList<WeightSensitivity>();
+    for (int cell = 0; cell < configuration.getCellCount(); cell++) {
+      var sampler = configuration.samplerAt(cell);
+      for (int index = 0; index < sampler.size(); index++) {
+        var weight = sampler.weightAt(index);
+        if (weight == 0) continue;
+        var derivative = (total.cellRewards[cell][index] / weight - total.reward / sampler.getTotalWeight()) / bet;
+        var symbol = sampler.symbolAt(index);
+        weightElasticities[configuration.ordinalOf(symbol)] += weight * derivative;
+        weights.add(new WeightSensitivity(cell / configuration.getColumns(), cell % configuration.getColumns(), symbol.getName(), weight,
+            derivative));
+      }
+    }
+    var symbols = new ArrayList<SymbolSensitivity>();
+    for (int ordinal = 0; ordinal < configuration.getSymbolCount(); ordinal++) {
+      symbols.add(new SymbolSensitivity(configuration.symbolAt(ordinal).getName(), total.symbolRewards[ordinal] / bet,
+          total.valueDerivatives[ordinal] / bet, weightElasticities[ordinal]));
+    }
+    var winCombinations = new ArrayList<WinCombinationSensitivity>();
+    for (int id = 0; id < configuration.getWinCombinationCount(); id++) {
+      winCombinations.add(new WinCombinationSensitivity(configuration.winCombinationAt(id).getName(), total.combinationRewards[id] / bet,
+          total.multiplierDerivatives[id] / bet));
+    }
+    return new SensitivityReport(bet, seed, firstRound, rounds, total.reward / bet, List.copyOf(symbols), List.copyOf(winCombinations),
+        List.copyOf(weights));
+  }
+
+  /**
+   * Multiplies the reward multipliers of a symbol's win combinations, leaving out the excluded one if it is not {@code null}.
+   */
+  private static double product(Iterable<WinCombination> winCombinations, WinCombination excluded) {
+    var product = 1d;
+    for (var winCombination : winCombinations) {
+      if (winCombination != excluded) product *= winCombination.getRewardMultiplier();
+    }
+    return product;
+  }
+
+  private static void addTo(double[] sums, double[] others) {
+    for (int i = 0; i < sums.length; i++) {
+      sums[i] += others[i];
+    }
+  }
+
+  private static void validateBet(int bet) {
+    if (bet <= 0) {
+      throw new IllegalArgumentException("Sensitivities are computed for a positive betting amount.");
+    }
+  }
+
+  /**
+   * The probability-weighted sums of the rewards and their derivatives over a part of the boards.
+   */
+  private final class Sums implements CellBoards.Visitor {
+
+    private final int bet;
+    private double reward;
+    private final double[] symbolRewards;
+    private final double[] valueDerivatives;
+    private final double[] combinationRewards;
+    private final double[] multiplierDerivatives;
+    // cellRewards[cell][index] sums the rewards of the boards whose cell holds the symbol at the index of the cell's sampler
+    private final double[][] cellRewards;
+
+    private Sums(int bet) {
+      this.bet = bet;
+      this.symbolRewards = new double[configuration.getSymbolCount()];
+      this.valueDerivatives = new double[configuration.getSymbolCount()];
+      this.combinationRewards = new double[configuration.getWinCombinationCount()];
+      this.multiplierDerivatives = new double[configuration.getWinCombinationCount()];
+      this.cellRewards = new double[configuration.getCellCount()][];
+      for (int cell = 0; cell < cellRewards.length; cell++) {
+        cellRewards[cell] = new double[configuration.samplerAt(cell).size()];
+      }
+    }
+
+    @Override
+    public void visit(Symbol[] board, short[] indices, double probability) {
+      var matchResult = winCombinationMatcher.match(new Game(configuration, board, bet));
+      if (matchResult.isLoss()) return;
+      var standardSum = 0d;
+      for (var entry : matchResult.matchedWinCombinations().entrySet()) {
+        if (entry.getKey().isStandard() && !entry.getValue().isEmpty()) {
+          standardSum += entry.getKey().apply(product(entry.getValue(), null));
+        }
+      }
+      if (standardSum == 0d) return;
+      var extra = 0d;
+      var multiplier = 1d;
+      for (var symbol : matchResult.matchedBonusSymbols()) {
+        var impact = ((BonusSymbol) symbol).getImpact();
+        if (impact == Impact.EXTRA_BONUS) extra = symbol.apply(extra);
+        if (impact == Impact.MULTIPLY_REWARD) multiplier = symbol.apply(multiplier);
+      }
+      var weightedReward = probability * scorer.score(bet, matchResult);
+      reward += weightedReward;
+      for (int cell = 0; cell < indices.length; cell++) {
+        cellRewards[cell][indices[cell]] += weightedReward;
+      }
+      for (var entry : matchResult.matchedWinCombinations().entrySet()) {
+        var symbol = entry.getKey();
+        if (!symbol.isStandard() || entry.getValue().isEmpty()) continue;
+        var multipliers = product(entry.getValue(), null);
+        var share = weightedReward * symbol.apply(multipliers) / standardSum;
+        symbolRewards[configuration.ordinalOf(symbol)] += share;
+        valueDerivatives[configuration.ordinalOf(symbol)] += probability * bet * multipliers * multiplier;
+        for (var winCombination : entry.getValue()) {
+          var id = configuration.findWinCombinationId(winCombination.getName()).orElseThrow();
+          combinationRewards[id] += share;
+          multiplierDerivatives[id] += probability * bet * symbol.apply(product(entry.getValue(), winCombination)) * multiplier;
+        }
+      }
+      var base = bet * standardSum + extra;
+      for (var symbol : matchResult.matchedBonusSymbols()) {
+        var impact = ((BonusSymbol) symbol).getImpact();
+        if (impact == Impact.EXTRA_BONUS) {
+          valueDerivatives[configuration.ordinalOf(symbol)] += probability * multiplier;
+        }
+        if (impact == Impact.MULTIPLY_REWARD) {
+          var others = 1d;
+          for (var other : matchResult.matchedBonusSymbols()) {
+            if (other != symbol && ((BonusSymbol) other).getImpact() == Impact.MULTIPLY_REWARD) others = other.apply(others);
+          }
+          valueDerivatives[configuration.ordinalOf(symbol)] += probability * base * others;
+        }
+      }
+    }
+
+    private void add(Sums other) {
+      reward += other.reward;
+      addTo(symbolRewards, other.symbolRewards);
+      addTo(valueDerivatives, other.valueDerivatives);
+      addTo(combinationRewards, other.combinationRewards);
+      addTo(multiplierDerivatives, other.multiplierDerivatives);
+      for (int cell = 0; cell < cellRewards.length; cell++) {
+        addTo(cellRewards[cell], other.cellRewards[cell]);
+      }
+    }
+  }
+}
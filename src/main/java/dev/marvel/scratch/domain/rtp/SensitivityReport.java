@@ -0,0 +1,28 @@
+package dev.marvel.scratch.domain.rtp;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * The return to player of a configuration, the part of it every symbol and win combination pays, and its derivatives with respect to the
+ * values, multipliers and weights of the configuration, as computed by a {@link SensitivityAnalyzer}.
+ *
+ * @param bet             The betting amount the figures are evaluated for.
+ * @param seed            The master seed the boards were spun from, or {@code null} if every board was enumerated.
+ * @param firstRound      The round index of the first board, or {@code null} if every board was enumerated.
+ * @param rounds          The number of simulated rounds, or {@code null} if every board was enumerated.
+ * @param returnToPlayer  The expected reward divided by the bet.
+ * @param symbols         The sensitivity of every symbol, in name order.
+ * @param winCombinations The sensitivity of every win combination, in name order.
+ * @param weights         The sensitivity of every positive weight of every cell, in cell order and then in the order of the cell's
+ *                        sampler.
+ */
+public record SensitivityReport(@JsonProperty("bet") int bet,
+                                @JsonProperty("seed") Long seed,
+                                @JsonProperty("first_round") Long firstRound,
+                                @JsonProperty("rounds") Long rounds,
+                                @JsonProperty("rtp") double returnToPlayer,
+                                @JsonProperty("symbols") List<SymbolSensitivity> symbols,
+                                @JsonProperty("win_combinations") List<WinCombinationSensitivity> winCombinations,
+                                @JsonProperty("weights") List<WeightSensitivity> weights) {}
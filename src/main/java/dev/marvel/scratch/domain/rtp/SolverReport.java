@@ -0,0 +1,46 @@
+package dev.marvel.scratch.domain.rtp;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.marvel.scratch.domain.probability.model.WeightScaling;
+
+/**
+ * The cell weights a {@link ProbabilitySolver} tuned a configuration to, and the figures of the configuration before and after.
+ *
+ * @param bet           The betting amount the figures are evaluated for.
+ * @param seed          The master seed the evaluated boards were spun from, or {@code null} if every board was enumerated.
+ * @param firstRound    The round index of the first evaluated board, or {@code null} if every board was enumerated.
+ * @param rounds        The number of simulated rounds, or {@code null} if every board was enumerated.
+ * @param winningBoards The number of winning boards the candidate weights were evaluated on.
+ * @param target        The figures tuned towards.
+ * @param initial       The figures of the configured weights.
+ * @param tuned         The figures of the tuned weights.
+ * @param converged     Whether the tuned figures meet the target: the return to player within {@link ProbabilitySolver#RTP_TOLERANCE}
+ *                      and the hit frequency and volatility within their bands.
+ * @param iterations    The number of search iterations.
+ * @param evaluations   The number of candidate weights evaluated.
+ * @param weights       The rescaling of the configured weights into the tuned ones.
+ */
+public record SolverReport(@JsonProperty("bet") int bet,
+                           @JsonProperty("seed") Long seed,
+                           @JsonProperty("first_round") Long firstRound,
+                           @JsonProperty("rounds") Long rounds,
+                           @JsonProperty("winning_boards") int winningBoards,
+                           @JsonProperty("target") SolverTarget target,
+                           @JsonProperty("initial") Figures initial,
+                           @JsonProperty("tuned") Figures tuned,
+                           @JsonProperty("converged") boolean converged,
+                           @JsonProperty("iterations") int iterations,
+                           @JsonProperty("evaluations") long evaluations,
+                           @JsonProperty("weights") WeightScaling weights) {
+
+  /**
+   * The return-to-player figures of a configuration under some cell weights, exact or estimated from simulated rounds.
+   *
+   * @param returnToPlayer    The expected reward divided by the bet.
+   * @param hitFrequency      The probability that a board pays a positive reward.
+   * @param standardDeviation The standard deviation of the reward divided by the bet.
+   */
+  public record Figures(@JsonProperty("rtp") double returnToPlayer,
+                        @JsonProperty("hit_frequency") double hitFrequency,
+                        @JsonProperty("standard_deviation") double standardDeviation) {}
+}
@@ -0,0 +1,49 @@
+package dev.marvel.scratch.domain.rtp;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The figures a {@link ProbabilitySolver} tunes the cell probabilities of a configuration towards: a return to player, and optionally
+ * bands the hit frequency and the volatility should fall in. A band may be open on either side.
+ *
+ * @param returnToPlayer        The expected reward divided by the bet to reach; must be positive.
+ * @param minHitFrequency       The lowest acceptable probability that a board pays a positive reward, or {@code null}.
+ * @param maxHitFrequency       The highest acceptable probability that a board pays a positive reward, or {@code null}.
+ * @param minStandardDeviation  The lowest acceptable standard deviation of the reward divided by the bet, or {@code null}.
+ * @param maxStandardDeviation  The highest acceptable standard deviation of the reward divided by the bet, or {@code null}.
+ */
+public record SolverTarget(@JsonProperty("rtp") double returnToPlayer,
+                           @JsonProperty("min_hit_frequency") Double minHitFrequency,
+                           @JsonProperty("max_hit_frequency") Double maxHitFrequency,
+                           @JsonProperty("min_standard_deviation") Double minStandardDeviation,
+                           @JsonProperty("max_standard_deviation") Double maxStandardDeviation) {
+
+  /**
+   * Validates the target.
+   *
+   * @throws IllegalArgumentException if the return to player is not positive, a bound is negative, or a band is empty.
+   */
+  public SolverTarget {
+    if (!(returnToPlayer > 0)) {
+      throw new IllegalArgumentException("The target RTP should be positive.");
+    }
+    validateBand(minHitFrequency, maxHitFrequency, "hit frequency");
+    validateBand(minStandardDeviation, maxStandardDeviation, "volatility");
+  }
+
+  /**
+   * Creates a target with a return to player alone.
+   *
+   * @param returnToPlayer The expected reward divided by the bet to reach; must be positive.
+   * @return The target.
+   */
+  public static SolverTarget of(double returnToPlayer) {
+    return new SolverTarget(returnToPlayer, null, null, null, null);
+  }
+
+  private static void validateBand(Double min, Double max, String figure) {
+    if ((min != null && !(min >= 0)) || (max != null && !(max >= 0)) || (min != null && max != null && min > max)) {
+      throw new IllegalArgumentException("The " + figure + " band should have non-negative bounds, the lower one first.");
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package dev.marvel.scratch.domain.rtp;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The sensitivity of the return to player to one symbol, as part of a {@link SensitivityReport}.
+ *
+ * @param name             The name of the symbol.
+ * @param returnToPlayer   The expected reward of the awards of the symbol, divided by the bet: the part of the return to player the
+ *                         symbol pays. The parts of the standard symbols add up to the return to player; bonus symbols pay no part of
+ *                         their own, as they scale the awards of the standard symbols.
+ * @param valueDerivative  The derivative of the return to player with respect to the value of the symbol: the reward multiplier of a
+ *                         standard or {@code multiply_reward} symbol, or the extra of an {@code extra_bonus} symbol. Zero for symbols
+ *                         without a value.
+ * @param weightElasticity The derivative of the return to player with respect to the logarithm of a scale the weight of the symbol in
+ *                         every cell is multiplied by, as the {@code solve} command scales them.
+ */
+public record SymbolSensitivity(@JsonProperty("name") String name,
+                                @JsonProperty("rtp_contribution") double returnToPlayer,
+                                @JsonProperty("value_derivative") double valueDerivative,
+                                @JsonProperty("weight_elasticity") double weightElasticity) {}
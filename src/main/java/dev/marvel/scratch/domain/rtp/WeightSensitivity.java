@@ -0,0 +1,19 @@
+package dev.marvel.scratch.domain.rtp;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The sensitivity of the return to player to the weight of one symbol in one cell, as part of a {@link SensitivityReport}.
+ *
+ * @param row        The row of the cell.
+ * @param column     The column of the cell.
+ * @param symbol     The name of the symbol.
+ * @param weight     The configured weight of the symbol in the cell.
+ * @param derivative The derivative of the return to player with respect to the weight, the other weights of the cell staying as they
+ *                   are.
+ */
+public record WeightSensitivity(@JsonProperty("row") int row,
+                                @JsonProperty("column") int column,
+                                @JsonProperty("symbol") String symbol,
+                                @JsonProperty("weight") int weight,
+                                @JsonProperty("derivative") double derivative) {}
@@ -0,0 +1,24 @@
+package dev.marvel.scratch.domain.rtp;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The estimated contribution of one win combination to the return to player, as part of a {@link ContributionReport}.
+ *
+ * @param name             The name of the win combination.
+ * @param returnToPlayer   The expected reward of the symbols the win combination is applied to, divided by the bet: the part of the
+ *                         return to player paid by awards the combination takes part in.
+ * @param standardError    The standard error of the contribution.
+ * @param confidenceLow    The lower bound of the 95% confidence interval of the contribution.
+ * @param confidenceHigh   The upper bound of the 95% confidence interval of the contribution.
+ * @param hitFrequency     The estimated probability that the win combination is applied on a board.
+ * @param sampledHits      The number of simulated boards the win combination was applied on, which tells how well the rounds covered
+ *                         it.
+ */
+public record WinCombinationContribution(@JsonProperty("name") String name,
+                                         @JsonProperty("rtp_contribution") double returnToPlayer,
+                                         @JsonProperty("standard_error") double standardError,
+                                         @JsonProperty("confidence_low") double confidenceLow,
+                                         @JsonProperty("confidence_high") double confidenceHigh,
+                                         @JsonProperty("hit_frequency") double hitFrequency,
+                                         @JsonProperty("sampled_hits") long sampledHits) {}
@@ -0,0 +1,15 @@
+package dev.marvel.scratch.domain.rtp;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The sensitivity of the return to player to one win combination, as part of a {@link SensitivityReport}.
+ *
+ * @param name                 The name of the win combination.
+ * @param returnToPlayer       The expected reward of the symbols the win combination is applied to, divided by the bet, as in a
+ *                             {@link WinCombinationContribution}.
+ * @param multiplierDerivative The derivative of the return to player with respect to the reward multiplier of the win combination.
+ */
+public record WinCombinationSensitivity(@JsonProperty("name") String name,
+                                        @JsonProperty("rtp_contribution") double returnToPlayer,
+                                        @JsonProperty("multiplier_derivative") double multiplierDerivative) {}
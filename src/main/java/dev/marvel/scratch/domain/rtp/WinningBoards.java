@@ -0,0 +1,190 @@
+package dev.marvel.scratch.domain.rtp;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.scorer.Scorer;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.WinCombinationMatcher;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The winning boards of a configuration spun from cell probabilities, kept as the index of the symbol every cell holds in its sampler,
+ * together with their reward. A board paying nothing adds nothing to the return to player, the hit frequency or the second moment of
+ * the reward, so once the boards are matched and scored, the figures of the configuration under any other cell weights are evaluated
+ * from the winning boards alone, without matching or scoring a board again.
+ * <p>
+ * The boards are either every board the cell probabilities can produce, whose probability under other weights is the product of the
+ * probabilities of their symbols, or the winning ones among a number of simulated rounds, each weighted by its likelihood ratio: the
+ * product over its cells of the probability of its symbol under the other weights divided by the configured one. The estimates stay
+ * unbiased as long as the other weights keep zero exactly the weights that are zero in the configuration, but their variance grows as
+ * the weights move away from the configured ones.
+ * <p>
+ * The boards are walked by {@link CellBoards} in parallel, and the partial tables are concatenated in order, so the table does not depend
+ * on the number of threads.
+ */
+final class WinningBoards {
+
+  /**
+   * The largest number of winning boards a table keeps.
+   */
+  static final int MAX_BOARDS = 1 << 22;
+
+  private final CompiledConfiguration configuration;
+  private final int bet;
+  // the number of simulated rounds, or 0 if every board was enumerated
+  private final long rounds;
+  private final int size;
+  private final short[] indices;
+  private final double[] rewards;
+
+  private WinningBoards(CompiledConfiguration configuration, int bet, long rounds, List<Chunk> chunks) {
+    this.configuration = configuration;
+    this.bet = bet;
+    this.rounds = rounds;
+    var cellCount = configuration.getCellCount();
+    this.size = chunks.stream().mapToInt(chunk -> chunk.size).sum();
+    this.indices = new short[size * cellCount];
+    this.rewards = new double[size];
+    var offset = 0;
+    for (var chunk : chunks) {
+      System.arraycopy(chunk.indices, 0, indices, offset * cellCount, chunk.size * cellCount);
+      System.arraycopy(chunk.rewards, 0, rewards, offset, chunk.size);
+      offset += chunk.size;
+    }
+  }
+
+  /**
+   * Enumerates every board the cell probabilities of a configuration can produce and keeps the winning ones.
+   *
+   * @throws IllegalStateException if the configuration produces more than {@link RtpCalculator#MAX_OUTCOMES} boards, or more than
+   *                               {@link #MAX_BOARDS} of them win.
+   */
+  static WinningBoards enumerate(CompiledConfiguration configuration, WinCombinationMatcher matcher, Scorer scorer, int bet) {
+    var chunks = CellBoards.enumerate(configuration, () -> new Chunk(configuration, matcher, scorer, bet));
+    return new WinningBoards(configuration, bet, 0, checkSize(chunks));
+  }
+
+  /**
+   * Simulates rounds of a configuration, as {@link CellBoards#simulate} does, and keeps the winning boards.
+   *
+   * @throws IllegalStateException if more than {@link #MAX_BOARDS} of the boards win.
+   */
+  static WinningBoards simulate(CompiledConfiguration configuration, WinCombinationMatcher matcher, Scorer scorer, int bet, long seed,
+                                long firstRound, long rounds) {
+    var chunks = CellBoards.simulate(configuration, seed, firstRound, rounds, () -> new Chunk(configuration, matcher, scorer, bet));
+    return new WinningBoards(configuration, bet, rounds, checkSize(chunks));
+  }
+
+  /**
+   * Evaluates the figures of the configuration under other cell weights.
+   *
+   * @param weights The weight of every symbol of every cell, indexed by cell and by the index of the symbol in the cell's sampler.
+   * @return The figures.
+   */
+  SolverReport.Figures evaluate(long[][] weights) {
+    var cellCount = configuration.getCellCount();
+    var factors = factors(weights);
+    var reward = 0d;
+    var squaredReward = 0d;
+    var hitProbability = 0d;
+    for (int board = 0; board < size; board++) {
+      var probability = 1d;
+      var offset = board * cellCount;
+      for (int cell = 0; cell < cellCount; cell++) {
+        probability *= factors[cell][indices[offset + cell]];
+      }
+      reward += probability * rewards[board];
+      squaredReward += probability * rewards[board] * rewards[board];
+      hitProbability += probability;
+    }
+    if (rounds > 0) {
+      reward /= rounds;
+      squaredReward /= rounds;
+      hitProbability /= rounds;
+    }
+    return new SolverReport.Figures(reward / bet, hitProbability, Math.sqrt(Math.max(0d, squaredReward - reward * reward)) / bet);
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isExact() {
+    return rounds == 0;
+  }
+
+  /**
+   * Computes the factor every symbol of every cell contributes to the probability of a board: the probability of the symbol under the
+   * weights for enumerated boards, and its likelihood ratio for simulated ones.
+   */
+  private double[][] factors(long[][] weights) {
+    var factors = new double[weights.length][];
+    for (int cell = 0; cell < weights.length; cell++) {
+      var sampler = configuration.samplerAt(cell);
+      var total = Arrays.stream(weights[cell]).sum();
+      factors[cell] = new double[weights[cell].length];
+      for (int index = 0; index < weights[cell].length; index++) {
+        var probability = (double) weights[cell][index] / total;
+        factors[cell][index] = isExact()
+            ? probability
+            : sampler.weightAt(index) == 0 ? 0d : probability * sampler.getTotalWeight() / sampler.weightAt(index);
+      }
+    }
+    return factors;
+  }
+
+  private static List<Chunk> checkSize(List<Chunk> chunks) {
+    if (chunks.stream().mapToLong(chunk -> chunk.size).sum() > MAX_BOARDS) {
+      throw new IllegalStateException("More than " + MAX_BOARDS + " of the boards win, which is too many to keep.");
+    }
+    return chunks;
+  }
+
+  /**
+   * The winning boards found by a single worker, in a growing table.
+   */
+  private static final class Chunk implements CellBoards.Visitor {
+
+    private final CompiledConfiguration configuration;
+    private final WinCombinationMatcher matcher;
+    private final Scorer scorer;
+    private final int bet;
+    private final int cellCount;
+    private short[] indices;
+    private double[] rewards;
+    private int size;
+
+    private Chunk(CompiledConfiguration configuration, WinCombinationMatcher matcher, Scorer scorer, int bet) {
+      this.configuration = configuration;
+      this.matcher = matcher;
+      this.scorer = scorer;
+      this.bet = bet;
+      this.cellCount = configuration.getCellCount();
+      this.indices = new short[16 * cellCount];
+      this.rewards = new double[16];
+    }
+
+    @Override
+    public void visit(Symbol[] board, short[] index, double probability) {
+      var reward = scorer.score(bet, matcher.match(new Game(configuration, board, bet)));
+      if (reward > 0) {
+        add(index, reward);
+      }
+    }
+
+    private void add(short[] index, double reward) {
+      if (size == MAX_BOARDS) {
+        throw new IllegalStateException("More than " + MAX_BOARDS + " of the boards win, which is too many to keep.");
+      }
+      if (size == rewards.length) {
+        var capacity = Math.min(MAX_BOARDS, size * 2);
+        rewards = Arrays.copyOf(rewards, capacity);
+        indices = Arrays.copyOf(indices, capacity * cellCount);
+      }
+      System.arraycopy(index, 0, indices, size * cellCount, cellCount);
+      rewards[size++] = reward;
+    }
+  }
+}
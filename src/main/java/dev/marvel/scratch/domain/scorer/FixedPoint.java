@@ -0,0 +1,56 @@
+package dev.marvel.scratch.domain.scorer;
+
+/**
+ * Fixed-point arithmetic on amounts held as a {@code long} number of micro-units, millionths of a unit. Multiplying two amounts rounds
+ * the product half up (towards positive infinity) to the nearest micro-unit; every operation that would leave the {@code long} range
+ * throws an {@link ArithmeticException} instead of wrapping around.
+ *
+ * @see FixedPointScorer for the scorer computing rewards this way.
+ */
+public final class FixedPoint {
+
+  /**
+   * The number of micro-units in a unit.
+   */
+  public static final long SCALE = 1_000_000L;
+
+  private static final long HALF = SCALE / 2;
+
+  private FixedPoint() {
+  }
+
+  /**
+   * Converts an amount to micro-units, rounding half up.
+   *
+   * @param value The amount.
+   * @return The amount in micro-units.
+   * @throws ArithmeticException if the amount is not finite or too large to be held in micro-units.
+   */
+  public static long toMicros(double value) {
+    var scaled = Math.floor(value * SCALE + 0.5d);
+    if (!Double.isFinite(scaled) || scaled >= 0x1p63 || scaled < -0x1p63) {
+      throw new ArithmeticException("The amount " + value + " cannot be held in micro-units.");
+    }
+    return (long) scaled;
+  }
+
+  public static double toDouble(long micros) {
+    return (double) micros / SCALE;
+  }
+
+  /**
+   * Multiplies two amounts in micro-units, rounding the product half up to a micro-unit. The first factor is split into whole units and
+   * a remainder, so the product never needs more than 64 bits unless the result itself, or the remainder times the second factor, does.
+   *
+   * @param micros       The first factor in micro-units.
+   * @param factorMicros The second factor in micro-units.
+   * @return The product in micro-units.
+   * @throws ArithmeticException if the product overflows.
+   */
+  public static long multiply(long micros, long factorMicros) {
+    var units = Math.floorDiv(micros, SCALE);
+    var remainder = Math.floorMod(micros, SCALE);
+    var fraction = Math.floorDiv(Math.addExact(Math.multiplyExact(remainder, factorMicros), HALF), SCALE);
+    return Math.addExact(Math.multiplyExact(units, factorMicros), fraction);
+  }
+}
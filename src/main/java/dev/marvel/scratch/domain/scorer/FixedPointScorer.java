@@ -0,0 +1,120 @@
+package dev.marvel.scratch.domain.scorer;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.domain.symbol.model.BonusSymbol;
+import dev.marvel.scratch.domain.symbol.model.Impact;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.MatchResult;
+
+import java.util.List;
+
+/**
+ * A {@link Scorer} computing rewards in {@code long} micro-units (see {@link FixedPoint}) instead of {@code double}, following the same
+ * scoring rules. The values of symbols and win combinations are read from the micro-unit tables of a {@link CompiledConfiguration},
+ * which scales them once when the configuration is compiled, and the multiplications of a score are performed in a fixed order: the
+ * win combinations of a symbol in id order and the reward multipliers in symbol name order. Rewards are therefore exact, reproducible
+ * multiples of a micro-unit that do not depend on the iteration order of the match result, and sums of them accumulate no rounding
+ * drift.
+ * <p>
+ * Each multiplication rounds half up to a micro-unit, an absolute error of at most half a micro-unit that the factors applied after it
+ * scale along. As long as every intermediate product is at least one unit, as it is when no multiplier is below {@code 1}, a reward
+ * agrees with the one of {@link Scorer} to a relative tolerance of {@code k * 5e-7}, where {@code k} is the number of multiplications of
+ * the score, free spin multipliers included; both agree exactly whenever every product of configured values has at most six
+ * decimals, as it does for paytables of whole and half multipliers. Configured values with more than six decimals are rounded to
+ * micro-units when the configuration is compiled.
+ * A reward too large for a {@code long} number of micro-units (about 9.2 trillion units) throws an {@link ArithmeticException}.
+ * <p>
+ * A scorer belongs to the configuration it was constructed for and only scores match results of that configuration.
+ */
+public class FixedPointScorer extends Scorer {
+
+  private static final long[] NO_PAYOUT = {0L, 0L};
+
+  private final CompiledConfiguration configuration;
+
+  public FixedPointScorer(CompiledConfiguration configuration) {
+    this.configuration = configuration;
+  }
+
+  @Override
+  public double score(int bet, MatchResult matchResult) {
+    return FixedPoint.toDouble(scoreMicros(bet, matchResult));
+  }
+
+  @Override
+  public Payout payout(MatchResult matchResult) {
+    var payout = payoutMicros(matchResult);
+    return new Payout(FixedPoint.toDouble(payout[0]), FixedPoint.toDouble(payout[1]));
+  }
+
+  /**
+   * Scores a free spin in micro-units, multiplying its reward by the micro-unit value of every free spins symbol that awarded it, in
+   * symbol name order.
+   *
+   * @throws ArithmeticException if the reward overflows.
+   */
+  @Override
+  public double scoreFreeSpin(int bet, MatchResult matchResult, List<Symbol> triggers) {
+    var micros = scoreMicros(bet, matchResult);
+    var ordinals = triggers.stream()
+        .mapToInt(configuration::ordinalOf)
+        .sorted()
+        .toArray();
+    for (var ordinal : ordinals) {
+      micros = FixedPoint.multiply(micros, configuration.symbolMicrosAt(ordinal));
+    }
+    return FixedPoint.toDouble(micros);
+  }
+
+  /**
+   * Scores a single game's outcome in micro-units.
+   *
+   * @param bet         The betting amount.
+   * @param matchResult The outcome of a single game.
+   * @return The reward in micro-units.
+   * @throws ArithmeticException if the reward overflows.
+   */
+  public long scoreMicros(int bet, MatchResult matchResult) {
+    var payout = payoutMicros(matchResult);
+    return Math.addExact(Math.multiplyExact(bet, payout[0]), payout[1]);
+  }
+
+  private long[] payoutMicros(MatchResult matchResult) {
+    if (matchResult.isLoss()) return NO_PAYOUT;
+    var perBet = 0L;
+    for (var entry : matchResult.matchedWinCombinations().entrySet()) {
+      if (!entry.getKey().isStandard() || entry.getValue().isEmpty()) continue;
+      var ids = entry.getValue().stream()
+          .mapToInt(winCombination -> configuration.findWinCombinationId(winCombination.getName()).orElseThrow())
+          .sorted()
+          .toArray();
+      var symbolMicros = configuration.symbolMicrosAt(configuration.ordinalOf(entry.getKey()));
+      var multiplier = FixedPoint.SCALE;
+      for (var id : ids) {
+        multiplier = FixedPoint.multiply(multiplier, configuration.winCombinationMicrosAt(id));
+      }
+      perBet = Math.addExact(perBet, FixedPoint.multiply(symbolMicros, multiplier));
+    }
+    if (perBet == 0L) return NO_PAYOUT;
+
+    var ordinals = matchResult.matchedBonusSymbols().stream()
+        .mapToInt(configuration::ordinalOf)
+        .sorted()
+        .toArray();
+    var fixed = 0L;
+    for (var ordinal : ordinals) {
+      if (impactAt(ordinal) == Impact.EXTRA_BONUS) fixed = Math.addExact(fixed, configuration.symbolMicrosAt(ordinal));
+    }
+    for (var ordinal : ordinals) {
+      if (impactAt(ordinal) == Impact.MULTIPLY_REWARD) {
+        perBet = FixedPoint.multiply(perBet, configuration.symbolMicrosAt(ordinal));
+        fixed = FixedPoint.multiply(fixed, configuration.symbolMicrosAt(ordinal));
+      }
+    }
+    return new long[] {perBet, fixed};
+  }
+
+  private Impact impactAt(int ordinal) {
+    return ((BonusSymbol) configuration.symbolAt(ordinal)).getImpact();
+  }
+}
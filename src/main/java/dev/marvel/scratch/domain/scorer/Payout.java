@@ -0,0 +1,29 @@
+package dev.marvel.scratch.domain.scorer;
+
+/**
+ * The payout of a board as a linear function of the betting amount, {@code reward = bet * perBet + fixed}. It is what remains of a
+ * {@link dev.marvel.scratch.domain.wincombination.MatchResult} once the bet is factored out, so a board is scored once and then priced
+ * for any number of stakes, such as the bets of all players sharing the board, in constant time each.
+ *
+ * @param perBet The reward per unit of bet: the summed multipliers of the standard symbols' wins, scaled by the multiplying bonus
+ *               symbols.
+ * @param fixed  The reward independent of the bet: the extra bonuses, scaled by the multiplying bonus symbols.
+ */
+public record Payout(double perBet, double fixed) {
+
+  private static final Payout ZERO = new Payout(0d, 0d);
+
+  public static Payout zero() {
+    return ZERO;
+  }
+
+  /**
+   * Prices the board for a betting amount.
+   *
+   * @param bet The betting amount.
+   * @return The reward for the betting amount.
+   */
+  public double at(int bet) {
+    return bet * perBet + fixed;
+  }
+}
@@ -1,10 +1,15 @@
 package dev.marvel.scratch.domain.scorer;
 
 import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.symbol.model.BonusSymbol;
+import dev.marvel.scratch.domain.symbol.model.Impact;
 import dev.marvel.scratch.domain.symbol.model.Symbol;
 import dev.marvel.scratch.domain.wincombination.MatchResult;
 import dev.marvel.scratch.domain.wincombination.model.WinCombination;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -12,6 +17,9 @@ import java.util.Set;
  * Provides functionality for calculating the total score in a game based on the matched winning combinations associated with each symbol.
  * It considers the collective impact of all winning combinations matched to a symbol, applying their reward multipliers to the symbol's
  * base value to determine the symbol's total contribution to the score.
+ * <p>
+ * A score is linear in the bet, so a match result can also be reduced to its {@link Payout}, {@code reward = bet * perBet + fixed}, and
+ * priced for many betting amounts without being scored again.
  */
 public class Scorer {
 
@@ -26,17 +34,80 @@ public class Scorer {
    *   WIN_COMBINATION_1_FOR_SYMBOL_1 * WIN_COMBINATION_2_FOR_SYMBOL_1)</li>
    *   <li>If more than one symbols matches any winning combinations then reward should be summed. formula: (SYMBOL_1 *
    *   WIN_COMBINATION_1_FOR_SYMBOL_1 * WIN_COMBINATION_2_FOR_SYMBOL_1) + (SYMBOL_2 * WIN_COMBINATION_1_FOR_SYMBOL_2)</li>
+   *   <li>Bonus symbols are only applied if the standard symbols win: first every extra bonus is added, then the sum is multiplied by
+   *   every reward multiplier. formula: (BET * STANDARD_SYMBOLS + EXTRA_1 + EXTRA_2) * MULTIPLIER_1 * MULTIPLIER_2</li>
    * </ul>
    *
    * @param matchResult the outcome of a single game
    * @return game score
+   * @see #payout(MatchResult)
    */
   public double score(int bet, MatchResult matchResult) {
+    return payout(matchResult).at(bet);
+  }
+
+  /**
+   * Scores a free spin: its outcome is scored as by {@link #score(int, MatchResult)}, and the reward is then multiplied by the
+   * {@code reward_multiplier} of every free spins symbol that awarded the spin, in the given order.
+   *
+   * @param bet         The betting amount of the round that awarded the spin.
+   * @param matchResult The outcome of the free spin.
+   * @param triggers    The free spins symbols that awarded the spin.
+   * @return The reward of the free spin.
+   */
+  public double scoreFreeSpin(int bet, MatchResult matchResult, List<Symbol> triggers) {
+    var score = score(bet, matchResult);
+    for (var trigger : triggers) {
+      score = trigger.apply(score);
+    }
+    return score;
+  }
+
+  /**
+   * Reduces a single game's outcome to its payout as a linear function of the bet, following the scoring rules of
+   * {@link #score(int, MatchResult)}: the standard symbols make up the part per unit of bet and the extra bonuses the fixed part, and the
+   * reward multipliers scale both parts.
+   * <p>
+   * The bonus symbols are applied in a fixed order, regardless of the iteration order of the match result's set: additions before
+   * multiplications, each in the name order of the symbols. The payout is therefore a function of the matched symbols alone.
+   *
+   * @param matchResult the outcome of a single game
+   * @return the payout of the game
+   */
+  public Payout payout(MatchResult matchResult) {
+    if (matchResult.isLoss()) return Payout.zero();
     double standardSymbolsMultiplier = matchResult.matchedWinCombinations().entrySet().stream()
         .filter(entry -> entry.getKey().isStandard())
         .map(this::scoreStandardSymbol)
         .reduce(0d, Double::sum);
-    return standardSymbolsMultiplier == 0d ? 0d : applyBonusSymbols(bet * standardSymbolsMultiplier, matchResult.matchedBonusSymbols());
+    if (standardSymbolsMultiplier == 0d) return Payout.zero();
+    return applyBonusSymbols(standardSymbolsMultiplier, matchResult.matchedBonusSymbols());
+  }
+
+  /**
+   * Splits the reward of a single game's outcome between the standard symbols that won it. Each symbol earns the share its own reward,
+   * its value times the multipliers of its win combinations, makes up of the sum over all winning symbols; the extra bonuses and reward
+   * multipliers apply to the sum as a whole, so they are spread in the same proportions.
+   *
+   * @param matchResult the outcome of a single game
+   * @return the share of the reward of every standard symbol with a positive reward; the shares add up to {@code 1}, and the map is
+   * empty for a game that wins nothing
+   */
+  public Map<Symbol, Double> rewardShares(MatchResult matchResult) {
+    if (matchResult.isLoss()) return Map.of();
+    var shares = new HashMap<Symbol, Double>();
+    var sum = 0d;
+    for (var entry : matchResult.matchedWinCombinations().entrySet()) {
+      if (!entry.getKey().isStandard()) continue;
+      var reward = scoreStandardSymbol(entry);
+      if (reward > 0d) {
+        shares.put(entry.getKey(), reward);
+        sum += reward;
+      }
+    }
+    var total = sum;
+    shares.replaceAll((symbol, reward) -> reward / total);
+    return shares;
   }
 
   private double scoreStandardSymbol(Map.Entry<Symbol, Set<WinCombination>> symbolWinCombinations) {
@@ -50,9 +121,22 @@ public class Scorer {
     return symbol.apply(totalMultiplier);
   }
 
-  private double applyBonusSymbols(double baseScore, Set<Symbol> matchedBonusSymbols) {
-    return matchedBonusSymbols.stream()
-        .reduce(baseScore, (currentScore, symbol) -> symbol.apply(currentScore), Double::sum);
-
+  private Payout applyBonusSymbols(double perBet, Set<Symbol> matchedBonusSymbols) {
+    if (matchedBonusSymbols.isEmpty()) return new Payout(perBet, 0d);
+    var bonusSymbols = matchedBonusSymbols.stream()
+        .map(symbol -> (BonusSymbol) symbol)
+        .sorted(Comparator.comparing(Symbol::getName))
+        .toList();
+    var fixed = 0d;
+    for (var symbol : bonusSymbols) {
+      if (symbol.getImpact() == Impact.EXTRA_BONUS) fixed = symbol.apply(fixed);
+    }
+    for (var symbol : bonusSymbols) {
+      if (symbol.getImpact() == Impact.MULTIPLY_REWARD) {
+        perBet = symbol.apply(perBet);
+        fixed = symbol.apply(fixed);
+      }
+    }
+    return new Payout(perBet, fixed);
   }
 }
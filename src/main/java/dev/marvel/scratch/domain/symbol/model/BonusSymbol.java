@@ -3,9 +3,11 @@ package dev.marvel.scratch.domain.symbol.model;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
 import static dev.marvel.scratch.domain.symbol.model.Impact.MISS;
+import static dev.marvel.scratch.domain.symbol.model.Impact.WILD;
 import static dev.marvel.scratch.domain.symbol.model.Type.BONUS;
 
 /**
@@ -13,13 +15,18 @@ import static dev.marvel.scratch.domain.symbol.model.Type.BONUS;
  * symbols have an impact that alters the game's outcome beyond the standard reward calculation.
  *
  * @implNote Bonus symbols require an 'impact' attribute in the JSON configuration to specify their effect on the game.
- *           The impact dictates whether the symbol adds to, multiplies, or does not alter the base reward.
+ *           The impact dictates whether the symbol adds to, multiplies, or does not alter the base reward, or whether it is a wild that
+ *           substitutes for standard symbols in win combinations, or awards free spins.
  */
 @SuperBuilder
 public class BonusSymbol extends AbstractSymbol {
 
+  @Getter
   private Impact impact;
 
+  @Getter
+  private int spins;
+
   /**
    * Constructs a new BonusSymbol with specified reward multipliers, extra values, and impact type.
    *
@@ -28,15 +35,29 @@ public class BonusSymbol extends AbstractSymbol {
    * @param impactString The type of impact this bonus symbol has on the game, specified as a string.
    * @throws ConfigurationParseException if required attributes are missing or invalid based on the impact type.
    */
+  public BonusSymbol(Double rewardMultiplier, Double extra, String impactString) {
+    this(rewardMultiplier, extra, null, impactString);
+  }
+
+  /**
+   * Constructs a new BonusSymbol with specified reward multipliers, extra values, number of free spins, and impact type.
+   *
+   * @param rewardMultiplier The multiplier value to be applied to the base reward. Required for MULTIPLY_REWARD impact, optional for
+   *                         FREE_SPINS impact, where it multiplies the reward of every free spin and defaults to {@code 1}.
+   * @param extra The extra bonus amount to be added to the base reward. Required for EXTRA_BONUS impact.
+   * @param spins The number of free spins awarded. Required for FREE_SPINS impact.
+   * @param impactString The type of impact this bonus symbol has on the game, specified as a string.
+   * @throws ConfigurationParseException if required attributes are missing or invalid based on the impact type.
+   */
   @JsonCreator
   public BonusSymbol(@JsonProperty("reward_multiplier") Double rewardMultiplier, @JsonProperty("extra") Double extra,
-                     @JsonProperty("impact") String impactString) {
+                     @JsonProperty("spins") Integer spins, @JsonProperty("impact") String impactString) {
     this.type = BONUS;
     if (impactString == null) {
       throw new ConfigurationParseException("'bonus' symbols should have an 'impact' attribute.");
     }
     var impact = Impact.of(impactString);
-    if (impact == MISS) {
+    if (impact == MISS || impact == WILD) {
       this.impact = impact;
       return;
     }
@@ -46,6 +67,15 @@ public class BonusSymbol extends AbstractSymbol {
     if (impact == Impact.EXTRA_BONUS && extra == null) {
       throw new ConfigurationParseException("'extra_bonus' symbols should have an 'extra' attribute.");
     }
+    if (impact == Impact.FREE_SPINS) {
+      if (spins == null || spins <= 0) {
+        throw new ConfigurationParseException("'free_spins' symbols should have a positive integer 'spins' attribute.");
+      }
+      this.impact = impact;
+      this.spins = spins;
+      this.value = rewardMultiplier == null ? 1d : rewardMultiplier;
+      return;
+    }
     this.impact = impact;
     this.value = impact == Impact.MULTIPLY_REWARD ? rewardMultiplier : extra;
   }
@@ -53,19 +83,37 @@ public class BonusSymbol extends AbstractSymbol {
   /**
    * Applies the bonus symbol's impact to the base score of the game.
    *
-   * @param base The base score to which the bonus symbol's impact will be applied.
+   * @param base The base score to which the bonus symbol's impact will be applied; for a free spins symbol, the score of a free spin.
    * @return The modified score after applying the bonus symbol's impact.
    * @throws IllegalStateException if the impact is unknown, indicating a configuration or logic error.
    */
   @Override
   public double apply(double base) {
-    if (impact == Impact.MISS) return base;
+    if (impact == Impact.MISS || impact == Impact.WILD) return base;
     if (impact == Impact.EXTRA_BONUS) return base + value;
-    if (impact == Impact.MULTIPLY_REWARD) return base * value;
+    if (impact == Impact.MULTIPLY_REWARD || impact == Impact.FREE_SPINS) return base * value;
     throw new IllegalStateException("Unknown impact " + impact);
   }
 
   public boolean isNotMiss() {
     return impact != MISS;
   }
+
+  public boolean isWild() {
+    return impact == WILD;
+  }
+
+  public boolean isFreeSpins() {
+    return impact == Impact.FREE_SPINS;
+  }
+
+  /**
+   * Tells whether the symbol changes the reward of a winning game it appears in.
+   *
+   * @return {@code true} for the 'extra_bonus' and 'multiply_reward' impacts; a miss does nothing, a wild only takes part in win
+   * combinations, and free spins only multiply the rewards of the free spins they award.
+   */
+  public boolean affectsReward() {
+    return impact == Impact.EXTRA_BONUS || impact == Impact.MULTIPLY_REWARD;
+  }
 }
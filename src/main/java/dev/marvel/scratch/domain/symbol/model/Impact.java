@@ -1,6 +1,7 @@
 package dev.marvel.scratch.domain.symbol.model;
 
 import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -9,6 +10,7 @@ import lombok.RequiredArgsConstructor;
  *
  * @see AbstractSymbol for the encompassing object
  */
+@Getter
 @RequiredArgsConstructor
 public enum Impact {
 
@@ -25,7 +27,17 @@ public enum Impact {
   /**
    * Indicates that the symbol does not have any special impact on the reward.
    */
-  MISS("miss");
+  MISS("miss"),
+
+  /**
+   * Indicates that the symbol substitutes for any standard symbol in a win combination and has no impact on the reward itself.
+   */
+  WILD("wild"),
+
+  /**
+   * Indicates that the symbol awards a number of free rounds at the same bet, whose rewards it optionally multiplies.
+   */
+  FREE_SPINS("free_spins");
 
   private final String value;
 
@@ -0,0 +1,197 @@
+package dev.marvel.scratch.domain.wincombination;
+
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.wincombination.model.LinearWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.SameSymbolWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.WinCombination;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * The order in which a {@link WinCombinationMatcher} evaluates the win combinations of every group, adapted to the boards it matches.
+ * <p>
+ * Which combination of a group a symbol is awarded never depends on this order: it is the first one the symbol matches in
+ * {@link #SELECTION_ORDER}, the highest reward multiplier first and the first by name among equals. Evaluation may nevertheless visit
+ * the combinations in any order, skipping every combination that comes after the best match found so far in selection order, since it
+ * could no longer be selected. The evaluation order only decides how much work that takes.
+ * <p>
+ * {@link SameSymbolWinCombination}s are not evaluated one by one at all. A symbol matches one if its count on the board, wilds included,
+ * equals the combination's count, so of all same symbols combinations of a group only those of a single count can match, and the best of
+ * them in selection order is looked up by that count. The remaining combinations of the group are then evaluated as above, skipping
+ * those after the looked-up one.
+ * <p>
+ * During a warm-up of a fixed number of matches, every evaluation is counted together with whether it was a hit. At the end of the
+ * warm-up, the evaluated combinations of every group are reordered once by their estimated hit rate per unit of cost, the most
+ * promising first, ties broken by selection order. An early hit lets every combination after it in selection order be skipped, so
+ * cheap combinations that often match run first and expensive ones that rarely do run last. The cost of a combination is estimated
+ * from its structure rather than timed: the number of covered areas for a linear combination and one for any other. The reordered
+ * groups are published once and never change afterwards.
+ * <p>
+ * The statistics are counted with atomic operations, so an instance can be shared by any number of threads. Matching the same boards in
+ * the same order on one thread always yields the same evaluation order; on several threads it may differ from run to run, but the match
+ * results never do.
+ */
+public final class EvaluationOrder {
+
+  /**
+   * The order in which the win combinations of a group are selected: the highest reward multiplier first and, among equal multipliers,
+   * the first by name.
+   */
+  public static final Comparator<WinCombination> SELECTION_ORDER = Comparator.<WinCombination>comparingDouble(
+      winCombination -> -winCombination.getRewardMultiplier()).thenComparing(WinCombination::getName);
+
+  static final int DEFAULT_WARM_UP_MATCHES = 4096;
+
+  private final WinCombination[][] groups;
+  private final int[][] positionsByCount;
+  private final int[] offsets;
+  private final AtomicLongArray evaluations;
+  private final AtomicLongArray hits;
+  private final AtomicLong matches = new AtomicLong();
+  private final long warmUpMatches;
+  private volatile int[][] order;
+  private volatile boolean warmingUp = true;
+
+  /**
+   * Creates the evaluation order of a set of groups, starting out in selection order.
+   *
+   * @param groups        The win combinations of every group.
+   * @param warmUpMatches The number of matches to count hits over before the order is adapted.
+   */
+  public EvaluationOrder(Collection<? extends Collection<WinCombination>> groups, long warmUpMatches) {
+    this.groups = groups.stream()
+        .map(group -> group.stream().sorted(SELECTION_ORDER).toArray(WinCombination[]::new))
+        .toArray(WinCombination[][]::new);
+    this.positionsByCount = new int[this.groups.length][];
+    for (int group = 0; group < this.groups.length; group++) {
+      positionsByCount[group] = positionsByCount(this.groups[group]);
+    }
+    this.offsets = new int[this.groups.length + 1];
+    for (int group = 0; group < this.groups.length; group++) {
+      offsets[group + 1] = offsets[group] + this.groups[group].length;
+    }
+    this.evaluations = new AtomicLongArray(offsets[this.groups.length]);
+    this.hits = new AtomicLongArray(offsets[this.groups.length]);
+    this.warmUpMatches = warmUpMatches;
+    this.order = IntStream.range(0, this.groups.length)
+        .mapToObj(group -> evaluatedPositions(this.groups[group]).toArray())
+        .toArray(int[][]::new);
+  }
+
+  public int getGroupCount() {
+    return groups.length;
+  }
+
+  /**
+   * Returns the win combinations of a group.
+   *
+   * @param group The group index.
+   * @return The win combinations in selection order. The array must not be modified.
+   */
+  public WinCombination[] combinationsOf(int group) {
+    return groups[group];
+  }
+
+  /**
+   * Returns the order in which the win combinations of a group other than its same symbols combinations are evaluated.
+   *
+   * @param group The group index.
+   * @return The positions in {@link #combinationsOf(int)}, in evaluation order. The array must not be modified.
+   */
+  public int[] evaluationOrderOf(int group) {
+    return order[group];
+  }
+
+  /**
+   * Looks up the same symbols combination of a group a symbol is selected for among those of the group, given the symbol's count.
+   *
+   * @param group The group index.
+   * @param count The number of cells of the symbol, wilds included.
+   * @return The position in {@link #combinationsOf(int)} of the first same symbols combination with the given count in selection
+   * order, or {@code -1} if the group has none.
+   */
+  public int sameSymbolsPositionOf(int group, int count) {
+    var positions = positionsByCount[group];
+    return count < positions.length ? positions[count] : -1;
+  }
+
+  public boolean isWarmingUp() {
+    return warmingUp;
+  }
+
+  /**
+   * Counts the evaluation of a win combination during the warm-up.
+   *
+   * @param group    The group index.
+   * @param position The position of the win combination in {@link #combinationsOf(int)}.
+   * @param hit      Whether the win combination matched.
+   */
+  public void record(int group, int position, boolean hit) {
+    evaluations.incrementAndGet(offsets[group] + position);
+    if (hit) {
+      hits.incrementAndGet(offsets[group] + position);
+    }
+  }
+
+  /**
+   * Counts a completed match during the warm-up, and adapts the evaluation order once the warm-up is over.
+   *
+   * @param game The game just matched, whose dimensions the cost of linear win combinations is estimated for.
+   */
+  public void completeMatch(Game game) {
+    if (matches.incrementAndGet() != warmUpMatches) {
+      return;
+    }
+    var adapted = new int[groups.length][];
+    for (int group = 0; group < groups.length; group++) {
+      var promise = new double[groups[group].length];
+      for (int position = 0; position < promise.length; position++) {
+        var index = offsets[group] + position;
+        var hitRate = (hits.get(index) + 1d) / (evaluations.get(index) + 2d);
+        promise[position] = hitRate / cost(groups[group][position], game);
+      }
+      adapted[group] = evaluatedPositions(groups[group])
+          .boxed()
+          .sorted(Comparator.<Integer>comparingDouble(position -> -promise[position]).thenComparingInt(position -> position))
+          .mapToInt(Integer::intValue)
+          .toArray();
+    }
+    order = adapted;
+    warmingUp = false;
+  }
+
+  private static IntStream evaluatedPositions(WinCombination[] group) {
+    return IntStream.range(0, group.length).filter(position -> !(group[position] instanceof SameSymbolWinCombination));
+  }
+
+  private static int[] positionsByCount(WinCombination[] group) {
+    var largestCount = Stream.of(group)
+        .filter(SameSymbolWinCombination.class::isInstance)
+        .mapToInt(winCombination -> ((SameSymbolWinCombination) winCombination).getCount())
+        .filter(count -> count >= 0)
+        .max()
+        .orElse(-1);
+    var positions = new int[largestCount + 1];
+    Arrays.fill(positions, -1);
+    // the group is in selection order, so the first combination of every count is the one selected
+    for (int position = group.length - 1; position >= 0; position--) {
+      if (group[position] instanceof SameSymbolWinCombination sameSymbolWinCombination && sameSymbolWinCombination.getCount() >= 0) {
+        positions[sameSymbolWinCombination.getCount()] = position;
+      }
+    }
+    return positions;
+  }
+
+  private static double cost(WinCombination winCombination, Game game) {
+    if (winCombination instanceof LinearWinCombination linearWinCombination) {
+      return Math.max(1, linearWinCombination.coveredAreaIndices(game.getRows(), game.getColumns()).length);
+    }
+    return 1d;
+  }
+}
@@ -0,0 +1,331 @@
+package dev.marvel.scratch.domain.wincombination;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.core.Occupancy;
+import dev.marvel.scratch.domain.symbol.model.BonusSymbol;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.model.ClusterWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.LinearWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.SameSymbolWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.WinCombination;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Matches a board that changes a few cells at a time, such as the board of a cascading round, without re-evaluating the whole board
+ * after every change. It produces the same {@link MatchResult} as {@link WinCombinationMatcher#match(Game)} would for the current board.
+ * <p>
+ * The matcher keeps its own copy of the board together with the number of cells of every symbol and, for every covered area of every
+ * {@link LinearWinCombination} (see {@link LinearAreaIndex}), the symbol covering it, if any. Changes are made with
+ * {@link #set(int, Symbol)}, which updates the symbol counts immediately and records the changed cell; {@link #rematch()} then re-checks
+ * only the areas containing a changed cell. Whether a symbol matches a {@link SameSymbolWinCombination} or a linear win combination is
+ * then a constant-time lookup, so the cost of a re-match depends on the number of changed cells, not on the size of the board or the
+ * number of covered areas. Other kinds of win combinations, such as {@link ClusterWinCombination}, are matched against a {@link Game}
+ * snapshot of the board, which is taken at most once per match.
+ * <p>
+ * Wilds are resolved as {@link Occupancy} resolves them: an area is covered by the one standard symbol among its cells if all other cells
+ * are wilds, and by the configuration's wild pays-as symbol if all its cells are wilds.
+ * <p>
+ * Within each group, the first win combination in selection order that a symbol matches is reported, the highest reward multiplier
+ * first, as the compiled configuration orders its groups (see {@link EvaluationOrder#SELECTION_ORDER}). An instance holds the state of
+ * one board and must not be shared between threads; it can be reused for the next board with {@link #reset(Game)}.
+ */
+public class IncrementalWinCombinationMatcher {
+
+  private final CompiledConfiguration configuration;
+  private final LinearAreaIndex areaIndex;
+  private final int symbolCount;
+  private final boolean[] wilds;
+  private final int wildPaysAs;
+  private final WinCombination[][] groups;
+  private final int[][] groupIds;
+  private final Symbol[] board;
+  private final int[] ordinals;
+  private final int[] symbolCounts;
+  private final int[] areaCoverers;
+  private final int[] coveredAreaCounts;
+  private final int[] changedCells;
+  private final int[] cellPasses;
+  private final int[] areaPasses;
+  private int changedCount;
+  private int pass = 1;
+  private Game snapshot;
+
+  /**
+   * Constructs a matcher for the boards of a cascading configuration or of one awarding free spins.
+   *
+   * @param configuration The compiled game configuration; its {@link CompiledConfiguration#getLinearAreaIndex()} must be available.
+   * @throws IllegalArgumentException if the configuration does not index its linear covered areas.
+   */
+  public IncrementalWinCombinationMatcher(CompiledConfiguration configuration) {
+    if (configuration.getLinearAreaIndex() == null) {
+      throw new IllegalArgumentException("Incremental matching requires a configuration that indexes its linear covered areas.");
+    }
+    this.configuration = configuration;
+    this.areaIndex = configuration.getLinearAreaIndex();
+    this.symbolCount = configuration.getSymbolCount();
+    this.wilds = new boolean[symbolCount];
+    for (int ordinal = 0; ordinal < symbolCount; ordinal++) {
+      wilds[ordinal] = Occupancy.isWild(configuration.symbolAt(ordinal));
+    }
+    this.wildPaysAs = configuration.getWildPaysAs() == null ? -1 : configuration.ordinalOf(configuration.getWildPaysAs());
+    var byGroup = configuration.getWinCombinationsByGroup().values();
+    this.groups = byGroup.stream()
+        .map(group -> group.toArray(WinCombination[]::new))
+        .toArray(WinCombination[][]::new);
+    this.groupIds = new int[groups.length][];
+    for (int group = 0; group < groups.length; group++) {
+      groupIds[group] = new int[groups[group].length];
+      for (int i = 0; i < groups[group].length; i++) {
+        groupIds[group][i] = configuration.findWinCombinationId(groups[group][i].getName()).orElseThrow();
+      }
+    }
+    this.board = new Symbol[configuration.getCellCount()];
+    this.ordinals = new int[board.length];
+    this.symbolCounts = new int[symbolCount];
+    this.areaCoverers = new int[areaIndex.getAreaCount()];
+    this.coveredAreaCounts = new int[configuration.getWinCombinationCount() * symbolCount];
+    this.changedCells = new int[board.length];
+    this.cellPasses = new int[board.length];
+    this.areaPasses = new int[areaIndex.getAreaCount()];
+  }
+
+  /**
+   * Loads a new board and matches it in full.
+   *
+   * @param game The game whose board to load.
+   * @return The match result of the board.
+   */
+  public MatchResult reset(Game game) {
+    Arrays.fill(symbolCounts, 0);
+    Arrays.fill(coveredAreaCounts, 0);
+    for (int cell = 0; cell < board.length; cell++) {
+      board[cell] = game.symbolAt(cell);
+      ordinals[cell] = configuration.ordinalOf(board[cell]);
+      symbolCounts[ordinals[cell]]++;
+    }
+    for (int area = 0; area < areaCoverers.length; area++) {
+      areaCoverers[area] = coverer(area);
+      if (areaCoverers[area] >= 0) {
+        coveredAreaCounts[areaIndex.ownerOf(area) * symbolCount + areaCoverers[area]]++;
+      }
+    }
+    changedCount = 0;
+    pass++;
+    snapshot = game;
+    return result();
+  }
+
+  /**
+   * Changes the symbol of a cell. The change is reflected in the next {@link #rematch()}.
+   *
+   * @param cell   The row-major index of the cell.
+   * @param symbol The new symbol of the cell.
+   */
+  public void set(int cell, Symbol symbol) {
+    if (board[cell] == symbol) {
+      return;
+    }
+    var ordinal = configuration.ordinalOf(symbol);
+    symbolCounts[ordinals[cell]]--;
+    symbolCounts[ordinal]++;
+    board[cell] = symbol;
+    ordinals[cell] = ordinal;
+    snapshot = null;
+    if (cellPasses[cell] != pass) {
+      cellPasses[cell] = pass;
+      changedCells[changedCount++] = cell;
+    }
+  }
+
+  /**
+   * Matches the board after the changes made since the last match, re-checking only the covered areas that contain a changed cell.
+   *
+   * @return The match result of the current board.
+   */
+  public MatchResult rematch() {
+    for (int i = 0; i < changedCount; i++) {
+      for (var area : areaIndex.areasOf(changedCells[i])) {
+        if (areaPasses[area] == pass) {
+          continue;
+        }
+        areaPasses[area] = pass;
+        var previous = areaCoverers[area];
+        var current = coverer(area);
+        if (previous != current) {
+          var owner = areaIndex.ownerOf(area) * symbolCount;
+          if (previous >= 0) {
+            coveredAreaCounts[owner + previous]--;
+          }
+          if (current >= 0) {
+            coveredAreaCounts[owner + current]++;
+          }
+          areaCoverers[area] = current;
+        }
+      }
+    }
+    changedCount = 0;
+    pass++;
+    return result();
+  }
+
+  /**
+   * Replaces the board with one read from a buffer of boards and matches it. Only the cells that differ from the current board are
+   * changed, so consecutive boards sharing symbols are re-matched in part. A board must have been loaded with {@link #reset(Game)}
+   * before.
+   *
+   * @param boards The buffer of row-major boards.
+   * @param offset The index of the first cell of the board in the buffer.
+   * @return The match result of the loaded board.
+   */
+  public MatchResult load(Symbol[] boards, int offset) {
+    for (int cell = 0; cell < board.length; cell++) {
+      set(cell, boards[offset + cell]);
+    }
+    return rematch();
+  }
+
+  /**
+   * Marks the cells that make up the wins of a match result: every cell of a symbol matching a {@link SameSymbolWinCombination} and
+   * every wild, every covered area of a matched {@link LinearWinCombination} that its symbol covers, and every cluster of the symbol large
+   * enough for a matched {@link ClusterWinCombination}. Cells of other kinds of win combinations are not marked.
+   *
+   * @param matchResult The match result of the current board.
+   * @param marks       The flags to set, one per cell; flags already set are left set.
+   * @return The number of cells newly marked.
+   */
+  public int markWinningCells(MatchResult matchResult, boolean[] marks) {
+    var marked = 0;
+    for (var entry : matchResult.matchedWinCombinations().entrySet()) {
+      var ordinal = configuration.ordinalOf(entry.getKey());
+      for (var winCombination : entry.getValue()) {
+        if (winCombination instanceof SameSymbolWinCombination) {
+          for (int cell = 0; cell < board.length; cell++) {
+            if ((ordinals[cell] == ordinal || wilds[ordinals[cell]]) && !marks[cell]) {
+              marks[cell] = true;
+              marked++;
+            }
+          }
+        } else if (winCombination instanceof ClusterWinCombination clusterWinCombination) {
+          var clusters = snapshot().clusters();
+          for (int cell = 0; cell < board.length; cell++) {
+            if (ordinals[cell] == ordinal && clusterWinCombination.covers(clusters, cell) && !marks[cell]) {
+              marks[cell] = true;
+              marked++;
+            }
+          }
+        } else if (winCombination instanceof LinearWinCombination) {
+          var id = configuration.findWinCombinationId(winCombination.getName()).orElseThrow();
+          for (int area = areaIndex.firstAreaOf(id); area < areaIndex.endAreaOf(id); area++) {
+            if (areaCoverers[area] != ordinal) {
+              continue;
+            }
+            for (var cell : areaIndex.cellsOf(area)) {
+              if (!marks[cell]) {
+                marks[cell] = true;
+                marked++;
+              }
+            }
+          }
+        }
+      }
+    }
+    return marked;
+  }
+
+  public Symbol symbolAt(int cell) {
+    return board[cell];
+  }
+
+  /**
+   * Returns a game holding a copy of the current board.
+   *
+   * @param bet The betting amount of the game.
+   * @return The game.
+   */
+  public Game toGame(int bet) {
+    return new Game(configuration, board, bet);
+  }
+
+  private int coverer(int area) {
+    var coverer = -1;
+    for (var cell : areaIndex.cellsOf(area)) {
+      var ordinal = ordinals[cell];
+      if (wilds[ordinal]) {
+        continue;
+      }
+      if (coverer < 0) {
+        coverer = ordinal;
+      } else if (coverer != ordinal) {
+        return -1;
+      }
+    }
+    return coverer < 0 ? wildPaysAs : coverer;
+  }
+
+  private MatchResult result() {
+    var wildCount = 0;
+    for (int ordinal = 0; ordinal < symbolCount; ordinal++) {
+      if (wilds[ordinal]) {
+        wildCount += symbolCounts[ordinal];
+      }
+    }
+    Map<Symbol, Set<WinCombination>> matchedWinCombinations = new HashMap<>();
+    for (int ordinal = 0; ordinal < symbolCount; ordinal++) {
+      var symbol = configuration.symbolAt(ordinal);
+      if (!symbol.isStandard()) {
+        continue;
+      }
+      Set<WinCombination> matched = null;
+      for (int group = 0; group < groups.length; group++) {
+        for (int i = 0; i < groups[group].length; i++) {
+          if (matches(groups[group][i], groupIds[group][i], ordinal, symbol, wildCount)) {
+            if (matched == null) {
+              matched = new LinkedHashSet<>();
+            }
+            matched.add(groups[group][i]);
+            break;
+          }
+        }
+      }
+      if (matched != null) {
+        matchedWinCombinations.put(symbol, matched);
+      }
+    }
+    if (matchedWinCombinations.isEmpty()) return new MatchResult(matchedWinCombinations, Collections.emptySet());
+
+    Set<Symbol> matchedBonusSymbols = new HashSet<>();
+    for (int ordinal = 0; ordinal < symbolCount; ordinal++) {
+      var symbol = configuration.symbolAt(ordinal);
+      if (symbol.isBonus() && symbolCounts[ordinal] > 0 && ((BonusSymbol) symbol).affectsReward()) {
+        matchedBonusSymbols.add(symbol);
+      }
+    }
+    return new MatchResult(matchedWinCombinations, matchedBonusSymbols);
+  }
+
+  private boolean matches(WinCombination winCombination, int id, int ordinal, Symbol symbol, int wildCount) {
+    if (winCombination instanceof SameSymbolWinCombination sameSymbolWinCombination) {
+      var count = symbolCounts[ordinal] > 0 || ordinal == wildPaysAs ? symbolCounts[ordinal] + wildCount : 0;
+      return count == sameSymbolWinCombination.getCount();
+    }
+    if (winCombination instanceof LinearWinCombination) {
+      return coveredAreaCounts[id * symbolCount + ordinal] > 0;
+    }
+    return winCombination.matches(symbol, snapshot());
+  }
+
+  private Game snapshot() {
+    if (snapshot == null) {
+      snapshot = toGame(0);
+    }
+    return snapshot;
+  }
+}
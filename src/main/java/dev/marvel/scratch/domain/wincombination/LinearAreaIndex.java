@@ -0,0 +1,115 @@
+package dev.marvel.scratch.domain.wincombination;
+
+import dev.marvel.scratch.domain.wincombination.model.LinearWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.WinCombination;
+
+import java.util.List;
+
+/**
+ * An immutable index of the covered areas of all {@link LinearWinCombination}s of a configuration on a board of fixed dimensions, in both
+ * directions: from an area to its cells and its win combination, and from a cell to every area it lies in. The areas of all combinations
+ * are numbered consecutively in win combination id order, so the areas of one combination form a contiguous range of ids.
+ * <p>
+ * The reverse direction is what makes incremental matching possible: when a few cells of a board change, only the areas returned by
+ * {@link #areasOf(int)} for those cells can change their match state.
+ *
+ * @see IncrementalWinCombinationMatcher for the matcher built on this index.
+ */
+public final class LinearAreaIndex {
+
+  private final int[][] areas;
+  private final int[] owners;
+  private final int[] starts;
+  private final int[][] cellAreas;
+
+  private LinearAreaIndex(int[][] areas, int[] owners, int[] starts, int[][] cellAreas) {
+    this.areas = areas;
+    this.owners = owners;
+    this.starts = starts;
+    this.cellAreas = cellAreas;
+  }
+
+  /**
+   * Builds the index of the linear win combinations among the given ones.
+   *
+   * @param winCombinations The win combinations ordered by id; combinations other than linear ones get an empty range of areas.
+   * @param rows            The number of rows of the board.
+   * @param columns         The number of columns of the board.
+   * @return The index.
+   */
+  public static LinearAreaIndex of(List<WinCombination> winCombinations, int rows, int columns) {
+    var starts = new int[winCombinations.size() + 1];
+    var areasById = new int[winCombinations.size()][][];
+    for (int id = 0; id < winCombinations.size(); id++) {
+      areasById[id] = winCombinations.get(id) instanceof LinearWinCombination linearWinCombination
+          ? linearWinCombination.coveredAreaIndices(rows, columns)
+          : new int[0][];
+      starts[id + 1] = starts[id] + areasById[id].length;
+    }
+    var areas = new int[starts[winCombinations.size()]][];
+    var owners = new int[areas.length];
+    var areasPerCell = new int[rows * columns];
+    for (int id = 0; id < areasById.length; id++) {
+      for (int i = 0; i < areasById[id].length; i++) {
+        areas[starts[id] + i] = areasById[id][i];
+        owners[starts[id] + i] = id;
+        for (var cell : areasById[id][i]) {
+          areasPerCell[cell]++;
+        }
+      }
+    }
+    var cellAreas = new int[rows * columns][];
+    for (int cell = 0; cell < cellAreas.length; cell++) {
+      cellAreas[cell] = new int[areasPerCell[cell]];
+      areasPerCell[cell] = 0;
+    }
+    for (int area = 0; area < areas.length; area++) {
+      for (var cell : areas[area]) {
+        cellAreas[cell][areasPerCell[cell]++] = area;
+      }
+    }
+    return new LinearAreaIndex(areas, owners, starts, cellAreas);
+  }
+
+  public int getAreaCount() {
+    return areas.length;
+  }
+
+  /**
+   * Returns the cells of an area.
+   *
+   * @param area The area id.
+   * @return The row-major indices of the area's cells, sorted ascending. The array must not be modified.
+   */
+  public int[] cellsOf(int area) {
+    return areas[area];
+  }
+
+  /**
+   * Returns the id of the win combination an area belongs to.
+   *
+   * @param area The area id.
+   * @return The win combination id.
+   */
+  public int ownerOf(int area) {
+    return owners[area];
+  }
+
+  public int firstAreaOf(int winCombinationId) {
+    return starts[winCombinationId];
+  }
+
+  public int endAreaOf(int winCombinationId) {
+    return starts[winCombinationId + 1];
+  }
+
+  /**
+   * Returns the areas a cell lies in.
+   *
+   * @param cell The row-major index of the cell.
+   * @return The ids of the areas containing the cell, ascending. The array must not be modified.
+   */
+  public int[] areasOf(int cell) {
+    return cellAreas[cell];
+  }
+}
@@ -19,4 +19,18 @@ import java.util.Set;
 public record MatchResult(Map<Symbol, Set<WinCombination>> matchedWinCombinations,
                           Set<Symbol> matchedBonusSymbols) {
 
+  private static final MatchResult NONE = new MatchResult(Map.of(), Set.of());
+
+  /**
+   * Returns the result of a game that matched nothing. A single immutable instance is shared by every losing game.
+   *
+   * @return The empty match result.
+   */
+  public static MatchResult none() {
+    return NONE;
+  }
+
+  public boolean isLoss() {
+    return matchedWinCombinations.isEmpty();
+  }
 }
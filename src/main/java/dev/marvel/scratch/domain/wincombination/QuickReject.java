@@ -0,0 +1,167 @@
+package dev.marvel.scratch.domain.wincombination;
+
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.core.Occupancy;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.model.ClusterWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.LinearWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.SameSymbolWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.WinCombination;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A cheap test, derived from the win combinations of a configuration, that tells a board on which no win combination can match from one
+ * that has to be matched in full. Most boards win nothing, and rejecting them up front spares the matcher evaluating every combination
+ * for every symbol only for the scorer to return {@code 0}.
+ * <p>
+ * The test only checks conditions every match requires, one per kind of win combination, so it may let a losing board through but never
+ * rejects a winning one:
+ * <ul>
+ *   <li>a linear combination needs an area whose cells all hold the same standard symbol or a wild; the scan of an area stops at its
+ *   first disagreeing cell, which on a losing board is usually the second one;</li>
+ *   <li>a same symbols combination needs a standard symbol appearing, wilds included, at least as often as the smallest count of all
+ *   such combinations;</li>
+ *   <li>a cluster combination needs a standard symbol appearing at least as often as the smallest cluster size and, if that size is
+ *   greater than one, two orthogonally adjacent cells holding the same standard symbol.</li>
+ * </ul>
+ * A board is rejected if none of these holds. The test reads the board in place and allocates nothing, and an instance is immutable, so
+ * it can be shared by any number of threads.
+ */
+public final class QuickReject {
+
+  private static final int NONE = Integer.MAX_VALUE;
+
+  private final List<LinearWinCombination> linearWinCombinations;
+  private final int smallestSameSymbolCount;
+  private final int smallestClusterSize;
+
+  private QuickReject(List<LinearWinCombination> linearWinCombinations, int smallestSameSymbolCount, int smallestClusterSize) {
+    this.linearWinCombinations = linearWinCombinations;
+    this.smallestSameSymbolCount = smallestSameSymbolCount;
+    this.smallestClusterSize = smallestClusterSize;
+  }
+
+  /**
+   * Derives the test from a set of win combinations.
+   *
+   * @param winCombinations The win combinations of the configuration.
+   * @return The test.
+   */
+  public static QuickReject of(Collection<WinCombination> winCombinations) {
+    var linearWinCombinations = new ArrayList<LinearWinCombination>();
+    var smallestSameSymbolCount = NONE;
+    var smallestClusterSize = NONE;
+    for (var winCombination : winCombinations) {
+      if (winCombination instanceof LinearWinCombination linearWinCombination) {
+        linearWinCombinations.add(linearWinCombination);
+      } else if (winCombination instanceof SameSymbolWinCombination sameSymbolWinCombination) {
+        smallestSameSymbolCount = Math.min(smallestSameSymbolCount, sameSymbolWinCombination.getCount());
+      } else if (winCombination instanceof ClusterWinCombination clusterWinCombination) {
+        smallestClusterSize = Math.min(smallestClusterSize, clusterWinCombination.getCount());
+      } else {
+        // a kind of win combination the test knows no condition for can never be ruled out
+        smallestSameSymbolCount = 0;
+      }
+    }
+    return new QuickReject(List.copyOf(linearWinCombinations), smallestSameSymbolCount, smallestClusterSize);
+  }
+
+  /**
+   * Tells whether no win combination can match a board.
+   *
+   * @param game The game holding the board.
+   * @return {@code true} if the board certainly wins nothing, {@code false} if it has to be matched.
+   */
+  public boolean guaranteesLoss(Game game) {
+    if (anyLinearAreaAgrees(game)) {
+      return false;
+    }
+    if (smallestSameSymbolCount == NONE && smallestClusterSize == NONE) {
+      return true;
+    }
+    var cellCount = game.getRows() * game.getColumns();
+    var wilds = 0;
+    for (int cell = 0; cell < cellCount; cell++) {
+      if (isWild(game.symbolAt(cell))) {
+        wilds++;
+      }
+    }
+    if (wilds >= smallestSameSymbolCount) {
+      return false;
+    }
+    var sameSymbolsNeeded = smallestSameSymbolCount == NONE ? NONE : smallestSameSymbolCount - wilds;
+    var largestCount = largestStandardCount(game, cellCount, sameSymbolsNeeded == NONE ? smallestClusterSize : sameSymbolsNeeded);
+    if (largestCount >= sameSymbolsNeeded) {
+      return false;
+    }
+    return largestCount < smallestClusterSize || (smallestClusterSize > 1 && !anyAdjacentCellsAgree(game));
+  }
+
+  private boolean anyLinearAreaAgrees(Game game) {
+    for (var linearWinCombination : linearWinCombinations) {
+      for (var area : linearWinCombination.coveredAreaIndices(game.getRows(), game.getColumns())) {
+        if (agrees(game, area)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean agrees(Game game, int[] area) {
+    Symbol anchor = null;
+    for (var cell : area) {
+      var symbol = game.symbolAt(cell);
+      if (isWild(symbol)) {
+        continue;
+      }
+      if (symbol == null || !symbol.isStandard() || (anchor != null && !anchor.equals(symbol))) {
+        return false;
+      }
+      anchor = symbol;
+    }
+    return true;
+  }
+
+  private static int largestStandardCount(Game game, int cellCount, int enough) {
+    var largest = 0;
+    for (int cell = 0; cell < cellCount && largest < enough; cell++) {
+      var symbol = game.symbolAt(cell);
+      if (symbol == null || !symbol.isStandard()) {
+        continue;
+      }
+      // counting from the first occurrence of a symbol finds its total, later occurrences only find less
+      var count = 1;
+      for (int other = cell + 1; other < cellCount; other++) {
+        if (symbol.equals(game.symbolAt(other))) {
+          count++;
+        }
+      }
+      largest = Math.max(largest, count);
+    }
+    return largest;
+  }
+
+  private static boolean anyAdjacentCellsAgree(Game game) {
+    var columns = game.getColumns();
+    var cellCount = game.getRows() * columns;
+    for (int cell = 0; cell < cellCount; cell++) {
+      var symbol = game.symbolAt(cell);
+      if (symbol == null || !symbol.isStandard()) {
+        continue;
+      }
+      if ((cell % columns > 0 && symbol.equals(game.symbolAt(cell - 1)))
+          || (cell >= columns && symbol.equals(game.symbolAt(cell - columns)))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isWild(Symbol symbol) {
+    return symbol != null && Occupancy.isWild(symbol);
+  }
+}
@@ -1,15 +1,19 @@
 package dev.marvel.scratch.domain.wincombination;
 
+import dev.marvel.scratch.configuration.CompiledConfiguration;
 import dev.marvel.scratch.configuration.Configuration;
 import dev.marvel.scratch.domain.core.Game;
 import dev.marvel.scratch.domain.symbol.model.BonusSymbol;
 import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.model.ClusterWinCombination;
 import dev.marvel.scratch.domain.wincombination.model.Group;
+import dev.marvel.scratch.domain.wincombination.model.LinearWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.SameSymbolWinCombination;
 import dev.marvel.scratch.domain.wincombination.model.WinCombination;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -21,11 +25,18 @@ import java.util.stream.Collectors;
  * <p>
  * Win combinations are grouped by their category (e.g., linear, same symbols) to streamline the matching process. The matcher considers
  * each symbol's presence in the game and evaluates it against all applicable win combinations.
+ * <p>
+ * A symbol matching several win combinations of one group is awarded the one with the highest reward multiplier, the first by name
+ * among equals (see {@link EvaluationOrder#SELECTION_ORDER}). The order in which the combinations of a group are evaluated adapts to the
+ * boards matched during a warm-up, which changes how fast a board is matched but never its result.
  */
 public class WinCombinationMatcher {
 
   private final Set<Symbol> symbols;
-  private final Map<Group, Set<WinCombination>> winCombinationsByGroup;
+  private final Symbol[] standardSymbols;
+  private final EvaluationOrder evaluationOrder;
+  private final boolean presenceRequired;
+  private final QuickReject quickReject;
 
   /**
    * Constructs a WinCombinationMatcher from a game configuration, initializing symbols and win combinations.
@@ -33,9 +44,23 @@ public class WinCombinationMatcher {
    * @param configuration The game configuration containing symbols and their associated win combinations.
    */
   public WinCombinationMatcher(Configuration configuration) {
-    this.symbols = configuration.getSymbols();
-    this.winCombinationsByGroup = configuration.getWinCombinations().stream()
-        .collect(Collectors.groupingBy(WinCombination::getGroup, Collectors.toSet()));
+    this(configuration.getSymbols(), configuration.getWinCombinations().stream()
+        .collect(Collectors.groupingBy(WinCombination::getGroup, Collectors.toSet())));
+  }
+
+  /**
+   * Constructs a WinCombinationMatcher from a compiled game configuration, reusing its symbols, its grouping of win combinations and its
+   * quick-reject test instead of building new ones.
+   *
+   * @param configuration The compiled game configuration.
+   */
+  public WinCombinationMatcher(CompiledConfiguration configuration) {
+    this.symbols = new LinkedHashSet<>(configuration.getSymbolList());
+    this.standardSymbols = standardSymbols(symbols);
+    this.evaluationOrder = new EvaluationOrder(configuration.getWinCombinationsByGroup().values(),
+        EvaluationOrder.DEFAULT_WARM_UP_MATCHES);
+    this.presenceRequired = presenceRequired(configuration.getWinCombinationsByGroup());
+    this.quickReject = configuration.getQuickReject();
   }
 
   /**
@@ -47,7 +72,10 @@ public class WinCombinationMatcher {
    */
   public WinCombinationMatcher(Set<Symbol> symbols, Map<Group, Set<WinCombination>> winCombinationsByGroup) {
     this.symbols = symbols;
-    this.winCombinationsByGroup = winCombinationsByGroup;
+    this.standardSymbols = standardSymbols(symbols);
+    this.evaluationOrder = new EvaluationOrder(winCombinationsByGroup.values(), EvaluationOrder.DEFAULT_WARM_UP_MATCHES);
+    this.presenceRequired = presenceRequired(winCombinationsByGroup);
+    this.quickReject = QuickReject.of(winCombinationsByGroup.values().stream().flatMap(Set::stream).toList());
   }
 
   /**
@@ -57,43 +85,69 @@ public class WinCombinationMatcher {
    * if it fulfills the specific criteria outlined in the combination's logic, such as occupying a certain pattern of cells in the game
    * matrix.
    * <p>
-   * Bonus symbols are checked for their presence in the game. If a bonus symbol is present and not a 'miss' type, it is considered
-   * activated and recorded (but only if there is at least one standard symbol match).
+   * Bonus symbols are checked for their presence in the game. If a bonus symbol is present and neither a 'miss' nor a 'wild' type, it is
+   * considered activated and recorded (but only if there is at least one standard symbol match). Wilds instead substitute for standard
+   * symbols while those are matched (see {@link dev.marvel.scratch.domain.core.Occupancy}).
+   * <p>
+   * A board that fails the {@link QuickReject} test of the win combinations cannot match any of them and is not evaluated at all; the
+   * shared {@link MatchResult#none()} is returned for it, as for every other board that matches nothing.
    *
    * @param game The current game state, including the placement of symbols.
    * @return A {@link MatchResult} capturing matched win combinations and activated bonus symbols.
    */
   public MatchResult match(Game game) {
+    if (quickReject.guaranteesLoss(game)) return MatchResult.none();
+    var warmingUp = evaluationOrder.isWarmingUp();
     Map<Symbol, Set<WinCombination>> matchedWinCombinations = new HashMap<>();
-    symbols.stream()
-        .filter(Symbol::isStandard)
-        .forEach(symbol -> {
-          var wcForSymbol = matchStandardSymbol(symbol, game);
-          if (!wcForSymbol.isEmpty()) matchedWinCombinations.put(symbol, wcForSymbol);
-        });
-    if (matchedWinCombinations.isEmpty()) return new MatchResult(matchedWinCombinations, Collections.emptySet());
+    for (var symbol : standardSymbols) {
+      var count = game.occupancy().countWithWilds(symbol);
+      // a symbol neither on the board nor paid as by wilds matches nothing, which is the cheapest check of all
+      if (presenceRequired && count == 0) continue;
+      var wcForSymbol = matchStandardSymbol(symbol, count, game, warmingUp);
+      if (!wcForSymbol.isEmpty()) matchedWinCombinations.put(symbol, wcForSymbol);
+    }
+    if (warmingUp) evaluationOrder.completeMatch(game);
+    if (matchedWinCombinations.isEmpty()) return MatchResult.none();
 
     Set<Symbol> matchedBonusSymbols = symbols.stream()
         .filter(Symbol::isBonus)
         .map(symbol -> (BonusSymbol) symbol)
         .filter(symbol -> bonusSymbolMatches(symbol, game))
-        .filter(BonusSymbol::isNotMiss)
+        .filter(BonusSymbol::affectsReward)
         .collect(Collectors.toSet());
 
     return new MatchResult(matchedWinCombinations, matchedBonusSymbols);
   }
 
-  private Set<WinCombination> matchStandardSymbol(Symbol symbol, Game game) {
+  private Set<WinCombination> matchStandardSymbol(Symbol symbol, int count, Game game, boolean warmingUp) {
     var wcForSymbol = new HashSet<WinCombination>();
-    winCombinationsByGroup.values()
-        .forEach(wcGroup -> wcGroup.stream()
-            .filter(wc -> wc.matches(symbol, game))
-            .findAny()
-            .ifPresent(wcForSymbol::add));
+    for (int group = 0; group < evaluationOrder.getGroupCount(); group++) {
+      var wcGroup = evaluationOrder.combinationsOf(group);
+      var selected = evaluationOrder.sameSymbolsPositionOf(group, count);
+      for (var position : evaluationOrder.evaluationOrderOf(group)) {
+        // a combination after the best match so far in selection order could no longer be selected
+        if (selected >= 0 && position > selected) continue;
+        var hit = wcGroup[position].matches(symbol, game);
+        if (warmingUp) evaluationOrder.record(group, position, hit);
+        if (hit) selected = position;
+      }
+      if (selected >= 0) wcForSymbol.add(wcGroup[selected]);
+    }
 
     return wcForSymbol;
   }
 
+  private static Symbol[] standardSymbols(Set<Symbol> symbols) {
+    return symbols.stream().filter(Symbol::isStandard).toArray(Symbol[]::new);
+  }
+
+  private static boolean presenceRequired(Map<Group, Set<WinCombination>> winCombinationsByGroup) {
+    return winCombinationsByGroup.values().stream()
+        .flatMap(Set::stream)
+        .allMatch(wc -> wc instanceof LinearWinCombination || wc instanceof ClusterWinCombination
+            || (wc instanceof SameSymbolWinCombination sameSymbolWinCombination && sameSymbolWinCombination.getCount() > 0));
+  }
+
   private boolean bonusSymbolMatches(Symbol symbol, Game game) {
     return game.getCells().containsValue(symbol);
   }
@@ -0,0 +1,74 @@
+package dev.marvel.scratch.domain.wincombination.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.marvel.scratch.domain.core.Clusters;
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Represents a cluster-pays winning combination: a symbol matches it if at least {@code count} cells holding the symbol are connected
+ * orthogonally (horizontally or vertically) on the game matrix. This class extends {@link AbstractWinCombination} and always belongs to
+ * the {@link Group#CLUSTER_SYMBOLS} group.
+ * <p>
+ * Example of a cluster win combination in the configuration JSON:
+ * <pre>
+ * "cluster_of_5": {"reward_multiplier": 2, "when": "cluster", "count": 5, "group": "cluster_symbols"}
+ * </pre>
+ * All cluster win combinations share their group, so a symbol is awarded only one of them: the one with the highest reward multiplier
+ * among those its largest cluster reaches. As the parser requires the reward multipliers of the tiers to grow strictly with their count
+ * (see {@link dev.marvel.scratch.domain.wincombination.parsers.WinCombinationsParser}), this is the tier of the largest count reached.
+ * <p>
+ * The clusters of a board are found once per game (see {@link Game#clusters()}), so any number of cluster win combinations can be
+ * matched against it for the cost of a single pass over the board.
+ */
+@SuperBuilder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ClusterWinCombination extends AbstractWinCombination {
+
+  @Getter
+  private int count;
+
+  /**
+   * Constructs a ClusterWinCombination with a minimum cluster size and reward multiplier.
+   *
+   * @param count The minimum number of orthogonally connected cells of the same symbol for this combination to match.
+   * @param value The reward multiplier applied when this winning combination is matched.
+   * @throws ConfigurationParseException if the 'count' attribute is missing or not a positive integer in the configuration.
+   */
+  @JsonCreator
+  public ClusterWinCombination(@JsonProperty("count") Integer count, @JsonProperty("reward_multiplier") Double value) {
+    super(value, Group.CLUSTER_SYMBOLS);
+    if (count == null || count <= 0) {
+      throw new ConfigurationParseException("Each cluster 'win_combination' should have a positive integer 'count' attribute.");
+    }
+    this.count = count;
+  }
+
+  /**
+   * Determines whether the symbol forms a cluster of at least {@code count} orthogonally connected cells on the game matrix.
+   *
+   * @param symbol The symbol to check for a winning match.
+   * @param game   The current game state, including the placement of symbols.
+   * @return {@code true} if the symbol's largest cluster has at least the required size, {@code false} otherwise.
+   */
+  @Override
+  public boolean matches(Symbol symbol, Game game) {
+    return game.clusters().largestClusterOf(symbol) >= count;
+  }
+
+  /**
+   * Tells whether a cell belongs to a cluster large enough to match this combination.
+   *
+   * @param clusters The clusters of the board.
+   * @param cell     The row-major index of the cell.
+   * @return {@code true} if the cell's cluster has at least {@code count} cells.
+   */
+  public boolean covers(Clusters clusters, int cell) {
+    return clusters.clusterSizeAt(cell) >= count;
+  }
+}
@@ -0,0 +1,58 @@
+package dev.marvel.scratch.domain.wincombination.model;
+
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Enumerates the kinds of {@link CoveredAreaRule}s that generate the covered areas of a linear win combination.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CoveredAreaKind {
+
+  /**
+   * Every full row of the board.
+   */
+  ROWS("rows"),
+
+  /**
+   * Every full column of the board.
+   */
+  COLUMNS("columns"),
+
+  /**
+   * Every full diagonal from the left-top to the right-bottom of the board that is at least {@code length} cells long, or only the
+   * longest diagonals if no length is specified.
+   */
+  LTR_DIAGONALS("ltr_diagonals"),
+
+  /**
+   * Every full diagonal from the right-top to the left-bottom of the board that is at least {@code length} cells long, or only the
+   * longest diagonals if no length is specified.
+   */
+  RTL_DIAGONALS("rtl_diagonals"),
+
+  /**
+   * Every left-to-right path over {@code length} consecutive columns that moves at most one row up or down per column.
+   */
+  PATHS("paths");
+
+  private final String value;
+
+  /**
+   * Converts a rule name to its kind.
+   *
+   * @param value The rule name.
+   * @return The kind of the rule.
+   * @throws ConfigurationParseException if the name does not match any known rule.
+   */
+  public static CoveredAreaKind of(String value) {
+    for (var element : CoveredAreaKind.values()) {
+      if (element.value.equals(value)) {
+        return element;
+      }
+    }
+    throw new ConfigurationParseException("Covered area rule " + value + " not supported");
+  }
+}
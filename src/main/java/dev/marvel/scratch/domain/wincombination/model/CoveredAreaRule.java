@@ -0,0 +1,145 @@
+package dev.marvel.scratch.domain.wincombination.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+
+import java.util.function.Consumer;
+
+/**
+ * A generator of the covered areas of a {@link LinearWinCombination}. Instead of listing every line of a large board cell by cell, the
+ * configuration names a rule, such as "all rows", and the rule is expanded into row-major cell indices ({@code row * columns + column})
+ * only once the dimensions of the board are known. The size of the configuration therefore does not grow with the board.
+ * <p>
+ * Example of the {@code covered_area_rules} attribute of a linear win combination:
+ * <pre>
+ * [{"rule": "rows"}, {"rule": "ltr_diagonals", "length": 3}, {"rule": "paths", "length": 5}]
+ * </pre>
+ *
+ * @param kind   The kind of lines the rule generates.
+ * @param length The minimum diagonal length for diagonal rules, or the exact path length for the path rule. Ignored by row and column
+ *               rules, and {@code 0} if not specified, in which case diagonal rules only generate the longest diagonals.
+ */
+public record CoveredAreaRule(CoveredAreaKind kind, int length) {
+
+  /**
+   * The upper bound of covered areas a single rule may expand into, which protects the game from a rule that would not fit in memory.
+   */
+  public static final int MAX_AREAS = 1 << 20;
+
+  /**
+   * Creates a rule from its configuration JSON node.
+   *
+   * @param rule   The rule name, see {@link CoveredAreaKind}.
+   * @param length The optional length, required by the path rule.
+   * @return The rule.
+   * @throws ConfigurationParseException if the rule is unknown or its length is missing or not positive where required.
+   */
+  @JsonCreator
+  public static CoveredAreaRule of(@JsonProperty("rule") String rule, @JsonProperty("length") Integer length) {
+    if (rule == null) {
+      throw new ConfigurationParseException("Each 'covered_area_rules' entry should have a 'rule' attribute.");
+    }
+    var kind = CoveredAreaKind.of(rule);
+    if (kind == CoveredAreaKind.PATHS && length == null) {
+      throw new ConfigurationParseException("The 'paths' covered area rule should have a 'length' attribute.");
+    }
+    if (length != null && length <= 0) {
+      throw new ConfigurationParseException("The 'length' of covered area rule " + rule + " should be a positive integer.");
+    }
+    return new CoveredAreaRule(kind, length == null ? 0 : length);
+  }
+
+  /**
+   * Expands the rule on a board of the given dimensions, passing each covered area to the sink as an array of row-major cell indices.
+   * Areas are generated one at a time, so a caller that only needs to inspect them does not have to hold them all.
+   *
+   * @param rows    The number of rows of the board.
+   * @param columns The number of columns of the board.
+   * @param sink    The consumer of the generated areas. Each array is owned by the consumer.
+   * @throws ConfigurationParseException if the rule expands into more than {@link #MAX_AREAS} areas.
+   */
+  public void expand(int rows, int columns, Consumer<int[]> sink) {
+    if (count(rows, columns) > MAX_AREAS) {
+      throw new ConfigurationParseException("Covered area rule " + kind.getValue() + " expands into more than " + MAX_AREAS +
+          " covered areas on a " + rows + "x" + columns + " board.");
+    }
+    switch (kind) {
+      case ROWS -> {
+        for (int row = 0; row < rows; row++) {
+          sink.accept(line(row * columns, 1, columns));
+        }
+      }
+      case COLUMNS -> {
+        for (int column = 0; column < columns; column++) {
+          sink.accept(line(column, columns, rows));
+        }
+      }
+      case LTR_DIAGONALS -> {
+        var minLength = length == 0 ? Math.min(rows, columns) : length;
+        for (int start = -(rows - 1); start < columns; start++) {
+          var row = Math.max(0, -start);
+          var column = Math.max(0, start);
+          var diagonalLength = Math.min(rows - row, columns - column);
+          if (diagonalLength >= minLength) {
+            sink.accept(line(row * columns + column, columns + 1, diagonalLength));
+          }
+        }
+      }
+      case RTL_DIAGONALS -> {
+        var minLength = length == 0 ? Math.min(rows, columns) : length;
+        for (int start = 0; start < rows + columns - 1; start++) {
+          var row = Math.max(0, start - (columns - 1));
+          var column = Math.min(start, columns - 1);
+          var diagonalLength = Math.min(rows - row, column + 1);
+          if (diagonalLength >= minLength) {
+            sink.accept(line(row * columns + column, columns - 1, diagonalLength));
+          }
+        }
+      }
+      case PATHS -> {
+        var path = new int[length];
+        for (int column = 0; column + length <= columns; column++) {
+          for (int row = 0; row < rows; row++) {
+            path[0] = row * columns + column;
+            extendPath(path, 1, row, column, rows, columns, sink);
+          }
+        }
+      }
+    }
+  }
+
+  private long count(int rows, int columns) {
+    if (kind != CoveredAreaKind.PATHS) {
+      return (long) rows + columns;
+    }
+    if (length > columns) {
+      return 0;
+    }
+    // every step of a path moves to one of at most three rows of the next column
+    var count = (long) rows * (columns - length + 1);
+    for (int step = 1; step < length && count <= MAX_AREAS; step++) {
+      count *= Math.min(3, rows);
+    }
+    return count;
+  }
+
+  private static void extendPath(int[] path, int position, int row, int column, int rows, int columns, Consumer<int[]> sink) {
+    if (position == path.length) {
+      sink.accept(path.clone());
+      return;
+    }
+    for (int next = Math.max(0, row - 1); next <= Math.min(rows - 1, row + 1); next++) {
+      path[position] = next * columns + column + position;
+      extendPath(path, position + 1, next, column, rows, columns, sink);
+    }
+  }
+
+  private static int[] line(int first, int stride, int length) {
+    var line = new int[length];
+    for (int i = 0; i < length; i++) {
+      line[i] = first + i * stride;
+    }
+    return line;
+  }
+}
@@ -2,6 +2,7 @@ package dev.marvel.scratch.domain.wincombination.model;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -15,6 +16,7 @@ import lombok.RequiredArgsConstructor;
  *
  * @see WinCombination for how these groups are utilized in defining winning combinations.
  */
+@Getter
 @RequiredArgsConstructor
 public enum Group {
 
@@ -43,7 +45,12 @@ public enum Group {
    * Represents win combinations formed by the same symbol appearing consecutively along a diagonal line from the right-top to the
    * left-bottom of the game matrix.
    */
-  RTL_DIAGONALLY_LINEAR_SYMBOLS("rtl_diagonally_linear_symbols");
+  RTL_DIAGONALLY_LINEAR_SYMBOLS("rtl_diagonally_linear_symbols"),
+
+  /**
+   * Represents win combinations formed by the same symbol occupying a group of orthogonally connected cells of a minimum size.
+   */
+  CLUSTER_SYMBOLS("cluster_symbols");
 
   private final String value;
 
@@ -7,10 +7,14 @@ import dev.marvel.scratch.domain.core.Cell;
 import dev.marvel.scratch.domain.core.Game;
 import dev.marvel.scratch.domain.symbol.model.Symbol;
 import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
-import java.util.Optional;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Defines a linear winning combination in the scratch game, which is a specific type of {@link AbstractWinCombination}. A linear
@@ -18,14 +22,26 @@ import java.util.Set;
  * match to constitute a win.
  * <p>
  * This class handles the deserialization of such combinations from the game's configuration JSON, including their reward multiplier,
- * grouping criteria, and the specific cells that form each linear pattern.
+ * grouping criteria, and the specific cells that form each linear pattern. The patterns may be listed cell by cell in
+ * {@code covered_areas}, generated by {@link CoveredAreaRule}s in {@code covered_area_rules}, or both. Either way they are expanded into
+ * arrays of row-major cell indices once per board size, together with the bitset of every area, and matching only reads those.
+ * <p>
+ * A symbol matches an area if every cell of the area holds the symbol or a wild. Matching ANDs the area's bitset with the symbol's
+ * occupancy mask ORed with the wild mask (see {@link dev.marvel.scratch.domain.core.Occupancy}), one word of 64 cells at a time, which
+ * also decides which symbol an area containing wilds pays as.
  */
 @SuperBuilder
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class LinearWinCombination extends AbstractWinCombination {
 
+  @Getter
   private Set<Set<Cell>> coveredAreas;
 
+  @Getter
+  private List<CoveredAreaRule> coveredAreaRules;
+
+  private final AtomicReference<IndexedAreas> indexedAreas = new AtomicReference<>();
+
   /**
    * Constructs a LinearWinCombination with defined reward multiplier, group, and covered areas.
    *
@@ -34,17 +50,50 @@ public class LinearWinCombination extends AbstractWinCombination {
    * @param coveredAreas The sets of cell groups, each representing a linear pattern necessary for a match.
    * @throws ConfigurationParseException if the 'covered_areas' attribute is missing from the JSON configuration.
    */
+  public LinearWinCombination(double value, String group, Set<Set<Cell>> coveredAreas) {
+    this(value, group, coveredAreas, null);
+  }
+
+  /**
+   * Constructs a LinearWinCombination whose covered areas are listed explicitly, generated by rules, or both.
+   *
+   * @param value The reward multiplier for this winning combination.
+   * @param group The group identifier that categorizes the win combination.
+   * @param coveredAreas The sets of cell groups, each representing a linear pattern necessary for a match, or {@code null}.
+   * @param coveredAreaRules The rules generating further linear patterns, or {@code null}.
+   * @throws ConfigurationParseException if neither the 'covered_areas' nor the 'covered_area_rules' attribute is present in the JSON
+   * configuration.
+   */
   @JsonCreator
   public LinearWinCombination(@JsonProperty("reward_multiplier") double value, @JsonProperty("group") String group,
-                              @JsonProperty("covered_areas") Set<Set<Cell>> coveredAreas) {
+                              @JsonProperty("covered_areas") Set<Set<Cell>> coveredAreas,
+                              @JsonProperty("covered_area_rules") List<CoveredAreaRule> coveredAreaRules) {
     super(value, Group.of(group));
-    this.coveredAreas = Optional.of(coveredAreas)
-        .orElseThrow(() -> new ConfigurationParseException("Each linear 'win_combination' should have a 'covered_areas' attribute."));
+    if (coveredAreas == null && coveredAreaRules == null) {
+      throw new ConfigurationParseException("Each linear 'win_combination' should have a 'covered_areas' or a 'covered_area_rules' " +
+          "attribute.");
+    }
+    this.coveredAreas = coveredAreas == null ? Set.of() : coveredAreas;
+    this.coveredAreaRules = coveredAreaRules == null ? List.of() : List.copyOf(coveredAreaRules);
+  }
+
+  /**
+   * Returns the covered areas of this combination on a board of the given dimensions as arrays of row-major cell indices, each sorted
+   * ascending, without duplicates and in lexicographic order. The areas are expanded on the first call for a board size and reused
+   * afterwards, so the configuration only pays for its rules once.
+   *
+   * @param rows    The number of rows of the board.
+   * @param columns The number of columns of the board.
+   * @return The covered areas. The arrays must not be modified.
+   * @throws ConfigurationParseException if a listed cell lies outside the board or a rule expands into too many areas.
+   */
+  public int[][] coveredAreaIndices(int rows, int columns) {
+    return indexedAreas(rows, columns).areas();
   }
 
   /**
-   * Determines if this linear win combination matches the current game state for the given symbol. A match occurs if the symbol occupies
-   * all cells in any one of the specified linear patterns.
+   * Determines if this linear win combination matches the current game state for the given symbol. A match occurs if the symbol, with
+   * wilds substituting for it, occupies all cells in any one of the specified linear patterns.
    *
    * @param symbol The symbol to check for a winning match.
    * @param game The current game state, including the placement of symbols.
@@ -52,8 +101,56 @@ public class LinearWinCombination extends AbstractWinCombination {
    */
   @Override
   public boolean matches(Symbol symbol, Game game) {
-    return coveredAreas.stream()
-        .anyMatch(ca -> ca.stream()
-            .allMatch(cell -> game.getCells().get(cell).equals(symbol)));
+    var indexed = indexedAreas(game.getRows(), game.getColumns());
+    return game.occupancy().coversAny(symbol, indexed.words(), indexed.bits());
+  }
+
+  private IndexedAreas indexedAreas(int rows, int columns) {
+    var current = indexedAreas.get();
+    if (current == null || current.rows() != rows || current.columns() != columns) {
+      var areas = expand(rows, columns);
+      var words = new int[areas.length][];
+      var bits = new long[areas.length][];
+      for (int area = 0; area < areas.length; area++) {
+        words[area] = Arrays.stream(areas[area]).map(cell -> cell >>> 6).distinct().toArray();
+        bits[area] = new long[words[area].length];
+        for (var cell : areas[area]) {
+          bits[area][Arrays.binarySearch(words[area], cell >>> 6)] |= 1L << cell;
+        }
+      }
+      current = new IndexedAreas(rows, columns, areas, words, bits);
+      indexedAreas.set(current);
+    }
+    return current;
+  }
+
+  private int[][] expand(int rows, int columns) {
+    var areas = new TreeSet<int[]>(Arrays::compare);
+    // instances built with the builder may leave either attribute unset
+    var listedAreas = coveredAreas == null ? Set.<Set<Cell>>of() : coveredAreas;
+    var rules = coveredAreaRules == null ? List.<CoveredAreaRule>of() : coveredAreaRules;
+    listedAreas.forEach(area -> areas.add(area.stream()
+        .mapToInt(cell -> {
+          if (cell.row() < 0 || cell.row() >= rows || cell.column() < 0 || cell.column() >= columns) {
+            throw new ConfigurationParseException("Cell " + cell.row() + ":" + cell.column() + " covered by win combination " +
+                getName() + " lies outside the " + rows + "x" + columns + " matrix.");
+          }
+          return cell.row() * columns + cell.column();
+        })
+        .sorted()
+        .toArray()));
+    rules.forEach(rule -> rule.expand(rows, columns, area -> {
+      Arrays.sort(area);
+      areas.add(area);
+    }));
+    return areas.toArray(int[][]::new);
+  }
+
+  /**
+   * The covered areas on a board of fixed dimensions, each also as its bitset: the indices of the 64-cell words its cells fall into, and
+   * the bits of its cells in each of those words.
+   */
+  private record IndexedAreas(int rows, int columns, int[][] areas, int[][] words, long[][] bits) {
+
   }
 }
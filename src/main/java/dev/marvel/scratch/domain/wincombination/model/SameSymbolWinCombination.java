@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.marvel.scratch.domain.core.Game;
 import dev.marvel.scratch.domain.symbol.model.Symbol;
 import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
 import java.util.Optional;
@@ -21,6 +22,7 @@ import java.util.Optional;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class SameSymbolWinCombination extends AbstractWinCombination {
 
+  @Getter
   private int count;
 
   /**
@@ -40,7 +42,7 @@ public class SameSymbolWinCombination extends AbstractWinCombination {
 
   /**
    * Determines whether this winning combination matches based on the current game state and the specified symbol. A match occurs when the
-   * number of appearances of the symbol in the game's cells equals the 'count' requirement.
+   * number of appearances of the symbol in the game's cells, with every wild counting as an appearance, equals the 'count' requirement.
    *
    * @param symbol The symbol to check for a winning match.
    * @param game The current game state, including the placement of symbols.
@@ -48,9 +50,6 @@ public class SameSymbolWinCombination extends AbstractWinCombination {
    */
   @Override
   public boolean matches(Symbol symbol, Game game) {
-    var symbolCount = game.getCells().values().stream()
-        .filter(symbol::equals)
-        .count();
-    return symbolCount == count;
+    return game.occupancy().countWithWilds(symbol) == count;
   }
 }
@@ -8,8 +8,8 @@ import dev.marvel.scratch.domain.symbol.model.Symbol;
 /**
  * Defines the contract for winning combinations in the scratch game. Winning combinations are patterns of symbols that, when matched in
  * a game, contribute to the player's score based on a defined reward multiplier. This interface supports polymorphic JSON
- * deserialization to handle different types of winning combinations, such as those based on the same symbol repetition or specific
- * linear arrangements of symbols.
+ * deserialization to handle different types of winning combinations, such as those based on the same symbol repetition, specific
+ * linear arrangements of symbols or clusters of connected symbols.
  * <p>
  * Implementations must specify how a combination matches against the current game state and symbol, the associated reward multiplier,
  * the name identifying the combination, and the group category it belongs to.
@@ -17,7 +17,8 @@ import dev.marvel.scratch.domain.symbol.model.Symbol;
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "when")
 @JsonSubTypes({
     @JsonSubTypes.Type(value = SameSymbolWinCombination.class, name = "same_symbols"),
-    @JsonSubTypes.Type(value = LinearWinCombination.class, name = "linear_symbols")
+    @JsonSubTypes.Type(value = LinearWinCombination.class, name = "linear_symbols"),
+    @JsonSubTypes.Type(value = ClusterWinCombination.class, name = "cluster")
 })
 public interface WinCombination {
 
@@ -6,11 +6,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.marvel.scratch.configuration.Configuration;
 import dev.marvel.scratch.configuration.Parser;
 import dev.marvel.scratch.domain.wincombination.model.AbstractWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.ClusterWinCombination;
 import dev.marvel.scratch.domain.wincombination.model.WinCombination;
 import dev.marvel.scratch.exceptions.ConfigurationParseException;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Comparator;
 import java.util.Map;
+import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.stream.Collectors;
@@ -22,7 +25,12 @@ import java.util.stream.StreamSupport;
  * <p>
  * This parser is responsible for interpreting the 'win_combinations' attribute of the configuration JSON, converting it into a set of
  * {@link WinCombination} instances that define the criteria for winning in the game. Each winning combination specifies a pattern of
- * symbols on the game matrix that, if matched, contributes to the player's score.
+ * symbols on the game matrix that, if matched, contributes to the player's score. The 'when' attribute of a combination selects its
+ * kind: {@code same_symbols}, {@code linear_symbols} or {@code cluster}.
+ * <p>
+ * The cluster combinations are tiers of one group, of which a symbol is awarded the one with the highest reward multiplier its largest
+ * cluster reaches. Their reward multipliers must therefore grow strictly with their count, so that the tier awarded is always the one of
+ * the largest count reached.
  *
  * @see WinCombination for details on the structure of a winning combination.
  * @see Configuration for how the parsed winning combinations are integrated into the game configuration.
@@ -50,9 +58,26 @@ public class WinCombinationsParser implements Parser {
     var winCombinations = StreamSupport.stream(spliterator, true)
         .map(this::parseInternal)
         .collect(Collectors.toSet());
+    validateClusterTiers(winCombinations);
     configuration.setWinCombinations(winCombinations);
   }
 
+  private static void validateClusterTiers(Set<WinCombination> winCombinations) {
+    var tiers = winCombinations.stream()
+        .filter(ClusterWinCombination.class::isInstance)
+        .map(ClusterWinCombination.class::cast)
+        .sorted(Comparator.comparingInt(ClusterWinCombination::getCount).thenComparingDouble(WinCombination::getRewardMultiplier))
+        .toList();
+    for (int i = 1; i < tiers.size(); i++) {
+      var smaller = tiers.get(i - 1);
+      var larger = tiers.get(i);
+      if (larger.getCount() == smaller.getCount() || larger.getRewardMultiplier() <= smaller.getRewardMultiplier()) {
+        throw new ConfigurationParseException("The cluster 'win_combinations' should pay strictly more for a larger 'count', but '" +
+            larger.getName() + "' does not pay more than '" + smaller.getName() + "'.");
+      }
+    }
+  }
+
   private WinCombination parseInternal(Map.Entry<String, JsonNode> winCombinationNode) {
     try {
       var winCombination = mapper.treeToValue(winCombinationNode.getValue(), AbstractWinCombination.class);
@@ -60,7 +85,11 @@ public class WinCombinationsParser implements Parser {
       winCombination.setName(name);
       return winCombination;
     } catch (JsonProcessingException e) {
-      throw new ConfigurationParseException("Could not parse configuration node ");
+      // a win combination rejecting its own attributes reports why, rather than being reported as unparseable
+      if (e.getCause() instanceof ConfigurationParseException cause) {
+        throw cause;
+      }
+      throw new ConfigurationParseException("Could not parse configuration node " + winCombinationNode.getKey());
     }
   }
 }
@@ -0,0 +1,12 @@
+package dev.marvel.scratch.exceptions;
+
+public class LedgerException extends RuntimeException {
+
+  public LedgerException(String message) {
+    super(message);
+  }
+
+  public LedgerException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
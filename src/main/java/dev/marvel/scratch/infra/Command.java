@@ -0,0 +1,80 @@
+package dev.marvel.scratch.infra;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Enumerates the commands the game application can execute. The command is the optional first command-line argument; when it is
+ * omitted, a single round is played.
+ */
+@RequiredArgsConstructor
+public enum Command {
+
+  /**
+   * Plays a single round and writes its result.
+   */
+  PLAY("play"),
+
+  /**
+   * Rebuilds the board and result of a historical round from the master seed and the round index it was played with.
+   */
+  REPLAY("replay"),
+
+  /**
+   * Parses and validates the JSON configuration and writes it as a binary snapshot that later runs can load without parsing JSON.
+   */
+  COMPILE_CONFIG("compile-config"),
+
+  /**
+   * Keeps running and plays a round for every bet read from the standard input, reloading the configuration whenever it changes on disk
+   * or a {@code reload} line is read.
+   */
+  SERVE("serve"),
+
+  /**
+   * Calculates the exact return to player of the configuration for the betting amount by enumerating every board it can produce, and
+   * prints it instead of playing a round.
+   */
+  RTP("rtp"),
+
+  /**
+   * Simulates rounds of the configuration and of one or more variant paytables on the same boards, and prints the return to player of
+   * every paytable and its difference from that of the configuration instead of playing a round.
+   */
+  COMPARE("compare"),
+
+  /**
+   * Estimates the return to player of the configuration and the contribution of each of its win combinations by importance sampling,
+   * which covers combinations too rare for plain simulation, and prints them instead of playing a round.
+   */
+  CONTRIBUTIONS("contributions"),
+
+  /**
+   * Tunes the weights of the standard symbols in the cell probabilities until the return to player of the configuration reaches a
+   * target, writes the configuration with the tuned weights to a new file and prints the tuned figures instead of playing a round.
+   */
+  SOLVE("solve"),
+
+  /**
+   * Computes the return to player of the configuration, the part of it every symbol and win combination pays and its derivatives with
+   * respect to the symbol values, the win combination multipliers and the cell weights, and prints them instead of playing a round.
+   */
+  SENSITIVITY("sensitivity");
+
+  private final String value;
+
+  /**
+   * Converts a command-line value to its corresponding {@code Command}.
+   *
+   * @param value The command name as given on the command line.
+   * @return The matching command.
+   * @throws IllegalArgumentException if the value does not match any known command.
+   */
+  public static Command of(String value) {
+    for (var element : Command.values()) {
+      if (value.equals(element.value)) {
+        return element;
+      }
+    }
+    throw new IllegalArgumentException("Unknown command: " + value);
+  }
+}
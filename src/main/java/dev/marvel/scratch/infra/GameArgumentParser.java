@@ -1,5 +1,11 @@
 package dev.marvel.scratch.infra;
 
+import dev.marvel.scratch.domain.probability.random.Sampling;
+import dev.marvel.scratch.domain.rtp.SolverTarget;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Parses command-line arguments provided to the game application, specifically looking for configuration file information and betting
@@ -7,12 +13,51 @@ package dev.marvel.scratch.infra;
  */
 public class GameArgumentParser {
 
+  private static final String USAGE = """
+      Usage: java -jar <jar-name> [command] <arguments>
+        [play]          --config <filename> --betting-amount <amount> [--ledger <filename>] [--seed <seed> --round <round>]
+        replay          --config <filename> --betting-amount <amount> --seed <seed> --round <round>
+        compile-config  --config <filename> --snapshot <filename>
+        serve           (--config <filename> [--spin-ahead <boards>] | --catalog <directory>) [--ledger <filename>]
+                        [--seed <seed> --round <round>]
+        rtp             --config <filename> --betting-amount <amount>
+        compare         --config <filename> --betting-amount <amount> --variant <filename> [--variant <filename> ...]
+                        --rounds <count> [--seed <seed> --round <round>] [--sampling <pseudo-random|stratified|halton>]
+        contributions   --config <filename> --betting-amount <amount> --rounds <count> [--tilt <probability>]
+                        [--seed <seed> --round <round>] [--sampling <pseudo-random|stratified|halton>]
+        solve           --config <filename> --betting-amount <amount> --target-rtp <rtp> --output <filename>
+                        [--hit-frequency <min:max>] [--volatility <min:max>] [--rounds <count>] [--seed <seed> --round <round>]
+        sensitivity     --config <filename> --betting-amount <amount> [--rounds <count>] [--seed <seed> --round <round>]
+      Every command but compile-config also accepts '--snapshot <filename>' (not with '--catalog') and
+      '--scoring <double|fixed-point>'.""";
+
   /**
    * Parses the input arguments from the command line to extract and validate the game configuration file name and the betting amount.
    * <p>
-   * The method expects exactly two arguments: {@code --config} followed by the configuration file name, and {@code --betting-amount}
-   * followed by an integer representing the betting amount. It validates the presence and format of these arguments, throwing
-   * {@link IllegalArgumentException} for any discrepancies.
+   * The arguments may start with a command name (see {@link Command}); without one, a single round is played. The method expects
+   * exactly two mandatory arguments: {@code --config} followed by the configuration file name, and {@code --betting-amount} followed by
+   * an integer representing the betting amount. Optionally, {@code --ledger} followed by a file name enables the durable write-ahead
+   * ledger of played rounds, {@code --seed} and {@code --round} together select the reproducible counter-based random source, and
+   * {@code --snapshot} loads the configuration from a compiled snapshot. The {@code replay} command requires the seed and round and does
+   * not accept a ledger; the {@code compile-config} command requires {@code --config} and the {@code --snapshot} to write, but no
+   * betting amount; the {@code serve} command requires either {@code --config} or {@code --catalog} followed by a directory of
+   * configuration files, and reads the betting amount of each round from the standard input instead. When serving a single
+   * configuration, {@code --spin-ahead} followed by a positive number of boards spins boards ahead of time. The {@code rtp} command
+   * takes the same arguments as a played round but no ledger, seed or round. Every command playing or evaluating rounds accepts
+   * {@code --scoring fixed-point} to compute rewards in fixed-point micro-units rather than in {@code double}, which is the default
+   * ({@code --scoring double}). The {@code compare} command requires one or more {@code --variant} arguments, each followed by the
+   * configuration file of a variant paytable, and {@code --rounds} followed by the positive number of rounds to simulate; it accepts a
+   * seed and round selecting the simulated boards, but no ledger. The {@code contributions} command likewise requires {@code --rounds}
+   * and accepts a seed and round but no ledger, and optionally takes {@code --tilt} followed by the probability between {@code 0.01}
+   * and {@code 0.99} tilted symbols are drawn with. Both accept {@code --sampling} followed by {@code pseudo-random} (the default),
+   * {@code stratified} or {@code halton} to spread the simulated boards with a {@link Sampling} scheme; no other command accepts it, so
+   * live play never spins stratified or quasi-random boards. The {@code solve} command requires {@code --target-rtp} followed by the
+   * return to player to tune the weights to and {@code --output} followed by the file to write the tuned configuration to, optionally
+   * takes {@code --hit-frequency} and {@code --volatility}, each followed by a band {@code min:max} that may leave either bound out,
+   * and {@code --rounds} to tune on simulated rounds rather than on every board; it accepts a seed and round but no ledger. The
+   * {@code sensitivity} command likewise takes {@code --rounds} to evaluate simulated rounds rather than every board, and accepts a seed
+   * and round but no ledger. It validates the presence and format of these arguments, throwing {@link IllegalArgumentException} for any
+   * discrepancies.
    *
    * @param args The command-line arguments provided to the game application.
    * @return A {@link GameArguments} object containing the parsed configuration file name and betting amount.
@@ -20,13 +65,32 @@ public class GameArgumentParser {
    * betting amount is not a valid integer.
    */
   public GameArguments parse(String[] args) {
-    if (args.length != 4) {
-      throw new IllegalArgumentException("Please specify exactly two arguments for the jar command, including: " +
-          "'--config <filename>' and '--betting-amount <amount>'");
+    var command = Command.PLAY;
+    if (args.length > 0 && !args[0].startsWith("--")) {
+      command = Command.of(args[0]);
+      args = Arrays.copyOfRange(args, 1, args.length);
+    }
+    if (args.length % 2 != 0) {
+      throw new IllegalArgumentException(USAGE);
     }
 
-    var configFilename = "";
-    var bettingAmount = 0;
+    String configFilename = null;
+    Integer bettingAmount = null;
+    String ledgerFilename = null;
+    Long seed = null;
+    Long round = null;
+    String snapshotFilename = null;
+    String catalogDirectory = null;
+    Integer spinAhead = null;
+    var fixedPoint = false;
+    var variantFilenames = new ArrayList<String>();
+    Long rounds = null;
+    Double tilt = null;
+    Sampling sampling = null;
+    Double targetRtp = null;
+    Double[] hitFrequency = {null, null};
+    Double[] volatility = {null, null};
+    String outputFilename = null;
 
     for (int i = 0; i < args.length; i++) {
       switch (args[i]) {
@@ -40,11 +104,218 @@ public class GameArgumentParser {
             throw new IllegalArgumentException("Please specify a valid integer for --betting-amount");
           }
           break;
+        case "--ledger":
+          ledgerFilename = args[++i];
+          break;
+        case "--seed":
+          seed = parseLong(args[++i], "--seed");
+          break;
+        case "--round":
+          round = parseLong(args[++i], "--round");
+          break;
+        case "--snapshot":
+          snapshotFilename = args[++i];
+          break;
+        case "--catalog":
+          catalogDirectory = args[++i];
+          break;
+        case "--spin-ahead":
+          try {
+            spinAhead = Integer.parseInt(args[++i]);
+          } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Please specify a valid integer for --spin-ahead");
+          }
+          break;
+        case "--scoring":
+          fixedPoint = switch (args[++i]) {
+            case "double" -> false;
+            case "fixed-point" -> true;
+            default -> throw new IllegalArgumentException("Please specify either 'double' or 'fixed-point' for --scoring");
+          };
+          break;
+        case "--variant":
+          variantFilenames.add(args[++i]);
+          break;
+        case "--rounds":
+          rounds = parseLong(args[++i], "--rounds");
+          break;
+        case "--sampling":
+          try {
+            sampling = Sampling.of(args[++i]);
+          } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Please specify 'pseudo-random', 'stratified' or 'halton' for --sampling");
+          }
+          break;
+        case "--tilt":
+          try {
+            tilt = Double.parseDouble(args[++i]);
+          } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Please specify a valid probability for --tilt");
+          }
+          break;
+        case "--target-rtp":
+          try {
+            targetRtp = Double.parseDouble(args[++i]);
+          } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Please specify a valid number for --target-rtp");
+          }
+          break;
+        case "--hit-frequency":
+          hitFrequency = parseBand(args[++i], "--hit-frequency");
+          break;
+        case "--volatility":
+          volatility = parseBand(args[++i], "--volatility");
+          break;
+        case "--output":
+          outputFilename = args[++i];
+          break;
         default:
-          throw new IllegalArgumentException(String.format("Unknown argument: %s. Please specify exactly two arguments " +
-              "for the jar command, including: '--config <filename>' and '--betting-amount <amount>'", args[i]));
+          throw new IllegalArgumentException(String.format("Unknown argument: %s. %s", args[i], USAGE));
+      }
+    }
+    if (catalogDirectory != null && command != Command.SERVE) {
+      throw new IllegalArgumentException("'--catalog' can only be used with the 'serve' command.");
+    }
+    if (spinAhead != null && (command != Command.SERVE || catalogDirectory != null)) {
+      throw new IllegalArgumentException("'--spin-ahead' can only be used with the 'serve' command and a single '--config'.");
+    }
+    if (spinAhead != null && spinAhead <= 0) {
+      throw new IllegalArgumentException("Please specify a positive number of boards for --spin-ahead");
+    }
+    if (!variantFilenames.isEmpty() && command != Command.COMPARE) {
+      throw new IllegalArgumentException("'--variant' can only be used with the 'compare' command.");
+    }
+    if (rounds != null && command != Command.COMPARE && command != Command.CONTRIBUTIONS && command != Command.SOLVE
+        && command != Command.SENSITIVITY) {
+      throw new IllegalArgumentException("'--rounds' can only be used with the 'compare', 'contributions', 'solve' and 'sensitivity' " +
+          "commands.");
+    }
+    var tuned = targetRtp != null || outputFilename != null || hitFrequency[0] != null || hitFrequency[1] != null
+        || volatility[0] != null || volatility[1] != null;
+    if (tuned && command != Command.SOLVE) {
+      throw new IllegalArgumentException("'--target-rtp', '--hit-frequency', '--volatility' and '--output' can only be used with the " +
+          "'solve' command.");
+    }
+    if (sampling != null && command != Command.COMPARE && command != Command.CONTRIBUTIONS) {
+      throw new IllegalArgumentException("'--sampling' can only be used with the 'compare' and 'contributions' commands.");
+    }
+    if (tilt != null && command != Command.CONTRIBUTIONS) {
+      throw new IllegalArgumentException("'--tilt' can only be used with the 'contributions' command.");
+    }
+    if (tilt != null && !(tilt >= 0.01 && tilt <= 0.99)) {
+      throw new IllegalArgumentException("Please specify a probability between 0.01 and 0.99 for --tilt");
+    }
+    if (rounds != null && rounds <= 0) {
+      throw new IllegalArgumentException("Please specify a positive number of rounds for --rounds");
+    }
+    if (command == Command.COMPILE_CONFIG) {
+      return parseCompileConfig(configFilename, snapshotFilename);
+    }
+    if (command == Command.SERVE && (configFilename == null) == (catalogDirectory == null)) {
+      throw new IllegalArgumentException("The 'serve' command requires either '--config <filename>' or '--catalog <directory>'.");
+    }
+    if (catalogDirectory != null && snapshotFilename != null) {
+      throw new IllegalArgumentException("'--snapshot' cannot be used with '--catalog'.");
+    }
+    if (command == Command.SERVE && bettingAmount != null) {
+      throw new IllegalArgumentException("The 'serve' command reads the betting amount of each round from the standard input, so " +
+          "'--betting-amount' cannot be used with 'serve'.");
+    }
+    if (command != Command.SERVE && (configFilename == null || bettingAmount == null)) {
+      throw new IllegalArgumentException(USAGE);
+    }
+    if ((seed == null) != (round == null)) {
+      throw new IllegalArgumentException("'--seed' and '--round' should be specified together.");
+    }
+    if (command == Command.REPLAY && seed == null) {
+      throw new IllegalArgumentException("The 'replay' command requires '--seed <seed>' and '--round <round>'.");
+    }
+    if (command == Command.RTP && (ledgerFilename != null || seed != null)) {
+      throw new IllegalArgumentException("The 'rtp' command plays no round, so '--ledger', '--seed' and '--round' cannot be used with " +
+          "'rtp'.");
+    }
+    if (command == Command.COMPARE && (variantFilenames.isEmpty() || rounds == null)) {
+      throw new IllegalArgumentException("The 'compare' command requires '--variant <filename>' and '--rounds <count>'.");
+    }
+    if (command == Command.COMPARE && ledgerFilename != null) {
+      throw new IllegalArgumentException("Compared rounds are not recorded, so '--ledger' cannot be used with 'compare'.");
+    }
+    if (command == Command.CONTRIBUTIONS && rounds == null) {
+      throw new IllegalArgumentException("The 'contributions' command requires '--rounds <count>'.");
+    }
+    if (command == Command.CONTRIBUTIONS && ledgerFilename != null) {
+      throw new IllegalArgumentException("Simulated rounds are not recorded, so '--ledger' cannot be used with 'contributions'.");
+    }
+    if (command == Command.SOLVE && (targetRtp == null || outputFilename == null)) {
+      throw new IllegalArgumentException("The 'solve' command requires '--target-rtp <rtp>' and '--output <filename>'.");
+    }
+    if (command == Command.SOLVE && ledgerFilename != null) {
+      throw new IllegalArgumentException("Simulated rounds are not recorded, so '--ledger' cannot be used with 'solve'.");
+    }
+    if (command == Command.SENSITIVITY && ledgerFilename != null) {
+      throw new IllegalArgumentException("Simulated rounds are not recorded, so '--ledger' cannot be used with 'sensitivity'.");
+    }
+    if (command == Command.REPLAY && ledgerFilename != null) {
+      throw new IllegalArgumentException("A replayed round is not recorded, so '--ledger' cannot be used with 'replay'.");
+    }
+    var target = command == Command.SOLVE
+        ? new SolverTarget(targetRtp, hitFrequency[0], hitFrequency[1], volatility[0], volatility[1])
+        : null;
+    return GameArguments.builder()
+        .command(command)
+        .configFilename(configFilename)
+        .bet(bettingAmount == null ? 0 : bettingAmount)
+        .ledgerFilename(ledgerFilename)
+        .seed(seed)
+        .round(round)
+        .snapshotFilename(snapshotFilename)
+        .catalogDirectory(catalogDirectory)
+        .spinAhead(spinAhead)
+        .fixedPoint(fixedPoint)
+        .variantFilenames(command == Command.COMPARE ? List.copyOf(variantFilenames) : null)
+        .rounds(rounds)
+        .tilt(tilt)
+        .sampling(sampling)
+        .target(target)
+        .outputFilename(outputFilename)
+        .build();
+  }
+
+  private GameArguments parseCompileConfig(String configFilename, String snapshotFilename) {
+    if (configFilename == null || snapshotFilename == null) {
+      throw new IllegalArgumentException("The 'compile-config' command requires '--config <filename>' and '--snapshot <filename>'.");
+    }
+    return GameArguments.builder()
+        .command(Command.COMPILE_CONFIG)
+        .configFilename(configFilename)
+        .snapshotFilename(snapshotFilename)
+        .build();
+  }
+
+  /**
+   * Parses a band {@code min:max}, either bound of which may be left out.
+   */
+  private Double[] parseBand(String value, String argument) {
+    var bounds = value.split(":", -1);
+    if (bounds.length != 2) {
+      throw new IllegalArgumentException("Please specify a band 'min:max' for " + argument);
+    }
+    var band = new Double[2];
+    try {
+      for (int i = 0; i < 2; i++) {
+        band[i] = bounds[i].isBlank() ? null : Double.valueOf(bounds[i]);
       }
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Please specify a band 'min:max' for " + argument);
+    }
+    return band;
+  }
+
+  private long parseLong(String value, String argument) {
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Please specify a valid integer for " + argument);
     }
-    return new GameArguments(configFilename, bettingAmount);
   }
-}
\ No newline at end of file
+}
@@ -1,7 +1,44 @@
 package dev.marvel.scratch.infra;
 
+import dev.marvel.scratch.domain.probability.random.Sampling;
+import dev.marvel.scratch.domain.rtp.SolverTarget;
+import lombok.Builder;
+
+import java.util.List;
+
 /**
  * Holds the arguments necessary for initializing a game session, specifically the configuration file name and the bet amount.
  * This class serves as a data transfer object that encapsulates the command-line parameters parsed by {@link GameArgumentParser}.
+ *
+ * @param command          The command to execute.
+ * @param configFilename   The configuration file to load.
+ * @param bet              The betting amount (unused by {@code serve}, which reads a bet per round).
+ * @param ledgerFilename   The write-ahead ledger file to record the round in, or {@code null} if no ledger is kept.
+ * @param seed             The master seed of the counter-based random source, or {@code null} to spin from a secure random source.
+ * @param round            The index of the round within the seeded sequence (for {@code serve}, of the first round), or {@code null} if no
+ *                         seed is given.
+ * @param snapshotFilename The compiled configuration snapshot to load the configuration from (or, for {@code compile-config}, to write
+ *                         to), or {@code null} to parse the JSON configuration.
+ * @param catalogDirectory The directory of configuration files to serve as a game catalog, or {@code null} to serve a single
+ *                         configuration.
+ * @param spinAhead        The number of boards {@code serve} spins ahead of time on background threads, or {@code null} to spin every
+ *                         board on the request path.
+ * @param fixedPoint       Whether rewards are computed in fixed-point micro-units by a
+ *                         {@link dev.marvel.scratch.domain.scorer.FixedPointScorer} rather than in {@code double}.
+ * @param variantFilenames The configuration files of the variant paytables {@code compare} compares the configuration to, or
+ *                         {@code null} for any other command.
+ * @param rounds           The number of rounds {@code compare} or {@code contributions} simulates, or {@code solve} tunes the weights
+ *                         on, or {@code null} for any other command or if {@code solve} enumerates every board.
+ * @param tilt             The probability {@code contributions} draws a tilted symbol with, or {@code null} for the default or any other
+ *                         command.
+ * @param sampling         The sampling scheme {@code compare} or {@code contributions} spreads its boards with, or {@code null} for
+ *                         independent pseudo-random rounds.
+ * @param target           The figures {@code solve} tunes the weights towards, or {@code null} for any other command.
+ * @param outputFilename   The file {@code solve} writes the configuration with the tuned weights to, or {@code null} for any other
+ *                         command.
  */
-public record GameArguments(String configFilename, int bet) {}
+@Builder
+public record GameArguments(Command command, String configFilename, int bet, String ledgerFilename, Long seed, Long round,
+                            String snapshotFilename, String catalogDirectory, Integer spinAhead,
+                            boolean fixedPoint, List<String> variantFilenames, Long rounds,
+                            Double tilt, Sampling sampling, SolverTarget target, String outputFilename) {}
@@ -3,7 +3,9 @@ package dev.marvel.scratch.out;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.marvel.scratch.domain.cascade.model.CascadeOutcome;
 import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.freespins.model.FreeSpinsOutcome;
 import dev.marvel.scratch.domain.wincombination.MatchResult;
 import lombok.RequiredArgsConstructor;
 
@@ -29,18 +31,109 @@ public class FileResultPrinter {
    * @throws RuntimeException if unable to write to the file.
    */
   public void print(Game game, MatchResult matchResult, double score) {
+    try {
+      mapper.writeValue(new File("result.json"), render(game, matchResult, score));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Constructs the JSON object with game results that {@link #print(Game, MatchResult, double)} writes to "result.json".
+   *
+   * @param game The game instance containing the matrix.
+   * @param matchResult The match result with matched winning combinations and bonus symbols, if any.
+   * @param score The final game reward.
+   * @return The result document.
+   */
+  public ObjectNode render(Game game, MatchResult matchResult, double score) {
     var rootNode = mapper.createObjectNode();
     addMatrixElement(rootNode, game);
     addAppliedWinCombinationsElement(rootNode, matchResult);
     addAppliedBonusSymbolsElement(rootNode, matchResult);
     rootNode.put("reward", score);
+    return rootNode;
+  }
+
+  /**
+   * Constructs a JSON object with the results of a cascading round and writes it to "result.json".
+   *
+   * @param outcome The outcome of the cascading round.
+   * @throws RuntimeException if unable to write to the file.
+   * @see #render(CascadeOutcome)
+   */
+  public void print(CascadeOutcome outcome) {
     try {
-      mapper.writeValue(new File("result.json"), rootNode);
+      mapper.writeValue(new File("result.json"), render(outcome));
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  /**
+   * Constructs the JSON object with the results of a cascading round. The matrix, win combinations and bonus symbols are those of the
+   * spun board, as for a round without cascades, and the reward is the reward of the whole round. The boards left after each cascade are
+   * listed in order in a {@code cascades} array, each with its matrix, win combinations, bonus symbols and own reward.
+   *
+   * @param outcome The outcome of the cascading round.
+   * @return The result document.
+   */
+  public ObjectNode render(CascadeOutcome outcome) {
+    var initial = outcome.initial();
+    var rootNode = render(initial.game(), initial.matchResult(), outcome.reward());
+    var cascadesNode = mapper.createArrayNode();
+    outcome.steps().stream()
+        .skip(1)
+        .forEach(step -> cascadesNode.add(render(step.game(), step.matchResult(), step.score())));
+    rootNode.set("cascades", cascadesNode);
+    return rootNode;
+  }
+
+  /**
+   * Constructs a JSON object with the results of a round and the free spins it awarded and writes it to "result.json".
+   *
+   * @param game The game instance containing the matrix of the paid board.
+   * @param matchResult The match result of the paid board.
+   * @param score The reward of the paid board.
+   * @param freeSpins The outcome of the free spins awarded by the paid board.
+   * @throws RuntimeException if unable to write to the file.
+   * @see #render(Game, MatchResult, double, FreeSpinsOutcome)
+   */
+  public void print(Game game, MatchResult matchResult, double score, FreeSpinsOutcome freeSpins) {
+    try {
+      mapper.writeValue(new File("result.json"), render(game, matchResult, score, freeSpins));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Constructs the JSON object with the results of a round and the free spins it awarded. The matrix, win combinations and bonus symbols
+   * are those of the paid board, and the reward is the reward of the paid board plus that of all free spins. If free spins were awarded,
+   * they are summarised in a {@code free_spins} object with the symbols that triggered them, the number of spins and of winning spins,
+   * and their reward.
+   *
+   * @param game The game instance containing the matrix of the paid board.
+   * @param matchResult The match result of the paid board.
+   * @param score The reward of the paid board.
+   * @param freeSpins The outcome of the free spins awarded by the paid board.
+   * @return The result document.
+   */
+  public ObjectNode render(Game game, MatchResult matchResult, double score, FreeSpinsOutcome freeSpins) {
+    var rootNode = render(game, matchResult, score + freeSpins.reward());
+    if (freeSpins.isTriggered()) {
+      var freeSpinsNode = mapper.createObjectNode();
+      var triggersNode = mapper.createArrayNode();
+      freeSpins.triggers().forEach(symbol -> triggersNode.add(symbol.getName()));
+      freeSpinsNode.set("triggered_by", triggersNode);
+      freeSpinsNode.put("spins", freeSpins.spins());
+      freeSpinsNode.put("winning_spins", freeSpins.winningSpins());
+      freeSpinsNode.put("reward", freeSpins.reward());
+      rootNode.set("free_spins", freeSpinsNode);
+    }
+    return rootNode;
+  }
+
   private void addAppliedBonusSymbolsElement(ObjectNode rootNode, MatchResult matchResult) {
     var bonusSymbolsNode = mapper.createArrayNode();
     matchResult.matchedBonusSymbols().forEach(symbol -> bonusSymbolsNode.add(symbol.getName()));
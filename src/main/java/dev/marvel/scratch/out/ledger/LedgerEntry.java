@@ -0,0 +1,19 @@
+package dev.marvel.scratch.out.ledger;
+
+import java.util.List;
+
+/**
+ * A single durable record of a played round as stored in the {@link WriteAheadLedger}: the bet placed, the reward computed by the
+ * {@link dev.marvel.scratch.domain.scorer.Scorer} and the game board the reward was computed for.
+ *
+ * @param timestamp The epoch millisecond at which the round was played.
+ * @param bet       The betting amount placed for the round.
+ * @param reward    The reward paid out for the round.
+ * @param matrix    The game board as rows of symbol names (see {@link dev.marvel.scratch.domain.core.Game#asMatrix()}).
+ * @param seed      The master seed the board was spun with, or {@code null} if it was spun from a secure random source.
+ * @param round     The round index the board was spun for, or {@code null} if it was spun from a secure random source. Together with
+ *                  the seed it allows the round to be replayed.
+ */
+public record LedgerEntry(long timestamp, int bet, double reward, List<List<String>> matrix, Long seed, Long round) {
+
+}
@@ -0,0 +1,273 @@
+package dev.marvel.scratch.out.ledger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.marvel.scratch.exceptions.LedgerException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * An append-only, crash-safe ledger of played rounds. Every {@link LedgerEntry} is framed on disk as
+ * {@code [payload length][CRC32 of payload][JSON payload]}.
+ * <p>
+ * Appends are group-committed: callers enqueue their entries and receive a future, while a single writer thread drains everything
+ * queued so far, writes it with one gathering write and makes the whole batch durable with a single {@link FileChannel#force(boolean)}.
+ * A future completes only after the batch containing its entry has been forced to disk, so a round must not be acknowledged to the
+ * player before its future completes. Under concurrent load this amortizes the cost of an fsync over all rounds committed in the same
+ * batch instead of paying it per round.
+ * <p>
+ * Entries are enqueued under the read side of a lock, and closing the ledger or failing it takes the write side, so an entry is
+ * either enqueued before the writer is told to stop and committed with the last batch, or rejected: no acknowledgement is left
+ * pending. If the writer thread fails for any reason, every pending acknowledgement completes exceptionally and later appends are
+ * rejected.
+ * <p>
+ * When opened, the ledger scans the existing file and truncates it after the last complete record whose checksum matches, recovering
+ * from a torn tail left by a crash in the middle of a write.
+ */
+public class WriteAheadLedger implements AutoCloseable {
+
+  private static final int HEADER_BYTES = 2 * Integer.BYTES;
+  private static final int MAX_BATCH_SIZE = 4096;
+  private static final PendingEntry CLOSE_MARKER = new PendingEntry(null, null);
+
+  private final FileChannel channel;
+  private final ObjectMapper mapper;
+  private final BlockingQueue<PendingEntry> pending = new LinkedBlockingQueue<>();
+  // appends enqueue under the read lock; closing and failing the ledger take the write lock
+  private final ReadWriteLock lifecycle = new ReentrantReadWriteLock();
+  private final Thread writer;
+  private volatile boolean closed;
+  private volatile LedgerException failure;
+
+  private WriteAheadLedger(FileChannel channel, ObjectMapper mapper) {
+    this.channel = channel;
+    this.mapper = mapper;
+    this.writer = new Thread(this::writeLoop, "ledger-writer");
+    this.writer.setDaemon(true);
+    this.writer.start();
+  }
+
+  /**
+   * Opens (or creates) the ledger stored in the given file, truncating any torn or corrupted tail left by a previous crash.
+   *
+   * @param path   The ledger file.
+   * @param mapper The mapper used to serialize ledger entries.
+   * @return An open ledger positioned after the last valid record.
+   * @throws LedgerException if the file cannot be opened or recovered.
+   */
+  public static WriteAheadLedger open(Path path, ObjectMapper mapper) {
+    try {
+      var channel = FileChannel.open(path, CREATE, READ, WRITE);
+      var validLength = scan(channel, payload -> { });
+      if (validLength < channel.size()) {
+        channel.truncate(validLength);
+        channel.force(true);
+      }
+      channel.position(validLength);
+      return new WriteAheadLedger(channel, mapper);
+    } catch (IOException e) {
+      throw new LedgerException("Could not open ledger " + path, e);
+    }
+  }
+
+  /**
+   * Reads all complete records from the given ledger file, ignoring a torn tail if there is one. The file is not modified.
+   *
+   * @param path   The ledger file.
+   * @param mapper The mapper used to deserialize ledger entries.
+   * @return The ledger entries in the order they were committed.
+   * @throws LedgerException if the file cannot be read.
+   */
+  public static List<LedgerEntry> read(Path path, ObjectMapper mapper) {
+    var entries = new ArrayList<LedgerEntry>();
+    try (var channel = FileChannel.open(path, READ)) {
+      scan(channel, payload -> entries.add(decode(payload, mapper)));
+      return entries;
+    } catch (IOException e) {
+      throw new LedgerException("Could not read ledger " + path, e);
+    }
+  }
+
+  /**
+   * Enqueues an entry for the next group commit.
+   *
+   * @param entry The entry to record.
+   * @return A future that completes once the entry is durable on disk, or completes exceptionally if the batch could not be committed.
+   * @throws LedgerException if the ledger is closed or a previous commit has failed.
+   */
+  public CompletableFuture<Void> append(LedgerEntry entry) {
+    var record = encode(entry);
+    lifecycle.readLock().lock();
+    try {
+      if (closed) {
+        throw new LedgerException("The ledger is closed.");
+      }
+      if (failure != null) {
+        throw failure;
+      }
+      var acknowledgement = new CompletableFuture<Void>();
+      pending.add(new PendingEntry(record, acknowledgement));
+      return acknowledgement;
+    } finally {
+      lifecycle.readLock().unlock();
+    }
+  }
+
+  /**
+   * Commits everything enqueued so far, stops the writer thread and closes the underlying file.
+   */
+  @Override
+  public void close() {
+    lifecycle.writeLock().lock();
+    try {
+      if (closed) return;
+      closed = true;
+      pending.add(CLOSE_MARKER);
+    } finally {
+      lifecycle.writeLock().unlock();
+    }
+    try {
+      writer.join();
+      channel.close();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException e) {
+      throw new LedgerException("Could not close the ledger.", e);
+    }
+  }
+
+  private void writeLoop() {
+    var batch = new ArrayList<PendingEntry>();
+    try {
+      writeBatches(batch);
+    } catch (Throwable e) {
+      fail(batch, e);
+    }
+  }
+
+  private void writeBatches(List<PendingEntry> batch) throws InterruptedException {
+    while (true) {
+      batch.add(pending.take());
+      pending.drainTo(batch, MAX_BATCH_SIZE - 1);
+      var closeRequested = batch.remove(CLOSE_MARKER);
+      if (closeRequested) {
+        pending.drainTo(batch);
+      }
+      if (!batch.isEmpty()) {
+        commit(batch);
+      }
+      batch.clear();
+      if (closeRequested) return;
+    }
+  }
+
+  /**
+   * Stops accepting entries after the writer failed and completes the acknowledgement of every entry it had not committed yet
+   * exceptionally.
+   */
+  private void fail(List<PendingEntry> batch, Throwable cause) {
+    lifecycle.writeLock().lock();
+    try {
+      if (failure == null) {
+        failure = new LedgerException("The ledger writer stopped unexpectedly.", cause);
+      }
+      pending.drainTo(batch);
+    } finally {
+      lifecycle.writeLock().unlock();
+    }
+    batch.stream()
+        .filter(entry -> entry != CLOSE_MARKER)
+        .forEach(entry -> entry.acknowledgement().completeExceptionally(failure));
+    batch.clear();
+  }
+
+  private void commit(List<PendingEntry> batch) {
+    if (failure != null) {
+      batch.forEach(entry -> entry.acknowledgement().completeExceptionally(failure));
+      return;
+    }
+    var records = batch.stream()
+        .map(PendingEntry::record)
+        .toArray(ByteBuffer[]::new);
+    try {
+      while (records[records.length - 1].hasRemaining()) {
+        channel.write(records);
+      }
+      channel.force(false);
+      batch.forEach(entry -> entry.acknowledgement().complete(null));
+    } catch (IOException e) {
+      // anything written after a torn record would be discarded on recovery, so no further commits are accepted
+      failure = new LedgerException("Could not commit a ledger batch.", e);
+      batch.forEach(entry -> entry.acknowledgement().completeExceptionally(failure));
+    }
+  }
+
+  private ByteBuffer encode(LedgerEntry entry) {
+    try {
+      var payload = mapper.writeValueAsBytes(entry);
+      var checksum = new CRC32();
+      checksum.update(payload);
+      return ByteBuffer.allocate(HEADER_BYTES + payload.length)
+          .putInt(payload.length)
+          .putInt((int) checksum.getValue())
+          .put(payload)
+          .flip();
+    } catch (IOException e) {
+      throw new LedgerException("Could not serialize a ledger entry.", e);
+    }
+  }
+
+  private static LedgerEntry decode(byte[] payload, ObjectMapper mapper) {
+    try {
+      return mapper.readValue(payload, LedgerEntry.class);
+    } catch (IOException e) {
+      throw new LedgerException("Could not deserialize a ledger entry.", e);
+    }
+  }
+
+  private static long scan(FileChannel channel, Consumer<byte[]> payloadConsumer) throws IOException {
+    var size = channel.size();
+    var position = 0L;
+    var header = ByteBuffer.allocate(HEADER_BYTES);
+    while (position + HEADER_BYTES <= size) {
+      readFully(channel, header.clear(), position);
+      var length = header.getInt(0);
+      var expectedChecksum = header.getInt(Integer.BYTES);
+      if (length <= 0 || position + HEADER_BYTES + length > size) break;
+      var payload = ByteBuffer.allocate(length);
+      readFully(channel, payload, position + HEADER_BYTES);
+      var checksum = new CRC32();
+      checksum.update(payload.array());
+      if ((int) checksum.getValue() != expectedChecksum) break;
+      payloadConsumer.accept(payload.array());
+      position += HEADER_BYTES + length;
+    }
+    return position;
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      var read = channel.read(buffer, position + buffer.position());
+      if (read < 0) throw new IOException("Unexpected end of ledger file.");
+    }
+  }
+
+  private record PendingEntry(ByteBuffer record, CompletableFuture<Void> acknowledgement) {
+
+  }
+}
@@ -0,0 +1,120 @@
+package dev.marvel.scratch.configuration;
+
+import dev.marvel.scratch.domain.core.Cell;
+import dev.marvel.scratch.domain.probability.model.CellProbability;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.model.LinearWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.WinCombination;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static dev.marvel.scratch.domain.TestUtils.HLS_WC;
+import static dev.marvel.scratch.domain.TestUtils.SAME3WC;
+import static dev.marvel.scratch.domain.TestUtils.SAME4WC;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_10x;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_B;
+import static dev.marvel.scratch.domain.wincombination.model.Group.HORIZONTALLY_LINEAR_SYMBOLS;
+import static dev.marvel.scratch.domain.wincombination.model.Group.SAME_SYMBOLS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledConfigurationTest {
+
+  private static final Map<Symbol, Integer> PROBABILITIES = Map.of(SYMBOL_A, 1, SYMBOL_B, 2, SYMBOL_10x, 3);
+  private static final WinCombination ROW_WC = LinearWinCombination.builder()
+      .name("first_row")
+      .group(HORIZONTALLY_LINEAR_SYMBOLS)
+      .rewardMultiplier(2.0)
+      .coveredAreas(Set.of(Set.of(new Cell(0, 0), new Cell(0, 1))))
+      .build();
+
+  @Test
+  void whenFrozenThenSymbolsIndexedByNameWithDenseOrdinals() {
+    // GIVEN
+    var configuration = buildConfiguration(Set.of(
+        new CellProbability(0, 0, PROBABILITIES), new CellProbability(0, 1, PROBABILITIES)));
+
+    // WHEN
+    var uut = configuration.freeze();
+
+    // THEN
+    assertThat(uut.getSymbolList()).containsExactly(SYMBOL_10x, SYMBOL_A, SYMBOL_B);
+    assertThat(uut.ordinalOf(SYMBOL_A)).isEqualTo(1);
+    assertThat(uut.symbolAt(2)).isEqualTo(SYMBOL_B);
+    assertThat(uut.findSymbol("10x")).contains(SYMBOL_10x);
+    assertThat(uut.findSymbol("Z")).isEmpty();
+  }
+
+  @Test
+  void whenFrozenThenCellSamplersStoredRowMajor() {
+    // GIVEN
+    var configuration = buildConfiguration(Set.of(
+        new CellProbability(0, 1, Map.of(SYMBOL_B, 1)), new CellProbability(0, 0, PROBABILITIES)));
+
+    // WHEN
+    var uut = configuration.freeze();
+
+    // THEN
+    assertThat(uut.getCellCount()).isEqualTo(2);
+    assertThat(uut.samplerAt(0).getTotalWeight()).isEqualTo(6);
+    assertThat(uut.samplerAt(1).sample(0)).isEqualTo(SYMBOL_B);
+  }
+
+  @Test
+  void whenFrozenThenWinCombinationsGroupedAndIndexedById() {
+    // GIVEN
+    var configuration = buildConfiguration(Set.of(
+        new CellProbability(0, 0, PROBABILITIES), new CellProbability(0, 1, PROBABILITIES)));
+
+    // WHEN
+    var uut = configuration.freeze();
+
+    // THEN
+    assertThat(uut.getWinCombinationCount()).isEqualTo(3);
+    assertThat(uut.findWinCombinationId("same_symbol_4_times")).contains(2);
+    assertThat(uut.winCombinationAt(0)).isEqualTo(ROW_WC);
+    assertThat(uut.getWinCombinationsByGroup().get(SAME_SYMBOLS)).containsExactly(SAME3WC, SAME4WC);
+    assertThat(uut.getWinCombinationsByGroup().get(HORIZONTALLY_LINEAR_SYMBOLS)).containsExactly(ROW_WC);
+  }
+
+  @Test
+  void whenCellMissingThenExceptionThrown() {
+    // GIVEN
+    var configuration = buildConfiguration(Set.of(new CellProbability(0, 0, PROBABILITIES)));
+
+    // WHEN-THEN
+    assertThatThrownBy(configuration::freeze)
+        .isInstanceOf(ConfigurationParseException.class)
+        .hasMessageContaining("Cell 0:1 has no probabilities defined.");
+  }
+
+  @Test
+  void whenCoveredCellOutsideMatrixThenExceptionThrown() {
+    // GIVEN
+    var configuration = buildConfiguration(Set.of(
+        new CellProbability(0, 0, PROBABILITIES), new CellProbability(0, 1, PROBABILITIES)), Set.of(HLS_WC));
+
+    // WHEN-THEN
+    assertThatThrownBy(configuration::freeze)
+        .isInstanceOf(ConfigurationParseException.class)
+        .hasMessageContaining("covered by win combination horizontally_linear_symbols lies outside the 1x2 matrix.");
+  }
+
+  private Configuration buildConfiguration(Set<CellProbability> cellProbabilities) {
+    return buildConfiguration(cellProbabilities, Set.of(SAME4WC, ROW_WC, SAME3WC));
+  }
+
+  private Configuration buildConfiguration(Set<CellProbability> cellProbabilities, Set<WinCombination> winCombinations) {
+    return Configuration.builder()
+        .rows(1)
+        .columns(2)
+        .symbols(Set.of(SYMBOL_A, SYMBOL_B, SYMBOL_10x))
+        .cellProbabilities(cellProbabilities)
+        .winCombinations(winCombinations)
+        .build();
+  }
+}
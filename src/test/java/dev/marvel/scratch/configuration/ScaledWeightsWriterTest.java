@@ -0,0 +1,51 @@
+package dev.marvel.scratch.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.marvel.scratch.domain.probability.model.WeightScaling;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScaledWeightsWriterTest {
+
+  private static final String SOURCE = """
+      {"columns": 1, "rows": 1,
+       "symbols": {"A": {"reward_multiplier": 5, "type": "standard"}, "MISS": {"type": "bonus", "impact": "miss"}},
+       "probabilities": {
+         "standard_symbols": [{"column": 0, "row": 0, "symbols": {"A": 3}}],
+         "default_standard_symbols": {"symbols": {"A": 0}},
+         "bonus_symbols": {"symbols": {"MISS": 2}}},
+       "win_combinations": {}}
+      """;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ScaledWeightsWriter uut = new ScaledWeightsWriter(objectMapper);
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void whenWrittenThenWeightsRescaledAndRestCopied() throws Exception {
+    // GIVEN
+    var source = tempDir.resolve("config.json");
+    Files.writeString(source, SOURCE);
+    var target = tempDir.resolve("tuned.json");
+
+    // WHEN
+    uut.write(source, target, new WeightScaling(10, Map.of("A", 0.5)));
+
+    // THEN
+    var written = objectMapper.readTree(target.toFile());
+    var probabilities = written.get("probabilities");
+    assertThat(probabilities.get("standard_symbols").get(0).get("symbols").get("A").asInt()).isEqualTo(15);
+    assertThat(probabilities.get("default_standard_symbols").get("symbols").get("A").asInt()).isZero();
+    assertThat(probabilities.get("bonus_symbols").get("symbols").get("MISS").asInt()).isEqualTo(20);
+    assertThat(written.get("symbols")).isEqualTo(objectMapper.readTree(SOURCE).get("symbols"));
+    assertThat(Files.exists(tempDir.resolve("tuned.json.tmp"))).isFalse();
+  }
+}
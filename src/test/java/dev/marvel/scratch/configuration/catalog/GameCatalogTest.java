@@ -0,0 +1,123 @@
+package dev.marvel.scratch.configuration.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.marvel.scratch.configuration.ConfigParser;
+import dev.marvel.scratch.configuration.DimensionsParser;
+import dev.marvel.scratch.configuration.Parser;
+import dev.marvel.scratch.domain.probability.parsers.BonusProbabilitiesParser;
+import dev.marvel.scratch.domain.probability.parsers.ProbabilitiesParserDelegate;
+import dev.marvel.scratch.domain.probability.parsers.StandardProbabilitiesParser;
+import dev.marvel.scratch.domain.symbol.parsers.SymbolParser;
+import dev.marvel.scratch.domain.wincombination.parsers.WinCombinationsParser;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameCatalogTest {
+
+  private static final Path SOURCE = Path.of("src/test/resources/configuration/snapshot/config.json");
+
+  private ObjectMapper mapper;
+  private ConfigParser configParser;
+
+  @TempDir
+  Path catalogDirectory;
+
+  @BeforeEach
+  void setUp() {
+    mapper = new ObjectMapper();
+    var probabilitiesParsers = new LinkedHashSet<Parser>(List.of(new StandardProbabilitiesParser(), new BonusProbabilitiesParser()));
+    configParser = new ConfigParser(new LinkedHashSet<>(List.of(new DimensionsParser(), new SymbolParser(mapper),
+        new ProbabilitiesParserDelegate(probabilitiesParsers), new WinCombinationsParser(mapper))));
+  }
+
+  @Test
+  void whenDirectoryLoadedThenEveryGameServedById() throws Exception {
+    // GIVEN
+    Files.copy(SOURCE, catalogDirectory.resolve("classic.json"));
+    Files.copy(SOURCE, catalogDirectory.resolve("deluxe.json"));
+    Files.writeString(catalogDirectory.resolve("notes.txt"), "not a game");
+
+    // WHEN
+    var uut = GameCatalog.load(catalogDirectory, file -> configParser.parse(file.toString()));
+
+    // THEN
+    assertThat(uut.getGameIds()).containsExactly("classic", "deluxe");
+    assertThat(uut.find("classic")).isPresent();
+    assertThat(uut.find("missing")).isEmpty();
+  }
+
+  @Test
+  void whenIdenticalDefinitionsAcrossGamesThenInstancesShared() throws Exception {
+    // GIVEN
+    Files.copy(SOURCE, catalogDirectory.resolve("classic.json"));
+    Files.copy(SOURCE, catalogDirectory.resolve("deluxe.json"));
+
+    // WHEN
+    var uut = GameCatalog.load(catalogDirectory, file -> configParser.parse(file.toString()));
+
+    // THEN
+    var classic = uut.find("classic").orElseThrow();
+    var deluxe = uut.find("deluxe").orElseThrow();
+    assertThat(deluxe.symbolAt(0)).isSameAs(classic.symbolAt(0));
+    assertThat(deluxe.samplerAt(0)).isSameAs(classic.samplerAt(0));
+    assertThat(uut.getInterner().getSymbolCount()).isEqualTo(classic.getSymbolCount());
+  }
+
+  @Test
+  void whenFreeSpinsSymbolsDifferOnlyInSpinsThenInstancesNotShared() throws Exception {
+    // GIVEN
+    writeGameWithFreeSpins("classic", 10);
+    writeGameWithFreeSpins("deluxe", 20);
+
+    // WHEN
+    var uut = GameCatalog.load(catalogDirectory, file -> configParser.parse(file.toString()));
+
+    // THEN
+    var classic = uut.find("classic").orElseThrow();
+    var deluxe = uut.find("deluxe").orElseThrow();
+    assertThat(classic.getFreeSpinsSymbols().get(0).getSpins()).isEqualTo(10);
+    assertThat(deluxe.getFreeSpinsSymbols().get(0).getSpins()).isEqualTo(20);
+    assertThat(deluxe.samplerAt(0)).isNotSameAs(classic.samplerAt(0));
+  }
+
+  @Test
+  void whenGameInvalidThenExceptionNamesGame() throws Exception {
+    // GIVEN
+    Files.copy(SOURCE, catalogDirectory.resolve("classic.json"));
+    Files.writeString(catalogDirectory.resolve("broken.json"), "{\"rows\": 3, \"columns\": 3}");
+
+    // WHEN-THEN
+    assertThatThrownBy(() -> GameCatalog.load(catalogDirectory, file -> configParser.parse(file.toString())))
+        .isInstanceOf(ConfigurationParseException.class)
+        .hasMessageContaining("Game broken: ");
+  }
+
+  @Test
+  void whenDirectoryEmptyThenExceptionThrown() {
+    // WHEN-THEN
+    assertThatThrownBy(() -> GameCatalog.load(catalogDirectory, file -> configParser.parse(file.toString())))
+        .isInstanceOf(ConfigurationParseException.class)
+        .hasMessageContaining("holds no '.json' configuration files.");
+  }
+
+  private void writeGameWithFreeSpins(String gameId, int spins) throws Exception {
+    var game = (ObjectNode) mapper.readTree(SOURCE.toFile());
+    ((ObjectNode) game.get("symbols")).putObject("FS")
+        .put("type", "bonus")
+        .put("impact", "free_spins")
+        .put("spins", spins);
+    ((ObjectNode) game.at("/probabilities/bonus_symbols/symbols")).put("FS", 1);
+    mapper.writeValue(catalogDirectory.resolve(gameId + ".json").toFile(), game);
+  }
+}
@@ -0,0 +1,121 @@
+package dev.marvel.scratch.configuration.reload;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.domain.core.PlayableConfiguration;
+import dev.marvel.scratch.domain.scorer.FixedPointScorer;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConfigurationReloaderTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void whenReloadedThenNewVersionPublished() {
+    // GIVEN
+    var initial = compile(1);
+    var reloaded = compile(2);
+    try (var uut = new ConfigurationReloader<>(initial, () -> reloaded)) {
+
+      // WHEN
+      var published = uut.reload().join();
+
+      // THEN
+      assertThat(published).isSameAs(reloaded);
+      assertThat(uut.current()).isSameAs(reloaded);
+    }
+  }
+
+  @Test
+  void whenReloadFailsThenPreviousVersionKept() {
+    // GIVEN
+    var initial = compile(1);
+    try (var uut = new ConfigurationReloader<>(initial, () -> {
+      throw new ConfigurationParseException("The supplied configuration file is not a valid JSON.");
+    })) {
+
+      // WHEN-THEN
+      assertThatThrownBy(() -> uut.reload().join())
+          .isInstanceOf(CompletionException.class)
+          .hasRootCauseInstanceOf(ConfigurationParseException.class);
+      assertThat(uut.current()).isSameAs(initial);
+    }
+  }
+
+  @Test
+  void whenWatchedFileModifiedThenReloaded() throws Exception {
+    // GIVEN
+    var configFile = Files.writeString(directory.resolve("config.json"), "{}");
+    var loads = new AtomicInteger();
+    try (var uut = new ConfigurationReloader<>(compile(1), () -> compile(2 + loads.getAndIncrement()))) {
+      uut.watch(configFile);
+
+      // WHEN
+      Files.writeString(configFile, "{\"rows\": 2}");
+
+      // THEN
+      var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+      while (uut.current().getRows() == 1 && System.nanoTime() < deadline) {
+        Thread.sleep(50);
+      }
+      assertThat(uut.current().getRows()).isGreaterThan(1);
+    }
+  }
+
+  @Test
+  void whenReloadedThenPreviousVersionAndItsStateCollectable() throws Exception {
+    // GIVEN
+    var initial = playable(1);
+    var previousConfiguration = new WeakReference<>(initial.configuration());
+    var previousMatcher = new WeakReference<>(initial.matcher());
+    var previousScorer = new WeakReference<>(initial.scorer());
+    try (var uut = new ConfigurationReloader<>(initial, () -> playable(2))) {
+      initial = null;
+
+      // WHEN
+      uut.reload().join();
+
+      // THEN
+      var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+      while (previousConfiguration.get() != null && System.nanoTime() < deadline) {
+        System.gc();
+        Thread.sleep(10);
+      }
+      assertThat(previousConfiguration.get()).isNull();
+      assertThat(previousMatcher.get()).isNull();
+      assertThat(previousScorer.get()).isNull();
+      assertThat(uut.current().configuration().getRows()).isEqualTo(2);
+    }
+  }
+
+  private static PlayableConfiguration playable(int rows) {
+    var configuration = compile(rows);
+    return PlayableConfiguration.of(configuration, new FixedPointScorer(configuration));
+  }
+
+  private static CompiledConfiguration compile(int rows) {
+    return Configuration.builder()
+        .rows(rows)
+        .columns(0)
+        .symbols(Set.of())
+        .cellProbabilities(new LinkedHashSet<>())
+        .winCombinations(Set.of())
+        .build()
+        .freeze();
+  }
+}
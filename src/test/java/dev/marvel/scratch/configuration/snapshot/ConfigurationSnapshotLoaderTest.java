@@ -0,0 +1,105 @@
+package dev.marvel.scratch.configuration.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.marvel.scratch.configuration.ConfigParser;
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.configuration.DimensionsParser;
+import dev.marvel.scratch.configuration.Parser;
+import dev.marvel.scratch.domain.probability.model.CellProbability;
+import dev.marvel.scratch.domain.probability.parsers.BonusProbabilitiesParser;
+import dev.marvel.scratch.domain.probability.parsers.ProbabilitiesParserDelegate;
+import dev.marvel.scratch.domain.probability.parsers.StandardProbabilitiesParser;
+import dev.marvel.scratch.domain.symbol.parsers.SymbolParser;
+import dev.marvel.scratch.domain.wincombination.model.WinCombination;
+import dev.marvel.scratch.domain.wincombination.parsers.WinCombinationsParser;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConfigurationSnapshotLoaderTest {
+
+  private static final Path SOURCE = Path.of("src/test/resources/configuration/snapshot/config.json");
+
+  private final ConfigurationSnapshotWriter writer = new ConfigurationSnapshotWriter();
+  private final ConfigurationSnapshotLoader uut = new ConfigurationSnapshotLoader();
+  private ConfigParser configParser;
+
+  @TempDir
+  Path tempDir;
+
+  @BeforeEach
+  void setUp() {
+    var mapper = new ObjectMapper();
+    var probabilitiesParsers = new LinkedHashSet<Parser>(List.of(new StandardProbabilitiesParser(), new BonusProbabilitiesParser()));
+    configParser = new ConfigParser(new LinkedHashSet<>(List.of(new DimensionsParser(), new SymbolParser(mapper),
+        new ProbabilitiesParserDelegate(probabilitiesParsers), new WinCombinationsParser(mapper))));
+  }
+
+  @Test
+  void whenSnapshotCompiledThenSameConfigurationLoaded() {
+    // GIVEN
+    var expected = configParser.parse(SOURCE.toString());
+    var snapshot = tempDir.resolve("config.snapshot");
+    writer.write(expected, SOURCE, snapshot);
+
+    // WHEN
+    var actual = uut.load(snapshot, SOURCE);
+
+    // THEN
+    assertThat(actual.getRows()).isEqualTo(expected.getRows());
+    assertThat(actual.getColumns()).isEqualTo(expected.getColumns());
+    assertThat(actual.getSymbols()).containsExactlyInAnyOrderElementsOf(expected.getSymbols());
+    assertThat(probabilitiesByCell(actual)).isEqualTo(probabilitiesByCell(expected));
+    assertThat(multipliersByName(actual)).isEqualTo(multipliersByName(expected));
+  }
+
+  @Test
+  void whenSourceChangedThenStaleSnapshotRejected() throws Exception {
+    // GIVEN
+    var source = tempDir.resolve("config.json");
+    Files.copy(SOURCE, source);
+    var snapshot = tempDir.resolve("config.snapshot");
+    writer.write(configParser.parse(source.toString()), source, snapshot);
+    Files.writeString(source, "\n", StandardOpenOption.APPEND);
+
+    // WHEN-THEN
+    assertThatThrownBy(() -> uut.load(snapshot, source))
+        .isInstanceOf(ConfigurationParseException.class)
+        .hasMessageContaining("is stale");
+  }
+
+  @Test
+  void whenNotASnapshotThenExceptionThrown() {
+    // WHEN-THEN
+    assertThatThrownBy(() -> uut.load(SOURCE, SOURCE))
+        .isInstanceOf(ConfigurationParseException.class)
+        .hasMessageContaining("is not a configuration snapshot.");
+  }
+
+  private Map<String, Map<String, Integer>> probabilitiesByCell(Configuration configuration) {
+    return configuration.getCellProbabilities().stream()
+        .collect(Collectors.toMap(cp -> cp.getRow() + ":" + cp.getColumn(), this::probabilitiesByName));
+  }
+
+  private Map<String, Integer> probabilitiesByName(CellProbability cellProbability) {
+    return cellProbability.getProbabilities().entrySet().stream()
+        .collect(Collectors.toMap(entry -> entry.getKey().getName(), Map.Entry::getValue));
+  }
+
+  private Map<String, Double> multipliersByName(Configuration configuration) {
+    return configuration.getWinCombinations().stream()
+        .collect(Collectors.toMap(WinCombination::getName, WinCombination::getRewardMultiplier));
+  }
+}
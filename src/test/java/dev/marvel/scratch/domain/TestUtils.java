@@ -93,6 +93,7 @@ public class TestUtils {
   public static final Symbol SYMBOL_5x =
       BonusSymbol.builder().name("5x").type(Type.BONUS).impact(Impact.MULTIPLY_REWARD).value(5.0).build();
   public static final Symbol SYMBOL_MISS = BonusSymbol.builder().name("MISS").type(Type.BONUS).impact(Impact.MISS).build();
+  public static final Symbol SYMBOL_WILD = BonusSymbol.builder().name("WILD").type(Type.BONUS).impact(Impact.WILD).build();
 
   private static final ObjectMapper MAPPER = new ObjectMapper();
 
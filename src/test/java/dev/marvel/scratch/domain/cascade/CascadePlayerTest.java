@@ -0,0 +1,84 @@
+package dev.marvel.scratch.domain.cascade;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.domain.cascade.model.CascadeSettings;
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.probability.random.RandomSource;
+import dev.marvel.scratch.domain.reel.model.ReelStrip;
+import dev.marvel.scratch.domain.scorer.Scorer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static dev.marvel.scratch.domain.TestUtils.HLS_WC;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_B;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_C;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_D;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CascadePlayerTest {
+
+  @Test
+  void whenWinningRowRemovedThenSymbolsAboveFallAndTopRowRefilled() {
+    // GIVEN
+    var configuration = buildConfiguration(10, List.of(
+        new ReelStrip(0, List.of(SYMBOL_B, SYMBOL_A, SYMBOL_C, SYMBOL_D)),
+        new ReelStrip(1, List.of(SYMBOL_C, SYMBOL_A, SYMBOL_B, SYMBOL_D)),
+        new ReelStrip(2, List.of(SYMBOL_D, SYMBOL_A, SYMBOL_C, SYMBOL_B))));
+    var addresses = new ArrayList<Integer>();
+    RandomSource random = (address, bound) -> {
+      addresses.add(address);
+      return address < 3 ? 0 : 3;
+    };
+    var game = new Game(configuration, 10, random);
+    var uut = new CascadePlayer(configuration, new Scorer());
+
+    // WHEN
+    var outcome = uut.play(game, random);
+
+    // THEN
+    assertThat(outcome.steps()).hasSize(2);
+    assertThat(outcome.initial().matchResult().matchedWinCombinations()).containsOnlyKeys(SYMBOL_A);
+    assertThat(outcome.steps().get(1).game().asMatrix()).containsExactly(
+        List.of("D", "D", "B"),
+        List.of("B", "C", "D"),
+        List.of("C", "B", "C"));
+    assertThat(outcome.steps().get(1).matchResult().matchedWinCombinations()).isEmpty();
+    assertThat(outcome.reward()).isEqualTo(1000d);
+    assertThat(addresses).containsExactly(0, 1, 2, 9, 10, 11);
+  }
+
+  @Test
+  void whenBoardKeepsWinningThenCascadesStopAtMaximum() {
+    // GIVEN
+    var strip = List.of(SYMBOL_A, SYMBOL_B, SYMBOL_B);
+    var configuration = buildConfiguration(2, List.of(new ReelStrip(0, strip), new ReelStrip(1, strip), new ReelStrip(2, strip)));
+    RandomSource random = (address, bound) -> 0;
+    var game = new Game(configuration, 1, random);
+    var uut = new CascadePlayer(configuration, new Scorer());
+
+    // WHEN
+    var outcome = uut.play(game, random);
+
+    // THEN
+    assertThat(outcome.steps()).hasSize(3);
+    assertThat(outcome.steps()).allSatisfy(step -> assertThat(step.score()).isEqualTo(150d));
+    assertThat(outcome.reward()).isEqualTo(450d);
+  }
+
+  private static CompiledConfiguration buildConfiguration(int maxCascades, List<ReelStrip> reelStrips) {
+    return Configuration.builder()
+        .rows(3)
+        .columns(3)
+        .symbols(Set.of(SYMBOL_A, SYMBOL_B, SYMBOL_C, SYMBOL_D))
+        .reelStrips(reelStrips)
+        .winCombinations(Set.of(HLS_WC))
+        .cascade(new CascadeSettings(maxCascades))
+        .build()
+        .freeze();
+  }
+}
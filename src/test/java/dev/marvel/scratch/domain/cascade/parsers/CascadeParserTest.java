@@ -0,0 +1,63 @@
+package dev.marvel.scratch.domain.cascade.parsers;
+
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.domain.TestUtils;
+import dev.marvel.scratch.domain.cascade.model.CascadeSettings;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CascadeParserTest {
+
+  private final CascadeParser uut = new CascadeParser();
+  private final Configuration configuration = new Configuration();
+
+  @Test
+  void whenValidJsonThenMaxCascadesParsed() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/cascade/parsers/valid.json");
+
+    // WHEN
+    uut.parse(configRoot, configuration);
+
+    // THEN
+    assertThat(configuration.getCascade()).isEqualTo(new CascadeSettings(5));
+  }
+
+  @Test
+  void whenEmptyCascadeObjectThenDefaultMaxCascadesUsed() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/cascade/parsers/default.json");
+
+    // WHEN
+    uut.parse(configRoot, configuration);
+
+    // THEN
+    assertThat(configuration.getCascade().maxCascades()).isEqualTo(CascadeSettings.DEFAULT_MAX_CASCADES);
+  }
+
+  @Test
+  void whenNoCascadeAttributeThenSingleBoardPlayed() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/parsers/valid.json");
+
+    // WHEN
+    uut.parse(configRoot, configuration);
+
+    // THEN
+    assertThat(configuration.getCascade()).isNull();
+  }
+
+  @Test
+  void whenMaxCascadesNotPositiveThenExceptionThrown() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/cascade/parsers/non-positive-max-cascades.json");
+
+    // WHEN-THEN
+    assertThatThrownBy(() -> uut.parse(configRoot, configuration))
+        .isInstanceOf(ConfigurationParseException.class)
+        .hasMessage("The 'max_cascades' attribute of 'cascade' should be a positive integer.");
+  }
+}
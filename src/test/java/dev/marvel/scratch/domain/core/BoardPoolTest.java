@@ -0,0 +1,75 @@
+package dev.marvel.scratch.domain.core;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.domain.probability.model.CellProbability;
+import dev.marvel.scratch.domain.probability.random.PhiloxRandomSource;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_B;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_C;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_MISS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardPoolTest {
+
+  @Test
+  void whenBoardsTakenThenEachRoundSpunAsOnRequestPath() {
+    // GIVEN
+    var configuration = compile(Map.of(SYMBOL_A, 1, SYMBOL_B, 2, SYMBOL_C, 3, SYMBOL_MISS, 5));
+
+    // WHEN-THEN
+    try (var uut = new BoardPool(() -> configuration, round -> new PhiloxRandomSource(42L, round), 4, 3)) {
+      for (long round = 0; round < 200; round++) {
+        var game = uut.take(configuration, 100);
+        var expected = new Game(configuration, 100, new PhiloxRandomSource(42L, round));
+        assertThat(game.getCells()).isEqualTo(expected.getCells());
+        assertThat(game.getBet()).isEqualTo(100);
+      }
+    }
+  }
+
+  @Test
+  void whenConfigurationReplacedThenBoardsOfReplacedConfigurationRespun() {
+    // GIVEN
+    var original = compile(Map.of(SYMBOL_A, 1));
+    var replacement = compile(Map.of(SYMBOL_B, 1));
+    var current = new AtomicReference<>(original);
+
+    try (var uut = new BoardPool(current::get, round -> new PhiloxRandomSource(42L, round), 8, 2)) {
+      uut.take(original, 100);
+
+      // WHEN
+      current.set(replacement);
+      var game = uut.take(replacement, 100);
+
+      // THEN
+      assertThat(game.getCells().values()).containsOnly(SYMBOL_B);
+    }
+  }
+
+  private static CompiledConfiguration compile(Map<Symbol, Integer> probabilities) {
+    var cellProbabilities = new HashSet<CellProbability>();
+    for (int row = 0; row < 3; row++) {
+      for (int column = 0; column < 3; column++) {
+        cellProbabilities.add(new CellProbability(row, column, new HashMap<>(probabilities)));
+      }
+    }
+    return Configuration.builder()
+        .rows(3)
+        .columns(3)
+        .symbols(probabilities.keySet())
+        .cellProbabilities(cellProbabilities)
+        .winCombinations(Set.of())
+        .build()
+        .freeze();
+  }
+}
@@ -1,10 +1,12 @@
 package dev.marvel.scratch.domain.core;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.marvel.scratch.configuration.ConfigParser;
 import dev.marvel.scratch.configuration.Configuration;
 import dev.marvel.scratch.configuration.Parser;
+import dev.marvel.scratch.configuration.StreamingParser;
 import dev.marvel.scratch.exceptions.ConfigurationParseException;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -18,7 +20,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class ConfigParserTest {
 
@@ -83,4 +87,41 @@ class ConfigParserTest {
         .isInstanceOf(ConfigurationParseException.class)
         .hasMessageContaining("The supplied configuration file is not a valid JSON.");
   }
-}
\ No newline at end of file
+
+  @Test
+  void whenStreamingParserRegisteredThenItsAttributeStreamedAndOmittedFromTree() throws Exception {
+    // GIVEN
+    var configFileName = "src/test/resources/core/valid-config.json";
+    var streamingParser = Mockito.mock(StreamingParser.class);
+    when(streamingParser.getAttribute()).thenReturn("rows");
+    doAnswer(invocation -> {
+      var jsonParser = (JsonParser) invocation.getArgument(0);
+      ((Configuration) invocation.getArgument(1)).setRows(jsonParser.getIntValue());
+      return null;
+    }).when(streamingParser).parse(any(JsonParser.class), any(Configuration.class));
+    var streamingUut = new ConfigParser(Set.of(parser, streamingParser));
+
+    // WHEN
+    var actual = streamingUut.parse(configFileName);
+
+    // THEN
+    assertThat(actual.getRows()).isEqualTo(2);
+    verify(streamingParser, never()).parse(any(JsonNode.class), any(Configuration.class));
+    verify(parser).parse(eq(MAPPER.readTree("{\"columns\": 2}")), any(Configuration.class));
+  }
+
+  @Test
+  void whenStreamedAttributeMissingThenTreeParsingUsed() {
+    // GIVEN
+    var configFileName = "src/test/resources/core/valid-config.json";
+    var streamingParser = Mockito.mock(StreamingParser.class);
+    when(streamingParser.getAttribute()).thenReturn("probabilities");
+    var streamingUut = new ConfigParser(Set.of(streamingParser));
+
+    // WHEN
+    streamingUut.parse(configFileName);
+
+    // THEN
+    verify(streamingParser).parse(any(JsonNode.class), any(Configuration.class));
+  }
+}
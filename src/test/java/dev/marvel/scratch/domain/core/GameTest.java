@@ -3,9 +3,13 @@ package dev.marvel.scratch.domain.core;
 
 import dev.marvel.scratch.configuration.Configuration;
 import dev.marvel.scratch.domain.probability.model.CellProbability;
+import dev.marvel.scratch.domain.probability.random.PhiloxRandomSource;
+import dev.marvel.scratch.domain.probability.random.RandomSource;
+import dev.marvel.scratch.domain.reel.model.ReelStrip;
 import dev.marvel.scratch.domain.symbol.model.Symbol;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -87,6 +91,76 @@ class GameTest {
     );
   }
 
+  @Test
+  void whenSameSeedAndRoundThenSameBoardBuilt() {
+    // GIVEN
+    var probabilities = new HashMap<Symbol, Integer>();
+    probabilities.put(SYMBOL_A, 1);
+    probabilities.put(SYMBOL_B, 2);
+    probabilities.put(SYMBOL_C, 3);
+    probabilities.put(SYMBOL_10x, 1);
+    probabilities.put(SYMBOL_MISS, 5);
+    var configuration = Configuration.builder().rows(3).columns(3).cellProbabilities(build3by3CellProbabilities(probabilities)).build();
+
+    // WHEN
+    var game = new Game(configuration, 100, new PhiloxRandomSource(42L, 7L));
+    var replayed = new Game(configuration, 100, new PhiloxRandomSource(42L, 7L));
+
+    // THEN
+    assertThat(replayed.asMatrix()).isEqualTo(game.asMatrix());
+  }
+
+  @Test
+  void whenBuiltFromCompiledConfigurationThenSameBoardAsFromParsedConfiguration() {
+    // GIVEN
+    var probabilities = new HashMap<Symbol, Integer>();
+    probabilities.put(SYMBOL_A, 1);
+    probabilities.put(SYMBOL_B, 2);
+    probabilities.put(SYMBOL_C, 3);
+    probabilities.put(SYMBOL_10x, 1);
+    probabilities.put(SYMBOL_MISS, 5);
+    var configuration = Configuration.builder()
+        .rows(3)
+        .columns(3)
+        .symbols(probabilities.keySet())
+        .cellProbabilities(build3by3CellProbabilities(probabilities))
+        .winCombinations(Set.of())
+        .build();
+
+    // WHEN
+    var game = new Game(configuration, 100, new PhiloxRandomSource(42L, 7L));
+    var compiled = new Game(configuration.freeze(), 100, new PhiloxRandomSource(42L, 7L));
+
+    // THEN
+    assertThat(compiled.getCells()).isEqualTo(game.getCells());
+  }
+
+  @Test
+  void whenSpunFromReelStripsThenRowsReadOffStripFromDrawnStop() {
+    // GIVEN
+    var configuration = Configuration.builder()
+        .rows(2)
+        .columns(2)
+        .symbols(Set.of(SYMBOL_A, SYMBOL_B, SYMBOL_C))
+        .reelStrips(List.of(
+            new ReelStrip(0, List.of(SYMBOL_A, SYMBOL_B, SYMBOL_C)),
+            new ReelStrip(1, List.of(SYMBOL_C, SYMBOL_A))))
+        .winCombinations(Set.of())
+        .build();
+    var drawnColumns = new ArrayList<Integer>();
+    RandomSource random = (column, bound) -> {
+      drawnColumns.add(column);
+      return bound - 1;
+    };
+
+    // WHEN
+    var game = new Game(configuration.freeze(), 100, random);
+
+    // THEN
+    assertThat(drawnColumns).containsExactly(0, 1);
+    assertThat(game.asMatrix()).containsExactly(List.of("C", "A"), List.of("A", "C"));
+  }
+
   private Set<CellProbability> build3by3CellProbabilities(Map<Symbol, Integer> probabilities) {
     return Set.of(
         new CellProbability(0, 0, probabilities),
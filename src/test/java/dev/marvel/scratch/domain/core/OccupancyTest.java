@@ -0,0 +1,50 @@
+package dev.marvel.scratch.domain.core;
+
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_B;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_C;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_MISS;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_WILD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OccupancyTest {
+
+  private static final int[] WORDS = {0};
+  private static final long[] TOP_ROW = {0b111};
+
+  @Test
+  void whenAreaMixesSymbolAndWildsThenItPaysAsThatSymbolOnly() {
+    // GIVEN
+    var uut = Occupancy.of(new Symbol[] {
+        SYMBOL_B, SYMBOL_WILD, SYMBOL_WILD,
+        SYMBOL_C, SYMBOL_A, SYMBOL_MISS}, SYMBOL_A);
+
+    // WHEN-THEN
+    assertThat(uut.covers(SYMBOL_B, WORDS, TOP_ROW)).isTrue();
+    assertThat(uut.covers(SYMBOL_A, WORDS, TOP_ROW)).isFalse();
+    assertThat(uut.covers(SYMBOL_C, WORDS, TOP_ROW)).isFalse();
+    assertThat(uut.countWithWilds(SYMBOL_B)).isEqualTo(3);
+    assertThat(uut.countWithWilds(SYMBOL_C)).isEqualTo(3);
+  }
+
+  @Test
+  void whenAreaHoldsWildsAloneThenItPaysAsHighestStandardSymbolOnly() {
+    // GIVEN
+    var wildPaysAs = Occupancy.wildPaysAs(List.of(SYMBOL_C, SYMBOL_B, SYMBOL_A, SYMBOL_WILD, SYMBOL_MISS));
+    var uut = Occupancy.of(new Symbol[] {
+        SYMBOL_WILD, SYMBOL_WILD, SYMBOL_WILD,
+        SYMBOL_C, SYMBOL_B, SYMBOL_MISS}, wildPaysAs);
+
+    // WHEN-THEN
+    assertThat(wildPaysAs).isEqualTo(SYMBOL_A);
+    assertThat(uut.covers(SYMBOL_A, WORDS, TOP_ROW)).isTrue();
+    assertThat(uut.covers(SYMBOL_B, WORDS, TOP_ROW)).isFalse();
+    assertThat(uut.countWithWilds(SYMBOL_A)).isEqualTo(3);
+    assertThat(Occupancy.wildPaysAs(List.of(SYMBOL_A, SYMBOL_MISS))).isNull();
+  }
+}
@@ -0,0 +1,84 @@
+package dev.marvel.scratch.domain.freespins;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.probability.random.RandomSource;
+import dev.marvel.scratch.domain.reel.model.ReelStrip;
+import dev.marvel.scratch.domain.scorer.Scorer;
+import dev.marvel.scratch.domain.symbol.model.BonusSymbol;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static dev.marvel.scratch.domain.TestUtils.HLS_WC;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_B;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_C;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FreeSpinsPlayerTest {
+
+  private static final Symbol SYMBOL_FREE_SPINS = freeSpinsSymbol();
+
+  @Test
+  void whenFreeSpinsSymbolOnBoardThenAwardedSpinsPlayedFromOwnAddressesAndMultiplied() {
+    // GIVEN
+    var configuration = buildConfiguration();
+    var addresses = new ArrayList<Integer>();
+    RandomSource random = (address, bound) -> {
+      addresses.add(address);
+      // the paid board and the first free spin stop every reel at the same offset, the second free spin at different ones
+      return address < 3 ? 0 : address < 12 ? 1 : (address - 16) % bound;
+    };
+    var game = new Game(configuration, 10, random);
+    var uut = new FreeSpinsPlayer(configuration, new Scorer());
+
+    // WHEN
+    var outcome = uut.play(game, random);
+
+    // THEN
+    assertThat(outcome.triggers()).containsExactly(SYMBOL_FREE_SPINS);
+    assertThat(outcome.spins()).isEqualTo(2);
+    assertThat(outcome.winningSpins()).isEqualTo(1);
+    assertThat(outcome.reward()).isEqualTo(5100d);
+    assertThat(addresses).containsExactly(0, 1, 2, 9, 10, 11, 18, 19, 20);
+  }
+
+  @Test
+  void whenNoFreeSpinsSymbolOnBoardThenNoSpinsPlayed() {
+    // GIVEN
+    var configuration = buildConfiguration();
+    RandomSource random = (address, bound) -> 1;
+    var game = new Game(configuration, 10, random);
+    var uut = new FreeSpinsPlayer(configuration, new Scorer());
+
+    // WHEN
+    var outcome = uut.play(game, random);
+
+    // THEN
+    assertThat(outcome.isTriggered()).isFalse();
+    assertThat(outcome.reward()).isZero();
+  }
+
+  private static CompiledConfiguration buildConfiguration() {
+    var strip = List.of(SYMBOL_FREE_SPINS, SYMBOL_A, SYMBOL_B, SYMBOL_C);
+    return Configuration.builder()
+        .rows(3)
+        .columns(3)
+        .symbols(Set.of(SYMBOL_A, SYMBOL_B, SYMBOL_C, SYMBOL_FREE_SPINS))
+        .reelStrips(List.of(new ReelStrip(0, strip), new ReelStrip(1, strip), new ReelStrip(2, strip)))
+        .winCombinations(Set.of(HLS_WC))
+        .build()
+        .freeze();
+  }
+
+  private static Symbol freeSpinsSymbol() {
+    var symbol = new BonusSymbol(3d, null, 2, "free_spins");
+    symbol.setName("FS");
+    return symbol;
+  }
+}
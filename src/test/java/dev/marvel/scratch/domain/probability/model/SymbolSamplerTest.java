@@ -0,0 +1,74 @@
+package dev.marvel.scratch.domain.probability.model;
+
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_B;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_C;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SymbolSamplerTest {
+
+  @Test
+  void whenDrawsMappedThenSymbolsFollowCanonicalCumulativeWeights() {
+    // GIVEN
+    var uut = SymbolSampler.of(Map.of(SYMBOL_C, 3, SYMBOL_A, 1, SYMBOL_B, 2));
+
+    // WHEN-THEN
+    assertThat(uut.getTotalWeight()).isEqualTo(6);
+    assertThat(uut.sample(0)).isEqualTo(SYMBOL_A);
+    assertThat(uut.sample(1)).isEqualTo(SYMBOL_B);
+    assertThat(uut.sample(2)).isEqualTo(SYMBOL_B);
+    assertThat(uut.sample(3)).isEqualTo(SYMBOL_C);
+    assertThat(uut.sample(5)).isEqualTo(SYMBOL_C);
+  }
+
+  @Test
+  void whenDeclarationOrderDiffersThenSameSamplerBuilt() {
+    // GIVEN
+    var forward = new LinkedHashMap<Symbol, Integer>();
+    forward.put(SYMBOL_A, 1);
+    forward.put(SYMBOL_B, 2);
+    var backward = new LinkedHashMap<Symbol, Integer>();
+    backward.put(SYMBOL_B, 2);
+    backward.put(SYMBOL_A, 1);
+
+    // WHEN
+    var forwardSampler = SymbolSampler.of(forward);
+    var backwardSampler = SymbolSampler.of(backward);
+
+    // THEN
+    for (int draw = 0; draw < 3; draw++) {
+      assertThat(forwardSampler.sample(draw)).isEqualTo(backwardSampler.sample(draw));
+    }
+  }
+
+  @Test
+  void whenZeroWeightThenSymbolNeverSampled() {
+    // GIVEN
+    var uut = SymbolSampler.of(Map.of(SYMBOL_A, 2, SYMBOL_B, 0, SYMBOL_C, 1));
+
+    // WHEN-THEN
+    assertThat(uut.sample(1)).isEqualTo(SYMBOL_A);
+    assertThat(uut.sample(2)).isEqualTo(SYMBOL_C);
+    assertThat(uut.weightAt(1)).isZero();
+  }
+
+  @Test
+  void whenNoPositiveWeightThenExceptionThrown() {
+    // GIVEN
+    var probabilities = new HashMap<Symbol, Integer>();
+    probabilities.put(SYMBOL_A, 0);
+
+    // WHEN-THEN
+    assertThatThrownBy(() -> SymbolSampler.of(probabilities))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Symbol probabilities should add up to a positive integer.");
+  }
+}
@@ -1,5 +1,7 @@
 package dev.marvel.scratch.domain.probability.parsers;
 
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.marvel.scratch.configuration.Configuration;
 import dev.marvel.scratch.domain.TestUtils;
 import dev.marvel.scratch.domain.symbol.model.StandardSymbol;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -18,13 +21,15 @@ class StandardProbabilitiesParserTest {
 
   private final StandardProbabilitiesParser uut = new StandardProbabilitiesParser();
   private Configuration configuration;
+  private StandardSymbol symbolA;
+  private StandardSymbol symbolB;
 
   @BeforeEach
   void setUp() {
     configuration = new Configuration();
-    var symbolA = new StandardSymbol(50d);
+    symbolA = new StandardSymbol(50d);
     symbolA.setName("A");
-    var symbolB = new StandardSymbol(25d);
+    symbolB = new StandardSymbol(25d);
     symbolB.setName("B");
     configuration.setSymbols(Set.of(symbolA, symbolB));
     configuration.setRows(2);
@@ -43,6 +48,92 @@ class StandardProbabilitiesParserTest {
     assertThat(configuration.getCellProbabilities()).hasSize(4);
   }
 
+  @Test
+  void whenValidJsonThenCellProbabilitiesOrderedRowMajor() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/probability/parsers/standard/valid.json");
+
+    // WHEN
+    uut.parse(configRoot, configuration);
+
+    // THEN
+    assertThat(configuration.getCellProbabilities())
+        .extracting(cellProbability -> cellProbability.getRow() + ":" + cellProbability.getColumn())
+        .containsExactly("0:0", "0:1", "1:0", "1:1");
+  }
+
+  @Test
+  void whenDefaultProbabilitiesDeclaredThenSparseEntriesOverrideThem() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/probability/parsers/standard/default-with-overrides.json");
+
+    // WHEN
+    uut.parse(configRoot, configuration);
+
+    // THEN
+    var cellProbabilities = List.copyOf(configuration.getCellProbabilities());
+    assertThat(cellProbabilities).hasSize(4);
+    assertThat(cellProbabilities.get(2).getProbabilities()).containsEntry(symbolA, 1).containsEntry(symbolB, 7);
+    assertThat(cellProbabilities.get(0).getProbabilities()).containsEntry(symbolA, 1).containsEntry(symbolB, 2);
+    assertThat(cellProbabilities.get(3).getProbabilities()).isSameAs(cellProbabilities.get(0).getProbabilities());
+  }
+
+  @Test
+  void whenDefaultProbabilitiesFollowStreamedEntriesThenAppliedOnCompletion() throws Exception {
+    // GIVEN
+    var jsonParser = new ObjectMapper()
+        .createParser(getClass().getResourceAsStream("/probability/parsers/standard/default-with-overrides.json"));
+    while (jsonParser.nextToken() != JsonToken.FIELD_NAME || !"standard_symbols".equals(jsonParser.currentName())) {
+    }
+    jsonParser.nextToken();
+
+    // WHEN
+    uut.parse(jsonParser, configuration);
+    uut.complete(TestUtils.readJsonNode("/probability/parsers/standard/default-with-overrides.json"), configuration);
+
+    // THEN
+    assertThat(configuration.getCellProbabilities()).hasSize(4);
+    assertThat(List.copyOf(configuration.getCellProbabilities()).get(2).getProbabilities()).containsEntry(symbolB, 7);
+  }
+
+  @Test
+  void whenCellDefinedTwiceThenExceptionThrown() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/probability/parsers/standard/duplicate-cell.json");
+
+    // WHEN & THEN
+    assertThatThrownBy(() -> uut.parse(configRoot, configuration))
+        .isInstanceOf(ConfigurationParseException.class)
+        .hasMessageContaining("'probabilities.standard_symbols' should contain a single node for cell 0:0.");
+  }
+
+  @Test
+  void whenCellOutsideMatrixThenExceptionThrown() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/probability/parsers/standard/out-of-range-cell.json");
+
+    // WHEN & THEN
+    assertThatThrownBy(() -> uut.parse(configRoot, configuration))
+        .isInstanceOf(ConfigurationParseException.class)
+        .hasMessageContaining("Cell 2:1 in 'probabilities.standard_symbols' is outside the 2x2 matrix.");
+  }
+
+  @Test
+  void whenValidJsonStreamedThenStandardProbabilitiesParsed() throws Exception {
+    // GIVEN
+    var jsonParser = new ObjectMapper().createParser(getClass().getResourceAsStream("/probability/parsers/standard/valid.json"));
+    while (jsonParser.nextToken() != JsonToken.FIELD_NAME || !"standard_symbols".equals(jsonParser.currentName())) {
+    }
+    jsonParser.nextToken();
+
+    // WHEN
+    uut.parse(jsonParser, configuration);
+
+    // THEN
+    assertThat(configuration.getCellProbabilities()).hasSize(4);
+    assertThat(jsonParser.currentToken()).isEqualTo(JsonToken.END_ARRAY);
+  }
+
   @Test
   void whenNoStandardSymbolsAttributeThenExceptionThrown() {
     // GIVEN
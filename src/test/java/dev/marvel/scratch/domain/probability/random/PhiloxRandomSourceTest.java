@@ -0,0 +1,77 @@
+package dev.marvel.scratch.domain.probability.random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PhiloxRandomSourceTest {
+
+  /**
+   * Known-answer vectors of Philox4x32-10 published with the Random123 library.
+   */
+  private static Stream<Arguments> knownAnswersProvider() {
+    return Stream.of(
+        Arguments.of(new int[]{0, 0, 0, 0}, new int[]{0, 0},
+            new int[]{0x6627e8d5, 0xe169c58d, 0xbc57ac4c, 0x9b00dbd8}),
+        Arguments.of(new int[]{-1, -1, -1, -1}, new int[]{-1, -1},
+            new int[]{0x408f276d, 0x41c83b0e, 0xa20bc7c6, 0x6d5451fd}),
+        Arguments.of(new int[]{0x243f6a88, 0x85a308d3, 0x13198a2e, 0x03707344}, new int[]{0xa4093822, 0x299f31d0},
+            new int[]{0xd16cfe09, 0x94fdcceb, 0x5001e420, 0x24126ea1}));
+  }
+
+  @ParameterizedTest
+  @MethodSource("knownAnswersProvider")
+  void whenKnownCounterAndKeyThenKnownBlockComputed(int[] counter, int[] key, int[] expected) {
+    // GIVEN-WHEN
+    var block = PhiloxRandomSource.philox4x32(counter[0], counter[1], counter[2], counter[3], key[0], key[1]);
+
+    // THEN
+    assertThat(block).containsExactly(expected);
+  }
+
+  @Test
+  void whenSameSeedRoundAndCellThenSameDrawRegardlessOfOrder() {
+    // GIVEN
+    var uut = new PhiloxRandomSource(42L, 7L);
+    var forward = IntStream.range(0, 9).map(cell -> uut.nextInt(cell, 1_000)).toArray();
+
+    // WHEN
+    var backward = IntStream.iterate(8, cell -> cell >= 0, cell -> cell - 1).map(cell -> uut.nextInt(cell, 1_000)).toArray();
+
+    // THEN
+    assertThat(IntStream.range(0, 9).map(i -> backward[8 - i]).toArray()).containsExactly(forward);
+    assertThat(forward).allMatch(draw -> draw >= 0 && draw < 1_000);
+  }
+
+  @Test
+  void whenDifferentRoundThenDifferentDraws() {
+    // GIVEN
+    var round7 = new PhiloxRandomSource(42L, 7L);
+    var round8 = new PhiloxRandomSource(42L, 8L);
+
+    // WHEN
+    var draws7 = IntStream.range(0, 9).map(cell -> round7.nextInt(cell, Integer.MAX_VALUE)).toArray();
+    var draws8 = IntStream.range(0, 9).map(cell -> round8.nextInt(cell, Integer.MAX_VALUE)).toArray();
+
+    // THEN
+    assertThat(draws7).isNotEqualTo(draws8);
+  }
+
+  @Test
+  void whenNonPositiveBoundThenExceptionThrown() {
+    // GIVEN
+    var uut = new PhiloxRandomSource(42L, 7L);
+
+    // WHEN-THEN
+    assertThatThrownBy(() -> uut.nextInt(0, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("The bound of a random draw should be positive.");
+  }
+}
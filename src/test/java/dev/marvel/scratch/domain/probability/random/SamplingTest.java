@@ -0,0 +1,59 @@
+package dev.marvel.scratch.domain.probability.random;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class SamplingTest {
+
+  @Test
+  void whenStratifiedThenEveryStratumOfEveryCellDrawnOnceInABlock() {
+    // GIVEN
+    var uut = Sampling.STRATIFIED.block(42L, 100L, 1_000, 3);
+
+    // WHEN-THEN
+    for (int cell = 0; cell < 3; cell++) {
+      var dimension = cell;
+      var draws = IntStream.range(0, 1_000).map(round -> uut.forRound(100L + round).nextInt(dimension, 1_000)).sorted().toArray();
+      assertThat(draws).containsExactly(IntStream.range(0, 1_000).toArray());
+    }
+  }
+
+  @Test
+  void whenHaltonThenFirstPointsFillEveryIntervalOfTheirBaseOnce() {
+    // GIVEN
+    var uut = Sampling.HALTON.block(42L, 0L, 1 << 14, 2);
+
+    // WHEN
+    // the first 2^10 coordinates of the first cell, in base 2, and the first 3^6 of the second, in base 3
+    var binary = IntStream.range(0, 1_024).map(round -> uut.forRound(round).nextInt(0, 1_024)).sorted().toArray();
+    var ternary = IntStream.range(0, 729).map(round -> uut.forRound(round).nextInt(1, 729)).sorted().toArray();
+
+    // THEN
+    assertThat(binary).containsExactly(IntStream.range(0, 1_024).toArray());
+    assertThat(ternary).containsExactly(IntStream.range(0, 729).toArray());
+  }
+
+  @Test
+  void whenAddressPastDimensionsThenDrawnByPhiloxSourceOfRound() {
+    // GIVEN
+    var expected = new PhiloxRandomSource(9L, 5L).nextInt(7, 1_000);
+
+    // WHEN-THEN
+    for (var uut : Sampling.values()) {
+      assertThat(uut.block(9L, 0L, 10, 2).forRound(5L).nextInt(7, 1_000)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void whenUnknownSamplingThenExceptionThrown() {
+    // WHEN-THEN
+    assertThat(Sampling.of("halton")).isEqualTo(Sampling.HALTON);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> Sampling.of("sobol"))
+        .withMessage("Unknown sampling: sobol");
+  }
+}
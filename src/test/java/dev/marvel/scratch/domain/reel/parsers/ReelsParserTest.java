@@ -0,0 +1,79 @@
+package dev.marvel.scratch.domain.reel.parsers;
+
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.domain.TestUtils;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_B;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_MISS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReelsParserTest {
+
+  private final ReelsParser uut = new ReelsParser();
+  private Configuration configuration;
+
+  @BeforeEach
+  void setUp() {
+    configuration = new Configuration();
+    configuration.setSymbols(Set.of(SYMBOL_A, SYMBOL_B, SYMBOL_MISS));
+    configuration.setRows(2);
+    configuration.setColumns(2);
+  }
+
+  @Test
+  void whenValidJsonThenOneReelStripParsedPerColumn() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/reel/parsers/valid.json");
+
+    // WHEN
+    uut.parse(configRoot, configuration);
+
+    // THEN
+    var reelStrips = configuration.getReelStrips();
+    assertThat(reelStrips).hasSize(2);
+    assertThat(reelStrips.get(0).symbols()).containsExactly(SYMBOL_A, SYMBOL_B, SYMBOL_MISS);
+    assertThat(reelStrips.get(1).column()).isEqualTo(1);
+    assertThat(reelStrips.get(1).symbolAt(1, 1)).isEqualTo(SYMBOL_B);
+  }
+
+  @Test
+  void whenNoReelsAttributeThenCellProbabilitiesUsed() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/parsers/valid.json");
+
+    // WHEN
+    uut.parse(configRoot, configuration);
+
+    // THEN
+    assertThat(configuration.getReelStrips()).isNull();
+  }
+
+  @Test
+  void whenStripCountDiffersFromColumnsThenExceptionThrown() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/reel/parsers/wrong-strip-count.json");
+
+    // WHEN-THEN
+    assertThatThrownBy(() -> uut.parse(configRoot, configuration))
+        .isInstanceOf(ConfigurationParseException.class)
+        .hasMessage("'reels' should be an array of 2 reel strips, one per column.");
+  }
+
+  @Test
+  void whenStripHoldsUndefinedSymbolThenExceptionThrown() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/reel/parsers/undefined-symbol.json");
+
+    // WHEN-THEN
+    assertThatThrownBy(() -> uut.parse(configRoot, configuration))
+        .isInstanceOf(ConfigurationParseException.class)
+        .hasMessage("Symbol Z on the reel strip of column 1 should be defined in 'symbols'.");
+  }
+}
@@ -0,0 +1,121 @@
+package dev.marvel.scratch.domain.rtp;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.domain.probability.model.CellProbability;
+import dev.marvel.scratch.domain.reel.model.ReelStrip;
+import dev.marvel.scratch.domain.scorer.Scorer;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.WinCombinationMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static dev.marvel.scratch.domain.TestUtils.SAME3WC;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_B;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_MISS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+class ImportanceSamplerTest {
+
+  private static final int ROUNDS = 1 << 14;
+
+  @Test
+  void whenEstimatedThenWithinStandardErrorsOfExactRtp() {
+    // GIVEN
+    var configuration = configuration(Map.of(SYMBOL_A, 1, SYMBOL_B, 1));
+    var exact = new RtpCalculator(configuration).calculate(100).returnToPlayer();
+    var uut = new ImportanceSampler(configuration, new WinCombinationMatcher(configuration), new Scorer(), 0.8);
+
+    // WHEN
+    var report = uut.estimate(100, 42, 0, ROUNDS);
+
+    // THEN
+    assertThat(report.returnToPlayer()).isCloseTo(exact, within(4 * report.standardError()));
+    assertThat(report.confidenceLow()).isLessThan(report.returnToPlayer());
+    assertThat(report.confidenceHigh()).isGreaterThan(report.returnToPlayer());
+    // the only win combination pays every reward
+    assertThat(report.winCombinations()).singleElement()
+        .satisfies(contribution -> assertThat(contribution.returnToPlayer()).isEqualTo(report.returnToPlayer(), within(1e-12)));
+  }
+
+  @Test
+  void whenWinRareThenSampledFarMoreOftenThanItOccurs() {
+    // GIVEN
+    // AAA occurs once in a million boards and pays 50 times the bet; no other board wins
+    var configuration = configuration(Map.of(SYMBOL_A, 1, SYMBOL_MISS, 99));
+    var uut = new ImportanceSampler(configuration, new WinCombinationMatcher(configuration), new Scorer(), ImportanceSampler.DEFAULT_TILT);
+
+    // WHEN
+    var report = uut.estimate(100, 42, 0, ROUNDS);
+
+    // THEN
+    var contribution = report.winCombinations().get(0);
+    assertThat(contribution.sampledHits()).isGreaterThan(ROUNDS / 32);
+    assertThat(contribution.hitFrequency()).isCloseTo(1e-6, within(1e-7));
+    assertThat(contribution.returnToPlayer()).isCloseTo(50e-6, within(4 * contribution.standardError()));
+  }
+
+  @Test
+  void whenWeightsLeaveNoRoomForTiltedWeightThenTiltLimitedWithoutOverflow() {
+    // GIVEN
+    // a tilt of 0.99 would need a tilted weight of 99 times the other weights, far beyond an int total
+    var configuration = configuration(Map.of(SYMBOL_A, 1_000, SYMBOL_MISS, 99_000_000));
+    var uut = new ImportanceSampler(configuration, new WinCombinationMatcher(configuration), new Scorer(), 0.99);
+
+    // WHEN
+    var report = uut.estimate(100, 42, 0, ROUNDS);
+
+    // THEN
+    var contribution = report.winCombinations().get(0);
+    assertThat(contribution.sampledHits()).isGreaterThan(ROUNDS / 32);
+    assertThat(contribution.hitFrequency()).isCloseTo(1e-15, within(1e-16));
+  }
+
+  @Test
+  void whenReelStripsThenExceptionThrown() {
+    // GIVEN
+    var configuration = Configuration.builder()
+        .rows(1)
+        .columns(1)
+        .symbols(Set.of(SYMBOL_A))
+        .reelStrips(List.of(new ReelStrip(0, List.of(SYMBOL_A))))
+        .winCombinations(Set.of(SAME3WC))
+        .build()
+        .freeze();
+
+    // WHEN-THEN
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new ImportanceSampler(configuration, new WinCombinationMatcher(configuration), new Scorer(), 0.5));
+  }
+
+  @Test
+  void whenTiltOutOfRangeThenExceptionThrown() {
+    // GIVEN
+    var configuration = configuration(Map.of(SYMBOL_A, 1, SYMBOL_B, 1));
+
+    // WHEN-THEN
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new ImportanceSampler(configuration, new WinCombinationMatcher(configuration), new Scorer(), 1d))
+        .withMessage("The tilt should be a probability between 0.01 and 0.99.");
+  }
+
+  private static CompiledConfiguration configuration(Map<Symbol, Integer> probabilities) {
+    return Configuration.builder()
+        .rows(1)
+        .columns(3)
+        .symbols(probabilities.keySet())
+        .cellProbabilities(Set.of(
+            new CellProbability(0, 0, probabilities),
+            new CellProbability(0, 1, probabilities),
+            new CellProbability(0, 2, probabilities)))
+        .winCombinations(Set.of(SAME3WC))
+        .build()
+        .freeze();
+  }
+}
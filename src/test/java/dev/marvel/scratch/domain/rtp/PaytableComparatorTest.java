@@ -0,0 +1,122 @@
+package dev.marvel.scratch.domain.rtp;
+
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.domain.probability.model.CellProbability;
+import dev.marvel.scratch.domain.probability.random.Sampling;
+import dev.marvel.scratch.domain.scorer.Scorer;
+import dev.marvel.scratch.domain.symbol.model.StandardSymbol;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.symbol.model.Type;
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static dev.marvel.scratch.domain.TestUtils.SAME3WC;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_B;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+class PaytableComparatorTest {
+
+  private static final int ROUNDS = 1 << 15;
+
+  @Test
+  void whenVariantIdenticalThenNoDifference() {
+    // GIVEN
+    var uut = new PaytableComparator(List.of(paytable("base", SYMBOL_A, 1), paytable("same", SYMBOL_A, 1)));
+
+    // WHEN
+    var comparison = uut.compare(100, 42, 0, ROUNDS);
+
+    // THEN
+    var baseline = comparison.paytables().get(0);
+    var variant = comparison.paytables().get(1);
+    // AAA and BBB each occur with probability 1/8 and pay 50 and 25 times the bet
+    assertThat(baseline.returnToPlayer()).isCloseTo(75d / 8, within(5 * baseline.standardError()));
+    assertThat(baseline.difference()).isNull();
+    assertThat(variant.returnToPlayer()).isEqualTo(baseline.returnToPlayer());
+    assertThat(variant.difference()).isZero();
+    assertThat(variant.differenceStandardError()).isZero();
+  }
+
+  @Test
+  void whenVariantPaysMoreThenDifferenceMeasuredOnSharedBoards() {
+    // GIVEN
+    var richerA = StandardSymbol.builder().name("A").type(Type.STANDARD).value(100.0).build();
+    var uut = new PaytableComparator(List.of(paytable("base", SYMBOL_A, 1), paytable("richer", richerA, 1)));
+
+    // WHEN
+    var comparison = uut.compare(100, 42, 0, ROUNDS);
+
+    // THEN
+    var baseline = comparison.paytables().get(0);
+    var variant = comparison.paytables().get(1);
+    // only AAA pays more, 50 more times the bet with probability 1/8
+    assertThat(variant.difference()).isCloseTo(50d / 8, within(5 * variant.differenceStandardError()));
+    assertThat(variant.difference()).isEqualTo(variant.returnToPlayer() - baseline.returnToPlayer(), within(1e-9));
+    assertThat(variant.hitFrequency()).isEqualTo(baseline.hitFrequency());
+    assertThat(variant.differenceStandardError()).isLessThan(variant.standardError());
+  }
+
+  @Test
+  void whenComparedTwiceThenSameFigures() {
+    // GIVEN
+    var uut = new PaytableComparator(List.of(paytable("base", SYMBOL_A, 1), paytable("same", SYMBOL_A, 1)));
+
+    // WHEN
+    var first = uut.compare(100, 7, 1_000, ROUNDS + 3);
+    var second = uut.compare(100, 7, 1_000, ROUNDS + 3);
+
+    // THEN
+    assertThat(second).isEqualTo(first);
+  }
+
+  @Test
+  void whenHaltonSamplingThenCloserToExactRtpThanStandardError() {
+    // GIVEN
+    var uut = new PaytableComparator(List.of(paytable("base", SYMBOL_A, 1), paytable("same", SYMBOL_A, 1)));
+
+    // WHEN
+    var comparison = uut.compare(100, 42, 0, ROUNDS, Sampling.HALTON);
+
+    // THEN
+    var baseline = comparison.paytables().get(0);
+    assertThat(comparison.sampling()).isEqualTo(Sampling.HALTON);
+    assertThat(baseline.returnToPlayer()).isCloseTo(75d / 8, within(baseline.standardError()));
+  }
+
+  @Test
+  void whenVariantHasOtherProbabilitiesThenExceptionThrown() {
+    // WHEN-THEN
+    assertThatExceptionOfType(ConfigurationParseException.class)
+        .isThrownBy(() -> new PaytableComparator(List.of(paytable("base", SYMBOL_A, 1), paytable("skewed", SYMBOL_A, 2))))
+        .withMessage("The paytable 'skewed' does not share the dimensions, symbols and probabilities of 'base'.");
+  }
+
+  @Test
+  void whenSinglePaytableThenExceptionThrown() {
+    // WHEN-THEN
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new PaytableComparator(List.of(paytable("base", SYMBOL_A, 1))));
+  }
+
+  private static Paytable paytable(String name, Symbol symbolA, int weightOfA) {
+    var configuration = Configuration.builder()
+        .rows(1)
+        .columns(3)
+        .symbols(Set.of(symbolA, SYMBOL_B))
+        .cellProbabilities(Set.of(
+            new CellProbability(0, 0, Map.of(symbolA, weightOfA, SYMBOL_B, 1)),
+            new CellProbability(0, 1, Map.of(symbolA, 1, SYMBOL_B, 1)),
+            new CellProbability(0, 2, Map.of(symbolA, 1, SYMBOL_B, 1))))
+        .winCombinations(Set.of(SAME3WC))
+        .build();
+    return new Paytable(name, configuration.freeze(), new Scorer());
+  }
+}
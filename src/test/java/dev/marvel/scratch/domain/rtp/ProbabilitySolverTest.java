@@ -0,0 +1,136 @@
+package dev.marvel.scratch.domain.rtp;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.domain.probability.model.CellProbability;
+import dev.marvel.scratch.domain.probability.model.WeightScaling;
+import dev.marvel.scratch.domain.reel.model.ReelStrip;
+import dev.marvel.scratch.domain.scorer.Scorer;
+import dev.marvel.scratch.domain.wincombination.WinCombinationMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static dev.marvel.scratch.domain.TestUtils.SAME3WC;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_B;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_MISS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+class ProbabilitySolverTest {
+
+  @Test
+  void whenSolvedExactlyThenTunedWeightsReachTarget() {
+    // GIVEN
+    // AAA and BBB each occur with probability 1/64 and pay 50 and 25 times the bet
+    var configuration = configuration(new WeightScaling(1, Map.of()));
+    var uut = new ProbabilitySolver(configuration, new WinCombinationMatcher(configuration), new Scorer());
+
+    // WHEN
+    var report = uut.solve(100, SolverTarget.of(0.9));
+
+    // THEN
+    assertThat(report.initial().returnToPlayer()).isCloseTo(75d / 64, within(1e-12));
+    assertThat(report.converged()).isTrue();
+    assertThat(report.tuned().returnToPlayer()).isCloseTo(0.9, within(ProbabilitySolver.RTP_TOLERANCE));
+    var tuned = new RtpCalculator(configuration(report.weights())).calculate(100);
+    assertThat(tuned.returnToPlayer()).isEqualTo(report.tuned().returnToPlayer(), within(1e-12));
+    assertThat(tuned.hitFrequency()).isEqualTo(report.tuned().hitFrequency(), within(1e-12));
+  }
+
+  @Test
+  void whenHitFrequencyBandThenTunedWithinBand() {
+    // GIVEN
+    var configuration = configuration(new WeightScaling(1, Map.of()));
+    var uut = new ProbabilitySolver(configuration, new WinCombinationMatcher(configuration), new Scorer());
+
+    // WHEN
+    var report = uut.solve(100, new SolverTarget(1.0, 0.035, null, null, null));
+
+    // THEN
+    assertThat(report.converged()).isTrue();
+    assertThat(report.tuned().returnToPlayer()).isCloseTo(1.0, within(ProbabilitySolver.RTP_TOLERANCE));
+    assertThat(report.tuned().hitFrequency()).isGreaterThanOrEqualTo(0.035);
+  }
+
+  @Test
+  void whenSolvedOnSimulatedRoundsThenTunedWeightsNearTarget() {
+    // GIVEN
+    var configuration = configuration(new WeightScaling(1, Map.of()));
+    var uut = new ProbabilitySolver(configuration, new WinCombinationMatcher(configuration), new Scorer());
+
+    // WHEN
+    var report = uut.solve(100, SolverTarget.of(0.9), 42, 0, 1 << 16);
+
+    // THEN
+    assertThat(report.rounds()).isEqualTo(1L << 16);
+    assertThat(report.winningBoards()).isPositive();
+    assertThat(report.tuned().returnToPlayer()).isCloseTo(0.9, within(ProbabilitySolver.RTP_TOLERANCE));
+    // the tuned figures are estimates, off the exact ones by the sampling error
+    var tuned = new RtpCalculator(configuration(report.weights())).calculate(100);
+    assertThat(tuned.returnToPlayer()).isCloseTo(0.9, within(0.1));
+  }
+
+  @Test
+  void whenWeightsLargeThenScaledUpOnlyAsFarAsTotalsFitInt() {
+    // GIVEN
+    // the cell totals of 400 million leave room for scaling A and B up by less than 10 before an int overflows, too little to reach
+    // a return to player of 50
+    var configuration = configuration(new WeightScaling(1, Map.of()), 100_000_000);
+    var uut = new ProbabilitySolver(configuration, new WinCombinationMatcher(configuration), new Scorer());
+
+    // WHEN
+    var report = uut.solve(100, SolverTarget.of(50.0));
+
+    // THEN
+    assertThat(report.converged()).isFalse();
+    assertThat(report.weights().resolution()).isEqualTo(1);
+    assertThat(report.weights().scales().get("A")).isBetween(9.7, 9.74);
+    var tuned = configuration(report.weights(), 100_000_000);
+    assertThat(new RtpCalculator(tuned).calculate(100).returnToPlayer()).isEqualTo(report.tuned().returnToPlayer(), within(1e-12));
+  }
+
+  @Test
+  void whenReelStripsThenExceptionThrown() {
+    // GIVEN
+    var configuration = Configuration.builder()
+        .rows(1)
+        .columns(1)
+        .symbols(Set.of(SYMBOL_A))
+        .reelStrips(List.of(new ReelStrip(0, List.of(SYMBOL_A))))
+        .winCombinations(Set.of(SAME3WC))
+        .build()
+        .freeze();
+
+    // WHEN-THEN
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new ProbabilitySolver(configuration, new WinCombinationMatcher(configuration), new Scorer()));
+  }
+
+  private static CompiledConfiguration configuration(WeightScaling scaling) {
+    return configuration(scaling, 1);
+  }
+
+  /**
+   * A 1x3 board whose cells draw A, B and MISS with weights 1:1:2 times the given weight, rescaled.
+   */
+  private static CompiledConfiguration configuration(WeightScaling scaling, int weight) {
+    var probabilities = Map.of(SYMBOL_A, scaling.scale("A", weight), SYMBOL_B, scaling.scale("B", weight),
+        SYMBOL_MISS, scaling.scale("MISS", 2 * weight));
+    return Configuration.builder()
+        .rows(1)
+        .columns(3)
+        .symbols(probabilities.keySet())
+        .cellProbabilities(Set.of(
+            new CellProbability(0, 0, probabilities),
+            new CellProbability(0, 1, probabilities),
+            new CellProbability(0, 2, probabilities)))
+        .winCombinations(Set.of(SAME3WC))
+        .build()
+        .freeze();
+  }
+}
@@ -0,0 +1,88 @@
+package dev.marvel.scratch.domain.rtp;
+
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.domain.probability.model.CellProbability;
+import dev.marvel.scratch.domain.reel.model.ReelStrip;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static dev.marvel.scratch.domain.TestUtils.SAME3WC;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_B;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+class RtpCalculatorTest {
+
+  @Test
+  void whenReelStripsThenEveryStopCombinationEnumerated() {
+    // GIVEN
+    var configuration = Configuration.builder()
+        .rows(1)
+        .columns(3)
+        .symbols(Set.of(SYMBOL_A, SYMBOL_B))
+        .reelStrips(List.of(
+            new ReelStrip(0, List.of(SYMBOL_A, SYMBOL_B)),
+            new ReelStrip(1, List.of(SYMBOL_B, SYMBOL_A)),
+            new ReelStrip(2, List.of(SYMBOL_A, SYMBOL_A, SYMBOL_B, SYMBOL_B))))
+        .winCombinations(Set.of(SAME3WC))
+        .build();
+    var uut = new RtpCalculator(configuration.freeze());
+
+    // WHEN
+    var report = uut.calculate(100);
+
+    // THEN
+    // AAA and BBB each occur with probability 1/8 and pay 50 and 25 times the bet
+    assertThat(report.outcomes()).isEqualTo(16);
+    assertThat(report.returnToPlayer()).isCloseTo(75d / 8, within(1e-12));
+    assertThat(report.hitFrequency()).isCloseTo(0.25, within(1e-12));
+    assertThat(report.standardDeviation()).isCloseTo(Math.sqrt(3125d / 8 - 75d / 8 * 75d / 8), within(1e-9));
+  }
+
+  @Test
+  void whenCellProbabilitiesThenEveryBoardWeightedByItsProbability() {
+    // GIVEN
+    var configuration = Configuration.builder()
+        .rows(1)
+        .columns(3)
+        .symbols(Set.of(SYMBOL_A, SYMBOL_B))
+        .cellProbabilities(Set.of(
+            new CellProbability(0, 0, Map.of(SYMBOL_A, 1, SYMBOL_B, 1)),
+            new CellProbability(0, 1, Map.of(SYMBOL_A, 1, SYMBOL_B, 1)),
+            new CellProbability(0, 2, Map.of(SYMBOL_A, 3, SYMBOL_B, 3))))
+        .winCombinations(Set.of(SAME3WC))
+        .build();
+    var uut = new RtpCalculator(configuration.freeze());
+
+    // WHEN
+    var report = uut.calculate(100);
+
+    // THEN
+    assertThat(report.outcomes()).isEqualTo(8);
+    assertThat(report.returnToPlayer()).isCloseTo(75d / 8, within(1e-12));
+    assertThat(report.hitFrequency()).isCloseTo(0.25, within(1e-12));
+  }
+
+  @Test
+  void whenBetNotPositiveThenExceptionThrown() {
+    // GIVEN
+    var configuration = Configuration.builder()
+        .rows(1)
+        .columns(1)
+        .symbols(Set.of(SYMBOL_A))
+        .cellProbabilities(Set.of(new CellProbability(0, 0, Map.of(SYMBOL_A, 1))))
+        .winCombinations(Set.of(SAME3WC))
+        .build();
+    var uut = new RtpCalculator(configuration.freeze());
+
+    // WHEN-THEN
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> uut.calculate(0))
+        .withMessage("The RTP is calculated for a positive betting amount.");
+  }
+}
@@ -0,0 +1,123 @@
+package dev.marvel.scratch.domain.rtp;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.domain.probability.model.CellProbability;
+import dev.marvel.scratch.domain.reel.model.ReelStrip;
+import dev.marvel.scratch.domain.scorer.Scorer;
+import dev.marvel.scratch.domain.wincombination.WinCombinationMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static dev.marvel.scratch.domain.TestUtils.SAME3WC;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_B;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_MISS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+class SensitivityAnalyzerTest {
+
+  @Test
+  void whenAnalyzedExactlyThenContributionsAddUpToRtp() {
+    // GIVEN
+    // AAA and BBB each occur with probability 1/64 and pay 50 and 25 times the bet
+    var configuration = configuration(1, 1);
+    var uut = new SensitivityAnalyzer(configuration, new WinCombinationMatcher(configuration), new Scorer());
+
+    // WHEN
+    var report = uut.analyze(100);
+
+    // THEN
+    assertThat(report.rounds()).isNull();
+    assertThat(report.returnToPlayer()).isCloseTo(75d / 64, within(1e-12));
+    assertThat(report.symbols()).extracting(SymbolSensitivity::name).containsExactly("A", "B", "MISS");
+    assertThat(report.symbols().get(0).returnToPlayer()).isCloseTo(50d / 64, within(1e-12));
+    assertThat(report.symbols().get(1).returnToPlayer()).isCloseTo(25d / 64, within(1e-12));
+    assertThat(report.winCombinations().get(0).returnToPlayer()).isCloseTo(75d / 64, within(1e-12));
+    // the RTP is linear in the reward multipliers of the symbols and of the only win combination
+    assertThat(report.symbols().get(0).valueDerivative()).isCloseTo(1d / 64, within(1e-12));
+    assertThat(report.winCombinations().get(0).multiplierDerivative()).isCloseTo(75d / 64, within(1e-12));
+  }
+
+  @Test
+  void whenAnalyzedExactlyThenWeightDerivativesMatchFiniteDifferences() {
+    // GIVEN
+    var configuration = configuration(1000, 1000);
+    var uut = new SensitivityAnalyzer(configuration, new WinCombinationMatcher(configuration), new Scorer());
+
+    // WHEN
+    var report = uut.analyze(100);
+
+    // THEN
+    var difference = (rtp(configuration(1000, 1001)) - rtp(configuration(1000, 999))) / 2;
+    var derivative = report.weights().stream()
+        .filter(weight -> weight.column() == 1 && weight.symbol().equals("A"))
+        .findFirst()
+        .orElseThrow()
+        .derivative();
+    assertThat(derivative).isCloseTo(difference, within(1e-9));
+    var miss = report.symbols().stream().filter(symbol -> symbol.name().equals("MISS")).findFirst().orElseThrow();
+    assertThat(miss.weightElasticity()).isNegative();
+  }
+
+  @Test
+  void whenAnalyzedOnSimulatedRoundsThenNearExactFigures() {
+    // GIVEN
+    var configuration = configuration(1, 1);
+    var uut = new SensitivityAnalyzer(configuration, new WinCombinationMatcher(configuration), new Scorer());
+
+    // WHEN
+    var report = uut.analyze(100, 42, 0, 1 << 16);
+
+    // THEN
+    assertThat(report.rounds()).isEqualTo(1L << 16);
+    assertThat(report.returnToPlayer()).isCloseTo(75d / 64, within(0.1));
+    var contributions = report.symbols().stream().mapToDouble(SymbolSensitivity::returnToPlayer).sum();
+    assertThat(contributions).isCloseTo(report.returnToPlayer(), within(1e-12));
+  }
+
+  @Test
+  void whenReelStripsThenExceptionThrown() {
+    // GIVEN
+    var configuration = Configuration.builder()
+        .rows(1)
+        .columns(1)
+        .symbols(Set.of(SYMBOL_A))
+        .reelStrips(List.of(new ReelStrip(0, List.of(SYMBOL_A))))
+        .winCombinations(Set.of(SAME3WC))
+        .build()
+        .freeze();
+
+    // WHEN-THEN
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new SensitivityAnalyzer(configuration, new WinCombinationMatcher(configuration), new Scorer()));
+  }
+
+  private static double rtp(CompiledConfiguration configuration) {
+    return new RtpCalculator(configuration).calculate(100).returnToPlayer();
+  }
+
+  /**
+   * A 1x3 board whose cells draw A, B and MISS with weights 1:1:2 times the scale, except for the weight of A in the middle cell.
+   */
+  private static CompiledConfiguration configuration(int scale, int middleWeightOfA) {
+    var probabilities = Map.of(SYMBOL_A, scale, SYMBOL_B, scale, SYMBOL_MISS, 2 * scale);
+    var middle = Map.of(SYMBOL_A, middleWeightOfA, SYMBOL_B, scale, SYMBOL_MISS, 2 * scale);
+    return Configuration.builder()
+        .rows(1)
+        .columns(3)
+        .symbols(probabilities.keySet())
+        .cellProbabilities(Set.of(
+            new CellProbability(0, 0, probabilities),
+            new CellProbability(0, 1, middle),
+            new CellProbability(0, 2, probabilities)))
+        .winCombinations(Set.of(SAME3WC))
+        .build()
+        .freeze();
+  }
+}
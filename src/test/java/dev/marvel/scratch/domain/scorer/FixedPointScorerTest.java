@@ -0,0 +1,102 @@
+package dev.marvel.scratch.domain.scorer;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.domain.reel.model.ReelStrip;
+import dev.marvel.scratch.domain.symbol.model.BonusSymbol;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.MatchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static dev.marvel.scratch.domain.TestUtils.HLS_WC;
+import static dev.marvel.scratch.domain.TestUtils.SAME3WC;
+import static dev.marvel.scratch.domain.TestUtils.SAME4WC;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_1000;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_10x;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_F;
+import static dev.marvel.scratch.domain.TestUtils.VLS_WC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class FixedPointScorerTest {
+
+  private static final Symbol SYMBOL_FREE_SPINS = freeSpinsSymbol();
+  private final FixedPointScorer uut = new FixedPointScorer(buildConfiguration());
+
+  @Test
+  void whenBoardWinsThenRewardInMicroUnitsEqualsFloatingPointReward() {
+    // GIVEN
+    var matchResult = new MatchResult(Map.of(SYMBOL_A, Set.of(SAME3WC, VLS_WC), SYMBOL_F, Set.of(SAME4WC, HLS_WC)),
+        Set.of(SYMBOL_1000, SYMBOL_10x));
+
+    // WHEN
+    var micros = uut.scoreMicros(100, matchResult);
+
+    // THEN
+    assertThat(micros).isEqualTo(114_500_000_000L);
+    assertThat(uut.score(100, matchResult)).isEqualTo(new Scorer().score(100, matchResult));
+  }
+
+  @Test
+  void whenFreeSpinScoredThenTriggerMultiplierAppliedInMicroUnits() {
+    // GIVEN
+    var matchResult = new MatchResult(Map.of(SYMBOL_A, Set.of(SAME3WC)), Set.of());
+
+    // WHEN
+    var score = uut.scoreFreeSpin(1, matchResult, List.of(SYMBOL_FREE_SPINS));
+
+    // THEN
+    // the multiplier is compiled to 333_333 micro-units, and 50 * 0.333333 is rounded to a micro-unit
+    assertThat(score).isEqualTo(16.66665);
+    assertThat(new Scorer().scoreFreeSpin(1, matchResult, List.of(SYMBOL_FREE_SPINS))).isEqualTo(50 * 0.3333333);
+  }
+
+  @Test
+  void whenBoardDoesNotWinThenBonusSymbolsIgnored() {
+    // GIVEN
+    var matchResult = new MatchResult(Map.of(), Set.of(SYMBOL_1000));
+
+    // WHEN-THEN
+    assertThat(uut.scoreMicros(100, matchResult)).isZero();
+  }
+
+  @Test
+  void whenProductsFallBetweenMicroUnitsThenRoundedHalfUp() {
+    // WHEN-THEN
+    assertThat(FixedPoint.multiply(1_500_000L, 333_333L)).isEqualTo(500_000L);
+    assertThat(FixedPoint.multiply(1L, 500_000L)).isEqualTo(1L);
+    assertThat(FixedPoint.multiply(-1L, 500_000L)).isZero();
+  }
+
+  @Test
+  void whenProductOverflowsThenExceptionThrown() {
+    // WHEN-THEN
+    assertThatExceptionOfType(ArithmeticException.class)
+        .isThrownBy(() -> FixedPoint.multiply(Long.MAX_VALUE / 2, 3_000_000L));
+    assertThatExceptionOfType(ArithmeticException.class)
+        .isThrownBy(() -> FixedPoint.toMicros(1e14));
+  }
+
+  private static CompiledConfiguration buildConfiguration() {
+    var strip = List.of(SYMBOL_A, SYMBOL_F, SYMBOL_1000, SYMBOL_10x);
+    return Configuration.builder()
+        .rows(3)
+        .columns(3)
+        .symbols(Set.of(SYMBOL_A, SYMBOL_F, SYMBOL_1000, SYMBOL_10x, SYMBOL_FREE_SPINS))
+        .reelStrips(List.of(new ReelStrip(0, strip), new ReelStrip(1, strip), new ReelStrip(2, strip)))
+        .winCombinations(Set.of(SAME3WC, SAME4WC, HLS_WC, VLS_WC))
+        .build()
+        .freeze();
+  }
+
+  private static Symbol freeSpinsSymbol() {
+    var symbol = new BonusSymbol(0.3333333, null, 2, "free_spins");
+    symbol.setName("FS");
+    return symbol;
+  }
+}
@@ -1,6 +1,7 @@
 package dev.marvel.scratch.domain.scorer;
 
 import dev.marvel.scratch.domain.wincombination.MatchResult;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -14,10 +15,13 @@ import static dev.marvel.scratch.domain.TestUtils.HLS_WC;
 import static dev.marvel.scratch.domain.TestUtils.SAME3WC;
 import static dev.marvel.scratch.domain.TestUtils.SAME5WC;
 import static dev.marvel.scratch.domain.TestUtils.SYMBOL_1000;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_10x;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_500;
 import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
 import static dev.marvel.scratch.domain.TestUtils.SYMBOL_B;
 import static dev.marvel.scratch.domain.TestUtils.VLS_WC;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 class ScorerTest {
 
@@ -44,4 +48,50 @@ class ScorerTest {
     // THEN
     assertThat(score).isEqualTo(expectedScore);
   }
-}
\ No newline at end of file
+
+  @Test
+  void whenSeveralSymbolsWinThenRewardSharedByTheirOwnRewards() {
+    // GIVEN
+    var matchResult = new MatchResult(Map.of(SYMBOL_A, Set.of(SAME5WC), SYMBOL_B, Set.of(HLS_WC)), Set.of(SYMBOL_10x));
+
+    // WHEN
+    var shares = uut.rewardShares(matchResult);
+
+    // THEN
+    // A earns 50 * 2 and B 25 * 2 of every unit of the standard symbols' sum
+    assertThat(shares).containsOnlyKeys(SYMBOL_A, SYMBOL_B);
+    assertThat(shares.get(SYMBOL_A)).isCloseTo(2d / 3, within(1e-12));
+    assertThat(shares.get(SYMBOL_B)).isCloseTo(1d / 3, within(1e-12));
+  }
+
+  @Test
+  void whenExtraAndMultiplyingBonusSymbolsThenExtrasAddedBeforeMultiplying() {
+    // GIVEN
+    var matchResult = new MatchResult(Map.of(SYMBOL_A, Set.of(SAME3WC)), Set.of(SYMBOL_10x, SYMBOL_1000, SYMBOL_500));
+
+    // WHEN
+    var payout = uut.payout(matchResult);
+
+    // THEN
+    assertThat(payout).isEqualTo(new Payout(500d, 15_000d));
+    assertThat(uut.score(100, matchResult)).isEqualTo(65_000d);
+  }
+
+  @Test
+  void whenPayoutPricedForSeveralBetsThenEachEqualsScoreAtThatBet() {
+    // GIVEN
+    // A pays 50 * 2 * 2 and B 25 * 2 times the bet, and +1000 adds 1000 on top
+    var matchResult = new MatchResult(Map.of(SYMBOL_A, Set.of(SAME5WC, VLS_WC), SYMBOL_B, Set.of(HLS_WC)), Set.of(SYMBOL_1000));
+
+    // WHEN
+    var payout = uut.payout(matchResult);
+
+    // THEN
+    assertThat(payout).isEqualTo(new Payout(250d, 1_000d));
+    assertThat(payout.at(1)).isEqualTo(1_250d);
+    assertThat(payout.at(10)).isEqualTo(3_500d);
+    assertThat(payout.at(100)).isEqualTo(26_000d);
+    assertThat(payout.at(2_500)).isEqualTo(626_000d);
+    assertThat(uut.score(100, matchResult)).isEqualTo(26_000d);
+  }
+}
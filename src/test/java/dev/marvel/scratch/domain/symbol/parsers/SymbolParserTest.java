@@ -103,4 +103,17 @@ class SymbolParserTest {
         .hasMessage("Could not parse configuration node")
         .hasRootCauseMessage("'standard' symbols should have a 'reward_multiplier' attribute.");
   }
-}
\ No newline at end of file
+
+  @Test
+  void whenFreeSpinsSymbolAndNoSpinsThenExceptionThrown() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/symbol/parsers/missing-spins.json");
+    var configuration = new Configuration();
+
+    // WHEN-THEN
+    assertThatThrownBy(() -> uut.parse(configRoot, configuration))
+        .isInstanceOf(ConfigurationParseException.class)
+        .hasMessage("Could not parse configuration node")
+        .hasRootCauseMessage("'free_spins' symbols should have a positive integer 'spins' attribute.");
+  }
+}
@@ -0,0 +1,73 @@
+package dev.marvel.scratch.domain.wincombination;
+
+import dev.marvel.scratch.domain.core.Cell;
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.model.LinearWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.WinCombination;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+
+import static dev.marvel.scratch.domain.TestUtils.HLS_WC;
+import static dev.marvel.scratch.domain.TestUtils.SAME3WC;
+import static dev.marvel.scratch.domain.TestUtils.SAME4WC;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.wincombination.model.Group.HORIZONTALLY_LINEAR_SYMBOLS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EvaluationOrderTest {
+
+  private static final WinCombination LEFT_COLUMN = LinearWinCombination.builder()
+      .name("left_column")
+      .group(HORIZONTALLY_LINEAR_SYMBOLS)
+      .rewardMultiplier(3.0)
+      .coveredAreas(Set.of(Set.of(new Cell(0, 0), new Cell(1, 0), new Cell(2, 0))))
+      .build();
+
+  @Test
+  void whenWarmUpOverThenCombinationsReorderedByHitRatePerCost() {
+    // GIVEN
+    var uut = new EvaluationOrder(List.of(Set.of(HLS_WC, LEFT_COLUMN)), 2);
+    var game = game();
+    for (int evaluation = 0; evaluation < 10; evaluation++) {
+      uut.record(0, 0, false);
+      uut.record(0, 1, true);
+    }
+
+    // WHEN
+    uut.completeMatch(game);
+    var duringWarmUp = uut.evaluationOrderOf(0);
+    uut.completeMatch(game);
+
+    // THEN
+    assertThat(uut.combinationsOf(0)).containsExactly(LEFT_COLUMN, HLS_WC);
+    assertThat(duringWarmUp).containsExactly(0, 1);
+    assertThat(uut.evaluationOrderOf(0)).containsExactly(1, 0);
+    assertThat(uut.isWarmingUp()).isFalse();
+  }
+
+  @Test
+  void whenSameSymbolsCombinationsThenLookedUpByCountInsteadOfEvaluated() {
+    // GIVEN
+    var uut = new EvaluationOrder(List.of(Set.of(SAME3WC, SAME4WC)), 1);
+
+    // WHEN-THEN
+    assertThat(uut.combinationsOf(0)).containsExactly(SAME4WC, SAME3WC);
+    assertThat(uut.evaluationOrderOf(0)).isEmpty();
+    assertThat(uut.sameSymbolsPositionOf(0, 3)).isEqualTo(1);
+    assertThat(uut.sameSymbolsPositionOf(0, 4)).isZero();
+    assertThat(uut.sameSymbolsPositionOf(0, 2)).isEqualTo(-1);
+    assertThat(uut.sameSymbolsPositionOf(0, 9)).isEqualTo(-1);
+  }
+
+  private static Game game() {
+    var cells = new HashMap<Cell, Symbol>();
+    for (int cell = 0; cell < 9; cell++) {
+      cells.put(new Cell(cell / 3, cell % 3), SYMBOL_A);
+    }
+    return new Game(cells, 100);
+  }
+}
@@ -0,0 +1,119 @@
+package dev.marvel.scratch.domain.wincombination;
+
+import dev.marvel.scratch.configuration.CompiledConfiguration;
+import dev.marvel.scratch.configuration.Configuration;
+import dev.marvel.scratch.domain.cascade.model.CascadeSettings;
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.reel.model.ReelStrip;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static dev.marvel.scratch.domain.TestUtils.HLS_WC;
+import static dev.marvel.scratch.domain.TestUtils.SAME3WC;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_10x;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_B;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_C;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_D;
+import static dev.marvel.scratch.domain.TestUtils.VLS_WC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IncrementalWinCombinationMatcherTest {
+
+  private CompiledConfiguration configuration;
+  private IncrementalWinCombinationMatcher uut;
+
+  @BeforeEach
+  void setUp() {
+    var strip = List.<Symbol>of(SYMBOL_A);
+    configuration = Configuration.builder()
+        .rows(3)
+        .columns(3)
+        .symbols(Set.of(SYMBOL_A, SYMBOL_B, SYMBOL_C, SYMBOL_D, SYMBOL_10x))
+        .reelStrips(List.of(new ReelStrip(0, strip), new ReelStrip(1, strip), new ReelStrip(2, strip)))
+        .winCombinations(Set.of(SAME3WC, HLS_WC, VLS_WC))
+        .cascade(new CascadeSettings(10))
+        .build()
+        .freeze();
+    uut = new IncrementalWinCombinationMatcher(configuration);
+  }
+
+  @Test
+  void whenResetThenBoardMatchedInFull() {
+    // GIVEN
+    var game = game(
+        SYMBOL_A, SYMBOL_A, SYMBOL_A,
+        SYMBOL_B, SYMBOL_C, SYMBOL_D,
+        SYMBOL_C, SYMBOL_B, SYMBOL_10x);
+
+    // WHEN
+    var matchResult = uut.reset(game);
+
+    // THEN
+    assertThat(matchResult.matchedWinCombinations()).containsOnlyKeys(SYMBOL_A);
+    assertThat(matchResult.matchedWinCombinations().get(SYMBOL_A)).containsExactlyInAnyOrder(SAME3WC, HLS_WC);
+    assertThat(matchResult.matchedBonusSymbols()).containsExactly(SYMBOL_10x);
+  }
+
+  @Test
+  void whenCellsChangedThenRematchEqualsFullMatch() {
+    // GIVEN
+    uut.reset(game(
+        SYMBOL_A, SYMBOL_A, SYMBOL_A,
+        SYMBOL_B, SYMBOL_C, SYMBOL_D,
+        SYMBOL_C, SYMBOL_B, SYMBOL_10x));
+    uut.set(3, SYMBOL_A);
+    uut.set(6, SYMBOL_A);
+
+    // WHEN
+    var matchResult = uut.rematch();
+
+    // THEN
+    assertThat(matchResult.matchedWinCombinations().get(SYMBOL_A)).containsExactlyInAnyOrder(HLS_WC, VLS_WC);
+    var expected = new WinCombinationMatcher(configuration).match(uut.toGame(1));
+    assertThat(matchResult.matchedWinCombinations()).isEqualTo(expected.matchedWinCombinations());
+    assertThat(matchResult.matchedBonusSymbols()).isEqualTo(expected.matchedBonusSymbols());
+  }
+
+  @Test
+  void whenLineBrokenThenNoLongerMatched() {
+    // GIVEN
+    uut.reset(game(
+        SYMBOL_A, SYMBOL_A, SYMBOL_A,
+        SYMBOL_B, SYMBOL_C, SYMBOL_D,
+        SYMBOL_C, SYMBOL_B, SYMBOL_10x));
+    uut.set(1, SYMBOL_B);
+
+    // WHEN
+    var matchResult = uut.rematch();
+
+    // THEN
+    assertThat(matchResult.matchedWinCombinations()).isEmpty();
+    assertThat(matchResult.matchedBonusSymbols()).isEmpty();
+  }
+
+  @Test
+  void whenMatchedThenWinningCellsMarked() {
+    // GIVEN
+    var matchResult = uut.reset(game(
+        SYMBOL_A, SYMBOL_B, SYMBOL_C,
+        SYMBOL_A, SYMBOL_C, SYMBOL_D,
+        SYMBOL_A, SYMBOL_B, SYMBOL_10x));
+    var marks = new boolean[9];
+
+    // WHEN
+    var marked = uut.markWinningCells(matchResult, marks);
+
+    // THEN
+    assertThat(marked).isEqualTo(3);
+    assertThat(marks).containsExactly(true, false, false, true, false, false, true, false, false);
+  }
+
+  private Game game(Symbol... board) {
+    return new Game(configuration, board, 1);
+  }
+}
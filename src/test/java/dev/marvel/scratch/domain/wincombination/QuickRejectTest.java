@@ -0,0 +1,91 @@
+package dev.marvel.scratch.domain.wincombination;
+
+import dev.marvel.scratch.domain.core.Cell;
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import dev.marvel.scratch.domain.wincombination.model.ClusterWinCombination;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Set;
+
+import static dev.marvel.scratch.domain.TestUtils.HLS_WC;
+import static dev.marvel.scratch.domain.TestUtils.LTR_WC;
+import static dev.marvel.scratch.domain.TestUtils.SAME3WC;
+import static dev.marvel.scratch.domain.TestUtils.SAME4WC;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_B;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_C;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_D;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_E;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_F;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_WILD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuickRejectTest {
+
+  @Test
+  void whenNoSymbolReachesSmallestCountAndNoLineAgreesThenLossGuaranteed() {
+    // GIVEN
+    var uut = QuickReject.of(Set.of(SAME3WC, SAME4WC, HLS_WC, LTR_WC));
+    var game = game(
+        SYMBOL_A, SYMBOL_B, SYMBOL_C,
+        SYMBOL_D, SYMBOL_E, SYMBOL_F,
+        SYMBOL_B, SYMBOL_C, SYMBOL_A);
+
+    // WHEN-THEN
+    assertThat(uut.guaranteesLoss(game)).isTrue();
+  }
+
+  @Test
+  void whenWildCompletesLineThenBoardMatched() {
+    // GIVEN
+    var uut = QuickReject.of(Set.of(LTR_WC));
+    var game = game(
+        SYMBOL_A, SYMBOL_B, SYMBOL_C,
+        SYMBOL_D, SYMBOL_WILD, SYMBOL_F,
+        SYMBOL_E, SYMBOL_C, SYMBOL_A);
+
+    // WHEN-THEN
+    assertThat(uut.guaranteesLoss(game)).isFalse();
+  }
+
+  @Test
+  void whenWildsReachSmallestCountThenBoardMatched() {
+    // GIVEN
+    var uut = QuickReject.of(Set.of(SAME4WC));
+    var game = game(
+        SYMBOL_A, SYMBOL_B, SYMBOL_WILD,
+        SYMBOL_D, SYMBOL_WILD, SYMBOL_F,
+        SYMBOL_E, SYMBOL_C, SYMBOL_A);
+
+    // WHEN-THEN
+    assertThat(uut.guaranteesLoss(game)).isFalse();
+  }
+
+  @Test
+  void whenSymbolsOfClusterSizeAreNotAdjacentThenLossGuaranteed() {
+    // GIVEN
+    var uut = QuickReject.of(Set.of(new ClusterWinCombination(3, 2.0)));
+    var scattered = game(
+        SYMBOL_A, SYMBOL_B, SYMBOL_A,
+        SYMBOL_C, SYMBOL_A, SYMBOL_D,
+        SYMBOL_E, SYMBOL_F, SYMBOL_B);
+    var adjacent = game(
+        SYMBOL_A, SYMBOL_A, SYMBOL_B,
+        SYMBOL_C, SYMBOL_A, SYMBOL_D,
+        SYMBOL_E, SYMBOL_F, SYMBOL_B);
+
+    // WHEN-THEN
+    assertThat(uut.guaranteesLoss(scattered)).isTrue();
+    assertThat(uut.guaranteesLoss(adjacent)).isFalse();
+  }
+
+  private static Game game(Symbol... board) {
+    var cells = new HashMap<Cell, Symbol>();
+    for (int cell = 0; cell < board.length; cell++) {
+      cells.put(new Cell(cell / 3, cell % 3), board[cell]);
+    }
+    return new Game(cells, 100);
+  }
+}
@@ -3,6 +3,8 @@ package dev.marvel.scratch.domain.wincombination;
 
 import dev.marvel.scratch.domain.core.Cell;
 import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.wincombination.model.ClusterWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.LinearWinCombination;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -30,7 +32,9 @@ import static dev.marvel.scratch.domain.TestUtils.SYMBOL_D;
 import static dev.marvel.scratch.domain.TestUtils.SYMBOL_E;
 import static dev.marvel.scratch.domain.TestUtils.SYMBOL_F;
 import static dev.marvel.scratch.domain.TestUtils.SYMBOL_MISS;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_WILD;
 import static dev.marvel.scratch.domain.TestUtils.VLS_WC;
+import static dev.marvel.scratch.domain.wincombination.model.Group.CLUSTER_SYMBOLS;
 import static dev.marvel.scratch.domain.wincombination.model.Group.HORIZONTALLY_LINEAR_SYMBOLS;
 import static dev.marvel.scratch.domain.wincombination.model.Group.LTR_DIAGONALLY_LINEAR_SYMBOLS;
 import static dev.marvel.scratch.domain.wincombination.model.Group.RTL_DIAGONALLY_LINEAR_SYMBOLS;
@@ -45,7 +49,7 @@ class WinCombinationMatcherTest {
   @BeforeEach
   void setUp() {
     var symbols = Set.of(SYMBOL_A, SYMBOL_B, SYMBOL_C, SYMBOL_D, SYMBOL_E, SYMBOL_F,
-        SYMBOL_10x, SYMBOL_5x, SYMBOL_1000, SYMBOL_500, SYMBOL_MISS);
+        SYMBOL_10x, SYMBOL_5x, SYMBOL_1000, SYMBOL_500, SYMBOL_MISS, SYMBOL_WILD);
     var winCombinationsByGroup = Map.of(
         SAME_SYMBOLS, Set.of(SAME3WC, SAME4WC, SAME5WC, SAME6WC, SAME7WC, SAME8WC, SAME9WC),
         HORIZONTALLY_LINEAR_SYMBOLS, Set.of(HLS_WC),
@@ -75,4 +79,84 @@ class WinCombinationMatcherTest {
     // THEN
     assertThat(result).isEqualTo(expected);
   }
-}
\ No newline at end of file
+
+  @Test
+  void whenWildsCompleteLinesThenSymbolsMatchWithWildsButWildsAreNotAppliedBonus() {
+    // GIVEN
+    var game = new Game(Map.of(
+        new Cell(0, 0), SYMBOL_A, new Cell(0, 1), SYMBOL_WILD, new Cell(0, 2), SYMBOL_A,
+        new Cell(1, 0), SYMBOL_B, new Cell(1, 1), SYMBOL_C, new Cell(1, 2), SYMBOL_D,
+        new Cell(2, 0), SYMBOL_E, new Cell(2, 1), SYMBOL_F, new Cell(2, 2), SYMBOL_B
+    ), 100);
+    var expected = new MatchResult(
+        Map.of(SYMBOL_A, Set.of(SAME3WC, HLS_WC), SYMBOL_B, Set.of(SAME3WC)),
+        Set.of()
+    );
+
+    // WHEN
+    var result = uut.match(game);
+
+    // THEN
+    assertThat(result).isEqualTo(expected);
+  }
+
+  @Test
+  void whenBoardCannotWinThenSharedEmptyResultReturned() {
+    // GIVEN
+    var game = new Game(Map.of(
+        new Cell(0, 0), SYMBOL_A, new Cell(0, 1), SYMBOL_B, new Cell(0, 2), SYMBOL_C,
+        new Cell(1, 0), SYMBOL_D, new Cell(1, 1), SYMBOL_10x, new Cell(1, 2), SYMBOL_F,
+        new Cell(2, 0), SYMBOL_B, new Cell(2, 1), SYMBOL_C, new Cell(2, 2), SYMBOL_A
+    ), 100);
+
+    // WHEN
+    var result = uut.match(game);
+
+    // THEN
+    assertThat(result).isSameAs(MatchResult.none());
+  }
+
+  @Test
+  void whenSymbolMatchesSeveralCombinationsOfGroupThenHighestMultiplierSelected() {
+    // GIVEN
+    var topRow = LinearWinCombination.builder()
+        .name("top_row")
+        .group(HORIZONTALLY_LINEAR_SYMBOLS)
+        .rewardMultiplier(5.0)
+        .coveredAreas(Set.of(Set.of(new Cell(0, 0), new Cell(0, 1), new Cell(0, 2))))
+        .build();
+    var matcher = new WinCombinationMatcher(Set.of(SYMBOL_A, SYMBOL_B, SYMBOL_C, SYMBOL_D, SYMBOL_E, SYMBOL_F),
+        Map.of(HORIZONTALLY_LINEAR_SYMBOLS, Set.of(HLS_WC, topRow)));
+    var game = new Game(Map.of(
+        new Cell(0, 0), SYMBOL_A, new Cell(0, 1), SYMBOL_A, new Cell(0, 2), SYMBOL_A,
+        new Cell(1, 0), SYMBOL_B, new Cell(1, 1), SYMBOL_C, new Cell(1, 2), SYMBOL_D,
+        new Cell(2, 0), SYMBOL_E, new Cell(2, 1), SYMBOL_F, new Cell(2, 2), SYMBOL_B
+    ), 100);
+
+    // WHEN
+    var result = matcher.match(game);
+
+    // THEN
+    assertThat(result.matchedWinCombinations()).isEqualTo(Map.of(SYMBOL_A, Set.of(topRow)));
+  }
+
+  @Test
+  void whenClusterReachesSeveralTiersThenTierOfLargestCountSelected() {
+    // GIVEN
+    var clusterOf3 = ClusterWinCombination.builder().name("cluster_of_3").group(CLUSTER_SYMBOLS).rewardMultiplier(2.0).count(3).build();
+    var clusterOf5 = ClusterWinCombination.builder().name("cluster_of_5").group(CLUSTER_SYMBOLS).rewardMultiplier(5.0).count(5).build();
+    var matcher = new WinCombinationMatcher(Set.of(SYMBOL_A, SYMBOL_B, SYMBOL_C, SYMBOL_D),
+        Map.of(CLUSTER_SYMBOLS, Set.of(clusterOf3, clusterOf5)));
+    var game = new Game(Map.of(
+        new Cell(0, 0), SYMBOL_A, new Cell(0, 1), SYMBOL_A, new Cell(0, 2), SYMBOL_A,
+        new Cell(1, 0), SYMBOL_B, new Cell(1, 1), SYMBOL_A, new Cell(1, 2), SYMBOL_C,
+        new Cell(2, 0), SYMBOL_B, new Cell(2, 1), SYMBOL_A, new Cell(2, 2), SYMBOL_D
+    ), 100);
+
+    // WHEN
+    var result = matcher.match(game);
+
+    // THEN
+    assertThat(result.matchedWinCombinations()).isEqualTo(Map.of(SYMBOL_A, Set.of(clusterOf5)));
+  }
+}
@@ -0,0 +1,55 @@
+package dev.marvel.scratch.domain.wincombination.model;
+
+import dev.marvel.scratch.domain.core.Cell;
+import dev.marvel.scratch.domain.core.Game;
+import dev.marvel.scratch.domain.symbol.model.Symbol;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_A;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_B;
+import static dev.marvel.scratch.domain.TestUtils.SYMBOL_C;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClusterWinCombinationTest {
+
+  @Test
+  void whenOrthogonallyConnectedCellsReachCountThenMatched() {
+    // GIVEN
+    var game = game(new Symbol[][] {
+        {SYMBOL_A, SYMBOL_A, SYMBOL_B},
+        {SYMBOL_C, SYMBOL_A, SYMBOL_B},
+        {SYMBOL_B, SYMBOL_A, SYMBOL_A}});
+
+    // WHEN-THEN
+    assertThat(new ClusterWinCombination(5, 2.0).matches(SYMBOL_A, game)).isTrue();
+    assertThat(new ClusterWinCombination(6, 2.0).matches(SYMBOL_A, game)).isFalse();
+    assertThat(new ClusterWinCombination(3, 2.0).matches(SYMBOL_B, game)).isFalse();
+    assertThat(game.clusters().clusterSizeAt(2)).isEqualTo(2);
+  }
+
+  @Test
+  void whenCellsOnlyTouchDiagonallyThenNotConnected() {
+    // GIVEN
+    var game = game(new Symbol[][] {
+        {SYMBOL_A, SYMBOL_B, SYMBOL_A},
+        {SYMBOL_B, SYMBOL_A, SYMBOL_B},
+        {SYMBOL_A, SYMBOL_B, SYMBOL_A}});
+
+    // WHEN-THEN
+    assertThat(game.clusters().largestClusterOf(SYMBOL_A)).isEqualTo(1);
+    assertThat(game.clusters().largestClusterOf(SYMBOL_C)).isZero();
+    assertThat(new ClusterWinCombination(2, 2.0).matches(SYMBOL_A, game)).isFalse();
+  }
+
+  private static Game game(Symbol[][] matrix) {
+    var cells = new HashMap<Cell, Symbol>();
+    for (int row = 0; row < matrix.length; row++) {
+      for (int column = 0; column < matrix[row].length; column++) {
+        cells.put(new Cell(row, column), matrix[row][column]);
+      }
+    }
+    return new Game(cells, 1);
+  }
+}
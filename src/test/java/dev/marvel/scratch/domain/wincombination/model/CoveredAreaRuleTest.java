@@ -0,0 +1,83 @@
+package dev.marvel.scratch.domain.wincombination.model;
+
+import dev.marvel.scratch.exceptions.ConfigurationParseException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoveredAreaRuleTest {
+
+  @Test
+  void whenColumnsRuleThenEveryColumnGenerated() {
+    // GIVEN
+    var uut = CoveredAreaRule.of("columns", null);
+    var areas = new ArrayList<int[]>();
+
+    // WHEN
+    uut.expand(2, 3, areas::add);
+
+    // THEN
+    assertThat(areas).containsExactly(new int[] {0, 3}, new int[] {1, 4}, new int[] {2, 5});
+  }
+
+  @Test
+  void whenDiagonalRuleWithLengthThenAllDiagonalsAtLeastThatLongGenerated() {
+    // GIVEN
+    var uut = CoveredAreaRule.of("ltr_diagonals", 2);
+    var areas = new ArrayList<int[]>();
+
+    // WHEN
+    uut.expand(3, 4, areas::add);
+
+    // THEN
+    assertThat(areas).containsExactly(new int[] {4, 9}, new int[] {0, 5, 10}, new int[] {1, 6, 11}, new int[] {2, 7});
+  }
+
+  @Test
+  void whenDiagonalRuleWithoutLengthThenOnlyLongestDiagonalsGenerated() {
+    // GIVEN
+    var uut = CoveredAreaRule.of("rtl_diagonals", null);
+    var areas = new ArrayList<int[]>();
+
+    // WHEN
+    uut.expand(3, 4, areas::add);
+
+    // THEN
+    assertThat(areas).containsExactly(new int[] {2, 5, 8}, new int[] {3, 6, 9});
+  }
+
+  @Test
+  void whenPathRuleThenEveryConnectedPathGenerated() {
+    // GIVEN
+    var uut = CoveredAreaRule.of("paths", 3);
+    var areas = new ArrayList<int[]>();
+
+    // WHEN
+    uut.expand(3, 4, areas::add);
+
+    // THEN
+    assertThat(areas).hasSize(34).contains(new int[] {0, 5, 10}, new int[] {9, 6, 3});
+  }
+
+  @Test
+  void whenPathRuleWithoutLengthThenExceptionThrown() {
+    // WHEN-THEN
+    assertThatThrownBy(() -> CoveredAreaRule.of("paths", null))
+        .isInstanceOf(ConfigurationParseException.class)
+        .hasMessage("The 'paths' covered area rule should have a 'length' attribute.");
+  }
+
+  @Test
+  void whenRuleExpandsIntoTooManyAreasThenExceptionThrown() {
+    // GIVEN
+    var uut = CoveredAreaRule.of("paths", 30);
+
+    // WHEN-THEN
+    assertThatThrownBy(() -> uut.expand(100, 100, area -> { }))
+        .isInstanceOf(ConfigurationParseException.class)
+        .hasMessage("Covered area rule paths expands into more than 1048576 covered areas on a 100x100 board.");
+  }
+}
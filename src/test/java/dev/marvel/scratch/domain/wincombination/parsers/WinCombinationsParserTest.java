@@ -3,9 +3,15 @@ package dev.marvel.scratch.domain.wincombination.parsers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.marvel.scratch.configuration.Configuration;
 import dev.marvel.scratch.domain.TestUtils;
+import dev.marvel.scratch.domain.wincombination.model.ClusterWinCombination;
+import dev.marvel.scratch.domain.wincombination.model.Group;
+import dev.marvel.scratch.domain.wincombination.model.LinearWinCombination;
 import dev.marvel.scratch.exceptions.ConfigurationParseException;
 import org.junit.jupiter.api.Test;
 
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -50,4 +56,67 @@ class WinCombinationsParserTest {
     // THEN
     assertThat(configuration.getWinCombinations().size()).isEqualTo(11);
   }
-}
\ No newline at end of file
+
+  @Test
+  void whenCoveredAreaRulesThenExpandedForBoardDimensions() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/wincombination/parsers/covered-area-rules.json");
+    var configuration = new Configuration();
+
+    // WHEN
+    uut.parse(configRoot, configuration);
+
+    // THEN
+    var winCombinations = configuration.getWinCombinations().stream()
+        .map(LinearWinCombination.class::cast)
+        .collect(Collectors.toMap(LinearWinCombination::getName, Function.identity()));
+    assertThat(winCombinations.get("same_symbols_on_any_row").coveredAreaIndices(3, 3))
+        .containsExactly(new int[] {0, 1, 2}, new int[] {3, 4, 5}, new int[] {6, 7, 8});
+    // the listed diagonal is also generated by the path rule, so it is only covered once
+    assertThat(winCombinations.get("same_symbols_on_any_path").coveredAreaIndices(3, 3)).hasSize(17);
+  }
+
+  @Test
+  void whenClusterCombinationsThenParsedIntoClusterGroup() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/wincombination/parsers/cluster.json");
+    var configuration = new Configuration();
+
+    // WHEN
+    uut.parse(configRoot, configuration);
+
+    // THEN
+    assertThat(configuration.getWinCombinations())
+        .hasSize(2)
+        .allSatisfy(winCombination -> {
+          assertThat(winCombination).isInstanceOf(ClusterWinCombination.class);
+          assertThat(winCombination.getGroup()).isEqualTo(Group.CLUSTER_SYMBOLS);
+        })
+        .anySatisfy(winCombination -> assertThat(((ClusterWinCombination) winCombination).getCount()).isEqualTo(8));
+  }
+
+  @Test
+  void whenClusterCombinationWithoutCountThenExceptionThrown() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/wincombination/parsers/cluster-missing-count.json");
+    var configuration = new Configuration();
+
+    // WHEN-THEN
+    assertThatThrownBy(() -> uut.parse(configRoot, configuration))
+        .isInstanceOf(ConfigurationParseException.class)
+        .hasMessage("Each cluster 'win_combination' should have a positive integer 'count' attribute.");
+  }
+
+  @Test
+  void whenLargerClusterCombinationPaysLessThenExceptionThrown() {
+    // GIVEN
+    var configRoot = TestUtils.readJsonNode("/wincombination/parsers/cluster-decreasing-tiers.json");
+    var configuration = new Configuration();
+
+    // WHEN-THEN
+    assertThatThrownBy(() -> uut.parse(configRoot, configuration))
+        .isInstanceOf(ConfigurationParseException.class)
+        .hasMessage("The cluster 'win_combinations' should pay strictly more for a larger 'count', but 'cluster_of_8' does not pay more " +
+            "than 'cluster_of_5'.");
+  }
+}
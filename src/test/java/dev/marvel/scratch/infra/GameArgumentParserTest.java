@@ -1,7 +1,11 @@
 package dev.marvel.scratch.infra;
 
+import dev.marvel.scratch.domain.probability.random.Sampling;
+import dev.marvel.scratch.domain.rtp.SolverTarget;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
@@ -14,7 +18,328 @@ class GameArgumentParserTest {
   void whenValidArgsProvidedThenParsedSuccessfully() {
     // GIVEN
     var args = new String[]{"--config", "gameConfig.json", "--betting-amount", "100"};
-    var expected = new GameArguments("gameConfig.json", 100);
+    var expected = GameArguments.builder().command(Command.PLAY).configFilename("gameConfig.json").bet(100).build();
+
+    // WHEN
+    var result = uut.parse(args);
+
+    // THEN
+    assertThat(result).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+  @Test
+  void whenLedgerProvidedThenParsedSuccessfully() {
+    // GIVEN
+    var args = new String[]{"--config", "gameConfig.json", "--betting-amount", "100", "--ledger", "rounds.wal"};
+    var expected = GameArguments.builder()
+        .command(Command.PLAY)
+        .configFilename("gameConfig.json")
+        .bet(100)
+        .ledgerFilename("rounds.wal")
+        .build();
+
+    // WHEN
+    var result = uut.parse(args);
+
+    // THEN
+    assertThat(result).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+  @Test
+  void whenReplayCommandProvidedThenParsedSuccessfully() {
+    // GIVEN
+    var args = new String[]{"replay", "--config", "gameConfig.json", "--betting-amount", "100", "--seed", "42", "--round", "7"};
+    var expected = GameArguments.builder()
+        .command(Command.REPLAY)
+        .configFilename("gameConfig.json")
+        .bet(100)
+        .seed(42L)
+        .round(7L)
+        .build();
+
+    // WHEN
+    var result = uut.parse(args);
+
+    // THEN
+    assertThat(result).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+  @Test
+  void whenReplayWithoutSeedThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"replay", "--config", "gameConfig.json", "--betting-amount", "100"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessageContaining("The 'replay' command requires '--seed <seed>' and '--round <round>'.");
+  }
+
+  @Test
+  void whenSeedWithoutRoundThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"--config", "gameConfig.json", "--betting-amount", "100", "--seed", "42"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessageContaining("'--seed' and '--round' should be specified together.");
+  }
+
+  @Test
+  void whenCompileConfigCommandProvidedThenParsedWithoutBettingAmount() {
+    // GIVEN
+    var args = new String[]{"compile-config", "--config", "gameConfig.json", "--snapshot", "gameConfig.snapshot"};
+    var expected = GameArguments.builder()
+        .command(Command.COMPILE_CONFIG)
+        .configFilename("gameConfig.json")
+        .snapshotFilename("gameConfig.snapshot")
+        .build();
+
+    // WHEN
+    var result = uut.parse(args);
+
+    // THEN
+    assertThat(result).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+  @Test
+  void whenCompileConfigWithoutSnapshotThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"compile-config", "--config", "gameConfig.json"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessageContaining("The 'compile-config' command requires '--config <filename>' and '--snapshot <filename>'.");
+  }
+
+  @Test
+  void whenServeCommandProvidedThenParsedWithoutBettingAmount() {
+    // GIVEN
+    var args = new String[]{"serve", "--config", "gameConfig.json", "--seed", "42", "--round", "0"};
+    var expected = GameArguments.builder()
+        .command(Command.SERVE)
+        .configFilename("gameConfig.json")
+        .seed(42L)
+        .round(0L)
+        .build();
+
+    // WHEN
+    var result = uut.parse(args);
+
+    // THEN
+    assertThat(result).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+  @Test
+  void whenServeCatalogProvidedThenParsedSuccessfully() {
+    // GIVEN
+    var args = new String[]{"serve", "--catalog", "games"};
+    var expected = GameArguments.builder()
+        .command(Command.SERVE)
+        .catalogDirectory("games")
+        .build();
+
+    // WHEN
+    var result = uut.parse(args);
+
+    // THEN
+    assertThat(result).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+  @Test
+  void whenCatalogWithoutServeThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"--catalog", "games", "--betting-amount", "100"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessageContaining("'--catalog' can only be used with the 'serve' command.");
+  }
+
+  @Test
+  void whenRtpWithSeedThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"rtp", "--config", "gameConfig.json", "--betting-amount", "100", "--seed", "42", "--round", "0"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessageContaining("'--ledger', '--seed' and '--round' cannot be used with 'rtp'.");
+  }
+
+  @Test
+  void whenRtpWithFixedPointScoringThenParsedSuccessfully() {
+    // GIVEN
+    var args = new String[]{"rtp", "--config", "gameConfig.json", "--betting-amount", "100", "--scoring", "fixed-point"};
+    var expected = GameArguments.builder().command(Command.RTP).configFilename("gameConfig.json").bet(100).fixedPoint(true).build();
+
+    // WHEN
+    var result = uut.parse(args);
+
+    // THEN
+    assertThat(result).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+  @Test
+  void whenCompareWithVariantsThenParsedSuccessfully() {
+    // GIVEN
+    var args = new String[]{"compare", "--config", "gameConfig.json", "--variant", "a.json", "--betting-amount", "100", "--variant",
+        "b.json", "--rounds", "1000000"};
+    var expected = GameArguments.builder().command(Command.COMPARE).configFilename("gameConfig.json").bet(100)
+        .variantFilenames(List.of("a.json", "b.json")).rounds(1_000_000L).build();
+
+    // WHEN
+    var result = uut.parse(args);
+
+    // THEN
+    assertThat(result).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+  @Test
+  void whenCompareWithoutVariantThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"compare", "--config", "gameConfig.json", "--betting-amount", "100", "--rounds", "1000"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessage("The 'compare' command requires '--variant <filename>' and '--rounds <count>'.");
+  }
+
+  @Test
+  void whenVariantWithoutCompareThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"--config", "gameConfig.json", "--betting-amount", "100", "--variant", "a.json"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessage("'--variant' can only be used with the 'compare' command.");
+  }
+
+  @Test
+  void whenContributionsWithTiltThenParsedSuccessfully() {
+    // GIVEN
+    var args = new String[]{"contributions", "--config", "gameConfig.json", "--betting-amount", "100", "--rounds", "100000", "--tilt",
+        "0.6"};
+    var expected = GameArguments.builder().command(Command.CONTRIBUTIONS).configFilename("gameConfig.json").bet(100).rounds(100_000L)
+        .tilt(0.6).build();
+
+    // WHEN
+    var result = uut.parse(args);
+
+    // THEN
+    assertThat(result).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+  @Test
+  void whenTiltWithoutContributionsThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"rtp", "--config", "gameConfig.json", "--betting-amount", "100", "--tilt", "0.6"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessage("'--tilt' can only be used with the 'contributions' command.");
+  }
+
+  @Test
+  void whenContributionsWithSamplingThenParsedSuccessfully() {
+    // GIVEN
+    var args = new String[]{"contributions", "--config", "gameConfig.json", "--betting-amount", "100", "--rounds", "100000", "--sampling",
+        "halton"};
+    var expected = GameArguments.builder().command(Command.CONTRIBUTIONS).configFilename("gameConfig.json").bet(100).rounds(100_000L)
+        .sampling(Sampling.HALTON).build();
+
+    // WHEN
+    var result = uut.parse(args);
+
+    // THEN
+    assertThat(result).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+  @Test
+  void whenUnknownSamplingThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"contributions", "--config", "gameConfig.json", "--betting-amount", "100", "--rounds", "100000", "--sampling",
+        "sobol"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessage("Please specify 'pseudo-random', 'stratified' or 'halton' for --sampling");
+  }
+
+  @Test
+  void whenSamplingWithoutSimulationThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"--config", "gameConfig.json", "--betting-amount", "100", "--sampling", "stratified"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessage("'--sampling' can only be used with the 'compare' and 'contributions' commands.");
+  }
+
+  @Test
+  void whenSolveWithBandsThenParsedSuccessfully() {
+    // GIVEN
+    var args = new String[]{"solve", "--config", "gameConfig.json", "--betting-amount", "100", "--target-rtp", "0.95", "--hit-frequency",
+        "0.25:0.35", "--volatility", ":12", "--output", "tuned.json"};
+    var expected = GameArguments.builder().command(Command.SOLVE).configFilename("gameConfig.json").bet(100)
+        .target(new SolverTarget(0.95, 0.25, 0.35, null, 12.0)).outputFilename("tuned.json").build();
+
+    // WHEN
+    var result = uut.parse(args);
+
+    // THEN
+    assertThat(result).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+  @Test
+  void whenSolveWithoutOutputThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"solve", "--config", "gameConfig.json", "--betting-amount", "100", "--target-rtp", "0.95"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessage("The 'solve' command requires '--target-rtp <rtp>' and '--output <filename>'.");
+  }
+
+  @Test
+  void whenTargetRtpWithoutSolveThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"rtp", "--config", "gameConfig.json", "--betting-amount", "100", "--target-rtp", "0.95"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessage("'--target-rtp', '--hit-frequency', '--volatility' and '--output' can only be used with the 'solve' command.");
+  }
+
+  @Test
+  void whenBandMalformedThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"solve", "--config", "gameConfig.json", "--betting-amount", "100", "--target-rtp", "0.95", "--hit-frequency",
+        "0.25", "--output", "tuned.json"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessage("Please specify a band 'min:max' for --hit-frequency");
+  }
+
+  @Test
+  void whenSensitivityWithRoundsThenParsedSuccessfully() {
+    // GIVEN
+    var args = new String[]{"sensitivity", "--config", "gameConfig.json", "--betting-amount", "100", "--rounds", "1000", "--seed", "42",
+        "--round", "0"};
+    var expected = GameArguments.builder().command(Command.SENSITIVITY).configFilename("gameConfig.json").bet(100).rounds(1000L)
+        .seed(42L).round(0L).build();
 
     // WHEN
     var result = uut.parse(args);
@@ -23,6 +348,62 @@ class GameArgumentParserTest {
     assertThat(result).usingRecursiveComparison().isEqualTo(expected);
   }
 
+  @Test
+  void whenRoundsWithoutSimulationThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"rtp", "--config", "gameConfig.json", "--betting-amount", "100", "--rounds", "1000"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessage("'--rounds' can only be used with the 'compare', 'contributions', 'solve' and 'sensitivity' commands.");
+  }
+
+  @Test
+  void whenUnknownScoringThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"--config", "gameConfig.json", "--betting-amount", "100", "--scoring", "decimal"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessage("Please specify either 'double' or 'fixed-point' for --scoring");
+  }
+
+  @Test
+  void whenServeWithSpinAheadThenBoardCountParsed() {
+    // GIVEN
+    var args = new String[]{"serve", "--config", "gameConfig.json", "--spin-ahead", "64"};
+
+    // WHEN
+    var result = uut.parse(args);
+
+    // THEN
+    assertThat(result.spinAhead()).isEqualTo(64);
+  }
+
+  @Test
+  void whenSpinAheadWithoutServeThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"--config", "gameConfig.json", "--betting-amount", "100", "--spin-ahead", "64"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessageContaining("'--spin-ahead' can only be used with the 'serve' command and a single '--config'.");
+  }
+
+  @Test
+  void whenServeWithBettingAmountThenExceptionThrown() {
+    // GIVEN
+    var args = new String[]{"serve", "--config", "gameConfig.json", "--betting-amount", "100"};
+
+    // WHEN-THEN
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> uut.parse(args))
+        .withMessageContaining("'--betting-amount' cannot be used with 'serve'.");
+  }
+
   @Test
   void whenIncorrectArgsCountThenExceptionThrown() {
     // GIVEN
@@ -31,7 +412,8 @@ class GameArgumentParserTest {
     // WHEN-THEN
     assertThatExceptionOfType(IllegalArgumentException.class)
         .isThrownBy(() -> uut.parse(args))
-        .withMessageContaining("Please specify exactly two arguments");
+        .withMessageContaining("Usage: java -jar <jar-name> [command] <arguments>")
+        .withMessageContaining("[play]          --config <filename> --betting-amount <amount>");
   }
 
   @Test
@@ -0,0 +1,113 @@
+package dev.marvel.scratch.out.ledger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.marvel.scratch.exceptions.LedgerException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriteAheadLedgerTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void whenEntriesAppendedConcurrentlyThenAllAcknowledgedAndDurable() {
+    // GIVEN
+    var ledgerFile = tempDir.resolve("ledger.wal");
+    var uut = WriteAheadLedger.open(ledgerFile, mapper);
+
+    // WHEN
+    var acknowledgements = IntStream.range(0, 1_000).parallel()
+        .mapToObj(bet -> uut.append(new LedgerEntry(1L, bet, bet * 2d, List.of(List.of("A", "B")), null, null)))
+        .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(acknowledgements).join();
+    uut.close();
+
+    // THEN
+    var entries = WriteAheadLedger.read(ledgerFile, mapper);
+    assertThat(entries).hasSize(1_000);
+    assertThat(entries).extracting(LedgerEntry::bet).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 1_000).boxed().toList());
+  }
+
+  @Test
+  void whenTornTailThenRecoveredOnOpen() throws Exception {
+    // GIVEN
+    var ledgerFile = tempDir.resolve("ledger.wal");
+    try (var ledger = WriteAheadLedger.open(ledgerFile, mapper)) {
+      ledger.append(new LedgerEntry(1L, 100, 5_000d, List.of(List.of("A")), null, null)).join();
+    }
+    var validLength = Files.size(ledgerFile);
+    Files.write(ledgerFile, new byte[]{0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+
+    // WHEN
+    try (var uut = WriteAheadLedger.open(ledgerFile, mapper)) {
+      uut.append(new LedgerEntry(2L, 10, 0d, List.of(List.of("B")), null, null)).join();
+    }
+
+    // THEN
+    assertThat(WriteAheadLedger.read(ledgerFile, mapper)).containsExactly(
+        new LedgerEntry(1L, 100, 5_000d, List.of(List.of("A")), null, null),
+        new LedgerEntry(2L, 10, 0d, List.of(List.of("B")), null, null)
+    );
+    assertThat(Files.size(ledgerFile)).isGreaterThan(validLength);
+  }
+
+  @Test
+  void whenAppendedWhileClosingThenEveryAcceptedEntryCommitted() throws Exception {
+    // GIVEN
+    var ledgerFile = tempDir.resolve("ledger.wal");
+    var uut = WriteAheadLedger.open(ledgerFile, mapper);
+    var acknowledgements = new ConcurrentLinkedQueue<CompletableFuture<Void>>();
+    var appenders = IntStream.range(0, 4)
+        .mapToObj(thread -> new Thread(() -> {
+          try {
+            for (int bet = 0; ; bet++) {
+              acknowledgements.add(uut.append(new LedgerEntry(thread, bet, 0d, List.of(List.of("A")), null, null)));
+            }
+          } catch (LedgerException e) {
+            // the ledger was closed
+          }
+        }))
+        .toList();
+    appenders.forEach(Thread::start);
+    while (acknowledgements.size() < 100) {
+      Thread.onSpinWait();
+    }
+
+    // WHEN
+    uut.close();
+    for (var appender : appenders) {
+      appender.join();
+    }
+
+    // THEN
+    CompletableFuture.allOf(acknowledgements.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+    assertThat(WriteAheadLedger.read(ledgerFile, mapper)).hasSize(acknowledgements.size());
+  }
+
+  @Test
+  void whenLedgerClosedThenAppendRejected() {
+    // GIVEN
+    var uut = WriteAheadLedger.open(tempDir.resolve("ledger.wal"), mapper);
+    uut.close();
+
+    // WHEN-THEN
+    assertThatThrownBy(() -> uut.append(new LedgerEntry(1L, 100, 0d, List.of(), null, null)))
+        .isInstanceOf(LedgerException.class)
+        .hasMessageContaining("The ledger is closed.");
+  }
+}